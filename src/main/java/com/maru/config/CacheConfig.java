@@ -1,18 +1,27 @@
 package com.maru.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 캐싱 설정
  * - Trading API 응답을 캐싱하여 성능 개선
+ * - trading.cache.stale-while-revalidate에 지정한 캐시는 Stale-While-Revalidate 모드로 동작
  */
 @Configuration
 @EnableCaching
@@ -25,6 +34,34 @@ public class CacheConfig {
     public static final String CACHE_ACCOUNTS = "accounts";
     public static final String CACHE_STRATEGIES = "strategies";
     public static final String CACHE_HEALTH = "healthStatus";
+    public static final String CACHE_KILL_SWITCH = "killSwitch";
+
+    /**
+     * 타입 레코드 목록 캐시 (변경 시 TradingCacheWriter가 통째로 무효화)
+     */
+    public static final String CACHE_INSTRUMENT_RECORDS = "instrumentRecords";
+    public static final String CACHE_ACCOUNT_RECORDS = "accountRecords";
+    public static final String CACHE_STRATEGY_RECORDS = "strategyRecords";
+
+    /**
+     * Stale-While-Revalidate 모드로 동작할 캐시 이름 (instruments, accounts, strategies, healthStatus, killSwitch 중 선택)
+     */
+    @Value("${trading.cache.stale-while-revalidate:instruments,accounts,strategies}")
+    private Set<String> staleWhileRevalidateCaches = Set.of(CACHE_INSTRUMENTS, CACHE_ACCOUNTS, CACHE_STRATEGIES);
+
+    /**
+     * Circuit Breaker OPEN 또는 갱신 실패 시 TTL 이후 이전 값을 제공할 최대 시간 (분)
+     */
+    @Value("${trading.cache.max-stale-minutes:30}")
+    private long maxStaleMinutes = 30;
+
+    @Autowired
+    private ObjectProvider<TradingEndpointGuard> tradingEndpointGuard;
+
+    /**
+     * 백그라운드 캐시 갱신 전용 스레드 (키별 갱신은 Caffeine이 중복 제거)
+     */
+    private final ThreadPoolExecutor cacheRefreshExecutor = createRefreshExecutor();
 
     /**
      * 기본 캐시 매니저 (TTL: 5분)
@@ -32,12 +69,7 @@ public class CacheConfig {
     @Bean
     @Primary
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .maximumSize(500)
-                .recordStats());
-        return cacheManager;
+        return createCacheManager(Duration.ofMinutes(5), 500);
     }
 
     /**
@@ -45,12 +77,7 @@ public class CacheConfig {
      */
     @Bean("shortTtlCacheManager")
     public CacheManager shortTtlCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(30, TimeUnit.SECONDS)
-                .maximumSize(100)
-                .recordStats());
-        return cacheManager;
+        return createCacheManager(Duration.ofSeconds(30), 100);
     }
 
     /**
@@ -58,11 +85,46 @@ public class CacheConfig {
      */
     @Bean("longTtlCacheManager")
     public CacheManager longTtlCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(30, TimeUnit.MINUTES)
-                .maximumSize(200)
-                .recordStats());
-        return cacheManager;
+        return createCacheManager(Duration.ofMinutes(30), 200);
+    }
+
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        cacheRefreshExecutor.shutdownNow();
+    }
+
+    private CacheManager createCacheManager(Duration ttl, long maximumSize) {
+        return new StaleWhileRevalidateCacheManager(ttl, maximumSize, staleWhileRevalidateCaches,
+                Duration.ofMinutes(maxStaleMinutes), cacheRefreshExecutor, this::isTradingApiUnavailable);
+    }
+
+    /**
+     * Trading API 조회(interactive-read) Circuit Breaker가 OPEN 상태인지 확인
+     * - 캐시 갱신은 조회 요청이므로 연산/변경 분류의 상태와는 무관
+     */
+    private boolean isTradingApiUnavailable() {
+        if (tradingEndpointGuard == null) {
+            return false;
+        }
+        TradingEndpointGuard guard = tradingEndpointGuard.getIfAvailable();
+        TradingEndpointGuard.Policy policy = guard != null ? guard.getPolicy(TradingEndpointClass.INTERACTIVE_READ) : null;
+        if (policy == null) {
+            return false;
+        }
+        CircuitBreaker.State state = policy.getCircuitBreaker().getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    private static ThreadPoolExecutor createRefreshExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 }
@@ -1,33 +1,51 @@
 package com.maru.config;
 
+import com.maru.trading.service.RetryBudget;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import java.io.IOException;
+import java.net.URI;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
  * RestTemplate Configuration for Trading System API Integration
  * - Connection Pool 설정
+ * - gzip 응답 압축 협상
  * - Resilience4j Retry/Circuit Breaker 설정
+ * - 엔드포인트 분류별 Bulkhead / Timeout / Circuit Breaker (TradingEndpointGuard)
+ * - 엔드포인트별 지연 시간 Timer (TradingApiRequestTimer)
  */
 @Slf4j
 @Configuration
@@ -43,9 +61,20 @@ public class RestTemplateConfig {
     private static final int SOCKET_TIMEOUT_MS = 10000;
     private static final int CONNECTION_REQUEST_TIMEOUT_MS = 3000;
 
-    // Retry 설정
+    // 비동기 호출 Executor 설정 (route당 커넥션 수를 넘지 않도록 제한)
+    private static final int ASYNC_CORE_POOL_SIZE = 16;
+    private static final int ASYNC_MAX_POOL_SIZE = MAX_CONNECTIONS_PER_ROUTE;
+    private static final int ASYNC_QUEUE_CAPACITY = 500;
+
+    // 지연 시간 메트릭의 uri 태그 최대 개수
+    private static final int MAX_URI_TAGS = 200;
+
+    // Retry 설정 (지수 백오프 + jitter: 200ms, 400ms ... 최대 2s, 각 ±50%)
     private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final int RETRY_WAIT_DURATION_MS = 500;
+    private static final int RETRY_INITIAL_INTERVAL_MS = 200;
+    private static final double RETRY_BACKOFF_MULTIPLIER = 2.0;
+    private static final double RETRY_RANDOMIZATION_FACTOR = 0.5;
+    private static final int RETRY_MAX_INTERVAL_MS = 2000;
 
     // Circuit Breaker 설정
     private static final float FAILURE_RATE_THRESHOLD = 50;
@@ -54,39 +83,74 @@ public class RestTemplateConfig {
     private static final int WAIT_DURATION_IN_OPEN_STATE_SECONDS = 60;
     private static final int SLIDING_WINDOW_SIZE = 10;
 
+    // 엔드포인트 분류별 격리 설정 (동시 호출 수 합계 = MAX_CONNECTIONS_PER_ROUTE)
+    private static final int READ_MAX_CONCURRENT = 30;
+    private static final int READ_MAX_WAIT_MS = 100;
+    private static final int READ_SOCKET_TIMEOUT_MS = 5000;
+    private static final int READ_SLOW_CALL_SECONDS = 2;
+
+    private static final int MUTATION_MAX_CONCURRENT = 12;
+    private static final int MUTATION_MAX_WAIT_MS = 500;
+    private static final int MUTATION_SOCKET_TIMEOUT_MS = SOCKET_TIMEOUT_MS;
+    private static final int MUTATION_SLOW_CALL_SECONDS = SLOW_CALL_DURATION_SECONDS;
+
+    private static final int COMPUTE_MAX_CONCURRENT = 8;
+    private static final int COMPUTE_MAX_WAIT_MS = 0;
+    private static final int COMPUTE_SOCKET_TIMEOUT_MS = 120_000;
+    private static final int COMPUTE_SLOW_CALL_SECONDS = 60;
+
+    private static final RequestConfig DEFAULT_REQUEST_CONFIG = RequestConfig.custom()
+            .setConnectTimeout(CONNECTION_TIMEOUT_MS)
+            .setSocketTimeout(SOCKET_TIMEOUT_MS)
+            .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_MS)
+            .build();
+
     /**
-     * Connection Pool이 적용된 HttpClient 생성 (HttpClient 4.x)
+     * Trading API Connection Pool (사용 중 / 유휴 / 대기 수를 메트릭으로 노출하기 위해 Bean으로 등록)
      */
     @Bean
-    public HttpClient tradingApiHttpClient() {
-        // Connection Manager with Pool
+    public PoolingHttpClientConnectionManager tradingApiConnectionManager() {
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(MAX_TOTAL_CONNECTIONS);
         connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        return connectionManager;
+    }
 
-        // Request Config
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(CONNECTION_TIMEOUT_MS)
-                .setSocketTimeout(SOCKET_TIMEOUT_MS)
-                .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_MS)
-                .build();
-
+    /**
+     * Connection Pool이 적용된 HttpClient 생성 (HttpClient 4.x)
+     */
+    @Bean
+    public HttpClient tradingApiHttpClient() {
+        // 압축은 기본 활성 상태로 유지 (Accept-Encoding: gzip,deflate 전송 + 응답 자동 해제)
+        // 대용량 목록 응답의 전송량을 줄이므로 disableContentCompression()을 호출하지 않음
         return HttpClients.custom()
-                .setConnectionManager(connectionManager)
-                .setDefaultRequestConfig(requestConfig)
+                .setConnectionManager(tradingApiConnectionManager())
+                .setDefaultRequestConfig(DEFAULT_REQUEST_CONFIG)
                 .evictIdleConnections(30, TimeUnit.SECONDS)
                 .build();
     }
 
     /**
      * Trading API용 RestTemplate
+     * - 요청별 socket timeout은 엔드포인트 분류에 따라 적용
+     * - interceptor 순서: 지연 시간 측정 -> 분류별 격리 (거부된 호출도 측정)
      */
     @Bean
-    public RestTemplate tradingApiRestTemplate(HttpClient tradingApiHttpClient) {
+    public RestTemplate tradingApiRestTemplate(HttpClient tradingApiHttpClient, TradingEndpointGuard tradingEndpointGuard,
+                                               TradingApiRequestTimer tradingApiRequestTimer) {
         HttpComponentsClientHttpRequestFactory requestFactory =
-                new HttpComponentsClientHttpRequestFactory(tradingApiHttpClient);
+                new HttpComponentsClientHttpRequestFactory(tradingApiHttpClient) {
+                    @Override
+                    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+                        HttpClientContext context = HttpClientContext.create();
+                        context.setRequestConfig(tradingEndpointGuard.requestConfig(DEFAULT_REQUEST_CONFIG, httpMethod, uri));
+                        return context;
+                    }
+                };
 
         RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(tradingApiRequestTimer);
+        restTemplate.getInterceptors().add(tradingEndpointGuard);
 
         // Base URL 설정
         DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(tradingApiBaseUrl);
@@ -99,21 +163,67 @@ public class RestTemplateConfig {
         return restTemplate;
     }
 
+    /**
+     * Trading API 호출 지연 시간 측정 (엔드포인트별 Timer)
+     */
+    @Bean
+    public TradingApiRequestTimer tradingApiRequestTimer(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TradingApiRequestTimer(meterRegistry::getObject);
+    }
+
+    /**
+     * uri 태그 수 상한 (정규화로 못 잡은 경로가 계속 늘어나도 메트릭 수가 폭증하지 않도록)
+     */
+    @Bean
+    public MeterFilter tradingApiUriTagLimit() {
+        return MeterFilter.maximumAllowableTags(TradingApiRequestTimer.METRIC_NAME, "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+
+    /**
+     * Trading API 비동기 호출 전용 Executor
+     * - Tomcat 요청 스레드와 분리된 bounded pool
+     * - 큐 포화 시 RejectedExecutionException (호출 측에서 SERVICE_UNAVAILABLE로 변환)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor tradingApiExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ASYNC_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(ASYNC_MAX_POOL_SIZE);
+        executor.setQueueCapacity(ASYNC_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("trading-api-");
+        executor.setDaemon(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        log.info("Trading API async executor: core={}, max={}, queue={}",
+                ASYNC_CORE_POOL_SIZE, ASYNC_MAX_POOL_SIZE, ASYNC_QUEUE_CAPACITY);
+        return executor;
+    }
+
     /**
      * Retry Registry - 재시도 정책 정의
+     * - 동시에 실패한 호출들이 같은 시각에 다시 몰리지 않도록 지수 백오프에 jitter 적용
+     * - 멱등 요청만 재시도하고 재시도 예산을 확인하는 것은 TradingApiHelper가 담당
      */
     @Bean
     public RetryRegistry tradingApiRetryRegistry() {
         RetryConfig config = RetryConfig.custom()
                 .maxAttempts(MAX_RETRY_ATTEMPTS)
-                .waitDuration(Duration.ofMillis(RETRY_WAIT_DURATION_MS))
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        Duration.ofMillis(RETRY_INITIAL_INTERVAL_MS),
+                        RETRY_BACKOFF_MULTIPLIER,
+                        RETRY_RANDOMIZATION_FACTOR,
+                        Duration.ofMillis(RETRY_MAX_INTERVAL_MS)))
                 .retryExceptions(
                         IOException.class,
                         TimeoutException.class,
                         RestClientException.class
                 )
                 .ignoreExceptions(
-                        IllegalArgumentException.class
+                        IllegalArgumentException.class,
+                        // 예산 부족으로 재시도하지 않은 호출의 최종 실패 기록용
+                        RetryBudget.ExhaustedException.class
                 )
                 .build();
 
@@ -144,6 +254,7 @@ public class RestTemplateConfig {
 
     /**
      * Circuit Breaker Registry
+     * - 기본 설정만 정의, 인스턴스는 엔드포인트 분류별로 생성 (tradingApi-<분류>)
      */
     @Bean
     public CircuitBreakerRegistry tradingApiCircuitBreakerRegistry() {
@@ -163,20 +274,45 @@ public class RestTemplateConfig {
     }
 
     /**
-     * Trading API용 Circuit Breaker 인스턴스
+     * 엔드포인트 분류별 격리 (interactive-read / mutation / long-running-compute)
+     * - 느린 최적화 호출이 조회용 Circuit Breaker를 열거나 커넥션을 독점하지 않도록 분류마다 따로 적용
      */
     @Bean
-    public CircuitBreaker tradingApiCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
-        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("tradingApi");
+    public TradingEndpointGuard tradingEndpointGuard(CircuitBreakerRegistry circuitBreakerRegistry) {
+        Map<TradingEndpointClass, TradingEndpointGuard.Policy> policies = new EnumMap<>(TradingEndpointClass.class);
+        policies.put(TradingEndpointClass.INTERACTIVE_READ, endpointPolicy(circuitBreakerRegistry,
+                TradingEndpointClass.INTERACTIVE_READ, READ_MAX_CONCURRENT, READ_MAX_WAIT_MS,
+                READ_SOCKET_TIMEOUT_MS, READ_SLOW_CALL_SECONDS));
+        policies.put(TradingEndpointClass.MUTATION, endpointPolicy(circuitBreakerRegistry,
+                TradingEndpointClass.MUTATION, MUTATION_MAX_CONCURRENT, MUTATION_MAX_WAIT_MS,
+                MUTATION_SOCKET_TIMEOUT_MS, MUTATION_SLOW_CALL_SECONDS));
+        policies.put(TradingEndpointClass.LONG_RUNNING_COMPUTE, endpointPolicy(circuitBreakerRegistry,
+                TradingEndpointClass.LONG_RUNNING_COMPUTE, COMPUTE_MAX_CONCURRENT, COMPUTE_MAX_WAIT_MS,
+                COMPUTE_SOCKET_TIMEOUT_MS, COMPUTE_SLOW_CALL_SECONDS));
+        return new TradingEndpointGuard(policies);
+    }
 
+    private TradingEndpointGuard.Policy endpointPolicy(CircuitBreakerRegistry registry, TradingEndpointClass endpointClass,
+                                                       int maxConcurrent, int maxWaitMs, int socketTimeoutMs,
+                                                       int slowCallSeconds) {
+        String name = "tradingApi-" + endpointClass.tag();
+        Bulkhead bulkhead = Bulkhead.of(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrent)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build());
+
+        CircuitBreakerConfig cbConfig = CircuitBreakerConfig.from(registry.getDefaultConfig())
+                .slowCallDurationThreshold(Duration.ofSeconds(slowCallSeconds))
+                .build();
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(name, cbConfig);
         circuitBreaker.getEventPublisher()
-                .onStateTransition(event -> log.warn("Trading API Circuit Breaker state changed: {} -> {}",
+                .onStateTransition(event -> log.warn("Trading API {} Circuit Breaker state changed: {} -> {}",
+                        endpointClass.tag(),
                         event.getStateTransition().getFromState(),
-                        event.getStateTransition().getToState()))
-                .onCallNotPermitted(event -> log.warn("Trading API Circuit Breaker is OPEN - call not permitted"))
-                .onError(event -> log.error("Trading API Circuit Breaker recorded error: {}",
-                        event.getThrowable().getMessage()));
+                        event.getStateTransition().getToState()));
 
-        return circuitBreaker;
+        log.info("Trading API endpoint class {}: maxConcurrent={}, socketTimeout={}ms, slowCall={}s",
+                endpointClass.tag(), maxConcurrent, socketTimeoutMs, slowCallSeconds);
+        return new TradingEndpointGuard.Policy(bulkhead, circuitBreaker, socketTimeoutMs);
     }
 }
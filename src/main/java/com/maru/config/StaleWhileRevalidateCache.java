@@ -0,0 +1,302 @@
+package com.maru.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Stale-While-Revalidate 캐시
+ * - TTL 경과 후 첫 조회 시 현재 값을 바로 반환하고 백그라운드에서 갱신 (refreshAfterWrite + 비동기 loader)
+ * - Trading API Circuit Breaker가 OPEN이거나 동기 갱신이 실패하면 maxStale 범위 내에서 이전 값을 STALE로 반환
+ * - Map 응답에는 cacheStatus(FRESH/STALE) 필드를 추가한 사본을 반환
+ *
+ * 백그라운드 갱신은 캐시별로 등록한 refresh loader(setRefreshLoader)로 수행한다.
+ * - loader는 프록시된 서비스 메서드를 호출하고, 갱신 중인 키에 대한 그 호출은 캐시를 거치지 않고 valueLoader를 바로 실행
+ * - {@code @Cacheable}의 valueLoader는 해당 호출 안에서만 실행 (다른 스레드에서 나중에 재사용하지 않음)
+ * - loader가 없으면 백그라운드 갱신 없이 TTL + revalidate 이후 요청 스레드에서 동기 로드
+ */
+@Slf4j
+public class StaleWhileRevalidateCache implements Cache {
+
+    public static final String CACHE_STATUS_KEY = "cacheStatus";
+    public static final String FRESH = "FRESH";
+    public static final String STALE = "STALE";
+
+    private final String name;
+    private final long maxStaleConfigNanos;
+    private volatile long ttlNanos;
+    private volatile long revalidateNanos;
+    private volatile long maxStaleNanos;
+    private final BooleanSupplier backendUnavailable;
+    private final Ticker ticker;
+    private volatile Function<Object, Object> refreshLoader;
+    // 백그라운드 갱신 중인 키 (갱신 스레드에서 서비스 메서드를 통해 다시 들어온 호출 식별)
+    private final ThreadLocal<Object> refreshingKey = new ThreadLocal<>();
+    private final LoadingCache<Object, Entry> cache;
+
+    public StaleWhileRevalidateCache(String name, Duration ttl, Duration maxStale, long maximumSize,
+                                     Executor refreshExecutor, BooleanSupplier backendUnavailable, Ticker ticker) {
+        this.name = name;
+        this.ttlNanos = ttl.toNanos();
+        // TTL 경과 후 한 TTL 동안은 백그라운드 갱신을 기다리며 이전 값 제공
+        this.revalidateNanos = ttl.toNanos();
+        this.maxStaleConfigNanos = maxStale.toNanos();
+        this.maxStaleNanos = Math.max(maxStaleConfigNanos, revalidateNanos);
+        this.backendUnavailable = backendUnavailable;
+        this.ticker = ticker;
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(ttl)
+                .expireAfterWrite(ttl.plusNanos(maxStaleNanos))
+                .maximumSize(maximumSize)
+                .executor(refreshExecutor)
+                .ticker(ticker)
+                .recordStats()
+                .build(new CacheLoader<Object, Entry>() {
+                    @Override
+                    public Entry load(Object key) {
+                        Function<Object, Object> loader = refreshLoader;
+                        if (loader == null) {
+                            throw new IllegalStateException("No refresh loader registered for cache: " + name);
+                        }
+                        refreshingKey.set(key);
+                        try {
+                            return newEntry(loader.apply(key));
+                        } finally {
+                            refreshingKey.remove();
+                        }
+                    }
+
+                    @Override
+                    public Entry reload(Object key, Entry oldValue) {
+                        // Circuit Breaker OPEN이거나 loader가 없으면 호출하지 않고 이전 값 유지 (loadedAt 유지 -> STALE 판정)
+                        if (refreshLoader == null || backendUnavailable.getAsBoolean()) {
+                            return oldValue;
+                        }
+                        return load(key);
+                    }
+                });
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Entry> getNativeCache() {
+        return cache;
+    }
+
+    /**
+     * 백그라운드 갱신 loader 등록 (key -> 프록시된 서비스 메서드 호출)
+     */
+    public void setRefreshLoader(Function<Object, Object> refreshLoader) {
+        this.refreshLoader = refreshLoader;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    /**
+     * 런타임 TTL 변경 - 갱신 주기(refreshAfterWrite)와 만료 시간(TTL + maxStale)을 함께 조정
+     */
+    public void setTtl(Duration ttl) {
+        long newTtlNanos = ttl.toNanos();
+        long newMaxStaleNanos = Math.max(maxStaleConfigNanos, newTtlNanos);
+        cache.policy().refreshAfterWrite().ifPresent(refresh -> refresh.setRefreshesAfter(ttl));
+        cache.policy().expireAfterWrite().ifPresent(expiry -> expiry.setExpiresAfter(ttl.plusNanos(newMaxStaleNanos)));
+        this.ttlNanos = newTtlNanos;
+        this.revalidateNanos = newTtlNanos;
+        this.maxStaleNanos = newMaxStaleNanos;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (key.equals(refreshingKey.get())) {
+            // 백그라운드 갱신이 서비스 메서드를 통해 다시 들어온 호출 -> 캐시를 거치지 않고 조회 결과 그대로 반환
+            return call(key, valueLoader);
+        }
+
+        // 존재 여부와 나이는 통계/refresh 트리거 없이 먼저 확인
+        Entry entry = cache.policy().getIfPresentQuietly(key);
+        if (entry != null) {
+            long age = ticker.read() - entry.loadedAt;
+            if (age <= ttlNanos + revalidateNanos) {
+                // 히트 집계, TTL이 지났으면 백그라운드 refresh 트리거
+                cache.getIfPresent(key);
+                return (T) present(entry, age <= ttlNanos ? FRESH : STALE);
+            }
+            if (age <= ttlNanos + maxStaleNanos && backendUnavailable.getAsBoolean()) {
+                log.debug("Cache [{}] serving stale value for key {} while trading API is unavailable", name, key);
+                return (T) present(entry, STALE);
+            }
+            // 백그라운드 refresh는 트리거하지 않고 이 호출에서만 동기 로드 (백엔드 중복 호출 방지)
+            return (T) reloadOrStale(key, entry, valueLoader, age);
+        }
+
+        Entry loaded = cache.get(key, k -> newEntry(call(k, valueLoader)));
+        return loaded != null ? (T) present(loaded, FRESH) : null;
+    }
+
+    private static <T> T call(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * 갱신 시점이 한참 지난 값: 동기 로드, 실패 시 maxStale 범위 내면 이전 값 반환 (stale-if-error)
+     */
+    private Object reloadOrStale(Object key, Entry staleEntry, Callable<?> valueLoader, long age) {
+        try {
+            Entry loaded = newEntry(valueLoader.call());
+            if (loaded == null) {
+                cache.invalidate(key);
+                return null;
+            }
+            cache.put(key, loaded);
+            return present(loaded, FRESH);
+        } catch (Exception e) {
+            if (age <= ttlNanos + maxStaleNanos) {
+                log.warn("Cache [{}] reload failed for key {}, serving stale value: {}", name, key, e.getMessage());
+                return present(staleEntry, STALE);
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        long age = ticker.read() - entry.loadedAt;
+        if (age > ttlNanos + maxStaleNanos) {
+            return null;
+        }
+        return new SimpleValueWrapper(present(entry, age <= ttlNanos ? FRESH : STALE));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 저장된 값 조회 (히트/미스 통계와 백그라운드 refresh를 발생시키지 않음, cacheStatus 없음)
+     */
+    public Object peek(Object key) {
+        Entry entry = cache.policy().getIfPresentQuietly(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * 저장된 값만 교체 (Write-Through 패치용)
+     * - 로드 시각과 Caffeine 쓰기 시각을 그대로 두어 FRESH/STALE 판정과 갱신/만료 주기가 바뀌지 않음
+     * - put()은 새로 로드한 값으로 취급하므로 오래된 목록을 패치하면 FRESH로 바뀌고 stale 구간이 늘어남
+     *
+     * @return 교체할 항목이 없으면 false
+     */
+    public boolean replaceValue(Object key, Object value) {
+        Entry entry = cache.policy().getIfPresentQuietly(key);
+        if (entry == null || value == null) {
+            return false;
+        }
+        entry.value = value;
+        return true;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        cache.put(key, newEntry(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        Entry existing = cache.asMap().putIfAbsent(key, newEntry(value));
+        return existing != null ? new SimpleValueWrapper(existing.value) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return cache.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !cache.asMap().isEmpty();
+        clear();
+        return notEmpty;
+    }
+
+    private Entry newEntry(Object value) {
+        return value != null ? new Entry(value, ticker.read()) : null;
+    }
+
+    private static Object present(Entry entry, String status) {
+        if (entry.value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>((Map<?, ?>) entry.value);
+            copy.put(CACHE_STATUS_KEY, status);
+            return copy;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 캐시 값과 로드 시각
+     */
+    public static final class Entry {
+
+        private volatile Object value;
+        private final long loadedAt;
+
+        private Entry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+    }
+}
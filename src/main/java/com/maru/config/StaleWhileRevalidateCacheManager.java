@@ -0,0 +1,104 @@
+package com.maru.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Caffeine 캐시 매니저 (캐시 이름별 Stale-While-Revalidate 모드 선택)
+ * - swrCacheNames에 포함된 캐시는 StaleWhileRevalidateCache로 생성
+ * - 나머지는 기존과 동일한 expireAfterWrite 캐시
+ * - 캐시는 최초 사용 시 생성되므로 생성 시점을 리스너로 알림 (메트릭 등록용)
+ * - 백그라운드 갱신 loader는 캐시 이름별로 등록 (생성 전에 등록해도 생성 시 적용)
+ */
+public class StaleWhileRevalidateCacheManager extends CaffeineCacheManager {
+
+    private final Duration ttl;
+    private final long maximumSize;
+    private final Set<String> swrCacheNames;
+    private final Duration maxStale;
+    private final Executor refreshExecutor;
+    private final BooleanSupplier backendUnavailable;
+    private final List<BiConsumer<String, Cache>> cacheCreationListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Function<Object, Object>> refreshLoaders = new ConcurrentHashMap<>();
+
+    public StaleWhileRevalidateCacheManager(Duration ttl, long maximumSize, Set<String> swrCacheNames,
+                                            Duration maxStale, Executor refreshExecutor,
+                                            BooleanSupplier backendUnavailable) {
+        this.ttl = ttl;
+        this.maximumSize = maximumSize;
+        this.swrCacheNames = swrCacheNames;
+        this.maxStale = maxStale;
+        this.refreshExecutor = refreshExecutor;
+        this.backendUnavailable = backendUnavailable;
+        setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats());
+    }
+
+    @Override
+    protected Cache createCaffeineCache(String name) {
+        Cache cache;
+        if (swrCacheNames.contains(name)) {
+            StaleWhileRevalidateCache swrCache = new StaleWhileRevalidateCache(name, ttl, maxStale, maximumSize,
+                    refreshExecutor, backendUnavailable, Ticker.systemTicker());
+            swrCache.setRefreshLoader(refreshLoaders.get(name));
+            cache = swrCache;
+        } else {
+            cache = super.createCaffeineCache(name);
+        }
+        cacheCreationListeners.forEach(listener -> listener.accept(name, cache));
+        return cache;
+    }
+
+    /**
+     * 캐시 생성 리스너 등록 - 이미 생성된 캐시에도 즉시 호출
+     */
+    public void addCacheCreationListener(BiConsumer<String, Cache> listener) {
+        cacheCreationListeners.add(listener);
+        for (String name : getCacheNames()) {
+            Cache cache = getCache(name);
+            if (cache != null) {
+                listener.accept(name, cache);
+            }
+        }
+    }
+
+    /**
+     * Stale-While-Revalidate 캐시의 백그라운드 갱신 loader 등록 (key -> 프록시된 서비스 메서드 호출)
+     * - 다른 모드의 캐시 이름이면 무시
+     */
+    public void registerRefreshLoader(String name, Function<Object, Object> refreshLoader) {
+        if (!swrCacheNames.contains(name)) {
+            return;
+        }
+        refreshLoaders.put(name, refreshLoader);
+        if (getCacheNames().contains(name)) {
+            Cache cache = getCache(name);
+            if (cache instanceof StaleWhileRevalidateCache) {
+                ((StaleWhileRevalidateCache) cache).setRefreshLoader(refreshLoader);
+            }
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public boolean isStaleWhileRevalidate(String name) {
+        return swrCacheNames.contains(name);
+    }
+}
@@ -0,0 +1,98 @@
+package com.maru.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Trading API 호출 지연 시간 측정 (RestTemplate interceptor)
+ * - TradingApiHelper를 거치지 않는 호출(MarketDataService, SchedulerService의 절대 URL 호출 포함)도 모두 측정
+ * - 태그: uri(정규화된 경로 템플릿), method, outcome, status, class(엔드포인트 분류)
+ * - TradingEndpointGuard보다 바깥에 두어 bulkhead 대기 시간과 거부(status=REJECTED)도 기록
+ * - 응답 헤더 수신 시점까지를 측정 (본문 소비 시간은 호출 측 처리 시간)
+ */
+public class TradingApiRequestTimer implements ClientHttpRequestInterceptor {
+
+    public static final String METRIC_NAME = "trading.api.client.requests";
+
+    // 소문자 단어(하이픈 포함)와 버전(v1)만 고정 경로로 보고 나머지(ID, 종목코드 등)는 {id}로 치환
+    private static final Pattern LITERAL_SEGMENT = Pattern.compile("[a-z]+(-[a-z]+)*|v\\d+");
+
+    // 첫 호출 시점에 조회 (MeterBinder가 RestTemplate을 쓰는 빈에 의존하면 레지스트리 생성 중 순환 참조 발생)
+    private final Supplier<MeterRegistry> meterRegistrySupplier;
+    private volatile MeterRegistry meterRegistry;
+
+    public TradingApiRequestTimer(MeterRegistry meterRegistry) {
+        this(() -> meterRegistry);
+    }
+
+    public TradingApiRequestTimer(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistrySupplier = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        String outcome = Outcome.UNKNOWN.name();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int rawStatus = response.getRawStatusCode();
+            status = String.valueOf(rawStatus);
+            outcome = Outcome.forStatus(rawStatus).name();
+            return response;
+        } catch (TradingEndpointGuard.RejectedException e) {
+            status = "REJECTED";
+            throw e;
+        } finally {
+            String path = request.getURI().getPath();
+            Timer.builder(METRIC_NAME)
+                    .description("Trading API client request latency")
+                    .tag("uri", uriTemplate(path))
+                    .tag("method", request.getMethod() != null ? request.getMethod().name() : "UNKNOWN")
+                    .tag("outcome", outcome)
+                    .tag("status", status)
+                    .tag("class", TradingEndpointClass.classify(request.getMethod(), path).tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistrySupplier.get();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * 경로를 태그용 템플릿으로 정규화 (쿼리스트링은 getPath()에서 이미 제외)
+     * 예) /api/v1/admin/strategies/strategy-001/status -> /api/v1/admin/strategies/{id}/status
+     */
+    static String uriTemplate(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        StringBuilder sb = new StringBuilder(path.length());
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            sb.append('/').append(LITERAL_SEGMENT.matcher(segment).matches() ? segment : "{id}");
+        }
+        return sb.length() > 0 ? sb.toString() : "/";
+    }
+}
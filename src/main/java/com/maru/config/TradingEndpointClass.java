@@ -0,0 +1,63 @@
+package com.maru.config;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Trading API 엔드포인트 분류 (분류별로 bulkhead / timeout / circuit breaker를 따로 적용)
+ * - INTERACTIVE_READ: 화면 조회용 GET (대시보드, 목록, 헬스체크)
+ * - MUTATION: 상태 변경 (주문 취소/정정, 계좌/전략/리스크 설정, 킬스위치)
+ * - LONG_RUNNING_COMPUTE: 백테스트, 최적화, 몬테카를로, 리스크 계산 등 수십 초 이상 걸릴 수 있는 연산
+ */
+public enum TradingEndpointClass {
+
+    INTERACTIVE_READ("interactive-read"),
+    MUTATION("mutation"),
+    LONG_RUNNING_COMPUTE("long-running-compute");
+
+    // 연산 엔드포인트 경로 접두어 (메서드와 무관하게 LONG_RUNNING_COMPUTE)
+    private static final String[] COMPUTE_PATHS = {
+            "/api/v1/optimization/grid-search",
+            "/api/v1/optimization/genetic-algorithm",
+            "/api/v1/admin/backtests/monte-carlo",
+            "/api/v1/risk/",
+            "/api/v1/demo/backtest/",
+            "/api/v1/demo/optimization/",
+            "/api/v1/demo/advanced/",
+            "/api/v1/query/performance/analysis"
+    };
+
+    // 동기 백테스트 실행 (POST만 해당, 비동기 제출 /async는 MUTATION)
+    private static final String BACKTEST_RUN_PATH = "/api/v1/admin/backtests";
+
+    private final String tag;
+
+    TradingEndpointClass(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 메트릭 태그 / Resilience4j 인스턴스 이름에 쓰는 값
+     */
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * 요청 메서드와 경로로 분류
+     */
+    public static TradingEndpointClass classify(HttpMethod method, String path) {
+        String p = path != null ? path : "";
+        for (String computePath : COMPUTE_PATHS) {
+            if (p.startsWith(computePath)) {
+                return LONG_RUNNING_COMPUTE;
+            }
+        }
+        if (method == HttpMethod.POST && p.equals(BACKTEST_RUN_PATH)) {
+            return LONG_RUNNING_COMPUTE;
+        }
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return INTERACTIVE_READ;
+        }
+        return MUTATION;
+    }
+}
@@ -0,0 +1,198 @@
+package com.maru.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trading API 엔드포인트 분류별 격리 (RestTemplate interceptor)
+ * - 요청을 TradingEndpointClass로 분류하고 분류별 Bulkhead(동시 호출 수) + Circuit Breaker 적용
+ * - 분류별 bulkhead 크기 합이 route당 커넥션 수를 넘지 않으므로 bulkhead가 곧 커넥션 풀 몫
+ * - bulkhead 허가는 응답을 닫을 때 반환 (스트리밍 응답을 읽는 동안 커넥션을 점유하므로)
+ * - 거부 시 IOException을 던져 RestTemplate이 ResourceAccessException으로 변환 (기존 예외 처리 유지)
+ */
+@Slf4j
+public class TradingEndpointGuard implements ClientHttpRequestInterceptor {
+
+    private final Map<TradingEndpointClass, Policy> policies;
+
+    public TradingEndpointGuard(Map<TradingEndpointClass, Policy> policies) {
+        this.policies = Collections.unmodifiableMap(new EnumMap<>(policies));
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        TradingEndpointClass endpointClass = TradingEndpointClass.classify(request.getMethod(), request.getURI().getPath());
+        Policy policy = policies.get(endpointClass);
+        if (policy == null) {
+            return execution.execute(request, body);
+        }
+
+        if (!policy.bulkhead.tryAcquirePermission()) {
+            policy.bulkheadRejected.increment();
+            throw new RejectedException(endpointClass.tag() + " bulkhead full: " + request.getURI().getPath());
+        }
+        if (!policy.circuitBreaker.tryAcquirePermission()) {
+            policy.bulkhead.onComplete();
+            policy.circuitRejected.increment();
+            throw new RejectedException(endpointClass.tag() + " circuit breaker is "
+                    + policy.circuitBreaker.getState() + ": " + request.getURI().getPath());
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        int status;
+        try {
+            response = execution.execute(request, body);
+            status = response.getRawStatusCode();
+        } catch (IOException | RuntimeException e) {
+            policy.circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            policy.bulkhead.onComplete();
+            throw e;
+        }
+
+        // 응답 헤더 수신 시점까지를 호출 시간으로 기록 (본문 소비 시간은 호출 측 처리 시간)
+        long elapsed = System.nanoTime() - start;
+        if (status >= 500) {
+            policy.circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                    new IOException("HTTP " + status + " from " + request.getURI().getPath()));
+        } else {
+            policy.circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+        }
+        return new PermitReleasingResponse(response, policy.bulkhead);
+    }
+
+    /**
+     * 분류별 요청 설정 (socket timeout만 분류 값으로 교체)
+     */
+    public RequestConfig requestConfig(RequestConfig defaults, HttpMethod method, URI uri) {
+        Policy policy = policies.get(TradingEndpointClass.classify(method, uri.getPath()));
+        if (policy == null) {
+            return defaults;
+        }
+        return RequestConfig.copy(defaults).setSocketTimeout(policy.socketTimeoutMs).build();
+    }
+
+    public Policy getPolicy(TradingEndpointClass endpointClass) {
+        return policies.get(endpointClass);
+    }
+
+    /**
+     * 분류별 격리 정책
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Policy {
+
+        private final Bulkhead bulkhead;
+        private final CircuitBreaker circuitBreaker;
+        private final int socketTimeoutMs;
+        private final LongAdder bulkheadRejected = new LongAdder();
+        private final LongAdder circuitRejected = new LongAdder();
+
+        /**
+         * 사용 중인 동시 호출 수
+         */
+        public int getActiveCalls() {
+            Bulkhead.Metrics metrics = bulkhead.getMetrics();
+            return metrics.getMaxAllowedConcurrentCalls() - metrics.getAvailableConcurrentCalls();
+        }
+
+        /**
+         * 포화도 (사용 중 / 최대, 0 ~ 1)
+         */
+        public double getSaturation() {
+            int max = bulkhead.getMetrics().getMaxAllowedConcurrentCalls();
+            return max > 0 ? (double) getActiveCalls() / max : 0;
+        }
+
+        public long getBulkheadRejectedCount() {
+            return bulkheadRejected.sum();
+        }
+
+        public long getCircuitRejectedCount() {
+            return circuitRejected.sum();
+        }
+    }
+
+    /**
+     * bulkhead / circuit breaker 거부 (RestTemplate이 ResourceAccessException으로 감싸 전달)
+     */
+    public static class RejectedException extends IOException {
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * close 시 bulkhead 허가를 한 번만 반환하는 응답 래퍼
+     */
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingResponse(ClientHttpResponse delegate, Bulkhead bulkhead) {
+            this.delegate = delegate;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                }
+            }
+        }
+    }
+}
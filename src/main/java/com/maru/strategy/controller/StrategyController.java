@@ -1,5 +1,7 @@
 package com.maru.strategy.controller;
 
+import com.maru.trading.service.BatchLoader;
+import com.maru.trading.service.NameLookupService;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,10 @@ import java.util.stream.Collectors;
 public class StrategyController {
 
     private final TradingApiService tradingApiService;
+    private final NameLookupService nameLookupService;
+
+    // 전략 상세 화면의 최근 주문 표시 건수
+    private static final int RECENT_ORDER_LIMIT = 20;
 
     /**
      * 전략 목록 페이지
@@ -47,10 +53,16 @@ public class StrategyController {
                 strategies = Collections.emptyList();
             }
 
-            // 종목코드 -> 종목명 매핑을 위한 캐시 생성
-            Map<String, String> symbolNameCache = buildSymbolNameCache(strategies);
+            // 종목코드 -> 종목명, 계좌 ID -> 별칭 (중복 제거 후 종류별 한 번만 조회)
+            BatchLoader<String, String> symbolNames = symbolNameLoader(strategies);
+            BatchLoader<String, String> accountNames = nameLookupService.accountNames();
+            for (Object s : strategies) {
+                if (s instanceof Map && ((Map<?, ?>) s).get("accountId") != null) {
+                    accountNames.add(((Map<?, ?>) s).get("accountId").toString());
+                }
+            }
 
-            // 각 전략에 symbolNames 필드 추가
+            // 각 전략에 symbolNames / accountName 필드 추가
             strategies = strategies.stream()
                     .map(s -> {
                         if (s instanceof Map) {
@@ -58,8 +70,11 @@ public class StrategyController {
                             Map<String, Object> strategyMap = new HashMap<>((Map<String, Object>) s);
                             Object symbolObj = strategyMap.get("symbol");
                             if (symbolObj != null) {
-                                String symbolNames = convertSymbolsToNames(symbolObj.toString(), symbolNameCache);
-                                strategyMap.put("symbolNames", symbolNames);
+                                strategyMap.put("symbolNames", convertSymbolsToNames(symbolObj.toString(), symbolNames));
+                            }
+                            Object accountId = strategyMap.get("accountId");
+                            if (accountId != null) {
+                                strategyMap.put("accountName", accountNames.get(accountId.toString()));
                             }
                             return strategyMap;
                         }
@@ -163,60 +178,31 @@ public class StrategyController {
     }
 
     /**
-     * 전략 목록에서 사용되는 모든 종목코드에 대한 종목명 캐시 생성
+     * 전략 목록에서 사용되는 모든 종목코드를 등록한 종목명 로더 생성 (첫 조회 시 한 번에 조회)
      */
-    private Map<String, String> buildSymbolNameCache(List<?> strategies) {
-        Map<String, String> cache = new HashMap<>();
-
-        // 모든 전략에서 사용된 종목코드 수집
-        java.util.Set<String> allSymbols = new java.util.HashSet<>();
+    private BatchLoader<String, String> symbolNameLoader(List<?> strategies) {
+        BatchLoader<String, String> symbolNames = nameLookupService.instrumentNames();
         for (Object s : strategies) {
             if (s instanceof Map) {
                 Object symbolObj = ((Map<?, ?>) s).get("symbol");
                 if (symbolObj != null) {
-                    String symbolStr = symbolObj.toString();
                     // 쉼표로 구분된 여러 종목코드 처리
-                    for (String symbol : symbolStr.split(",")) {
+                    for (String symbol : symbolObj.toString().split(",")) {
                         String trimmed = symbol.trim();
                         if (!trimmed.isEmpty()) {
-                            allSymbols.add(trimmed);
+                            symbolNames.add(trimmed);
                         }
                     }
                 }
             }
         }
-
-        // 각 종목코드에 대해 종목명 조회
-        for (String symbol : allSymbols) {
-            try {
-                Map<String, Object> instrument = tradingApiService.getInstrument(symbol);
-                if (instrument != null && !instrument.containsKey("error")) {
-    // nameKr(한글명) 우선, 없으면 nameEn(영문명), 둘 다 없으면 코드 사용
-                    Object nameKr = instrument.get("nameKr");
-                    Object nameEn = instrument.get("nameEn");
-                    if (nameKr != null && !nameKr.toString().isEmpty()) {
-                        cache.put(symbol, nameKr.toString());
-                    } else if (nameEn != null && !nameEn.toString().isEmpty()) {
-                        cache.put(symbol, nameEn.toString());
-                    } else {
-                        cache.put(symbol, symbol); // 이름이 없으면 코드 그대로 사용
-                    }
-                } else {
-                    cache.put(symbol, symbol); // 조회 실패시 코드 그대로 사용
-                }
-            } catch (Exception e) {
-                log.warn("Failed to get instrument name for symbol: {}", symbol);
-                cache.put(symbol, symbol);
-            }
-        }
-
-        return cache;
+        return symbolNames;
     }
 
     /**
      * 종목코드 문자열을 종목명 문자열로 변환
      */
-    private String convertSymbolsToNames(String symbols, Map<String, String> cache) {
+    private String convertSymbolsToNames(String symbols, BatchLoader<String, String> symbolNames) {
         if (symbols == null || symbols.isEmpty()) {
             return "";
         }
@@ -228,7 +214,7 @@ public class StrategyController {
                 if (result.length() > 0) {
                     result.append(", ");
                 }
-                result.append(cache.getOrDefault(trimmed, trimmed));
+                result.append(symbolNames.get(trimmed));
             }
         }
         return result.toString();
@@ -367,8 +353,8 @@ public class StrategyController {
             // 종목코드를 종목명으로 변환
             Object symbolObj = strategy.get("symbol");
             if (symbolObj != null && !symbolObj.toString().isEmpty()) {
-                Map<String, String> symbolNameCache = buildSymbolNameCache(Collections.singletonList(strategy));
-                String symbolNames = convertSymbolsToNames(symbolObj.toString(), symbolNameCache);
+                BatchLoader<String, String> symbolNameLoader = symbolNameLoader(Collections.singletonList(strategy));
+                String symbolNames = convertSymbolsToNames(symbolObj.toString(), symbolNameLoader);
                 strategy.put("symbolNames", symbolNames);
             }
 
@@ -376,7 +362,7 @@ public class StrategyController {
 
             // 최근 주문 내역 조회 (전략 ID로 필터링)
             try {
-                Map<String, Object> orders = tradingApiService.getOrdersByStrategyId(id);
+                Map<String, Object> orders = tradingApiService.getOrdersByStrategyId(id, RECENT_ORDER_LIMIT, null);
                 model.addAttribute("recentOrders", orders.get("items"));
             } catch (Exception e) {
                 log.warn("Failed to load orders for strategy: {}", id, e);
@@ -531,8 +517,8 @@ public class StrategyController {
             // 종목코드를 종목명으로 변환
             Object symbolObj = strategy.get("symbol");
             if (symbolObj != null && !symbolObj.toString().isEmpty()) {
-                Map<String, String> symbolNameCache = buildSymbolNameCache(Collections.singletonList(strategy));
-                String symbolNames = convertSymbolsToNames(symbolObj.toString(), symbolNameCache);
+                BatchLoader<String, String> symbolNameLoader = symbolNameLoader(Collections.singletonList(strategy));
+                String symbolNames = convertSymbolsToNames(symbolObj.toString(), symbolNameLoader);
                 strategy.put("symbolNames", symbolNames);
             }
 
@@ -1,5 +1,6 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.BacktestProgressHub;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,13 +12,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * 백테스팅 결과 조회 컨트롤러
@@ -29,6 +27,7 @@ import java.util.concurrent.ScheduledExecutorService;
 public class BacktestController {
 
     private final TradingApiService tradingApiService;
+    private final BacktestProgressHub backtestProgressHub;
 
     /**
      * 백테스팅 결과 목록 페이지
@@ -497,47 +496,11 @@ public class BacktestController {
     }
 
     /**
-     * SSE 진행률 스트리밍
+     * SSE 진행률 스트리밍 (같은 작업의 구독자는 BacktestProgressHub의 폴러 하나를 공유)
      */
     @GetMapping(value = "/admin/jobs/{jobId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamJobProgress(@PathVariable String jobId) {
-        SseEmitter emitter = new SseEmitter(300_000L); // 5분 타임아웃
-
-        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-        executor.execute(() -> {
-            try {
-                while (!Thread.currentThread().isInterrupted()) {
-                    Map<String, Object> status = tradingApiService.getAsyncBacktestStatus(jobId);
-
-                    emitter.send(SseEmitter.event()
-                            .name("progress")
-                            .data(status));
-
-                    String jobStatus = (String) status.get("status");
-                    if ("COMPLETED".equals(jobStatus) || "FAILED".equals(jobStatus) || "CANCELLED".equals(jobStatus)) {
-                        emitter.complete();
-                        break;
-                    }
-
-                    Thread.sleep(1000); // 1초마다 폴링
-                }
-            } catch (IOException e) {
-                log.warn("SSE connection closed by client for job: {}", jobId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                log.error("Error streaming job progress for job: {}", jobId, e);
-                emitter.completeWithError(e);
-            } finally {
-                executor.shutdown();
-            }
-        });
-
-        emitter.onCompletion(executor::shutdown);
-        emitter.onTimeout(executor::shutdown);
-        emitter.onError(e -> executor.shutdown());
-
-        return emitter;
+        return backtestProgressHub.subscribe(jobId);
     }
 
     /**
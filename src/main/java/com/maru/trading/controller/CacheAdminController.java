@@ -0,0 +1,113 @@
+package com.maru.trading.controller;
+
+import com.maru.trading.dto.CacheStatsInfo;
+import com.maru.trading.service.CacheAdminService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 관리 컨트롤러
+ * - 캐시 매니저별 통계 조회 및 런타임 크기/TTL 변경
+ */
+@Slf4j
+@Controller
+@RequestMapping("/trading/admin/caches")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    /**
+     * 캐시 관리 페이지
+     */
+    @GetMapping
+    public String cachesPage(Model model) {
+        log.info("GET /trading/admin/caches - Cache admin page");
+
+        try {
+            model.addAttribute("caches", cacheAdminService.getAllCacheStats());
+        } catch (Exception e) {
+            log.error("Failed to load cache stats", e);
+            model.addAttribute("error", "캐시 통계를 불러오는 데 실패했습니다: " + e.getMessage());
+        }
+
+        return "trading/cache-admin";
+    }
+
+    /**
+     * 캐시 크기/TTL 변경 (폼)
+     */
+    @PostMapping("/tune")
+    public String tuneCache(
+            @RequestParam String cacheManager,
+            @RequestParam String cacheName,
+            @RequestParam(required = false) Long maximumSize,
+            @RequestParam(required = false) Long ttlSeconds,
+            RedirectAttributes redirectAttributes) {
+        log.info("POST /trading/admin/caches/tune - {}/{} maximumSize={}, ttlSeconds={}",
+                cacheManager, cacheName, maximumSize, ttlSeconds);
+
+        try {
+            cacheAdminService.tune(cacheManager, cacheName, maximumSize, ttlSeconds);
+            redirectAttributes.addFlashAttribute("message",
+                    "캐시 설정이 변경되었습니다: " + cacheManager + "/" + cacheName);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cache tuning request: {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("error", "캐시 설정 변경 실패: " + e.getMessage());
+        }
+
+        return "redirect:/trading/admin/caches";
+    }
+
+    /**
+     * 캐시 통계 API
+     */
+    @GetMapping("/api")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        List<CacheStatsInfo> caches = cacheAdminService.getAllCacheStats();
+        response.put("success", true);
+        response.put("caches", caches);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 캐시 크기/TTL 변경 API
+     */
+    @PutMapping("/api/{cacheManager}/{cacheName}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> tuneCacheApi(
+            @PathVariable String cacheManager,
+            @PathVariable String cacheName,
+            @RequestParam(required = false) Long maximumSize,
+            @RequestParam(required = false) Long ttlSeconds) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            CacheStatsInfo stats = cacheAdminService.tune(cacheManager, cacheName, maximumSize, ttlSeconds);
+            response.put("success", true);
+            response.put("cache", stats);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.maru.trading.controller;
+
+import com.maru.trading.service.DashboardFeedPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Map;
+
+/**
+ * 대시보드 피드 초기 스냅샷 컨트롤러
+ * - 클라이언트가 /app/dashboard/{resource} 구독 시 현재 스냅샷을 해당 클라이언트에게만 응답
+ * - 이후 변경분은 /topic/dashboard/{resource}로 수신 (DashboardFeedPublisher)
+ */
+@Controller
+@RequiredArgsConstructor
+public class DashboardFeedController {
+
+    private final DashboardFeedPublisher dashboardFeedPublisher;
+
+    @SubscribeMapping("/dashboard/{resource}")
+    public Map<String, Object> snapshot(@DestinationVariable String resource) {
+        return dashboardFeedPublisher.snapshot(resource);
+    }
+
+    @SubscribeMapping("/dashboard/{resource}/{accountId}")
+    public Map<String, Object> accountSnapshot(@DestinationVariable String resource,
+                                               @DestinationVariable String accountId) {
+        return dashboardFeedPublisher.snapshot(resource + "/" + accountId);
+    }
+}
@@ -1,5 +1,7 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.BatchLoader;
+import com.maru.trading.service.NameLookupService;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import java.util.Map;
 public class ExecutionHistoryController {
 
     private final TradingApiService tradingApiService;
+    private final NameLookupService nameLookupService;
 
     /**
      * 실행 히스토리 페이지
@@ -35,6 +38,8 @@ public class ExecutionHistoryController {
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
             Model model) {
 
         // 기본값 설정 (오늘부터 최근 30일)
@@ -67,15 +72,20 @@ public class ExecutionHistoryController {
 
             // 실행 히스토리 조회 - 타임아웃 발생 가능
             try {
+                // 키셋 페이지 조회 (요약 통계는 백엔드가 기간 전체 기준으로 계산한 값)
                 Map<String, Object> result = tradingApiService.getExecutionHistory(
-                        strategyId, startDate, endDate, status);
+                        strategyId, startDate, endDate, status, limit, cursor);
 
                 // 결과를 모델에 추가
-                model.addAttribute("executions", result.get("executions"));
+                model.addAttribute("executions", withStrategyNames(result.get("executions")));
                 model.addAttribute("totalExecutions", result.get("totalExecutions"));
                 model.addAttribute("successfulExecutions", result.get("successfulExecutions"));
                 model.addAttribute("failedExecutions", result.get("failedExecutions"));
                 model.addAttribute("totalProfitLoss", result.get("totalProfitLoss"));
+                model.addAttribute("cursor", cursor);
+                model.addAttribute("nextCursor", result.get("nextCursor"));
+                model.addAttribute("hasMore", Boolean.TRUE.equals(result.get("hasMore")));
+                model.addAttribute("pageLimit", result.get("limit"));
             } catch (Exception apiException) {
                 log.warn("Failed to load execution history from Trading System API (timeout or unavailable): {}",
                         apiException.getMessage());
@@ -104,4 +114,33 @@ public class ExecutionHistoryController {
             return "trading/execution-history";
         }
     }
+
+    /**
+     * 전략명이 없는 실행 내역에 전략명 추가 (전략 ID를 모아 한 번에 조회)
+     */
+    @SuppressWarnings("unchecked")
+    private Object withStrategyNames(Object executions) {
+        if (!(executions instanceof List)) {
+            return executions;
+        }
+        List<Object> rows = (List<Object>) executions;
+        BatchLoader<String, String> strategyNames = nameLookupService.strategyNames();
+        for (Object row : rows) {
+            if (needsStrategyName(row)) {
+                strategyNames.add(((Map<?, ?>) row).get("strategyId").toString());
+            }
+        }
+        for (Object row : rows) {
+            if (needsStrategyName(row)) {
+                Map<String, Object> execution = (Map<String, Object>) row;
+                execution.put("strategyName", strategyNames.get(execution.get("strategyId").toString()));
+            }
+        }
+        return rows;
+    }
+
+    private static boolean needsStrategyName(Object row) {
+        return row instanceof Map && ((Map<?, ?>) row).get("strategyName") == null
+                && ((Map<?, ?>) row).get("strategyId") != null;
+    }
 }
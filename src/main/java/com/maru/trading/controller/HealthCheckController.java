@@ -1,5 +1,7 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.PageModelAssembler;
+import com.maru.trading.service.PageModelAssembler.Widget;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,7 @@ import java.util.Map;
 public class HealthCheckController {
 
     private final TradingApiService tradingApiService;
+    private final PageModelAssembler pageModelAssembler;
 
     /**
      * Health Check 페이지
@@ -33,81 +36,36 @@ public class HealthCheckController {
         try {
             log.info("Loading Health Check page");
 
-            // Trading API 연결 상태 확인
-            Map<String, Object> tradingApiHealth = new HashMap<>();
-            long startTime = System.currentTimeMillis();
-            try {
-                Map<String, Object> healthResponse = tradingApiService.getHealthStatus();
-                long responseTime = System.currentTimeMillis() - startTime;
-
-                tradingApiHealth.put("status", healthResponse.getOrDefault("status", "UNKNOWN"));
-                tradingApiHealth.put("responseTime", responseTime);
-                tradingApiHealth.put("connected", true);
-                tradingApiHealth.put("details", healthResponse);
-            } catch (Exception e) {
-                long responseTime = System.currentTimeMillis() - startTime;
-                tradingApiHealth.put("status", "DOWN");
-                tradingApiHealth.put("responseTime", responseTime);
-                tradingApiHealth.put("connected", false);
-                tradingApiHealth.put("error", e.getMessage());
-            }
-
-            // 활성 전략 수 조회
-            int activeStrategyCount = 0;
-            try {
-                Map<String, Object> strategiesData = tradingApiService.getStrategies();
-                List<?> strategies = (List<?>) strategiesData.get("items");
-                if (strategies != null) {
-                    // ACTIVE 상태인 전략만 카운트
-                    activeStrategyCount = (int) strategies.stream()
-                        .filter(s -> {
-                            if (s instanceof Map) {
-                                Map<?, ?> strategy = (Map<?, ?>) s;
-                                return "ACTIVE".equals(strategy.get("status"));
-                            }
-                            return false;
-                        })
-                        .count();
-                }
-            } catch (Exception e) {
-                log.warn("Failed to get active strategies count", e);
-            }
+            // 독립 호출은 병렬, 주문/체결 통계는 첫 번째 계좌 조회 후 실행
+            PageModelAssembler.Assembly assembly = pageModelAssembler.assemble("health-check");
+            Widget<Map<String, Object>> healthWidget = assembly.add("tradingApiHealth", this::checkTradingApiHealth)
+                    .fallback(() -> {
+                        Map<String, Object> timedOut = new HashMap<>();
+                        timedOut.put("status", "DOWN");
+                        timedOut.put("connected", false);
+                        timedOut.put("error", "응답 시간이 초과되었습니다.");
+                        return timedOut;
+                    });
+            Widget<Integer> activeStrategiesWidget = assembly.add("activeStrategies", this::countActiveStrategies)
+                    .fallback(() -> 0);
+            Widget<String> accountWidget = assembly.add("firstAccount", this::findFirstAccountId)
+                    .fallback(() -> null);
+            // 건수만 필요하므로 목록을 받지 않는 count 조회 사용
+            Widget<Long> orderCountWidget = assembly.add("todayOrders", accountWidget,
+                    accountId -> accountId != null ? tradingApiService.countOrders(accountId) : 0L)
+                    .fallback(() -> 0L);
+            Widget<Long> fillCountWidget = assembly.add("todayFills", accountWidget,
+                    accountId -> accountId != null ? tradingApiService.countFills(accountId) : 0L)
+                    .fallback(() -> 0L);
+            assembly.run();
+
+            Map<String, Object> tradingApiHealth = healthWidget.get();
+            int activeStrategyCount = activeStrategiesWidget.get();
 
             // 오늘의 주문/체결 통계 (첫 번째 계좌로만 조회)
             Map<String, Object> todayStats = new HashMap<>();
-            todayStats.put("orderCount", 0);
-            todayStats.put("fillCount", 0);
-
-            try {
-                // 계좌 목록 조회
-                Map<String, Object> accountsData = tradingApiService.getAccounts();
-                List<?> accounts = (List<?>) accountsData.get("items");
-
-                if (accounts != null && !accounts.isEmpty()) {
-                    Map<?, ?> firstAccount = (Map<?, ?>) accounts.get(0);
-                    String accountId = (String) firstAccount.get("accountId");
-
-                    // 오늘의 주문 조회
-                    try {
-                        Map<String, Object> ordersData = tradingApiService.getOrders(accountId);
-                        List<?> orders = (List<?>) ordersData.get("items");
-                        todayStats.put("orderCount", orders != null ? orders.size() : 0);
-                    } catch (Exception e) {
-                        log.warn("Failed to get today's orders", e);
-                    }
-
-                    // 오늘의 체결 조회
-                    try {
-                        Map<String, Object> fillsData = tradingApiService.getFills(accountId, null, null);
-                        List<?> fills = (List<?>) fillsData.get("items");
-                        todayStats.put("fillCount", fills != null ? fills.size() : 0);
-                    } catch (Exception e) {
-                        log.warn("Failed to get today's fills", e);
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("Failed to get today's statistics", e);
-            }
+            todayStats.put("orderCount", orderCountWidget.get());
+            todayStats.put("fillCount", fillCountWidget.get());
 
             // 데이터베이스 연결 상태 (단순 체크)
             Map<String, Object> dbHealth = new HashMap<>();
@@ -130,4 +88,61 @@ public class HealthCheckController {
             return "trading/health-check";
         }
     }
+
+    /**
+     * Trading API 연결 상태 확인 (응답 시간 포함)
+     */
+    private Map<String, Object> checkTradingApiHealth() {
+        Map<String, Object> tradingApiHealth = new HashMap<>();
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<String, Object> healthResponse = tradingApiService.getHealthStatus();
+            long responseTime = System.currentTimeMillis() - startTime;
+
+            tradingApiHealth.put("status", healthResponse.getOrDefault("status", "UNKNOWN"));
+            tradingApiHealth.put("responseTime", responseTime);
+            tradingApiHealth.put("connected", true);
+            tradingApiHealth.put("details", healthResponse);
+        } catch (Exception e) {
+            long responseTime = System.currentTimeMillis() - startTime;
+            tradingApiHealth.put("status", "DOWN");
+            tradingApiHealth.put("responseTime", responseTime);
+            tradingApiHealth.put("connected", false);
+            tradingApiHealth.put("error", e.getMessage());
+        }
+        return tradingApiHealth;
+    }
+
+    /**
+     * ACTIVE 상태인 전략 수
+     */
+    private int countActiveStrategies() {
+        Map<String, Object> strategiesData = tradingApiService.getStrategies();
+        List<?> strategies = (List<?>) strategiesData.get("items");
+        if (strategies == null) {
+            return 0;
+        }
+        return (int) strategies.stream()
+            .filter(s -> {
+                if (s instanceof Map) {
+                    Map<?, ?> strategy = (Map<?, ?>) s;
+                    return "ACTIVE".equals(strategy.get("status"));
+                }
+                return false;
+            })
+            .count();
+    }
+
+    /**
+     * 첫 번째 계좌 ID (없으면 null)
+     */
+    private String findFirstAccountId() {
+        Map<String, Object> accountsData = tradingApiService.getAccounts();
+        List<?> accounts = (List<?>) accountsData.get("items");
+        if (accounts == null || accounts.isEmpty()) {
+            return null;
+        }
+        Map<?, ?> firstAccount = (Map<?, ?>) accounts.get(0);
+        return (String) firstAccount.get("accountId");
+    }
 }
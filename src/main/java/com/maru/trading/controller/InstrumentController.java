@@ -1,5 +1,7 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.service.InstrumentSearchIndex;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +10,8 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,6 +24,7 @@ import java.util.Map;
 public class InstrumentController {
 
     private final TradingApiService tradingApiService;
+    private final InstrumentSearchIndex instrumentSearchIndex;
 
     /**
      * 종목 목록 페이지
@@ -124,9 +129,26 @@ public class InstrumentController {
     @ResponseBody
     public Map<String, Object> searchInstrumentsApi(
             @RequestParam(required = false) String market,
-            @RequestParam(required = false) String search) {
-        log.info("API Search instruments: market={}, search={}", market, search);
-        return tradingApiService.getInstruments(market, "LISTED", true, search);
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("API Search instruments: market={}, search={}", market, search);
+        if (search == null || search.trim().isEmpty()) {
+            return tradingApiService.getInstruments(market, "LISTED", true, search);
+        }
+        try {
+            // 검색어 입력마다 호출되므로 종목 마스터 인덱스에서 검색 (상장 + 거래 가능 + 시장 필터)
+            List<Instrument> items = instrumentSearchIndex.search(search, instrument ->
+                    "LISTED".equals(instrument.status()) && instrument.tradable()
+                            && (market == null || market.isEmpty() || market.equalsIgnoreCase(instrument.market())),
+                    limit);
+            Map<String, Object> result = new HashMap<>();
+            result.put("items", items);
+            result.put("total", items.size());
+            return result;
+        } catch (Exception e) {
+            log.warn("Instrument search index unavailable, falling back to Trading API search: {}", e.getMessage());
+            return tradingApiService.getInstruments(market, "LISTED", true, search);
+        }
     }
 
     /**
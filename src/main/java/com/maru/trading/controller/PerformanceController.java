@@ -1,19 +1,16 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.ExcelExportService;
+import com.maru.trading.service.PerformanceAnalyticsEngine;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayOutputStream;
+import javax.servlet.http.HttpServletResponse;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -21,6 +18,7 @@ import java.util.Map;
 
 /**
  * 성과 분석 및 리포팅 컨트롤러
+ * - 로컬 분석 엔진(PerformanceAnalyticsEngine)에서 먼저 조회하고, 응답할 수 없을 때만 백엔드 호출
  */
 @Slf4j
 @Controller
@@ -29,6 +27,8 @@ import java.util.Map;
 public class PerformanceController {
 
     private final TradingApiService tradingApiService;
+    private final ExcelExportService excelExportService;
+    private final PerformanceAnalyticsEngine performanceAnalytics;
 
     /**
      * 성과 분석 메인 페이지 (일별/월별)
@@ -51,7 +51,7 @@ public class PerformanceController {
                     period, startDate, endDate, strategyId);
 
             // 성과 데이터 조회
-            Map<String, Object> result = tradingApiService.getPerformanceAnalysis(period, startDate, endDate, strategyId);
+            Map<String, Object> result = performanceAnalysis(period, startDate, endDate, strategyId);
 
             model.addAttribute("period", period);
             model.addAttribute("startDate", startDate);
@@ -85,7 +85,10 @@ public class PerformanceController {
             log.info("Loading strategy statistics: startDate={}, endDate={}", startDate, endDate);
 
             // 전략별 통계 조회
-            Map<String, Object> result = tradingApiService.getStrategyStatistics(startDate, endDate);
+            Map<String, Object> result = performanceAnalytics.getStrategyStatistics(startDate, endDate, strategyList());
+            if (result == null) {
+                result = tradingApiService.getStrategyStatistics(startDate, endDate);
+            }
 
             model.addAttribute("startDate", startDate);
             model.addAttribute("endDate", endDate);
@@ -119,7 +122,7 @@ public class PerformanceController {
             log.info("Loading performance calendar: year={}, month={}, strategyId={}", year, month, strategyId);
 
             // 월별 일일 성과 데이터 조회
-            Map<String, Object> result = tradingApiService.getMonthlyDailyPerformance(year, month, strategyId);
+            Map<String, Object> result = monthlyDailyPerformance(year, month, strategyId);
 
             // 전략 목록 조회 (필터용)
             Map<String, Object> strategiesResult = tradingApiService.getStrategies();
@@ -153,7 +156,7 @@ public class PerformanceController {
 
         try {
             log.info("API: Loading calendar data: year={}, month={}, strategyId={}", year, month, strategyId);
-            Map<String, Object> result = tradingApiService.getMonthlyDailyPerformance(year, month, strategyId);
+            Map<String, Object> result = monthlyDailyPerformance(year, month, strategyId);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             log.error("Failed to get calendar data", e);
@@ -164,14 +167,15 @@ public class PerformanceController {
     }
 
     /**
-     * Excel 리포트 생성 및 다운로드
+     * Excel 리포트 생성 및 다운로드 (응답 스트림으로 바로 기록)
      */
     @GetMapping("/export")
-    public ResponseEntity<ByteArrayResource> exportToExcel(
+    public void exportToExcel(
             @RequestParam(required = false) String period,
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
-            @RequestParam(required = false) String strategyId) {
+            @RequestParam(required = false) String strategyId,
+            HttpServletResponse response) {
 
         try {
             // 기본값 설정
@@ -183,165 +187,48 @@ public class PerformanceController {
                     period, startDate, endDate, strategyId);
 
             // 성과 데이터 조회
-            Map<String, Object> result = tradingApiService.getPerformanceAnalysis(period, startDate, endDate, strategyId);
+            Map<String, Object> result = performanceAnalysis(period, startDate, endDate, strategyId);
             List<Map<String, Object>> performanceData = (List<Map<String, Object>>) result.get("data");
             Map<String, Object> summary = (Map<String, Object>) result.get("summary");
 
-            // Excel 생성
-            Workbook workbook = new XSSFWorkbook();
-
-            // 스타일 생성
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerFont.setFontHeightInPoints((short) 12);
-            headerStyle.setFont(headerFont);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            headerStyle.setBorderBottom(BorderStyle.THIN);
-            headerStyle.setBorderTop(BorderStyle.THIN);
-            headerStyle.setBorderRight(BorderStyle.THIN);
-            headerStyle.setBorderLeft(BorderStyle.THIN);
-
-            CellStyle dataStyle = workbook.createCellStyle();
-            dataStyle.setBorderBottom(BorderStyle.THIN);
-            dataStyle.setBorderTop(BorderStyle.THIN);
-            dataStyle.setBorderRight(BorderStyle.THIN);
-            dataStyle.setBorderLeft(BorderStyle.THIN);
-
-            CellStyle numberStyle = workbook.createCellStyle();
-            numberStyle.cloneStyleFrom(dataStyle);
-            numberStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
-
-            CellStyle percentStyle = workbook.createCellStyle();
-            percentStyle.cloneStyleFrom(dataStyle);
-            percentStyle.setDataFormat(workbook.createDataFormat().getFormat("0.00%"));
-
-            // 요약 시트
-            Sheet summarySheet = workbook.createSheet("요약");
-            int summaryRowNum = 0;
-
-            Row summaryTitleRow = summarySheet.createRow(summaryRowNum++);
-            Cell titleCell = summaryTitleRow.createCell(0);
-            titleCell.setCellValue("성과 분석 리포트");
-            titleCell.setCellStyle(headerStyle);
-
-            summaryRowNum++;
-            Row periodRow = summarySheet.createRow(summaryRowNum++);
-            periodRow.createCell(0).setCellValue("분석 기간:");
-            periodRow.createCell(1).setCellValue(startDate + " ~ " + endDate);
-
-            Row periodTypeRow = summarySheet.createRow(summaryRowNum++);
-            periodTypeRow.createCell(0).setCellValue("집계 단위:");
-            periodTypeRow.createCell(1).setCellValue(period.equals("daily") ? "일별" : "월별");
-
-            if (strategyId != null && !strategyId.isEmpty()) {
-                Row strategyRow = summarySheet.createRow(summaryRowNum++);
-                strategyRow.createCell(0).setCellValue("전략 ID:");
-                strategyRow.createCell(1).setCellValue(strategyId);
-            }
-
-            summaryRowNum++;
-            if (summary != null) {
-                Row summaryHeaderRow = summarySheet.createRow(summaryRowNum++);
-                summaryHeaderRow.createCell(0).setCellValue("항목");
-                summaryHeaderRow.createCell(1).setCellValue("값");
-                summaryHeaderRow.getCell(0).setCellStyle(headerStyle);
-                summaryHeaderRow.getCell(1).setCellStyle(headerStyle);
-
-                Row totalPLRow = summarySheet.createRow(summaryRowNum++);
-                totalPLRow.createCell(0).setCellValue("총 수익/손실");
-                Cell plCell = totalPLRow.createCell(1);
-                plCell.setCellValue(((Number) summary.get("totalProfitLoss")).doubleValue());
-                plCell.setCellStyle(numberStyle);
-
-                Row totalTradesRow = summarySheet.createRow(summaryRowNum++);
-                totalTradesRow.createCell(0).setCellValue("총 거래 횟수");
-                totalTradesRow.createCell(1).setCellValue(((Number) summary.get("totalTrades")).doubleValue());
-
-                Row winRateRow = summarySheet.createRow(summaryRowNum++);
-                winRateRow.createCell(0).setCellValue("승률");
-                Cell winRateCell = winRateRow.createCell(1);
-                winRateCell.setCellValue(((Number) summary.get("winRate")).doubleValue() / 100);
-                winRateCell.setCellStyle(percentStyle);
-
-                Row avgPLRow = summarySheet.createRow(summaryRowNum++);
-                avgPLRow.createCell(0).setCellValue("평균 수익/손실");
-                Cell avgPLCell = avgPLRow.createCell(1);
-                avgPLCell.setCellValue(((Number) summary.get("avgProfitLoss")).doubleValue());
-                avgPLCell.setCellStyle(numberStyle);
-            }
-
-            summarySheet.autoSizeColumn(0);
-            summarySheet.autoSizeColumn(1);
-
-            // 상세 데이터 시트
-            if (performanceData != null && !performanceData.isEmpty()) {
-                Sheet detailSheet = workbook.createSheet("상세 데이터");
-                int detailRowNum = 0;
-
-                // 헤더
-                Row headerRow = detailSheet.createRow(detailRowNum++);
-                String[] headers = {"날짜", "거래 횟수", "수익/손실", "승률", "최대 이익", "최대 손실"};
-                for (int i = 0; i < headers.length; i++) {
-                    Cell cell = headerRow.createCell(i);
-                    cell.setCellValue(headers[i]);
-                    cell.setCellStyle(headerStyle);
-                }
-
-                // 데이터 행
-                for (Map<String, Object> data : performanceData) {
-                    Row row = detailSheet.createRow(detailRowNum++);
-
-                    row.createCell(0).setCellValue((String) data.get("date"));
-
-                    Cell tradesCell = row.createCell(1);
-                    tradesCell.setCellValue(((Number) data.get("trades")).doubleValue());
-                    tradesCell.setCellStyle(dataStyle);
-
-                    Cell plCell = row.createCell(2);
-                    plCell.setCellValue(((Number) data.get("profitLoss")).doubleValue());
-                    plCell.setCellStyle(numberStyle);
-
-                    Cell winRateCell = row.createCell(3);
-                    winRateCell.setCellValue(((Number) data.get("winRate")).doubleValue() / 100);
-                    winRateCell.setCellStyle(percentStyle);
-
-                    Cell maxProfitCell = row.createCell(4);
-                    maxProfitCell.setCellValue(((Number) data.get("maxProfit")).doubleValue());
-                    maxProfitCell.setCellStyle(numberStyle);
-
-                    Cell maxLossCell = row.createCell(5);
-                    maxLossCell.setCellValue(((Number) data.get("maxLoss")).doubleValue());
-                    maxLossCell.setCellStyle(numberStyle);
-                }
-
-                // 컬럼 너비 자동 조정
-                for (int i = 0; i < headers.length; i++) {
-                    detailSheet.autoSizeColumn(i);
-                }
-            }
-
-            // Excel 파일을 바이트 배열로 변환
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            workbook.close();
-
-            ByteArrayResource resource = new ByteArrayResource(outputStream.toByteArray());
-
             // 파일명 생성
             String filename = String.format("성과분석_%s_%s.xlsx",
                     period,
                     LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
 
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .body(resource);
+            excelExportService.exportPerformanceReport(period, startDate, endDate, strategyId,
+                    summary, performanceData, filename, response);
 
         } catch (Exception e) {
             log.error("Failed to export performance data to Excel", e);
-            return ResponseEntity.internalServerError().build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    private Map<String, Object> performanceAnalysis(String period, String startDate, String endDate, String strategyId) {
+        Map<String, Object> result = performanceAnalytics.getPerformanceAnalysis(period, startDate, endDate, strategyId);
+        return result != null ? result : tradingApiService.getPerformanceAnalysis(period, startDate, endDate, strategyId);
+    }
+
+    private Map<String, Object> monthlyDailyPerformance(int year, int month, String strategyId) {
+        Map<String, Object> result = performanceAnalytics.getMonthlyDailyPerformance(year, month, strategyId);
+        return result != null ? result : tradingApiService.getMonthlyDailyPerformance(year, month, strategyId);
+    }
+
+    /**
+     * 전략 이름/상태 표시용 전략 목록 (조회 실패 시 null - 전략 ID로 표시)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> strategyList() {
+        try {
+            Object strategies = tradingApiService.getStrategies().get("strategies");
+            return strategies instanceof List ? (List<Map<String, Object>>) strategies : null;
+        } catch (Exception e) {
+            log.warn("Failed to load strategies for statistics: {}", e.getMessage());
+            return null;
         }
     }
 }
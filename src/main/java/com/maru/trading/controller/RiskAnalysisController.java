@@ -1,14 +1,23 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.CorrelationEngine;
+import com.maru.trading.service.PageModelAssembler;
+import com.maru.trading.service.PageModelAssembler.Widget;
 import com.maru.trading.service.TradingApiService;
+import com.maru.trading.service.ValueAtRiskEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 리스크 분석 컨트롤러
@@ -20,6 +29,9 @@ import java.util.Map;
 public class RiskAnalysisController {
 
     private final TradingApiService tradingApiService;
+    private final PageModelAssembler pageModelAssembler;
+    private final ValueAtRiskEngine valueAtRiskEngine;
+    private final CorrelationEngine correlationEngine;
 
     /**
      * VaR (Value at Risk) 분석 페이지
@@ -42,8 +54,7 @@ public class RiskAnalysisController {
                     strategyId, confidenceLevel, timeHorizon, startDate, endDate);
 
             // VaR 계산
-            Map<String, Object> varResult = tradingApiService.calculateVaR(
-                strategyId, confidenceLevel, timeHorizon, startDate, endDate);
+            Map<String, Object> varResult = valueAtRisk(strategyId, confidenceLevel, timeHorizon, startDate, endDate);
 
             model.addAttribute("strategyId", strategyId);
             model.addAttribute("confidenceLevel", confidenceLevel);
@@ -62,6 +73,38 @@ public class RiskAnalysisController {
         }
     }
 
+    /**
+     * 신뢰수준 × 보유기간 VaR 격자 API (JSON 응답) - 로컬 체결 데이터로 한 번에 계산
+     */
+    @GetMapping("/var/grid")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> varGrid(
+            @RequestParam(required = false) String strategyId,
+            @RequestParam(defaultValue = "0.95,0.99") double[] confidenceLevels,
+            @RequestParam(defaultValue = "1,5,21") int[] timeHorizons,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+        if (startDate == null) startDate = LocalDate.now().minusDays(30).toString();
+        if (endDate == null) endDate = LocalDate.now().toString();
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Map<String, Object> grid = valueAtRiskEngine.getVaRGrid(strategyId, confidenceLevels, timeHorizons, startDate, endDate);
+            if (grid == null) {
+                response.put("success", false);
+                response.put("error", "로컬 체결 데이터가 부족하여 VaR 격자를 계산할 수 없습니다.");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+            }
+            response.put("success", true);
+            response.putAll(grid);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
     /**
      * 상관관계 분석 페이지
      */
@@ -79,7 +122,7 @@ public class RiskAnalysisController {
             log.info("Loading correlation analysis: startDate={}, endDate={}", startDate, endDate);
 
             // 상관관계 분석
-            Map<String, Object> correlationResult = tradingApiService.getCorrelationAnalysis(startDate, endDate);
+            Map<String, Object> correlationResult = correlationAnalysis(startDate, endDate);
 
             model.addAttribute("startDate", startDate);
             model.addAttribute("endDate", endDate);
@@ -106,12 +149,23 @@ public class RiskAnalysisController {
             String endDate = LocalDate.now().toString();
             String startDate = LocalDate.now().minusDays(30).toString();
 
-            // VaR, 상관관계 등 주요 리스크 지표 조회
-            Map<String, Object> varResult = tradingApiService.calculateVaR(null, 0.95, 1, startDate, endDate);
-            Map<String, Object> correlationResult = tradingApiService.getCorrelationAnalysis(startDate, endDate);
+            // VaR, 상관관계 등 주요 리스크 지표 병렬 조회 (상관관계 실패 시 VaR만 표시)
+            PageModelAssembler.Assembly assembly = pageModelAssembler.assemble("risk-dashboard");
+            Widget<Map<String, Object>> varWidget = assembly.add("var",
+                    () -> valueAtRisk(null, 0.95, 1, startDate, endDate));
+            Widget<Map<String, Object>> correlationWidget = assembly.add("correlation",
+                    () -> correlationAnalysis(startDate, endDate))
+                    .fallback(HashMap::new);
+            assembly.run();
+
+            Map<String, Object> varResult = varWidget.get();
+            Map<String, Object> correlationResult = correlationWidget.get();
 
             model.addAttribute("varData", varResult.get("varData"));
-            model.addAttribute("correlationMatrix", correlationResult.get("correlationMatrix"));
+            // 대시보드는 전략 쌍 목록(strategy1, strategy2, correlation) 형식 - 로컬 결과는 pairs로 제공
+            model.addAttribute("correlationMatrix", correlationResult == null ? null
+                    : correlationResult.containsKey("pairs") ? correlationResult.get("pairs")
+                    : correlationResult.get("correlationMatrix"));
             model.addAttribute("startDate", startDate);
             model.addAttribute("endDate", endDate);
 
@@ -123,4 +177,38 @@ public class RiskAnalysisController {
             return "trading/risk-dashboard";
         }
     }
+
+    /**
+     * VaR - 로컬 엔진 우선 (로컬 결과는 백엔드 결과와 백그라운드 교차 검증), 응답할 수 없으면 백엔드 조회
+     */
+    private Map<String, Object> valueAtRisk(String strategyId, double confidenceLevel, int timeHorizon,
+                                            String startDate, String endDate) {
+        Supplier<Map<String, Object>> backend =
+                () -> tradingApiService.calculateVaR(strategyId, confidenceLevel, timeHorizon, startDate, endDate);
+        Map<String, Object> result = valueAtRiskEngine.calculateVaR(
+                strategyId, confidenceLevel, timeHorizon, startDate, endDate, backend);
+        return result != null ? result : backend.get();
+    }
+
+    /**
+     * 상관관계 - 로컬 엔진 우선, 응답할 수 없으면 백엔드 조회
+     */
+    private Map<String, Object> correlationAnalysis(String startDate, String endDate) {
+        Map<String, Object> result = correlationEngine.getCorrelationAnalysis(startDate, endDate, strategyList());
+        return result != null ? result : tradingApiService.getCorrelationAnalysis(startDate, endDate);
+    }
+
+    /**
+     * 전략 이름 표시용 전략 목록 (조회 실패 시 null - 전략 ID로 표시)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> strategyList() {
+        try {
+            Object strategies = tradingApiService.getStrategies().get("strategies");
+            return strategies instanceof List ? (List<Map<String, Object>>) strategies : null;
+        } catch (Exception e) {
+            log.warn("Failed to load strategies for correlation: {}", e.getMessage());
+            return null;
+        }
+    }
 }
@@ -1,5 +1,9 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.service.InstrumentSearchIndex;
+import com.maru.trading.service.PageModelAssembler;
+import com.maru.trading.service.PageModelAssembler.Widget;
 import com.maru.trading.service.TradingApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +33,8 @@ public class TradingController {
 
     private final TradingApiService tradingApiService;
     private final com.maru.trading.service.ExcelExportService excelExportService;
+    private final PageModelAssembler pageModelAssembler;
+    private final InstrumentSearchIndex instrumentSearchIndex;
 
     /**
      * Trading Dashboard - 메인 화면
@@ -38,47 +44,59 @@ public class TradingController {
         try {
             log.info("Loading Trading Dashboard");
 
+            // 독립 호출은 병렬, positions/balance는 첫 번째 계좌 조회 후 실행
+            PageModelAssembler.Assembly page = pageModelAssembler.assemble("trading-dashboard");
+            Widget<Map<String, Object>> healthWidget = page.add("health", tradingApiService::getHealthStatus);
+            Widget<Map<String, Object>> killSwitchWidget = page.add("killSwitch", tradingApiService::getKillSwitchStatus);
+            Widget<Map<String, Object>> accountsWidget = page.add("accounts", tradingApiService::getAccounts);
+            Widget<Map<String, Object>> strategiesWidget = page.add("strategies", tradingApiService::getStrategies);
+            Widget<Map<String, Object>> statsWidget = page.add("stats", tradingApiService::getDashboardStats);
+            Widget<Map<String, Object>> positionsWidget = page.add("positions", accountsWidget,
+                    accountsData -> {
+                        String accountId = firstAccountId(accountsData);
+                        return accountId != null ? tradingApiService.getPositions(accountId) : null;
+                    }).fallback(HashMap::new);
+            Widget<Map<String, Object>> balanceWidget = page.add("balance", accountsWidget,
+                    accountsData -> {
+                        String accountId = firstAccountId(accountsData);
+                        return accountId != null ? tradingApiService.getAccountBalance(accountId) : null;
+                    }).fallback(() -> null);
+            page.run();
+
             // 1. Health Check
-            Map<String, Object> health = tradingApiService.getHealthStatus();
+            Map<String, Object> health = healthWidget.get();
             model.addAttribute("health", health);
             model.addAttribute("systemStatus", health.get("status"));
 
             // 2. Kill Switch Status
-            Map<String, Object> killSwitch = tradingApiService.getKillSwitchStatus();
+            Map<String, Object> killSwitch = killSwitchWidget.get();
             model.addAttribute("killSwitch", killSwitch);
             model.addAttribute("killSwitchStatus", killSwitch.get("status"));
 
             // 3. Accounts
-            Map<String, Object> accountsData = tradingApiService.getAccounts();
+            Map<String, Object> accountsData = accountsWidget.get();
             List<?> accounts = (List<?>) accountsData.get("items");
             model.addAttribute("accounts", accounts);
             model.addAttribute("accountCount", accounts != null ? accounts.size() : 0);
 
             // 4. Strategies (전략 목록)
-            Map<String, Object> strategiesData = tradingApiService.getStrategies();
+            Map<String, Object> strategiesData = strategiesWidget.get();
             List<?> strategies = (List<?>) strategiesData.get("items");
             model.addAttribute("strategies", strategies);
             model.addAttribute("strategyCount", strategies != null ? strategies.size() : 0);
 
             // 5. Positions and Balance (포트폴리오 현황)
-            if (accounts != null && !accounts.isEmpty()) {
-                try {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> firstAccount = (Map<String, Object>) accounts.get(0);
-                    String firstAccountId = (String) firstAccount.get("accountId");
-
-                    Map<String, Object> positionsData = tradingApiService.getPositions(firstAccountId);
-                    List<?> positions = (List<?>) positionsData.get("items");
-                    model.addAttribute("positions", positions);
-                    model.addAttribute("positionCount", positions != null ? positions.size() : 0);
-
-                    Map<String, Object> balanceData = tradingApiService.getAccountBalance(firstAccountId);
+            String firstAccountId = firstAccountId(accountsData);
+            if (firstAccountId != null) {
+                Map<String, Object> positionsData = positionsWidget.get();
+                List<?> positions = positionsData != null ? (List<?>) positionsData.get("items") : null;
+                model.addAttribute("positions", positions != null ? positions : new java.util.ArrayList<>());
+                model.addAttribute("positionCount", positions != null ? positions.size() : 0);
+
+                Map<String, Object> balanceData = balanceWidget.get();
+                if (balanceData != null) {
                     model.addAttribute("balance", balanceData);
                     model.addAttribute("selectedAccountId", firstAccountId);
-                } catch (Exception e) {
-                    log.warn("Failed to load positions/balance for dashboard", e);
-                    model.addAttribute("positions", new java.util.ArrayList<>());
-                    model.addAttribute("positionCount", 0);
                 }
             }
 
@@ -97,8 +115,8 @@ public class TradingController {
             }
             model.addAttribute("activeStrategyCount", activeCount);
 
-            // 5. Dashboard Statistics
-            Map<String, Object> stats = tradingApiService.getDashboardStats();
+            // 6. Dashboard Statistics
+            Map<String, Object> stats = statsWidget.get();
             model.addAttribute("todayOrders", stats.get("todayOrders"));
             model.addAttribute("todayFills", stats.get("todayFills"));
             model.addAttribute("todayProfitLoss", stats.get("todayProfitLoss"));
@@ -117,6 +135,20 @@ public class TradingController {
         }
     }
 
+    /**
+     * 계좌 목록 응답에서 첫 번째 계좌 ID 추출
+     */
+    private static String firstAccountId(Map<String, Object> accountsData) {
+        if (accountsData == null) {
+            return null;
+        }
+        List<?> accounts = (List<?>) accountsData.get("items");
+        if (accounts == null || accounts.isEmpty() || !(accounts.get(0) instanceof Map)) {
+            return null;
+        }
+        return (String) ((Map<?, ?>) accounts.get(0)).get("accountId");
+    }
+
     /**
      * 계좌 관리 페이지
      */
@@ -312,6 +344,8 @@ public class TradingController {
                         @RequestParam(required = false) String status,
                         @RequestParam(required = false) String symbol,
                         @RequestParam(required = false) String side,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "50") int limit,
                         Model model) {
         try {
             log.info("Loading Trading Orders page - accountId: {}, filters: startDate={}, endDate={}, status={}, symbol={}, side={}",
@@ -335,14 +369,17 @@ public class TradingController {
                                            (symbol != null && !symbol.isEmpty()) ||
                                            (side != null && !side.isEmpty());
 
+                // 키셋 페이지 조회 (cursor = 이전 페이지 마지막 주문 ID)
                 if (useAdvancedFilter) {
-                    ordersData = tradingApiService.getOrdersWithFilters(accountId, startDate, endDate, status, symbol, side);
+                    ordersData = tradingApiService.getOrdersWithFilters(accountId, startDate, endDate, status, symbol, side,
+                            null, limit, cursor);
                 } else {
-                    ordersData = tradingApiService.getOrders(accountId);
+                    ordersData = tradingApiService.getOrders(accountId, limit, cursor);
                 }
 
                 List<?> orders = (List<?>) ordersData.get("items");
                 model.addAttribute("orders", orders);
+                addPageAttributes(model, ordersData, cursor);
             }
 
             model.addAttribute("apiConnected", true);
@@ -529,6 +566,8 @@ public class TradingController {
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false) String orderId,
             @RequestParam(required = false) String symbol,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
             Model model) {
         try {
             log.info("Loading Trading Fills page - accountId: {}, filters: startDate={}, endDate={}, orderId={}, symbol={}",
@@ -551,15 +590,18 @@ public class TradingController {
                 boolean useAdvancedFilter = (startDate != null && !startDate.isEmpty()) ||
                                            (endDate != null && !endDate.isEmpty());
 
+                // 키셋 페이지 조회 (cursor = 이전 페이지 마지막 체결 ID)
                 if (useAdvancedFilter) {
-                    fillsData = tradingApiService.getFillsWithFilters(accountId, startDate, endDate, orderId, symbol);
+                    fillsData = tradingApiService.getFillsWithFilters(accountId, startDate, endDate, orderId, symbol,
+                            limit, cursor);
                 } else {
-                    fillsData = tradingApiService.getFills(accountId, orderId, symbol);
+                    fillsData = tradingApiService.getFills(accountId, orderId, symbol, limit, cursor);
                 }
 
                 List<?> fills = (List<?>) fillsData.get("items");
                 model.addAttribute("fills", fills);
                 model.addAttribute("fillCount", fills != null ? fills.size() : 0);
+                addPageAttributes(model, fillsData, cursor);
             }
 
             model.addAttribute("apiConnected", true);
@@ -585,7 +627,7 @@ public class TradingController {
     }
 
     /**
-     * 주문 내역 엑셀 다운로드
+     * 주문 내역 엑셀 다운로드 (백엔드를 페이지 단위로 조회하며 행을 바로 기록)
      */
     @GetMapping("/orders/export")
     public void exportOrders(
@@ -599,21 +641,8 @@ public class TradingController {
         try {
             log.info("Exporting orders to Excel");
 
-            boolean useAdvancedFilter = (startDate != null && !startDate.isEmpty()) ||
-                    (endDate != null && !endDate.isEmpty()) ||
-                    (status != null && !status.isEmpty()) ||
-                    (symbol != null && !symbol.isEmpty()) ||
-                    (side != null && !side.isEmpty());
-
-            Map<String, Object> ordersData;
-            if (useAdvancedFilter) {
-                ordersData = tradingApiService.getOrdersWithFilters(accountId, startDate, endDate, status, symbol, side);
-            } else {
-                ordersData = tradingApiService.getOrders(accountId);
-            }
-
-            List<Map<String, Object>> orders = (List<Map<String, Object>>) ordersData.get("items");
-            excelExportService.exportOrdersToExcel(orders != null ? orders : new java.util.ArrayList<>(), response);
+            excelExportService.exportOrders(rows -> tradingApiService.forEachOrder(
+                    accountId, startDate, endDate, status, symbol, side, rows), response);
 
         } catch (Exception e) {
             log.error("Failed to export orders to Excel", e);
@@ -621,7 +650,7 @@ public class TradingController {
     }
 
     /**
-     * 체결 내역 엑셀 다운로드
+     * 체결 내역 엑셀 다운로드 (백엔드를 페이지 단위로 조회하며 행을 바로 기록)
      */
     @GetMapping("/fills/export")
     public void exportFills(
@@ -634,20 +663,8 @@ public class TradingController {
         try {
             log.info("Exporting fills to Excel");
 
-            boolean useAdvancedFilter = (startDate != null && !startDate.isEmpty()) ||
-                    (endDate != null && !endDate.isEmpty()) ||
-                    (orderId != null && !orderId.isEmpty()) ||
-                    (symbol != null && !symbol.isEmpty());
-
-            Map<String, Object> fillsData;
-            if (useAdvancedFilter) {
-                fillsData = tradingApiService.getFillsWithFilters(accountId, startDate, endDate, orderId, symbol);
-            } else {
-                fillsData = tradingApiService.getFills(accountId, orderId, symbol);
-            }
-
-            List<Map<String, Object>> fills = (List<Map<String, Object>>) fillsData.get("items");
-            excelExportService.exportFillsToExcel(fills != null ? fills : new java.util.ArrayList<>(), response);
+            excelExportService.exportFills(rows -> tradingApiService.forEachFill(
+                    accountId, startDate, endDate, orderId, symbol, rows), response);
 
         } catch (Exception e) {
             log.error("Failed to export fills to Excel", e);
@@ -868,12 +885,9 @@ public class TradingController {
     public Map<String, Object> getRecentFills(@RequestParam String accountId,
                                                @RequestParam(defaultValue = "20") int limit) {
         try {
-            Map<String, Object> fillsData = tradingApiService.getFills(accountId, null, null);
+            // limit을 백엔드에 전달하고 limit건까지만 보관
+            Map<String, Object> fillsData = tradingApiService.getFills(accountId, null, null, limit, null);
             List<?> fills = (List<?>) fillsData.get("items");
-            // Limit results
-            if (fills != null && fills.size() > limit) {
-                fills = fills.subList(0, limit);
-            }
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
             result.put("items", fills);
@@ -938,34 +952,12 @@ public class TradingController {
     public Map<String, Object> searchInstruments(@RequestParam(required = false) String query,
                                                   @RequestParam(defaultValue = "20") int limit) {
         try {
-            // Trading API의 search 파라미터가 동작하지 않으므로 서버측 필터링 수행
-            Map<String, Object> instrumentsData = tradingApiService.getInstruments(null, null, true, null);
-            List<?> items = (List<?>) instrumentsData.get("items");
-
-            // 검색어로 필터링
-            if (query != null && !query.isEmpty() && items != null) {
-                String lowerQuery = query.toLowerCase();
-                items = items.stream()
-                    .filter(item -> {
-                        if (item instanceof Map) {
-                            @SuppressWarnings("unchecked")
-                            Map<String, Object> map = (Map<String, Object>) item;
-                            String symbol = String.valueOf(map.getOrDefault("symbol", "")).toLowerCase();
-                            String nameKr = String.valueOf(map.getOrDefault("nameKr", "")).toLowerCase();
-                            String nameEn = String.valueOf(map.getOrDefault("nameEn", "")).toLowerCase();
-                            return symbol.contains(lowerQuery) || nameKr.contains(lowerQuery) || nameEn.contains(lowerQuery);
-                        }
-                        return false;
-                    })
-                    .limit(limit)
-                    .collect(java.util.stream.Collectors.toList());
-            } else if (items != null && items.size() > limit) {
-                items = items.subList(0, limit);
-            }
+            // Trading API의 search 파라미터가 동작하지 않으므로 종목 마스터 인덱스로 검색 (거래 가능 종목만)
+            List<Instrument> items = instrumentSearchIndex.search(query, Instrument::tradable, limit);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
-            result.put("items", items != null ? items : new java.util.ArrayList<>());
+            result.put("items", items);
             return result;
         } catch (Exception e) {
             log.error("Failed to search instruments: query={}", query, e);
@@ -1001,4 +993,14 @@ public class TradingController {
         }
     }
 
+
+    /**
+     * 키셋 페이지 모델 속성 (다음 페이지 링크용)
+     */
+    private static void addPageAttributes(Model model, Map<String, Object> pageData, String cursor) {
+        model.addAttribute("cursor", cursor);
+        model.addAttribute("nextCursor", pageData.get("nextCursor"));
+        model.addAttribute("hasMore", Boolean.TRUE.equals(pageData.get("hasMore")));
+        model.addAttribute("pageLimit", pageData.get("limit"));
+    }
 }
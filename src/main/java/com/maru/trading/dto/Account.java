@@ -0,0 +1,19 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 계좌 (Trading API /api/v1/admin/accounts)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Account(
+        String accountId,
+        String alias,
+        String broker,
+        String environment,
+        String status,
+        String cano,
+        String acntPrdtCd,
+        String createdAt,
+        String updatedAt) {
+}
@@ -0,0 +1,15 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Trading API 목록 응답 (items / content / strategies 배열 + total)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApiList<T>(
+        @JsonAlias({"content", "strategies"}) List<T> items,
+        @JsonAlias("totalElements") Long total) {
+}
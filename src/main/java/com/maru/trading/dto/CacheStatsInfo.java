@@ -0,0 +1,78 @@
+package com.maru.trading.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 캐시 통계 정보 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsInfo {
+
+    /**
+     * 캐시 매니저 빈 이름 (cacheManager, shortTtlCacheManager, longTtlCacheManager)
+     */
+    private String cacheManager;
+
+    /**
+     * 캐시 이름
+     */
+    private String cacheName;
+
+    /**
+     * Stale-While-Revalidate 모드 여부
+     */
+    private boolean staleWhileRevalidate;
+
+    /**
+     * TTL (초)
+     */
+    private long ttlSeconds;
+
+    /**
+     * 최대 엔트리 수
+     */
+    private long maximumSize;
+
+    /**
+     * 현재 엔트리 수 (추정치)
+     */
+    private long estimatedSize;
+
+    /**
+     * 현재 가중치 합계 (weigher 미사용 시 엔트리 수와 동일)
+     */
+    private long weightedSize;
+
+    private long requestCount;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * 히트율 (0.0 ~ 1.0)
+     */
+    private double hitRate;
+
+    /**
+     * 미스율 (0.0 ~ 1.0)
+     */
+    private double missRate;
+
+    private long loadSuccessCount;
+    private long loadFailureCount;
+
+    /**
+     * 평균 로드 시간 (ms)
+     */
+    private double averageLoadPenaltyMs;
+
+    private long evictionCount;
+    private long evictionWeight;
+}
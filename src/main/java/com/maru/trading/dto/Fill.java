@@ -0,0 +1,36 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+
+/**
+ * 체결 (Trading API /api/v1/query/fills)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Fill(
+        String fillId,
+        String orderId,
+        String accountId,
+        String strategyId,
+        String symbol,
+        String side,
+        @JsonAlias("price") BigDecimal fillPrice,
+        @JsonAlias({"quantity", "qty"}) BigDecimal fillQty,
+        @JsonAlias("commission") BigDecimal fee,
+        BigDecimal tax,
+        String brokerOrderNo,
+        @JsonAlias("filledAt") String fillTimestamp) {
+
+    public boolean isBuy() {
+        return "BUY".equals(side);
+    }
+
+    /**
+     * 체결 금액 (가격 x 수량, 값이 없으면 0)
+     */
+    public BigDecimal notional() {
+        return fillPrice != null && fillQty != null ? fillPrice.multiply(fillQty) : BigDecimal.ZERO;
+    }
+}
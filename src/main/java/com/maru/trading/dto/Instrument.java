@@ -0,0 +1,50 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * 종목 (Trading API /api/v1/admin/instruments)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Instrument(
+        String symbol,
+        String market,
+        String nameKr,
+        String nameEn,
+        String status,
+        boolean tradable,
+        boolean halted,
+        String sectorCode,
+        String industry,
+        BigDecimal tickSize,
+        Integer lotSize,
+        String listingDate,
+        String delistingDate) {
+
+    /**
+     * 표시용 이름 (한글명 > 영문명 > 종목코드)
+     */
+    public String displayName() {
+        if (nameKr != null && !nameKr.isEmpty()) {
+            return nameKr;
+        }
+        if (nameEn != null && !nameEn.isEmpty()) {
+            return nameEn;
+        }
+        return symbol;
+    }
+
+    /**
+     * 종목코드 / 한글명 / 영문명 부분 일치 (lowerCaseQuery는 소문자로 전달)
+     */
+    public boolean matches(String lowerCaseQuery) {
+        return contains(symbol, lowerCaseQuery) || contains(nameKr, lowerCaseQuery) || contains(nameEn, lowerCaseQuery);
+    }
+
+    private static boolean contains(String value, String lowerCaseQuery) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseQuery);
+    }
+}
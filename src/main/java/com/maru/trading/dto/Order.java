@@ -0,0 +1,30 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 (Trading API /api/v1/query/orders)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Order(
+        String orderId,
+        String accountId,
+        String strategyId,
+        String symbol,
+        String side,
+        String orderType,
+        String status,
+        BigDecimal price,
+        @JsonAlias("qty") BigDecimal quantity,
+        @JsonAlias("filledQty") BigDecimal filledQuantity,
+        BigDecimal avgPrice,
+        String createdAt,
+        String updatedAt) {
+
+    public boolean isBuy() {
+        return "BUY".equals(side);
+    }
+}
@@ -0,0 +1,28 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+
+/**
+ * 포지션 (Trading API /api/v1/query/positions)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Position(
+        String positionId,
+        String accountId,
+        String strategyId,
+        String symbol,
+        String side,
+        String status,
+        @JsonAlias("qty") BigDecimal quantity,
+        BigDecimal avgPrice,
+        BigDecimal currentPrice,
+        BigDecimal marketValue,
+        BigDecimal costBasis,
+        @JsonAlias("unrealizedPnL") BigDecimal unrealizedPnl,
+        @JsonAlias("realizedPnL") BigDecimal realizedPnl,
+        String openedAt,
+        String updatedAt) {
+}
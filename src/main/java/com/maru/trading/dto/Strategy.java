@@ -0,0 +1,42 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 전략 (Trading API /api/v1/admin/strategies)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Strategy(
+        @JsonAlias("id") String strategyId,
+        String name,
+        String description,
+        String type,
+        String status,
+        String mode,
+        String accountId,
+        String symbol,
+        String createdAt,
+        String updatedAt) {
+
+    /**
+     * 쉼표로 구분된 종목코드 목록
+     */
+    public List<String> symbols() {
+        if (symbol == null || symbol.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> symbols = new ArrayList<>();
+        for (String s : symbol.split(",")) {
+            String trimmed = s.trim();
+            if (!trimmed.isEmpty()) {
+                symbols.add(trimmed);
+            }
+        }
+        return symbols;
+    }
+}
@@ -0,0 +1,49 @@
+package com.maru.trading.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 체결 로컬 사본 (TradingMirrorSynchronizer가 백엔드에서 동기화)
+ * - 필터 조건 컬럼만 따로 두고 원본 행은 payload(JSON)로 보관하여 화면에 그대로 전달
+ */
+@Entity
+@Table(name = "trading_fills", indexes = {
+        @Index(name = "idx_trading_fills_account_filled", columnList = "account_id, filled_at"),
+        @Index(name = "idx_trading_fills_strategy_filled", columnList = "strategy_id, filled_at"),
+        @Index(name = "idx_trading_fills_order", columnList = "order_id"),
+        @Index(name = "idx_trading_fills_symbol", columnList = "symbol")
+})
+@Data
+public class MirroredFill {
+
+    @Id
+    @Column(name = "fill_id", length = 64)
+    private String fillId;
+
+    @Column(name = "order_id", length = 64)
+    private String orderId;
+
+    @Column(name = "account_id", length = 64)
+    private String accountId;
+
+    @Column(name = "strategy_id", length = 64)
+    private String strategyId;
+
+    @Column(length = 32)
+    private String symbol;
+
+    @Column(length = 10)
+    private String side;
+
+    @Column(name = "filled_at", nullable = false)
+    private LocalDateTime filledAt;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
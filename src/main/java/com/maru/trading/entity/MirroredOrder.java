@@ -0,0 +1,52 @@
+package com.maru.trading.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 로컬 사본 (TradingMirrorSynchronizer가 백엔드에서 동기화)
+ * - 필터 조건 컬럼만 따로 두고 원본 행은 payload(JSON)로 보관하여 화면에 그대로 전달
+ */
+@Entity
+@Table(name = "trading_orders", indexes = {
+        @Index(name = "idx_trading_orders_account_created", columnList = "account_id, created_at"),
+        @Index(name = "idx_trading_orders_strategy_created", columnList = "strategy_id, created_at"),
+        @Index(name = "idx_trading_orders_symbol", columnList = "symbol"),
+        @Index(name = "idx_trading_orders_status", columnList = "status")
+})
+@Data
+public class MirroredOrder {
+
+    @Id
+    @Column(name = "order_id", length = 64)
+    private String orderId;
+
+    @Column(name = "account_id", length = 64)
+    private String accountId;
+
+    @Column(name = "strategy_id", length = 64)
+    private String strategyId;
+
+    @Column(length = 32)
+    private String symbol;
+
+    @Column(length = 10)
+    private String side;
+
+    @Column(length = 30)
+    private String status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,41 @@
+package com.maru.trading.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌/데이터셋(orders, fills)별 동기화 위치
+ * - syncedThrough: 지금까지 받은 행 중 가장 최근 시각 (다음 동기화는 이 날짜 - lookback일부터 조회)
+ * - lastSyncAt: 마지막으로 동기화를 마친 시각 (이 시각 이전에 끝난 기간은 로컬 사본만으로 응답)
+ * - rowCount: 동기화 직후 로컬 사본에 있는 해당 계좌의 행 수
+ */
+@Entity
+@Table(name = "trading_sync_watermarks")
+@Data
+public class TradingSyncWatermark {
+
+    @Id
+    @Column(length = 100)
+    private String id; // {dataset}:{accountId}
+
+    @Column(nullable = false, length = 20)
+    private String dataset;
+
+    @Column(name = "account_id", nullable = false, length = 64)
+    private String accountId;
+
+    @Column(name = "synced_through")
+    private LocalDateTime syncedThrough;
+
+    @Column(name = "last_sync_at")
+    private LocalDateTime lastSyncAt;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    public static String idOf(String dataset, String accountId) {
+        return dataset + ":" + accountId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.maru.trading.repository;
+
+import com.maru.trading.entity.MirroredFill;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MirroredFillRepository extends JpaRepository<MirroredFill, String> {
+
+    /**
+     * 필터 + 키셋 페이지 조회 (최신순, null 조건은 무시)
+     * - cursorAt / cursorId: 이전 페이지 마지막 행의 체결 시각 / 체결 ID
+     */
+    @Query("SELECT f FROM MirroredFill f"
+            + " WHERE (:accountId IS NULL OR f.accountId = :accountId)"
+            + " AND (:strategyId IS NULL OR f.strategyId = :strategyId)"
+            + " AND (:orderId IS NULL OR f.orderId = :orderId)"
+            + " AND (:symbol IS NULL OR f.symbol = :symbol)"
+            + " AND (:from IS NULL OR f.filledAt >= :from)"
+            + " AND (:to IS NULL OR f.filledAt < :to)"
+            + " AND (:cursorAt IS NULL OR f.filledAt < :cursorAt"
+            + "      OR (f.filledAt = :cursorAt AND f.fillId < :cursorId))"
+            + " ORDER BY f.filledAt DESC, f.fillId DESC")
+    List<MirroredFill> findPage(@Param("accountId") String accountId,
+                                @Param("strategyId") String strategyId,
+                                @Param("orderId") String orderId,
+                                @Param("symbol") String symbol,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to,
+                                @Param("cursorAt") LocalDateTime cursorAt,
+                                @Param("cursorId") String cursorId,
+                                Pageable pageable);
+
+    /**
+     * (체결 시각, 체결 ID) 순서로 cursor 이후 체결 조회 (분석 엔진 증분 반영용)
+     */
+    @Query("SELECT f FROM MirroredFill f"
+            + " WHERE :cursorAt IS NULL OR f.filledAt > :cursorAt"
+            + "      OR (f.filledAt = :cursorAt AND f.fillId > :cursorId)"
+            + " ORDER BY f.filledAt ASC, f.fillId ASC")
+    List<MirroredFill> findAfter(@Param("cursorAt") LocalDateTime cursorAt,
+                                 @Param("cursorId") String cursorId,
+                                 Pageable pageable);
+
+    /**
+     * 계좌별 로컬 사본 체결 수 (동기화 워터마크의 rowCount)
+     */
+    long countByAccountId(String accountId);
+}
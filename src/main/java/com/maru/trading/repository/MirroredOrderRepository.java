@@ -0,0 +1,58 @@
+package com.maru.trading.repository;
+
+import com.maru.trading.entity.MirroredOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MirroredOrderRepository extends JpaRepository<MirroredOrder, String> {
+
+    /**
+     * 필터 + 키셋 페이지 조회 (최신순, null 조건은 무시)
+     * - cursorAt / cursorId: 이전 페이지 마지막 행의 생성 시각 / 주문 ID
+     */
+    @Query("SELECT o FROM MirroredOrder o"
+            + " WHERE (:accountId IS NULL OR o.accountId = :accountId)"
+            + " AND (:strategyId IS NULL OR o.strategyId = :strategyId)"
+            + " AND (:symbol IS NULL OR o.symbol = :symbol)"
+            + " AND (:side IS NULL OR o.side = :side)"
+            + " AND (:status IS NULL OR o.status = :status)"
+            + " AND (:from IS NULL OR o.createdAt >= :from)"
+            + " AND (:to IS NULL OR o.createdAt < :to)"
+            + " AND (:cursorAt IS NULL OR o.createdAt < :cursorAt"
+            + "      OR (o.createdAt = :cursorAt AND o.orderId < :cursorId))"
+            + " ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<MirroredOrder> findPage(@Param("accountId") String accountId,
+                                 @Param("strategyId") String strategyId,
+                                 @Param("symbol") String symbol,
+                                 @Param("side") String side,
+                                 @Param("status") String status,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                 @Param("cursorId") String cursorId,
+                                 Pageable pageable);
+
+    /**
+     * createdBefore 이전에 생성되어 아직 종료 상태가 아닌 주문 ID (상태가 없는 주문 포함)
+     */
+    @Query("SELECT o.orderId FROM MirroredOrder o"
+            + " WHERE o.accountId = :accountId"
+            + " AND o.createdAt < :createdBefore"
+            + " AND (o.status IS NULL OR o.status NOT IN :terminalStatuses)")
+    List<String> findOpenOrderIds(@Param("accountId") String accountId,
+                                  @Param("terminalStatuses") Collection<String> terminalStatuses,
+                                  @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * 계좌별 로컬 사본 주문 수 (동기화 워터마크의 rowCount)
+     */
+    long countByAccountId(String accountId);
+}
@@ -0,0 +1,9 @@
+package com.maru.trading.repository;
+
+import com.maru.trading.entity.TradingSyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TradingSyncWatermarkRepository extends JpaRepository<TradingSyncWatermark, String> {
+}
@@ -0,0 +1,375 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 완료된 백테스트 결과 / 거래 내역의 로컬 디스크 캐시
+ * - 완료된 백테스트는 바뀌지 않으므로 한 번 받은 응답을 gzip JSON 파일로 보관하고 재시작 후에도 재사용
+ * - 읽기는 파일을 메모리 매핑하여 바로 압축 해제
+ * - 전체 크기 상한(max-bytes)을 넘으면 가장 오래 읽지 않은 파일부터 삭제 (LRU, 순서는 파일 수정 시각으로 보존)
+ * - 무효화는 백테스트 삭제(evictBacktest)로만 수행
+ * - 파일명: {백테스트ID}~{종류}~{키}.json.gz (비동기 작업 결과는 키가 jobId, 백테스트ID를 모르면 jobId)
+ * - ClosedPeriodMemo도 끝난 기간의 조회 결과를 owner "closed-period"로 같은 디렉터리에 보관
+ */
+@Slf4j
+@Component
+public class BacktestArtifactStore {
+
+    public static final String DETAIL = "detail";
+    public static final String BACKTEST = "backtest";
+    public static final String TRADES = "trades";
+    public static final String JOB_RESULT = "job-result";
+
+    private static final String SUFFIX = ".json.gz";
+    private static final String SEPARATOR = "~";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path directory;
+    private final long maxBytes;
+    private final boolean enabled;
+
+    // 종류:키 -> 파일 (접근 순서 = LRU 순서)
+    private final LinkedHashMap<String, Artifact> index = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BacktestArtifactStore(@Value("${trading.backtest.artifacts.dir:${java.io.tmpdir}/maruweb/backtest-artifacts}") String directory,
+                                 @Value("${trading.backtest.artifacts.max-bytes:536870912}") long maxBytes,
+                                 @Value("${trading.backtest.artifacts.enabled:true}") boolean enabled) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.enabled = enabled && open();
+    }
+
+    private boolean open() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.warn("Backtest artifact cache disabled, cannot create directory {}: {}", directory, e.getMessage());
+            return false;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.warn("Backtest artifact cache disabled, cannot read directory {}: {}", directory, e.getMessage());
+            return false;
+        }
+        // 오래 읽지 않은 파일부터 넣어 LRU 순서 복원
+        files.sort(Comparator.comparing(BacktestArtifactStore::lastModified));
+        synchronized (this) {
+            for (Path file : files) {
+                Artifact artifact = Artifact.parse(file);
+                if (artifact != null) {
+                    index.put(artifact.indexKey(), artifact);
+                    totalBytes += artifact.size;
+                }
+            }
+            evictOverflow();
+        }
+        log.info("Backtest artifact cache opened: dir={}, entries={}, bytes={}", directory, index.size(), totalBytes);
+        return true;
+    }
+
+    // ==================== 조회 / 저장 ====================
+
+    /**
+     * 저장된 결과 (없거나 읽을 수 없으면 null) - 호출마다 새로 디코딩하므로 수정해도 안전
+     */
+    public Map<String, Object> get(String kind, String key) {
+        if (!enabled || key == null) {
+            return null;
+        }
+        Artifact artifact;
+        synchronized (this) {
+            artifact = index.get(kind + SEPARATOR + sanitize(key));
+        }
+        if (artifact == null) {
+            missCount.increment();
+            return null;
+        }
+        Map<String, Object> value;
+        try {
+            value = read(artifact.path);
+        } catch (IOException e) {
+            log.warn("Dropping unreadable backtest artifact {}: {}", artifact.path.getFileName(), e.getMessage());
+            remove(artifact);
+            missCount.increment();
+            return null;
+        }
+        touch(artifact.path);
+        hitCount.increment();
+        return value;
+    }
+
+    /**
+     * 응답 자체가 status=COMPLETED인 결과만 저장 (오류 응답, 진행 중 상태, status가 없는 응답은 저장하지 않음)
+     *
+     * @param backtestId 삭제 시 함께 무효화할 백테스트 ID (모르면 key)
+     */
+    public void putIfCompleted(String kind, String key, String backtestId, Map<String, Object> value) {
+        if (isCompleted(value)) {
+            put(kind, key, backtestId, value);
+        }
+    }
+
+    /**
+     * 결과 저장 - 호출자가 완료(바뀌지 않음)를 따로 확인한 경우 (예: 거래 내역은 백테스트 상세의 status로 확인)
+     * - 오류 응답이나 빈 응답은 저장하지 않음
+     *
+     * @param backtestId 삭제 시 함께 무효화할 백테스트 ID (모르면 key)
+     */
+    public void put(String kind, String key, String backtestId, Map<String, Object> value) {
+        if (!enabled || key == null || !isStorable(value)) {
+            return;
+        }
+        String owner = sanitize(backtestId != null ? backtestId : key);
+        Path file = directory.resolve(owner + SEPARATOR + kind + SEPARATOR + sanitize(key) + SUFFIX);
+        try {
+            Path temp = Files.createTempFile(directory, "artifact", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                objectMapper.writeValue(out, value);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Artifact artifact = new Artifact(file, owner, kind, sanitize(key), Files.size(file));
+            synchronized (this) {
+                Artifact previous = index.put(artifact.indexKey(), artifact);
+                if (previous != null) {
+                    totalBytes -= previous.size;
+                    if (!previous.path.equals(file)) {
+                        Files.deleteIfExists(previous.path);
+                    }
+                }
+                totalBytes += artifact.size;
+                evictOverflow();
+            }
+            writeCount.increment();
+        } catch (IOException e) {
+            log.warn("Failed to store backtest artifact {}/{}: {}", kind, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 백테스트 삭제 시 해당 백테스트의 모든 결과 제거
+     */
+    public void evictBacktest(String backtestId) {
+        if (!enabled || backtestId == null) {
+            return;
+        }
+        String owner = sanitize(backtestId);
+        List<Artifact> removed = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Artifact> it = index.values().iterator();
+            while (it.hasNext()) {
+                Artifact artifact = it.next();
+                if (artifact.owner.equals(owner)) {
+                    it.remove();
+                    totalBytes -= artifact.size;
+                    removed.add(artifact);
+                }
+            }
+        }
+        removed.forEach(artifact -> deleteFile(artifact.path));
+        if (!removed.isEmpty()) {
+            log.debug("Evicted {} backtest artifacts for backtest {}", removed.size(), backtestId);
+        }
+    }
+
+    static boolean isCompleted(Map<String, Object> value) {
+        return isStorable(value) && "COMPLETED".equals(value.get("status"));
+    }
+
+    private static boolean isStorable(Map<String, Object> value) {
+        return value != null && !value.isEmpty() && !value.containsKey("error");
+    }
+
+    // ==================== 현황 ====================
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public synchronized int getEntryCount() {
+        return index.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    // ==================== 내부 ====================
+
+    private Map<String, Object> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try (InputStream in = new GZIPInputStream(new ByteBufferInputStream(buffer))) {
+                return objectMapper.readValue(in, MAP_TYPE);
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Artifact> it = index.values().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Artifact eldest = it.next();
+            it.remove();
+            totalBytes -= eldest.size;
+            deleteFile(eldest.path);
+            evictionCount.increment();
+        }
+    }
+
+    private synchronized void remove(Artifact artifact) {
+        if (index.remove(artifact.indexKey(), artifact)) {
+            totalBytes -= artifact.size;
+        }
+        deleteFile(artifact.path);
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Failed to delete backtest artifact {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 읽은 시각을 수정 시각으로 남겨 재시작 후에도 LRU 순서 유지
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Failed to touch backtest artifact {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    static String sanitize(String id) {
+        return id.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+
+    /**
+     * 저장된 파일 하나
+     */
+    private static final class Artifact {
+
+        private final Path path;
+        private final String owner;
+        private final String kind;
+        private final String key;
+        private final long size;
+
+        Artifact(Path path, String owner, String kind, String key, long size) {
+            this.path = path;
+            this.owner = owner;
+            this.kind = kind;
+            this.key = key;
+            this.size = size;
+        }
+
+        String indexKey() {
+            return kind + SEPARATOR + key;
+        }
+
+        static Artifact parse(Path file) {
+            String name = file.getFileName().toString();
+            String[] parts = name.substring(0, name.length() - SUFFIX.length()).split(SEPARATOR);
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Artifact(file, parts[0], parts[1], parts[2], Files.size(file));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 메모리 매핑된 버퍼를 복사 없이 읽는 InputStream
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.maru.trading.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 백테스트 진행률 SSE 허브
+ * - jobId당 폴러 하나만 두고 상태를 등록된 모든 SseEmitter에 전송 (구독자 수와 무관하게 백엔드 호출 수 일정)
+ * - 공용 스케줄러에서 동작하므로 연결마다 스레드를 만들지 않음
+ * - 조회 주기는 상태에 따라 조정: 대기 중이면 느리게, 완료 직전이면 빠르게
+ * - 작업이 끝나면(COMPLETED/FAILED/CANCELLED) 모든 구독을 완료하고 폴러 제거, 구독자가 모두 떠나도 폴러 제거
+ */
+@Slf4j
+@Service
+public class BacktestProgressHub {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "FAILED", "CANCELLED");
+    private static final Set<String> WAITING_STATUSES = Set.of("PENDING", "QUEUED", "SUBMITTED");
+    private static final int NEAR_COMPLETION_PROGRESS = 90;
+
+    private final TradingApiService tradingApiService;
+    private final ScheduledExecutorService scheduler;
+    private final long emitterTimeoutMs;
+    private final long fastIntervalMs;
+    private final long intervalMs;
+    private final long slowIntervalMs;
+
+    private final Map<String, JobPoller> pollers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong backendPollCount = new AtomicLong();
+
+    @Autowired
+    public BacktestProgressHub(TradingApiService tradingApiService,
+                               @Value("${trading.backtest.progress.threads:2}") int threads,
+                               @Value("${trading.backtest.progress.emitter-timeout-ms:300000}") long emitterTimeoutMs,
+                               @Value("${trading.backtest.progress.fast-interval-ms:500}") long fastIntervalMs,
+                               @Value("${trading.backtest.progress.interval-ms:1000}") long intervalMs,
+                               @Value("${trading.backtest.progress.slow-interval-ms:5000}") long slowIntervalMs) {
+        this(tradingApiService, newScheduler(threads), emitterTimeoutMs, fastIntervalMs, intervalMs, slowIntervalMs);
+    }
+
+    BacktestProgressHub(TradingApiService tradingApiService, ScheduledExecutorService scheduler,
+                        long emitterTimeoutMs, long fastIntervalMs, long intervalMs, long slowIntervalMs) {
+        this.tradingApiService = tradingApiService;
+        this.scheduler = scheduler;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.fastIntervalMs = fastIntervalMs;
+        this.intervalMs = intervalMs;
+        this.slowIntervalMs = slowIntervalMs;
+    }
+
+    private static ScheduledExecutorService newScheduler(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newScheduledThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "backtest-progress-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    // ==================== 구독 ====================
+
+    /**
+     * 작업 진행률 구독 - 마지막으로 조회한 상태가 있으면 즉시 전송
+     */
+    public SseEmitter subscribe(String jobId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(() -> unsubscribe(jobId, emitter));
+        emitter.onError(e -> unsubscribe(jobId, emitter));
+        register(jobId, emitter);
+        return emitter;
+    }
+
+    void register(String jobId, SseEmitter emitter) {
+        while (true) {
+            JobPoller poller = pollers.computeIfAbsent(jobId, JobPoller::new);
+            // 방금 종료된 폴러면 제거된 뒤 새 폴러로 다시 시도
+            if (poller.add(emitter)) {
+                return;
+            }
+            pollers.remove(jobId, poller);
+        }
+    }
+
+    void unsubscribe(String jobId, SseEmitter emitter) {
+        JobPoller poller = pollers.get(jobId);
+        if (poller != null) {
+            poller.remove(emitter);
+        }
+    }
+
+    /**
+     * 해당 작업을 즉시 한 번 조회하여 전송 (테스트 / 수동 갱신)
+     */
+    void pollNow(String jobId) {
+        JobPoller poller = pollers.get(jobId);
+        if (poller != null) {
+            poller.poll();
+        }
+    }
+
+    // ==================== 현황 ====================
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public int getPollerCount() {
+        return pollers.size();
+    }
+
+    public long getBackendPollCount() {
+        return backendPollCount.get();
+    }
+
+    public int getSubscriberCount(String jobId) {
+        JobPoller poller = pollers.get(jobId);
+        return poller != null ? poller.emitters.size() : 0;
+    }
+
+    // ==================== 조회 주기 ====================
+
+    /**
+     * 상태별 다음 조회까지 대기 시간
+     * - 대기 중 / 상태 조회 실패: slow
+     * - 진행률 90% 이상: fast
+     * - 그 외 실행 중: 기본
+     */
+    long nextDelayMs(Map<String, Object> status) {
+        String jobStatus = status != null ? String.valueOf(status.get("status")) : null;
+        if (status == null || status.containsKey("error") || "UNKNOWN".equals(jobStatus)
+                || WAITING_STATUSES.contains(jobStatus)) {
+            return slowIntervalMs;
+        }
+        Object progress = status.get("progress");
+        if (progress instanceof Number && ((Number) progress).doubleValue() >= NEAR_COMPLETION_PROGRESS) {
+            return fastIntervalMs;
+        }
+        return intervalMs;
+    }
+
+    static boolean isTerminal(Map<String, Object> status) {
+        return status != null && TERMINAL_STATUSES.contains(String.valueOf(status.get("status")));
+    }
+
+    /**
+     * 작업 하나의 폴러 - 구독자 목록, 마지막 상태, 다음 예약 작업
+     */
+    private final class JobPoller {
+
+        private final String jobId;
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private Map<String, Object> lastStatus;
+        private ScheduledFuture<?> next;
+        private boolean closed;
+
+        JobPoller(String jobId) {
+            this.jobId = jobId;
+        }
+
+        synchronized boolean add(SseEmitter emitter) {
+            if (closed) {
+                return false;
+            }
+            if (!emitters.add(emitter)) {
+                return true;
+            }
+            subscriberCount.incrementAndGet();
+            if (lastStatus != null) {
+                send(emitter, lastStatus);
+            }
+            if (next == null) {
+                next = scheduler.schedule(this::pollSafely, 0, TimeUnit.MILLISECONDS);
+                log.debug("Backtest progress poller started: jobId={}", jobId);
+            }
+            return true;
+        }
+
+        synchronized void remove(SseEmitter emitter) {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            if (emitters.isEmpty() && !closed) {
+                close();
+                log.debug("Backtest progress poller stopped (no subscribers): jobId={}", jobId);
+            }
+        }
+
+        /**
+         * 백엔드 조회는 잠금 밖에서 수행 (조회 중에도 add/remove가 대기하지 않음)
+         * - 조회가 끝나면 잠금 안에서 상태 반영, 전송, 다음 조회 예약
+         */
+        void poll() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            Map<String, Object> status = fetch();
+            synchronized (this) {
+                publish(status);
+            }
+        }
+
+        private void publish(Map<String, Object> status) {
+            // 조회 중 구독자가 모두 떠나 종료된 경우
+            if (closed) {
+                return;
+            }
+            lastStatus = status;
+            emitters.forEach(emitter -> send(emitter, status));
+
+            if (isTerminal(status)) {
+                emitters.forEach(SseEmitter::complete);
+                subscriberCount.addAndGet(-emitters.size());
+                emitters.clear();
+                close();
+                log.debug("Backtest progress poller finished: jobId={}, status={}", jobId, status.get("status"));
+                return;
+            }
+            if (emitters.isEmpty()) {
+                close();
+                return;
+            }
+            // pollNow()와 예약 조회가 겹쳐도 예약은 하나만 유지
+            if (next != null) {
+                next.cancel(false);
+            }
+            next = scheduler.schedule(this::pollSafely, nextDelayMs(status), TimeUnit.MILLISECONDS);
+        }
+
+        private void pollSafely() {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Backtest progress poll failed: jobId={}, error={}", jobId, e.getMessage());
+                synchronized (this) {
+                    if (!closed) {
+                        next = scheduler.schedule(this::pollSafely, slowIntervalMs, TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+        }
+
+        private Map<String, Object> fetch() {
+            backendPollCount.incrementAndGet();
+            try {
+                Map<String, Object> status = tradingApiService.getAsyncBacktestStatus(jobId);
+                if (status != null) {
+                    return status;
+                }
+            } catch (RuntimeException e) {
+                log.debug("Backtest status fetch failed: jobId={}, error={}", jobId, e.getMessage());
+            }
+            Map<String, Object> unknown = new HashMap<>();
+            unknown.put("jobId", jobId);
+            unknown.put("status", "UNKNOWN");
+            unknown.put("error", "백테스트 작업 상태를 가져올 수 없습니다.");
+            return unknown;
+        }
+
+        private void send(SseEmitter emitter, Map<String, Object> status) {
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(status));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE connection closed by client for job: {}", jobId);
+                if (emitters.remove(emitter)) {
+                    subscriberCount.decrementAndGet();
+                }
+            }
+        }
+
+        private void close() {
+            closed = true;
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+            pollers.remove(jobId, this);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.maru.trading.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백테스트 진행률 SSE 허브 메트릭
+ * - 구독(SseEmitter) 수, 작업별 폴러 수, 백엔드 상태 조회 건수
+ */
+@Component
+@RequiredArgsConstructor
+public class BacktestProgressMetrics implements MeterBinder {
+
+    private final BacktestProgressHub backtestProgressHub;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("trading.backtest.progress.subscribers", backtestProgressHub, BacktestProgressHub::getSubscriberCount)
+                .description("SSE connections watching async backtest progress")
+                .register(registry);
+        Gauge.builder("trading.backtest.progress.pollers", backtestProgressHub, BacktestProgressHub::getPollerCount)
+                .description("Async backtest jobs currently being polled (one poller per job)")
+                .register(registry);
+        FunctionCounter.builder("trading.backtest.progress.polls", backtestProgressHub, BacktestProgressHub::getBackendPollCount)
+                .description("Async backtest status requests sent to the backend by the progress hub")
+                .register(registry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.maru.trading.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 키 일괄 조회기 (DataLoader 방식)
+ * - 요청 처리 중 필요한 키를 add로 모아두고, 첫 get 시점에 중복 제거된 키 전체를 batchFunction 한 번으로 조회
+ * - 조회된 값은 로더 안에서 재사용 (같은 키는 다시 조회하지 않음)
+ * - 결과에 없는 키나 조회 실패는 fallback 값으로 대체
+ * - 요청 하나에서만 사용하는 객체이므로 스레드 안전하지 않음
+ *
+ * <pre>
+ * BatchLoader&lt;String, String&gt; names = nameLookupService.instrumentNames();
+ * strategies.forEach(s -&gt; names.addAll(s.symbols()));
+ * String name = names.get("005930");   // 여기서 한 번만 조회
+ * </pre>
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+    private final String name;
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final Function<K, V> fallback;
+    private final Set<K> pending = new LinkedHashSet<>();
+    private final Map<K, V> resolved = new HashMap<>();
+    private int batchCount;
+
+    public BatchLoader(String name, Function<Set<K>, Map<K, V>> batchFunction, Function<K, V> fallback) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.fallback = fallback;
+    }
+
+    /**
+     * 조회할 키 등록 (null과 이미 조회된 키는 무시)
+     */
+    public BatchLoader<K, V> add(K key) {
+        if (key != null && !resolved.containsKey(key)) {
+            pending.add(key);
+        }
+        return this;
+    }
+
+    public BatchLoader<K, V> addAll(Collection<? extends K> keys) {
+        keys.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * 값 조회 (대기 중인 키가 있으면 먼저 일괄 조회)
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        if (!resolved.containsKey(key)) {
+            add(key);
+            dispatch();
+        }
+        return resolved.get(key);
+    }
+
+    /**
+     * 여러 키 조회 (요청 순서 유지)
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys) {
+        addAll(keys);
+        dispatch();
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (key != null) {
+                result.put(key, resolved.get(key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 대기 중인 키를 한 번에 조회
+     */
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<K> keys = Collections.unmodifiableSet(new LinkedHashSet<>(pending));
+        pending.clear();
+        batchCount++;
+
+        Map<K, V> values;
+        try {
+            values = batchFunction.apply(keys);
+        } catch (RuntimeException e) {
+            log.warn("Batch load failed: loader={}, keys={}, error={}", name, keys.size(), e.getMessage());
+            values = Collections.emptyMap();
+        }
+        for (K key : keys) {
+            V value = values != null ? values.get(key) : null;
+            resolved.put(key, value != null ? value : fallback.apply(key));
+        }
+        log.debug("Batch loaded: loader={}, keys={}", name, keys.size());
+    }
+
+    /**
+     * 지금까지 실행한 일괄 조회 횟수
+     */
+    public int getBatchCount() {
+        return batchCount;
+    }
+}
@@ -0,0 +1,171 @@
+package com.maru.trading.service;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.maru.config.StaleWhileRevalidateCache;
+import com.maru.trading.dto.CacheStatsInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * 캐시 관리 서비스
+ * - 캐시 매니저(cacheManager, shortTtlCacheManager, longTtlCacheManager)별 Caffeine 통계 조회
+ * - 재시작 없이 캐시별 최대 크기 / TTL 변경
+ */
+@Slf4j
+@Service
+public class CacheAdminService {
+
+    private final Map<String, CacheManager> cacheManagers;
+
+    public CacheAdminService(Map<String, CacheManager> cacheManagers) {
+        this.cacheManagers = Collections.unmodifiableMap(new TreeMap<>(cacheManagers));
+    }
+
+    public Map<String, CacheManager> getCacheManagers() {
+        return cacheManagers;
+    }
+
+    /**
+     * 전체 캐시 통계 (매니저 이름, 캐시 이름 순)
+     */
+    public List<CacheStatsInfo> getAllCacheStats() {
+        List<CacheStatsInfo> result = new ArrayList<>();
+        cacheManagers.forEach((managerName, manager) -> {
+            List<String> cacheNames = new ArrayList<>(manager.getCacheNames());
+            Collections.sort(cacheNames);
+            for (String cacheName : cacheNames) {
+                Cache cache = manager.getCache(cacheName);
+                if (cache != null && nativeCache(cache) != null) {
+                    result.add(describe(managerName, cache));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 단일 캐시 통계
+     */
+    public CacheStatsInfo getCacheStats(String managerName, String cacheName) {
+        return describe(managerName, findCache(managerName, cacheName));
+    }
+
+    /**
+     * 캐시 최대 크기 / TTL 런타임 변경 (null이면 변경하지 않음)
+     * - 이미 저장된 엔트리에도 즉시 적용되며, 줄어든 크기만큼 Caffeine이 비동기로 축출
+     */
+    public CacheStatsInfo tune(String managerName, String cacheName, Long maximumSize, Long ttlSeconds) {
+        if (maximumSize != null && maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (ttlSeconds != null && ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttlSeconds must be positive: " + ttlSeconds);
+        }
+
+        Cache cache = findCache(managerName, cacheName);
+        com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache = nativeCache(cache);
+
+        if (maximumSize != null) {
+            Policy.Eviction<Object, ?> eviction = nativeCache.policy().eviction()
+                    .orElseThrow(() -> new IllegalArgumentException("Cache has no size bound: " + cacheName));
+            eviction.setMaximum(maximumSize);
+        }
+        if (ttlSeconds != null) {
+            Duration ttl = Duration.ofSeconds(ttlSeconds);
+            if (cache instanceof StaleWhileRevalidateCache) {
+                ((StaleWhileRevalidateCache) cache).setTtl(ttl);
+            } else {
+                nativeCache.policy().expireAfterWrite()
+                        .orElseThrow(() -> new IllegalArgumentException("Cache has no expireAfterWrite policy: " + cacheName))
+                        .setExpiresAfter(ttl);
+            }
+        }
+
+        log.info("Cache [{}/{}] tuned: maximumSize={}, ttlSeconds={}", managerName, cacheName, maximumSize, ttlSeconds);
+        return describe(managerName, cache);
+    }
+
+    private Cache findCache(String managerName, String cacheName) {
+        CacheManager manager = cacheManagers.get(managerName);
+        if (manager == null) {
+            throw new IllegalArgumentException("Unknown cache manager: " + managerName);
+        }
+        // getCache()는 없는 캐시를 새로 만들기 때문에 이미 생성된 캐시만 허용
+        Cache cache = manager.getCacheNames().contains(cacheName) ? manager.getCache(cacheName) : null;
+        if (cache == null || nativeCache(cache) == null) {
+            throw new IllegalArgumentException("Unknown cache: " + managerName + "/" + cacheName);
+        }
+        return cache;
+    }
+
+    private static CacheStatsInfo describe(String managerName, Cache cache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache = nativeCache(cache);
+        CacheStats stats = nativeCache.stats();
+        long estimatedSize = nativeCache.estimatedSize();
+
+        return CacheStatsInfo.builder()
+                .cacheManager(managerName)
+                .cacheName(cache.getName())
+                .staleWhileRevalidate(cache instanceof StaleWhileRevalidateCache)
+                .ttlSeconds(ttl(cache).getSeconds())
+                .maximumSize(maximumSize(nativeCache))
+                .estimatedSize(estimatedSize)
+                .weightedSize(weightedSize(nativeCache))
+                .requestCount(stats.requestCount())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .missRate(stats.missRate())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMs(stats.averageLoadPenalty() / 1_000_000.0)
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .build();
+    }
+
+    // ==================== Caffeine 정책 조회 (메트릭에서도 사용) ====================
+
+    @SuppressWarnings("unchecked")
+    static com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache(Cache cache) {
+        Object nativeCache = cache.getNativeCache();
+        return nativeCache instanceof com.github.benmanes.caffeine.cache.Cache
+                ? (com.github.benmanes.caffeine.cache.Cache<Object, ?>) nativeCache
+                : null;
+    }
+
+    static Duration ttl(Cache cache) {
+        if (cache instanceof StaleWhileRevalidateCache) {
+            return ((StaleWhileRevalidateCache) cache).getTtl();
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache = nativeCache(cache);
+        return nativeCache.policy().expireAfterWrite()
+                .map(Policy.FixedExpiration::getExpiresAfter)
+                .orElse(Duration.ZERO);
+    }
+
+    static long maximumSize(com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache) {
+        return nativeCache.policy().eviction()
+                .map(Policy.Eviction::getMaximum)
+                .orElse(-1L);
+    }
+
+    static long weightedSize(com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache) {
+        // weigher를 쓰지 않으면 엔트리 하나의 가중치가 1
+        OptionalLong weightedSize = nativeCache.policy().eviction()
+                .map(Policy.Eviction::weightedSize)
+                .orElse(OptionalLong.empty());
+        return weightedSize.isPresent() ? weightedSize.getAsLong() : nativeCache.estimatedSize();
+    }
+}
@@ -0,0 +1,203 @@
+package com.maru.trading.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 기간 조회 결과 메모이제이션 (성과 분석 / 캘린더 / VaR / 상관관계)
+ * - 종료일이 오늘 이전인 기간(닫힌 기간)의 결과는 바뀌지 않으므로 만료 없이 보관하고 디스크(BacktestArtifactStore)에도 저장
+ * - 오늘을 포함하는 기간(열린 기간)의 결과는 open-ttl 동안만 재사용
+ * - 키: 종류 + 파라미터를 이름순으로 정렬한 문자열의 SHA-256 (파라미터 순서와 무관)
+ * - 오류 응답은 저장하지 않음
+ * - 월 단위로 나눌 수 있는 조회는 호출자가 months()로 나눠 월별로 조회하고 합침
+ */
+@Slf4j
+@Component
+public class ClosedPeriodMemo {
+
+    public static final String OWNER = "closed-period";
+
+    private final BacktestArtifactStore store;
+    private final boolean enabled;
+    private final Duration openTtl;
+    private final Clock clock;
+
+    private final Cache<String, Map<String, Object>> closed;
+    private final Cache<String, Map<String, Object>> open;
+
+    private final LongAdder closedHitCount = new LongAdder();
+    private final LongAdder diskHitCount = new LongAdder();
+    private final LongAdder openHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @Autowired
+    public ClosedPeriodMemo(BacktestArtifactStore store,
+                            @Value("${trading.period-memo.enabled:true}") boolean enabled,
+                            @Value("${trading.period-memo.open-ttl-seconds:60}") long openTtlSeconds,
+                            @Value("${trading.period-memo.max-entries:2000}") long maxEntries) {
+        this(store, enabled, Duration.ofSeconds(openTtlSeconds), maxEntries, Clock.systemDefaultZone());
+    }
+
+    ClosedPeriodMemo(BacktestArtifactStore store, boolean enabled, Duration openTtl, long maxEntries, Clock clock) {
+        this.store = store;
+        this.enabled = enabled;
+        this.openTtl = openTtl;
+        this.clock = clock;
+        this.closed = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+        this.open = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(openTtl.isNegative() ? Duration.ZERO : openTtl)
+                .build();
+    }
+
+    /**
+     * 기간 결과 조회 (없으면 loader로 조회 후 저장)
+     *
+     * @param kind      결과 종류 (파일명에 쓰이므로 영문/숫자/-만)
+     * @param periodEnd 기간 종료일 (null이면 열린 기간으로 취급)
+     * @param params    결과를 결정하는 모든 파라미터
+     */
+    public Map<String, Object> get(String kind, LocalDate periodEnd, Map<String, ?> params,
+                                   Supplier<Map<String, Object>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = key(params);
+        String cacheKey = kind + "/" + key;
+        boolean isClosed = isClosed(periodEnd);
+
+        Map<String, Object> cached = isClosed ? closed.getIfPresent(cacheKey) : open.getIfPresent(cacheKey);
+        if (cached != null) {
+            (isClosed ? closedHitCount : openHitCount).increment();
+            return cached;
+        }
+        if (isClosed) {
+            Map<String, Object> stored = store.get(kind, key);
+            if (stored != null) {
+                diskHitCount.increment();
+                closed.put(cacheKey, stored);
+                return stored;
+            }
+        }
+
+        missCount.increment();
+        Map<String, Object> value = loader.get();
+        if (!isStorable(value)) {
+            return value;
+        }
+        if (isClosed) {
+            closed.put(cacheKey, value);
+            store.put(kind, key, OWNER, value);
+        } else if (!openTtl.isZero() && !openTtl.isNegative()) {
+            open.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * 종료일이 오늘 이전이면 닫힌 기간
+     */
+    public boolean isClosed(LocalDate periodEnd) {
+        return periodEnd != null && periodEnd.isBefore(LocalDate.now(clock));
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * 열린 기간 결과 모두 제거 (닫힌 기간 결과는 유지)
+     */
+    public void invalidateOpen() {
+        open.invalidateAll();
+    }
+
+    // ==================== 현황 ====================
+
+    public long getClosedHitCount() {
+        return closedHitCount.sum();
+    }
+
+    public long getDiskHitCount() {
+        return diskHitCount.sum();
+    }
+
+    public long getOpenHitCount() {
+        return openHitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    // ==================== 기간 분할 ====================
+
+    /**
+     * 날짜 문자열 파싱 (비어 있거나 형식이 틀리면 null)
+     */
+    public static LocalDate parseDate(String date) {
+        if (date == null || date.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * start ~ end가 걸치는 달력상 월 목록 (순서대로)
+     */
+    public static List<YearMonth> months(LocalDate start, LocalDate end) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    static boolean isStorable(Map<String, Object> value) {
+        return value != null && !value.containsKey("error");
+    }
+
+    /**
+     * 파라미터 정규화 키 - 이름순 정렬, null 값은 빈 문자열
+     */
+    static String key(Map<String, ?> params) {
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(params).forEach((name, value) ->
+                canonical.append(name).append('=').append(value != null ? value : "").append('&'));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.maru.trading.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Trading API GET 응답의 HTTP 캐시 (URL별 마지막 응답 본문 + 검증자)
+ * - ETag / Last-Modified가 있으면 다음 요청에 If-None-Match / If-Modified-Since 전송
+ * - 304 응답 시 이미 파싱된 본문을 재사용 (전송량과 JSON 파싱 모두 절약)
+ * - Cache-Control: max-age 동안은 요청 없이 재사용, no-cache는 항상 재검증, no-store는 저장하지 않음
+ */
+public class ConditionalGetCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 500;
+
+    private final Cache<String, Entry> entries;
+    private final LongSupplier clock;
+
+    private final LongAdder freshHitCount = new LongAdder();
+    private final LongAdder notModifiedCount = new LongAdder();
+    private final LongAdder fullResponseCount = new LongAdder();
+
+    public ConditionalGetCache() {
+        this(DEFAULT_MAXIMUM_SIZE, System::currentTimeMillis);
+    }
+
+    public ConditionalGetCache(long maximumSize, LongSupplier clock) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * max-age 범위 안이라 요청 없이 재사용할 수 있는 본문 (없으면 null)
+     */
+    public Map<String, Object> getFresh(String url) {
+        Entry entry = entries.getIfPresent(url);
+        if (entry == null || clock.getAsLong() >= entry.freshUntil) {
+            return null;
+        }
+        freshHitCount.increment();
+        return entry.copyBody();
+    }
+
+    /**
+     * 조건부 요청 헤더 (저장된 검증자가 없으면 null)
+     */
+    public HttpHeaders conditionalHeaders(String url) {
+        Entry entry = entries.getIfPresent(url);
+        if (entry == null || !entry.hasValidator()) {
+            return null;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        if (entry.etag != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified > 0) {
+            headers.setIfModifiedSince(entry.lastModified);
+        }
+        return headers;
+    }
+
+    /**
+     * 304 응답 처리 - 저장된 본문을 반환하고 신선도 정보를 갱신 (저장된 항목이 없으면 null)
+     */
+    public Map<String, Object> notModified(String url, HttpHeaders headers) {
+        Entry entry = entries.getIfPresent(url);
+        if (entry == null) {
+            return null;
+        }
+        notModifiedCount.increment();
+        // 304에도 새 Cache-Control / ETag가 올 수 있음
+        String etag = headers.getETag() != null ? headers.getETag() : entry.etag;
+        long lastModified = headers.getLastModified() > 0 ? headers.getLastModified() : entry.lastModified;
+        Long maxAgeMillis = maxAgeMillis(headers.getCacheControl());
+        long freshUntil = maxAgeMillis != null ? clock.getAsLong() + maxAgeMillis : entry.freshUntil;
+        entries.put(url, new Entry(entry.body, etag, lastModified, freshUntil));
+        return entry.copyBody();
+    }
+
+    /**
+     * 200 응답 저장 (검증자나 max-age가 없거나 no-store면 저장하지 않음)
+     */
+    public void store(String url, HttpHeaders headers, Map<String, Object> body) {
+        fullResponseCount.increment();
+        String cacheControl = headers.getCacheControl();
+        if (body == null || hasDirective(cacheControl, "no-store")) {
+            entries.invalidate(url);
+            return;
+        }
+        String etag = headers.getETag();
+        long lastModified = headers.getLastModified();
+        Long maxAgeMillis = hasDirective(cacheControl, "no-cache") ? null : maxAgeMillis(cacheControl);
+        if (etag == null && lastModified <= 0 && maxAgeMillis == null) {
+            entries.invalidate(url);
+            return;
+        }
+        long freshUntil = maxAgeMillis != null ? clock.getAsLong() + maxAgeMillis : 0;
+        entries.put(url, new Entry(new LinkedHashMap<>(body), etag, lastModified, freshUntil));
+    }
+
+    public void invalidate(String url) {
+        entries.invalidate(url);
+    }
+
+    public long getFreshHitCount() {
+        return freshHitCount.sum();
+    }
+
+    public long getNotModifiedCount() {
+        return notModifiedCount.sum();
+    }
+
+    public long getFullResponseCount() {
+        return fullResponseCount.sum();
+    }
+
+    public long getEntryCount() {
+        return entries.estimatedSize();
+    }
+
+    /**
+     * 본문을 다시 받지 않은 비율 ((요청 생략 + 304) / 전체)
+     */
+    public double getReuseRatio() {
+        long reused = getFreshHitCount() + getNotModifiedCount();
+        long total = reused + getFullResponseCount();
+        return total == 0 ? 0.0 : (double) reused / total;
+    }
+
+    private static Long maxAgeMillis(String cacheControl) {
+        if (cacheControl == null) {
+            return null;
+        }
+        for (String directive : cacheControl.split(",")) {
+            String d = directive.trim().toLowerCase(Locale.ROOT);
+            if (d.startsWith("max-age=")) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(d.substring("max-age=".length()).replace("\"", "")));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasDirective(String cacheControl, String name) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String directive : cacheControl.split(",")) {
+            if (directive.trim().toLowerCase(Locale.ROOT).startsWith(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+
+        private final Map<String, Object> body;
+        private final String etag;
+        private final long lastModified;
+        private final long freshUntil;
+
+        private Entry(Map<String, Object> body, String etag, long lastModified, long freshUntil) {
+            this.body = Collections.unmodifiableMap(body);
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.freshUntil = freshUntil;
+        }
+
+        private boolean hasValidator() {
+            return etag != null || lastModified > 0;
+        }
+
+        private Map<String, Object> copyBody() {
+            return new LinkedHashMap<>(body);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.maru.trading.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maru.trading.service.PerformanceAnalyticsEngine.DailyMatrix;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * 로컬 상관관계 엔진 (전략별 일별 손익 기준)
+ * - 조회 기간 길이별로 창(window) 상태를 유지: 창에 들어간 일별 손익 벡터 + 평균 + 공적률(co-moment) 합
+ * - 공적률은 상삼각 압축 double[] (i ≤ j, 행 i 시작 위치 = i·n - i(i-1)/2)에 Welford 방식으로 누적
+ *   (하루 추가/제거 모두 O(n²), 과거 데이터를 다시 훑지 않음)
+ * - 기간이 밀리면(롤링) 빠진 날은 빼고 새 날만 더함, 이미 들어간 날의 손익이 바뀌었으면(당일 체결, 늦은 체결) 그날만 빼고 다시 더함
+ * - 전략 구성이 바뀌거나 기간이 뒤로 가거나 갱신이 rebuild-after-updates회를 넘으면(부동소수점 오차 누적 방지) 전체 재계산
+ * - 전략 수가 parallel-threshold 이상이면 행 블록을 원소 수 기준으로 나눠 fork-join으로 갱신/상관계수 계산
+ * - 응답할 수 없으면(비활성 / 로컬 사본 미준비 / 거래일이 min-observations 미만 / 전략 2개 미만) null을 반환하고 호출자가 백엔드로 조회
+ */
+@Slf4j
+@Service
+public class CorrelationEngine {
+
+    private static final int MAX_PAIRS = 10;
+    private static final int BLOCK_ELEMENTS = 16_384;
+
+    private final PerformanceAnalyticsEngine performanceAnalytics;
+    private final boolean enabled;
+    private final int minObservations;
+    private final int parallelThreshold;
+    private final int rebuildAfterUpdates;
+    private final ForkJoinPool pool;
+
+    private final Cache<Integer, Window> windows = Caffeine.newBuilder()
+            .maximumSize(8)
+            .build();
+
+    private final AtomicLong rebuildCount = new AtomicLong();
+    private final AtomicLong dayUpdateCount = new AtomicLong();
+
+    @Autowired
+    public CorrelationEngine(PerformanceAnalyticsEngine performanceAnalytics,
+                             @Value("${trading.correlation.enabled:true}") boolean enabled,
+                             @Value("${trading.correlation.min-observations:10}") int minObservations,
+                             @Value("${trading.correlation.parallel-threshold:128}") int parallelThreshold,
+                             @Value("${trading.correlation.rebuild-after-updates:1000}") int rebuildAfterUpdates) {
+        this(performanceAnalytics, enabled, minObservations, parallelThreshold, rebuildAfterUpdates,
+                ForkJoinPool.commonPool());
+    }
+
+    CorrelationEngine(PerformanceAnalyticsEngine performanceAnalytics, boolean enabled, int minObservations,
+                      int parallelThreshold, int rebuildAfterUpdates, ForkJoinPool pool) {
+        this.performanceAnalytics = performanceAnalytics;
+        this.enabled = enabled;
+        this.minObservations = Math.max(2, minObservations);
+        this.parallelThreshold = parallelThreshold;
+        this.rebuildAfterUpdates = rebuildAfterUpdates;
+        this.pool = pool;
+    }
+
+    /**
+     * 상관관계 분석 - 백엔드 /risk/correlation과 같은 형식 (strategies + correlationMatrix[행][열]), 응답할 수 없으면 null
+     * - pairs: 상관계수 절댓값이 큰 전략 쌍 (strategy1, strategy2, correlation), 리스크 대시보드용
+     *
+     * @param strategies 이름 표시용 전략 목록 (id 또는 strategyId, name), 없으면 전략 ID로 표시
+     */
+    public Map<String, Object> getCorrelationAnalysis(String startDate, String endDate,
+                                                      List<Map<String, Object>> strategies) {
+        LocalDate start = ClosedPeriodMemo.parseDate(startDate);
+        LocalDate end = ClosedPeriodMemo.parseDate(endDate);
+        if (!enabled || start == null || end == null || end.isBefore(start)) {
+            return null;
+        }
+        DailyMatrix matrix = performanceAnalytics.getDailyProfitLossByStrategy(startDate, endDate);
+        if (matrix == null || matrix.getDays().length < minObservations || matrix.getStrategyIds().size() < 2) {
+            return null;
+        }
+
+        int from = (int) start.toEpochDay();
+        int to = (int) end.toEpochDay();
+        Window window = windows.get(to - from, k -> new Window());
+        double[][] correlation;
+        int observations;
+        synchronized (window) {
+            window.update(matrix, from, to);
+            correlation = window.moments.correlation();
+            observations = window.moments.count();
+        }
+
+        List<String> ids = matrix.getStrategyIds();
+        List<String> names = names(ids, strategies);
+        List<List<Double>> rows = new ArrayList<>(ids.size());
+        for (double[] row : correlation) {
+            List<Double> values = new ArrayList<>(row.length);
+            for (double value : row) {
+                values.add(value);
+            }
+            rows.add(values);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startDate", startDate);
+        result.put("endDate", endDate);
+        result.put("strategies", names);
+        result.put("strategyIds", ids);
+        result.put("correlationMatrix", rows);
+        result.put("pairs", topPairs(names, correlation));
+        result.put("observations", observations);
+        result.put(PerformanceAnalyticsEngine.SOURCE, PerformanceAnalyticsEngine.SOURCE_LOCAL);
+        return result;
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount.get();
+    }
+
+    /**
+     * 창 갱신으로 더하거나 뺀 일별 벡터 수 (재계산 포함)
+     */
+    public long getDayUpdateCount() {
+        return dayUpdateCount.get();
+    }
+
+    private static List<String> names(List<String> ids, List<Map<String, Object>> strategies) {
+        Map<String, String> nameById = new LinkedHashMap<>();
+        if (strategies != null) {
+            for (Map<String, Object> strategy : strategies) {
+                Object id = strategy.get("id") != null ? strategy.get("id") : strategy.get("strategyId");
+                Object name = strategy.get("name");
+                if (id != null && name != null) {
+                    nameById.put(id.toString(), name.toString());
+                }
+            }
+        }
+        List<String> names = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            names.add(nameById.getOrDefault(id, id));
+        }
+        return names;
+    }
+
+    private static List<Map<String, Object>> topPairs(List<String> names, double[][] correlation) {
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < correlation.length; i++) {
+            for (int j = i + 1; j < correlation.length; j++) {
+                pairs.add(new int[] {i, j});
+            }
+        }
+        pairs.sort((a, b) -> Double.compare(Math.abs(correlation[b[0]][b[1]]), Math.abs(correlation[a[0]][a[1]])));
+
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (int[] pair : pairs.subList(0, Math.min(MAX_PAIRS, pairs.size()))) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("strategy1", names.get(pair[0]));
+            item.put("strategy2", names.get(pair[1]));
+            item.put("correlation", correlation[pair[0]][pair[1]]);
+            top.add(item);
+        }
+        return top;
+    }
+
+    // ==================== 창 상태 ====================
+
+    /**
+     * 기간 길이 하나에 대한 창 - 들어간 일별 벡터(일자순)와 공적률
+     */
+    private final class Window {
+
+        private List<String> strategyIds;
+        private int from;
+        private int to;
+        private final TreeMap<Integer, double[]> included = new TreeMap<>();
+        private Moments moments;
+        private int updates;
+
+        void update(DailyMatrix matrix, int newFrom, int newTo) {
+            if (moments == null || !matrix.getStrategyIds().equals(strategyIds)
+                    || newFrom < from || newFrom > to || updates > rebuildAfterUpdates) {
+                rebuild(matrix);
+            } else {
+                slide(matrix, newFrom);
+            }
+            from = newFrom;
+            to = newTo;
+        }
+
+        private void rebuild(DailyMatrix matrix) {
+            strategyIds = matrix.getStrategyIds();
+            moments = new Moments(strategyIds.size(), strategyIds.size() >= parallelThreshold ? pool : null);
+            included.clear();
+            updates = 0;
+            int[] days = matrix.getDays();
+            double[][] values = matrix.getValues();
+            for (int d = 0; d < days.length; d++) {
+                include(days[d], values[d]);
+            }
+            rebuildCount.incrementAndGet();
+        }
+
+        /**
+         * 시작일 이전 날은 빼고, 새 날은 더하고, 값이 바뀐 날은 빼고 다시 더함
+         */
+        private void slide(DailyMatrix matrix, int newFrom) {
+            Iterator<Map.Entry<Integer, double[]>> departed = included.headMap(newFrom).entrySet().iterator();
+            while (departed.hasNext()) {
+                moments.remove(departed.next().getValue());
+                departed.remove();
+                count();
+            }
+
+            int[] days = matrix.getDays();
+            double[][] values = matrix.getValues();
+            TreeMap<Integer, double[]> previous = new TreeMap<>(included);
+            for (int d = 0; d < days.length; d++) {
+                double[] old = previous.remove(days[d]);
+                if (old == null) {
+                    include(days[d], values[d]);
+                } else if (!Arrays.equals(old, values[d])) {
+                    moments.remove(old);
+                    count();
+                    include(days[d], values[d]);
+                }
+            }
+            // 더 이상 체결이 없는 날 (로컬 사본 재계산 등)
+            for (Map.Entry<Integer, double[]> gone : previous.entrySet()) {
+                moments.remove(gone.getValue());
+                included.remove(gone.getKey());
+                count();
+            }
+        }
+
+        private void include(int day, double[] vector) {
+            double[] copy = vector.clone();
+            moments.add(copy);
+            included.put(day, copy);
+            count();
+        }
+
+        private void count() {
+            updates++;
+            dayUpdateCount.incrementAndGet();
+        }
+    }
+
+    // ==================== 공적률 ====================
+
+    /**
+     * n개 계열의 평균과 공적률 합 C[i][j] = Σ(x_i - μ_i)(x_j - μ_j) (상삼각 압축)
+     * - 추가: δ = x - μ(이전), μ += δ/k, C += δδᵀ·(k-1)/k
+     * - 제거: 추가의 역연산 (μ' = (kμ - x)/(k-1), δ' = x - μ', C -= δ'δ'ᵀ·(k-1)/k)
+     */
+    static final class Moments {
+
+        private final int n;
+        private final double[] mean;
+        private final double[] comoment;
+        private final ForkJoinPool pool;
+        private int count;
+
+        /**
+         * @param pool 행 블록 병렬 처리용 (null이면 호출 스레드에서 순차 처리)
+         */
+        Moments(int n, ForkJoinPool pool) {
+            this.n = n;
+            this.mean = new double[n];
+            this.comoment = new double[n * (n + 1) / 2];
+            this.pool = pool;
+        }
+
+        void add(double[] x) {
+            count++;
+            double[] delta = new double[n];
+            for (int i = 0; i < n; i++) {
+                delta[i] = x[i] - mean[i];
+                mean[i] += delta[i] / count;
+            }
+            accumulate(delta, (count - 1) / (double) count);
+        }
+
+        void remove(double[] x) {
+            if (count <= 1) {
+                count = 0;
+                Arrays.fill(mean, 0);
+                Arrays.fill(comoment, 0);
+                return;
+            }
+            double[] delta = new double[n];
+            for (int i = 0; i < n; i++) {
+                mean[i] = (count * mean[i] - x[i]) / (count - 1);
+                delta[i] = x[i] - mean[i];
+            }
+            accumulate(delta, -(count - 1) / (double) count);
+            count--;
+        }
+
+        private void accumulate(double[] delta, double weight) {
+            forEachRow(i -> {
+                double scaled = weight * delta[i];
+                int base = offset(i) - i;
+                for (int j = i; j < n; j++) {
+                    comoment[base + j] += scaled * delta[j];
+                }
+            });
+        }
+
+        /**
+         * 상관계수 행렬 (대각 1, 분산이 0인 계열과의 상관계수는 0)
+         */
+        double[][] correlation() {
+            double[][] result = new double[n][n];
+            forEachRow(i -> {
+                result[i][i] = 1.0;
+                double varianceI = comoment[offset(i)];
+                int base = offset(i) - i;
+                for (int j = i + 1; j < n; j++) {
+                    double denominator = Math.sqrt(varianceI * comoment[offset(j)]);
+                    double value = denominator > 0 ? comoment[base + j] / denominator : 0.0;
+                    result[i][j] = Math.max(-1.0, Math.min(1.0, value));
+                }
+            });
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    result[j][i] = result[i][j];
+                }
+            }
+            return result;
+        }
+
+        double comoment(int i, int j) {
+            return i <= j ? comoment[offset(i) + j - i] : comoment[offset(j) + i - j];
+        }
+
+        int count() {
+            return count;
+        }
+
+        /**
+         * 압축 배열에서 행 i의 시작 위치 (행 i는 j = i..n-1)
+         */
+        private int offset(int i) {
+            return i * n - i * (i - 1) / 2;
+        }
+
+        private void forEachRow(IntConsumer row) {
+            if (pool == null) {
+                for (int i = 0; i < n; i++) {
+                    row.accept(i);
+                }
+            } else {
+                pool.invoke(new RowBlock(this, row, 0, n));
+            }
+        }
+    }
+
+    /**
+     * 행 구간 [from, to)를 원소 수가 절반이 되는 행에서 나눔 (위쪽 행일수록 길어서 행 수로 나누면 치우침)
+     */
+    private static final class RowBlock extends RecursiveAction {
+
+        private final Moments moments;
+        private final IntConsumer row;
+        private final int from;
+        private final int to;
+
+        RowBlock(Moments moments, IntConsumer row, int from, int to) {
+            this.moments = moments;
+            this.row = row;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int start = moments.offset(from);
+            int elements = moments.offset(to) - start;
+            if (elements <= BLOCK_ELEMENTS || to - from < 2) {
+                for (int i = from; i < to; i++) {
+                    row.accept(i);
+                }
+                return;
+            }
+            int lo = from + 1;
+            int hi = to - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (moments.offset(mid) - start < elements / 2) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            invokeAll(new RowBlock(moments, row, from, lo), new RowBlock(moments, row, lo, to));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Account;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 대시보드 서버 푸시 피드 (STOMP /topic/dashboard/*)
+ * - 구독 중인 리소스만 주기마다 한 번 조회 (접속한 브라우저 수와 무관하게 백엔드 호출 수 일정)
+ * - 이전 스냅샷과 비교하여 변경분(SnapshotDiff)만 version과 함께 전송, 변경이 없으면 전송하지 않음
+ * - 구독자가 없으면 폴링 중지, 첫 구독 시 재개
+ * - 리소스: stats, health, strategies, positions/{accountId}, balance/{accountId}
+ *   (accountId는 형식과 계좌 목록에 있는지 확인, 아니면 지원하지 않는 리소스로 취급)
+ * - 피드는 구독자가 있는 리소스에만 유지하고 마지막 구독 해제 시 제거
+ * - 초기 스냅샷은 /app/dashboard/* 구독 응답으로 전달 (DashboardFeedController)
+ *   구독 중인 리소스면 그 피드의 스냅샷, 아니면 피드를 등록하지 않고 한 번만 조회
+ */
+@Slf4j
+@Service
+public class DashboardFeedPublisher {
+
+    public static final String TOPIC_PREFIX = "/topic/dashboard/";
+
+    private static final Pattern ACCOUNT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final TradingApiService tradingApiService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long intervalSeconds;
+
+    // 리소스별 구독 수 / 세션별 구독(subscriptionId -> 리소스)
+    private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Feed> feeds = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "dashboard-feed");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> pollTask;
+
+    public DashboardFeedPublisher(TradingApiService tradingApiService,
+                                  SimpMessagingTemplate messagingTemplate,
+                                  @Value("${trading.dashboard.feed.interval-seconds:15}") long intervalSeconds) {
+        this.tradingApiService = tradingApiService;
+        this.messagingTemplate = messagingTemplate;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    // ==================== 구독 추적 ====================
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String resource = resourceOf(accessor.getDestination());
+        Supplier<Map<String, Object>> loader = resource != null ? resolve(resource) : null;
+        if (loader == null) {
+            return;
+        }
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), resource);
+        subscribed(resource, loader);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        String resource = subscriptions != null ? subscriptions.remove(accessor.getSubscriptionId()) : null;
+        if (resource != null) {
+            unsubscribed(resource);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::unsubscribed);
+        }
+    }
+
+    synchronized void subscribed(String resource, Supplier<Map<String, Object>> loader) {
+        if (subscriberCounts.merge(resource, 1, Integer::sum) == 1) {
+            feeds.put(resource, new Feed(resource, loader));
+        }
+        if (pollTask == null) {
+            pollTask = scheduler.scheduleWithFixedDelay(this::pollSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+            log.info("Dashboard feed polling started (interval={}s)", intervalSeconds);
+        }
+    }
+
+    synchronized void unsubscribed(String resource) {
+        Integer remaining = subscriberCounts.computeIfPresent(resource, (k, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            feeds.remove(resource);
+        }
+        if (subscriberCounts.isEmpty() && pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+            log.info("Dashboard feed polling paused (no subscribers)");
+        }
+    }
+
+    public boolean isPolling() {
+        synchronized (this) {
+            return pollTask != null;
+        }
+    }
+
+    public int getSubscriberCount(String resource) {
+        return subscriberCounts.getOrDefault(resource, 0);
+    }
+
+    // ==================== 폴링 / 전송 ====================
+
+    /**
+     * 구독 중인 리소스를 한 번씩 조회하여 변경분 전송
+     */
+    void poll() {
+        for (Feed feed : feeds.values()) {
+            Map<String, Object> diff = feed.refresh();
+            if (diff != null) {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + feed.resource, diff);
+            }
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Dashboard feed poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 스냅샷 (없으면 즉시 조회) - 구독 직후 초기 화면 데이터
+     */
+    public Map<String, Object> snapshot(String resource) {
+        Feed feed = feeds.get(resource);
+        if (feed == null) {
+            Supplier<Map<String, Object>> loader = resolve(resource);
+            if (loader == null) {
+                return null;
+            }
+            // 구독하지 않은 리소스는 피드로 등록하지 않음 (구독 해제 없이 남는 항목 방지)
+            feed = new Feed(resource, loader);
+        }
+        return feed.snapshotMessage();
+    }
+
+    public int getFeedCount() {
+        return feeds.size();
+    }
+
+    /**
+     * 리소스 이름 -> 조회 함수 (지원하지 않는 리소스 또는 알 수 없는 계좌면 null)
+     */
+    Supplier<Map<String, Object>> resolve(String resource) {
+        switch (resource) {
+            case "stats":
+                return tradingApiService::getDashboardStats;
+            case "health":
+                return tradingApiService::getHealthStatus;
+            case "strategies":
+                return tradingApiService::getStrategies;
+            default:
+                break;
+        }
+        int slash = resource.indexOf('/');
+        if (slash <= 0 || slash == resource.length() - 1 || resource.indexOf('/', slash + 1) >= 0) {
+            return null;
+        }
+        String kind = resource.substring(0, slash);
+        String accountId = resource.substring(slash + 1);
+        if (!kind.equals("positions") && !kind.equals("balance") || !isKnownAccount(accountId)) {
+            return null;
+        }
+        return kind.equals("positions")
+                ? () -> tradingApiService.getPositions(accountId)
+                : () -> tradingApiService.getAccountBalance(accountId);
+    }
+
+    /**
+     * 캐시된 계좌 목록에 있는 계좌인지 확인 (클라이언트가 보낸 임의 ID로 백엔드를 호출하지 않도록)
+     */
+    private boolean isKnownAccount(String accountId) {
+        if (!ACCOUNT_ID.matcher(accountId).matches()) {
+            return false;
+        }
+        try {
+            List<Account> accounts = tradingApiService.getAccountList();
+            return accounts != null && accounts.stream().anyMatch(a -> accountId.equals(a.accountId()));
+        } catch (RuntimeException e) {
+            log.debug("Dashboard feed account lookup failed: accountId={}, error={}", accountId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String resourceOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        return destination.substring(TOPIC_PREFIX.length());
+    }
+
+    /**
+     * 리소스별 마지막 스냅샷과 version
+     */
+    private final class Feed {
+
+        private final String resource;
+        private final Supplier<Map<String, Object>> loader;
+        private Map<String, Object> snapshot;
+        private long version;
+
+        Feed(String resource, Supplier<Map<String, Object>> loader) {
+            this.resource = resource;
+            this.loader = loader;
+        }
+
+        /**
+         * 다시 조회하여 스냅샷 갱신, 변경이 있으면 전송할 메시지 반환 (첫 조회 / 변경 없음 / 실패는 null)
+         */
+        synchronized Map<String, Object> refresh() {
+            Map<String, Object> current = fetch();
+            if (current == null) {
+                return null;
+            }
+            if (snapshot == null) {
+                snapshot = current;
+                version++;
+                return null;
+            }
+            Map<String, Object> diff = SnapshotDiff.diff(snapshot, current);
+            snapshot = current;
+            if (diff.isEmpty()) {
+                return null;
+            }
+            version++;
+            diff.put("resource", resource);
+            diff.put("version", version);
+            return diff;
+        }
+
+        synchronized Map<String, Object> snapshotMessage() {
+            if (snapshot == null) {
+                refresh();
+            }
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("resource", resource);
+            message.put("version", version);
+            message.put("full", true);
+            message.put("data", snapshot != null ? snapshot : Map.of());
+            return message;
+        }
+
+        private Map<String, Object> fetch() {
+            try {
+                Map<String, Object> data = loader.get();
+                // 캐시된 응답을 공유하므로 사본 보관
+                return data != null ? new LinkedHashMap<>(data) : null;
+            } catch (RuntimeException e) {
+                log.debug("Dashboard feed fetch failed: resource={}, error={}", resource, e.getMessage());
+                return null;
+            }
+        }
+    }
+}
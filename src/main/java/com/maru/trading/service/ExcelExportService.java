@@ -1,117 +1,444 @@
 package com.maru.trading.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 엑셀 내보내기 서비스
+ * - SXSSFWorkbook으로 ROW_WINDOW 행만 메모리에 두고 나머지는 임시 파일로 내려보내므로 행 수와 무관하게 메모리 사용량 일정
+ * - 행은 RowSource에서 한 건씩 받아 바로 기록 (백엔드 페이지 조회와 함께 사용)
+ * - 수량/가격은 숫자 셀, 시간은 날짜 셀로 기록 (변환할 수 없으면 문자열)
+ * - 열 너비는 autoSizeColumn 대신 앞쪽 WIDTH_SAMPLE_ROWS 행의 글자 수로 계산
+ * - 시트 최대 행 수를 넘으면 같은 헤더로 다음 시트에 이어서 기록
  */
 @Slf4j
 @Service
 public class ExcelExportService {
 
+    public static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    static final int ROW_WINDOW = 200;
+    static final int WIDTH_SAMPLE_ROWS = 500;
+    private static final int MIN_COLUMN_CHARS = 8;
+    private static final int MAX_COLUMN_CHARS = 50;
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private static final List<Column> ORDER_COLUMNS = List.of(
+            new Column("주문ID", "orderId", CellKind.TEXT),
+            new Column("계좌ID", "accountId", CellKind.TEXT),
+            new Column("종목", "symbol", CellKind.TEXT),
+            new Column("주문유형", "side", CellKind.TEXT),
+            new Column("수량", "quantity", CellKind.NUMBER),
+            new Column("가격", "price", CellKind.NUMBER),
+            new Column("상태", "status", CellKind.TEXT),
+            new Column("주문시간", "createdAt", CellKind.DATE_TIME));
+
+    private static final List<Column> FILL_COLUMNS = List.of(
+            new Column("체결ID", "fillId", CellKind.TEXT),
+            new Column("주문ID", "orderId", CellKind.TEXT),
+            new Column("종목", "symbol", CellKind.TEXT),
+            new Column("수량", "quantity", CellKind.NUMBER),
+            new Column("가격", "price", CellKind.NUMBER),
+            new Column("체결시간", "filledAt", CellKind.DATE_TIME));
+
+    private static final List<Column> PERFORMANCE_COLUMNS = List.of(
+            new Column("날짜", "date", CellKind.DATE),
+            new Column("거래 횟수", "trades", CellKind.NUMBER),
+            new Column("수익/손실", "profitLoss", CellKind.NUMBER),
+            new Column("승률", "winRate", CellKind.PERCENT),
+            new Column("최대 이익", "maxProfit", CellKind.NUMBER),
+            new Column("최대 손실", "maxLoss", CellKind.NUMBER));
+
+    /**
+     * 내보낼 행 공급자 - 행을 한 건씩 sink로 전달
+     */
+    @FunctionalInterface
+    public interface RowSource {
+        void forEach(Consumer<Map<String, Object>> sink);
+    }
+
+    /**
+     * 주문 내역 엑셀 다운로드 (행을 받는 대로 기록)
+     */
+    public void exportOrders(RowSource orders, HttpServletResponse response) throws IOException {
+        export("주문내역", ORDER_COLUMNS, orders, "attachment; filename=orders.xlsx", response);
+    }
+
+    /**
+     * 체결 내역 엑셀 다운로드 (행을 받는 대로 기록)
+     */
+    public void exportFills(RowSource fills, HttpServletResponse response) throws IOException {
+        export("체결내역", FILL_COLUMNS, fills, "attachment; filename=fills.xlsx", response);
+    }
+
     /**
      * 주문 내역 엑셀 다운로드
      */
     public void exportOrdersToExcel(List<Map<String, Object>> orders, HttpServletResponse response) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("주문내역");
-
-        // Header style
-        CellStyle headerStyle = workbook.createCellStyle();
-        Font headerFont = workbook.createFont();
-        headerFont.setBold(true);
-        headerStyle.setFont(headerFont);
-        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        // Header row
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"주문ID", "계좌ID", "종목", "주문유형", "수량", "가격", "상태", "주문시간"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
+        exportOrders(orders::forEach, response);
+    }
 
-        // Data rows
-        int rowNum = 1;
-        for (Map<String, Object> order : orders) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(String.valueOf(order.getOrDefault("orderId", "")));
-            row.createCell(1).setCellValue(String.valueOf(order.getOrDefault("accountId", "")));
-            row.createCell(2).setCellValue(String.valueOf(order.getOrDefault("symbol", "")));
-            row.createCell(3).setCellValue(String.valueOf(order.getOrDefault("side", "")));
-            row.createCell(4).setCellValue(String.valueOf(order.getOrDefault("quantity", "")));
-            row.createCell(5).setCellValue(String.valueOf(order.getOrDefault("price", "")));
-            row.createCell(6).setCellValue(String.valueOf(order.getOrDefault("status", "")));
-            row.createCell(7).setCellValue(String.valueOf(order.getOrDefault("createdAt", "")));
+    /**
+     * 체결 내역 엑셀 다운로드
+     */
+    public void exportFillsToExcel(List<Map<String, Object>> fills, HttpServletResponse response) throws IOException {
+        exportFills(fills::forEach, response);
+    }
+
+    /**
+     * 성과 분석 리포트 엑셀 다운로드 (요약 시트 + 상세 데이터 시트)
+     */
+    public void exportPerformanceReport(String period, String startDate, String endDate, String strategyId,
+                                        Map<String, Object> summary, List<Map<String, Object>> data,
+                                        String filename, HttpServletResponse response) throws IOException {
+        SXSSFWorkbook workbook = newWorkbook();
+        try {
+            Styles styles = new Styles(workbook);
+
+            SXSSFSheet summarySheet = workbook.createSheet("요약");
+            int rowNum = 0;
+            Cell titleCell = summarySheet.createRow(rowNum++).createCell(0);
+            titleCell.setCellValue("성과 분석 리포트");
+            titleCell.setCellStyle(styles.header);
+
+            rowNum++;
+            rowNum = labelRow(summarySheet, rowNum, "분석 기간:", startDate + " ~ " + endDate);
+            rowNum = labelRow(summarySheet, rowNum, "집계 단위:", "daily".equals(period) ? "일별" : "월별");
+            if (strategyId != null && !strategyId.isEmpty()) {
+                rowNum = labelRow(summarySheet, rowNum, "전략 ID:", strategyId);
+            }
+
+            rowNum++;
+            if (summary != null) {
+                Row headerRow = summarySheet.createRow(rowNum++);
+                headerRow.createCell(0).setCellValue("항목");
+                headerRow.createCell(1).setCellValue("값");
+                headerRow.getCell(0).setCellStyle(styles.header);
+                headerRow.getCell(1).setCellStyle(styles.header);
+
+                rowNum = valueRow(summarySheet, rowNum, styles, "총 수익/손실", summary.get("totalProfitLoss"), CellKind.NUMBER);
+                rowNum = valueRow(summarySheet, rowNum, styles, "총 거래 횟수", summary.get("totalTrades"), CellKind.NUMBER);
+                rowNum = valueRow(summarySheet, rowNum, styles, "승률", summary.get("winRate"), CellKind.PERCENT);
+                valueRow(summarySheet, rowNum, styles, "평균 수익/손실", summary.get("avgProfitLoss"), CellKind.NUMBER);
+            }
+            summarySheet.setColumnWidth(0, 16 * 256);
+            summarySheet.setColumnWidth(1, 28 * 256);
+
+            if (data != null && !data.isEmpty()) {
+                SheetWriter detail = new SheetWriter(workbook, styles, "상세 데이터", PERFORMANCE_COLUMNS);
+                data.forEach(detail);
+                detail.finish();
+            }
+
+            writeResponse(workbook, "attachment; filename=\"" + filename + "\"", response);
+        } finally {
+            dispose(workbook);
         }
+    }
 
-        // Auto-size columns
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+    private void export(String sheetName, List<Column> columns, RowSource rows, String contentDisposition,
+                        HttpServletResponse response) throws IOException {
+        SXSSFWorkbook workbook = newWorkbook();
+        try {
+            SheetWriter writer = new SheetWriter(workbook, new Styles(workbook), sheetName, columns);
+            rows.forEach(writer);
+            writer.finish();
+            log.debug("Excel export {}: {} rows", sheetName, writer.getRowCount());
+
+            // 모든 행을 받은 뒤에 응답을 시작하므로 조회 실패 시 깨진 파일이 내려가지 않음
+            writeResponse(workbook, contentDisposition, response);
+        } finally {
+            dispose(workbook);
         }
+    }
+
+    private static SXSSFWorkbook newWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
 
-        // Write to response
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment; filename=orders.xlsx");
+    private static void writeResponse(SXSSFWorkbook workbook, String contentDisposition,
+                                      HttpServletResponse response) throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Content-Disposition", contentDisposition);
         workbook.write(response.getOutputStream());
+        response.flushBuffer();
+    }
+
+    private static void dispose(SXSSFWorkbook workbook) throws IOException {
+        // 임시 파일 삭제
+        workbook.dispose();
         workbook.close();
     }
 
+    private static int labelRow(Sheet sheet, int rowNum, String label, String value) {
+        Row row = sheet.createRow(rowNum);
+        row.createCell(0).setCellValue(label);
+        row.createCell(1).setCellValue(value);
+        return rowNum + 1;
+    }
+
+    private static int valueRow(Sheet sheet, int rowNum, Styles styles, String label, Object value, CellKind kind) {
+        Row row = sheet.createRow(rowNum);
+        row.createCell(0).setCellValue(label);
+        kind.write(row.createCell(1), value, styles);
+        return rowNum + 1;
+    }
+
     /**
-     * 체결 내역 엑셀 다운로드
+     * 화면 표시 폭 (한글 등 전각 문자는 2칸)
      */
-    public void exportFillsToExcel(List<Map<String, Object>> fills, HttpServletResponse response) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("체결내역");
-
-        // Header style
-        CellStyle headerStyle = workbook.createCellStyle();
-        Font headerFont = workbook.createFont();
-        headerFont.setBold(true);
-        headerStyle.setFont(headerFont);
-        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        // Header row
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"체결ID", "주문ID", "종목", "수량", "가격", "체결시간"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
+    static int displayWidth(String text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += text.charAt(i) < 0x1100 ? 1 : 2;
+        }
+        return width;
+    }
+
+    /**
+     * 시트 하나에 행을 순서대로 기록 (최대 행 수를 넘으면 다음 시트로 이어서 기록)
+     */
+    private static final class SheetWriter implements Consumer<Map<String, Object>> {
+
+        private final SXSSFWorkbook workbook;
+        private final Styles styles;
+        private final String sheetName;
+        private final List<Column> columns;
+
+        private SXSSFSheet sheet;
+        private int[] widths;
+        private int sheetCount;
+        private int rowNum;
+        private long rowCount;
+
+        SheetWriter(SXSSFWorkbook workbook, Styles styles, String sheetName, List<Column> columns) {
+            this.workbook = workbook;
+            this.styles = styles;
+            this.sheetName = sheetName;
+            this.columns = columns;
+            startSheet();
         }
 
-        // Data rows
-        int rowNum = 1;
-        for (Map<String, Object> fill : fills) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(String.valueOf(fill.getOrDefault("fillId", "")));
-            row.createCell(1).setCellValue(String.valueOf(fill.getOrDefault("orderId", "")));
-            row.createCell(2).setCellValue(String.valueOf(fill.getOrDefault("symbol", "")));
-            row.createCell(3).setCellValue(String.valueOf(fill.getOrDefault("quantity", "")));
-            row.createCell(4).setCellValue(String.valueOf(fill.getOrDefault("price", "")));
-            row.createCell(5).setCellValue(String.valueOf(fill.getOrDefault("filledAt", "")));
+        @Override
+        public void accept(Map<String, Object> values) {
+            if (rowNum >= MAX_ROWS_PER_SHEET) {
+                finish();
+                startSheet();
+            }
+            Row row = sheet.createRow(rowNum);
+            boolean sample = rowNum <= WIDTH_SAMPLE_ROWS;
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                int width = column.kind.write(row.createCell(i), values.get(column.field), styles);
+                if (sample && width > widths[i]) {
+                    widths[i] = width;
+                }
+            }
+            rowNum++;
+            rowCount++;
         }
 
-        // Auto-size columns
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+        void finish() {
+            for (int i = 0; i < widths.length; i++) {
+                int chars = Math.max(MIN_COLUMN_CHARS, Math.min(widths[i] + 2, MAX_COLUMN_CHARS));
+                sheet.setColumnWidth(i, chars * 256);
+            }
         }
 
-        // Write to response
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment; filename=fills.xlsx");
-        workbook.write(response.getOutputStream());
-        workbook.close();
+        long getRowCount() {
+            return rowCount;
+        }
+
+        private void startSheet() {
+            sheetCount++;
+            sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+            widths = new int[columns.size()];
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(columns.get(i).header);
+                cell.setCellStyle(styles.header);
+                widths[i] = displayWidth(columns.get(i).header);
+            }
+            rowNum = 1;
+        }
+    }
+
+    /**
+     * 내보낼 열 (헤더, 행의 필드명, 셀 종류)
+     */
+    private static final class Column {
+
+        private final String header;
+        private final String field;
+        private final CellKind kind;
+
+        Column(String header, String field, CellKind kind) {
+            this.header = header;
+            this.field = field;
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * 셀 종류별 기록 방식 - 값이 없으면 빈 셀, 변환할 수 없으면 문자열로 기록
+     * 반환값: 열 너비 계산용 표시 폭
+     */
+    enum CellKind {
+        TEXT {
+            @Override
+            int writeValue(Cell cell, Object value, Styles styles) {
+                return writeText(cell, value);
+            }
+        },
+        NUMBER {
+            @Override
+            int writeValue(Cell cell, Object value, Styles styles) {
+                Double number = toNumber(value);
+                if (number == null) {
+                    return writeText(cell, value);
+                }
+                boolean integral = number == Math.rint(number) && !Double.isInfinite(number);
+                cell.setCellValue(number);
+                cell.setCellStyle(integral ? styles.integer : styles.decimal);
+                return (integral ? String.format("%,.0f", number) : String.format("%,.2f", number)).length();
+            }
+        },
+        PERCENT {
+            @Override
+            int writeValue(Cell cell, Object value, Styles styles) {
+                Double number = toNumber(value);
+                if (number == null) {
+                    return writeText(cell, value);
+                }
+                // 백엔드 값은 0~100 단위
+                cell.setCellValue(number / 100);
+                cell.setCellStyle(styles.percent);
+                return String.format("%.2f%%", number).length();
+            }
+        },
+        DATE_TIME {
+            @Override
+            int writeValue(Cell cell, Object value, Styles styles) {
+                LocalDateTime dateTime = toDateTime(value.toString());
+                if (dateTime == null) {
+                    return writeText(cell, value);
+                }
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(styles.dateTime);
+                return 19;
+            }
+        },
+        DATE {
+            @Override
+            int writeValue(Cell cell, Object value, Styles styles) {
+                LocalDate date;
+                try {
+                    date = LocalDate.parse(value.toString());
+                } catch (DateTimeParseException e) {
+                    // 월별 집계(yyyy-MM) 등은 문자열 그대로
+                    return writeText(cell, value);
+                }
+                cell.setCellValue(date);
+                cell.setCellStyle(styles.date);
+                return 10;
+            }
+        };
+
+        int write(Cell cell, Object value, Styles styles) {
+            if (value == null || (value instanceof String && ((String) value).isEmpty())) {
+                return 0;
+            }
+            return writeValue(cell, value, styles);
+        }
+
+        abstract int writeValue(Cell cell, Object value, Styles styles);
+
+        private static int writeText(Cell cell, Object value) {
+            String text = value.toString();
+            cell.setCellValue(text);
+            return displayWidth(text);
+        }
+
+        private static Double toNumber(Object value) {
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
+            try {
+                return Double.valueOf(value.toString().replace(",", "").trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static LocalDateTime toDateTime(String text) {
+            try {
+                return LocalDateTime.parse(text.replace(' ', 'T'));
+            } catch (DateTimeParseException e) {
+                // 오프셋이 있는 ISO 형식 (2024-01-01T10:00:00+09:00)
+            }
+            try {
+                return OffsetDateTime.parse(text.replace(' ', 'T')).toLocalDateTime();
+            } catch (DateTimeParseException e) {
+                // 날짜만 있는 값
+            }
+            try {
+                return LocalDate.parse(text).atStartOfDay();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 워크북 단위 셀 스타일 (셀마다 만들지 않고 공유)
+     */
+    static final class Styles {
+
+        private final CellStyle header;
+        private final CellStyle integer;
+        private final CellStyle decimal;
+        private final CellStyle percent;
+        private final CellStyle dateTime;
+        private final CellStyle date;
+
+        Styles(Workbook workbook) {
+            DataFormat format = workbook.createDataFormat();
+
+            header = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            header.setFont(headerFont);
+            header.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            header.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+            integer = formatStyle(workbook, format, "#,##0");
+            decimal = formatStyle(workbook, format, "#,##0.00");
+            percent = formatStyle(workbook, format, "0.00%");
+            dateTime = formatStyle(workbook, format, "yyyy-mm-dd hh:mm:ss");
+            date = formatStyle(workbook, format, "yyyy-mm-dd");
+        }
+
+        private static CellStyle formatStyle(Workbook workbook, DataFormat format, String pattern) {
+            CellStyle style = workbook.createCellStyle();
+            style.setDataFormat(format.getFormat(pattern));
+            return style;
+        }
     }
 }
@@ -0,0 +1,50 @@
+package com.maru.trading.service;
+
+import lombok.Value;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 종목 목록(getInstruments) 캐시 키
+ * - 조회 조건을 그대로 보관하여 종목 상태 변경 시 목록 포함 여부를 다시 판단할 수 있게 함
+ */
+@Value(staticConstructor = "of")
+public class InstrumentListKey {
+
+    String market;
+    String status;
+    Boolean tradable;
+    String search;
+
+    /**
+     * 종목이 이 목록의 조회 조건을 만족하는지 확인
+     */
+    public boolean matches(Map<String, Object> instrument) {
+        if (hasText(market) && !market.equals(String.valueOf(instrument.get("market")))) {
+            return false;
+        }
+        if (hasText(status) && !status.equals(String.valueOf(instrument.get("status")))) {
+            return false;
+        }
+        if (tradable != null && !tradable.toString().equals(String.valueOf(instrument.get("tradable")))) {
+            return false;
+        }
+        if (hasText(search)) {
+            String keyword = search.toLowerCase(Locale.ROOT);
+            return containsIgnoreCase(instrument.get("symbol"), keyword)
+                    || containsIgnoreCase(instrument.get("name"), keyword)
+                    || containsIgnoreCase(instrument.get("nameKr"), keyword)
+                    || containsIgnoreCase(instrument.get("nameEn"), keyword);
+        }
+        return true;
+    }
+
+    private static boolean containsIgnoreCase(Object value, String keyword) {
+        return value != null && value.toString().toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
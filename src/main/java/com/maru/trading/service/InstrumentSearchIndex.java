@@ -0,0 +1,511 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Instrument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 종목 검색 인덱스 (자동완성용)
+ * - 캐시된 종목 마스터(getInstrumentList 전체)로 접두어 트라이 + 문자 n-gram(1, 2) 역색인 생성
+ * - 색인 대상: 종목코드, 한글명, 영문명, 이름의 단어, 한글명 초성 (예: ㅅㅅㅈㅈ -> 삼성전자)
+ * - 접두어 일치가 limit건 이상이면 n-gram(부분 일치) 조회 생략
+ * - 순위: 완전 일치 > 종목코드 접두어 > 이름 접두어 > 단어/초성 접두어 > 부분 일치, 같은 순위는 짧은 이름 우선
+ * - 마스터 캐시가 갱신되어 목록 인스턴스가 바뀌면 전용 스레드에서 새 인덱스를 만든 후 참조만 교체
+ *   (재생성 중에도 요청은 이전 인덱스로 바로 응답, 재생성은 한 번에 하나만 수행)
+ * - 이전 인덱스가 없는 첫 조회만 요청 스레드에서 생성
+ */
+@Slf4j
+@Component
+public class InstrumentSearchIndex {
+
+    private final TradingApiService tradingApiService;
+    private final Executor rebuildExecutor;
+
+    // 첫 인덱스 생성용 (이후 재생성은 rebuildExecutor에서 하나씩)
+    private final Object rebuildLock = new Object();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+    // 재생성 대상 마스터 목록 (재생성 중 다시 바뀌면 최신 목록으로 이어서 재생성)
+    private volatile List<Instrument> pendingMaster;
+
+    @Autowired
+    public InstrumentSearchIndex(TradingApiService tradingApiService) {
+        this(tradingApiService, Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "instrument-index-rebuild");
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+
+    InstrumentSearchIndex(TradingApiService tradingApiService, Executor rebuildExecutor) {
+        this.tradingApiService = tradingApiService;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    /**
+     * 종목 검색 (query가 비어 있으면 마스터 순서대로 limit건)
+     */
+    public List<Instrument> search(String query, Predicate<Instrument> filter, int limit) {
+        return current().search(query, filter, limit);
+    }
+
+    /**
+     * 색인된 종목 수
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    private Snapshot current() {
+        List<Instrument> master = tradingApiService.getInstrumentList(null, null, null, null);
+        if (master == null) {
+            master = Collections.emptyList();
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (rebuildLock) {
+                if (snapshot == null) {
+                    snapshot = build(master);
+                }
+                return snapshot;
+            }
+        }
+        if (current.source != master) {
+            scheduleRebuild(master);
+        }
+        return current;
+    }
+
+    private void scheduleRebuild(List<Instrument> master) {
+        pendingMaster = master;
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(this::rebuildPending);
+        } catch (RejectedExecutionException e) {
+            rebuildScheduled.set(false);
+            log.warn("Instrument search index rebuild rejected: {}", e.getMessage());
+        }
+    }
+
+    private void rebuildPending() {
+        try {
+            List<Instrument> master;
+            while ((master = pendingMaster) != null && master != snapshot.source) {
+                snapshot = build(master);
+            }
+        } catch (RuntimeException e) {
+            // 같은 목록으로 반복 재시도하지 않도록 비우고, 다음 조회에서 다시 예약
+            pendingMaster = null;
+            log.warn("Instrument search index rebuild failed, serving previous index: {}", e.getMessage());
+        } finally {
+            rebuildScheduled.set(false);
+        }
+        // 플래그 해제 직전에 들어온 변경 처리
+        List<Instrument> master = pendingMaster;
+        if (master != null && master != snapshot.source) {
+            scheduleRebuild(master);
+        }
+    }
+
+    private static Snapshot build(List<Instrument> master) {
+        long start = System.nanoTime();
+        Snapshot built = Snapshot.build(master);
+        log.info("Instrument search index rebuilt: instruments={}, elapsed={}ms",
+                built.size(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    // ==================== 인덱스 ====================
+
+    /**
+     * 변경 불가능한 인덱스 스냅샷
+     */
+    static final class Snapshot {
+
+        private static final int RANK_EXACT = 0;
+        private static final int RANK_SYMBOL_PREFIX = 1;
+        private static final int RANK_NAME_PREFIX = 2;
+        private static final int RANK_WORD_PREFIX = 3;
+        private static final int RANK_CONTAINS = 4;
+        private static final int NO_MATCH = -1;
+
+        private final List<Instrument> source;
+        private final Entry[] entries;
+        private final TrieNode trie;
+        private final Map<Integer, int[]> grams;
+
+        private Snapshot(List<Instrument> source, Entry[] entries, TrieNode trie, Map<Integer, int[]> grams) {
+            this.source = source;
+            this.entries = entries;
+            this.trie = trie;
+            this.grams = grams;
+        }
+
+        static Snapshot build(List<Instrument> instruments) {
+            Entry[] entries = new Entry[instruments.size()];
+            TrieNode trie = new TrieNode();
+            Map<Integer, IntList> grams = new HashMap<>();
+            for (int id = 0; id < entries.length; id++) {
+                Entry entry = new Entry(instruments.get(id));
+                entries[id] = entry;
+                for (String term : entry.prefixTerms()) {
+                    trie.insert(term, id);
+                }
+                for (String field : entry.fields()) {
+                    addGrams(grams, field, id);
+                }
+            }
+            trie.freeze();
+
+            Map<Integer, int[]> frozenGrams = new HashMap<>(grams.size() * 2);
+            grams.forEach((gram, ids) -> frozenGrams.put(gram, ids.toArray()));
+            return new Snapshot(instruments, entries, trie, frozenGrams);
+        }
+
+        int size() {
+            return entries.length;
+        }
+
+        List<Instrument> search(String query, Predicate<Instrument> filter, int limit) {
+            if (limit <= 0) {
+                return Collections.emptyList();
+            }
+            String q = normalize(query);
+            if (q.isEmpty()) {
+                List<Instrument> items = new ArrayList<>(Math.min(limit, entries.length));
+                for (int id = 0; id < entries.length && items.size() < limit; id++) {
+                    if (filter.test(entries[id].instrument)) {
+                        items.add(entries[id].instrument);
+                    }
+                }
+                return items;
+            }
+
+            List<long[]> hits = new ArrayList<>();
+            BitSet seen = new BitSet(entries.length);
+
+            // 1. 접두어 일치 (트라이)
+            int[] prefixIds = trie.find(q);
+            collect(prefixIds, q, filter, seen, hits);
+
+            // 2. 접두어 일치가 부족하면 부분 일치 (n-gram 교집합 후 검증)
+            if (hits.size() < limit) {
+                collect(gramCandidates(q), q, filter, seen, hits);
+            }
+
+            hits.sort((a, b) -> Long.compare(a[0], b[0]));
+            List<Instrument> items = new ArrayList<>(Math.min(limit, hits.size()));
+            for (int i = 0; i < hits.size() && i < limit; i++) {
+                items.add(entries[(int) hits.get(i)[1]].instrument);
+            }
+            return items;
+        }
+
+        private void collect(int[] ids, String q, Predicate<Instrument> filter, BitSet seen, List<long[]> hits) {
+            for (int id : ids) {
+                if (seen.get(id)) {
+                    continue;
+                }
+                seen.set(id);
+                Entry entry = entries[id];
+                int rank = entry.rank(q);
+                if (rank != NO_MATCH && filter.test(entry.instrument)) {
+                    // 정렬 키: 순위 > 표시명 길이 > 마스터 순서
+                    long sortKey = ((long) rank << 48) | ((long) Math.min(entry.nameLength, 0xFFFF) << 32) | id;
+                    hits.add(new long[]{sortKey, id});
+                }
+            }
+        }
+
+        private int[] gramCandidates(String q) {
+            int[] result = null;
+            if (q.length() == 1) {
+                result = grams.get((int) q.charAt(0));
+                return result != null ? result : new int[0];
+            }
+            for (int i = 0; i + 1 < q.length(); i++) {
+                int[] ids = grams.get(bigram(q.charAt(i), q.charAt(i + 1)));
+                if (ids == null) {
+                    return new int[0];
+                }
+                result = result == null ? ids : intersect(result, ids);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static void addGrams(Map<Integer, IntList> grams, String field, int id) {
+            for (int i = 0; i < field.length(); i++) {
+                grams.computeIfAbsent((int) field.charAt(i), k -> new IntList()).addUnique(id);
+                if (i + 1 < field.length()) {
+                    grams.computeIfAbsent(bigram(field.charAt(i), field.charAt(i + 1)), k -> new IntList()).addUnique(id);
+                }
+            }
+        }
+
+        /**
+         * 2글자 키 (단일 문자 키는 char 값 그대로라 겹치지 않도록 상위 비트 사용)
+         */
+        private static int bigram(char first, char second) {
+            return ((first + 1) << 16) | second;
+        }
+
+        /**
+         * 정렬된 두 ID 배열의 교집합
+         */
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+    }
+
+    /**
+     * 종목별 정규화된 검색 필드
+     */
+    private static final class Entry {
+
+        private final Instrument instrument;
+        private final String symbol;
+        private final String nameKr;
+        private final String nameEn;
+        private final String chosung;
+        private final List<String> words = new ArrayList<>();
+        private final int nameLength;
+
+        Entry(Instrument instrument) {
+            this.instrument = instrument;
+            this.symbol = normalize(instrument.symbol());
+            this.nameKr = normalize(instrument.nameKr());
+            this.nameEn = normalize(instrument.nameEn());
+            this.chosung = Hangul.chosung(nameKr);
+            this.nameLength = instrument.displayName() != null ? instrument.displayName().length() : 0;
+            addWords(nameKr);
+            addWords(nameEn);
+        }
+
+        private void addWords(String name) {
+            String[] parts = name.split("[\\s()&.,\\-]+");
+            for (int i = 1; i < parts.length; i++) {
+                if (!parts[i].isEmpty()) {
+                    words.add(parts[i]);
+                    String wordChosung = Hangul.chosung(parts[i]);
+                    if (!wordChosung.equals(parts[i])) {
+                        words.add(wordChosung);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 트라이에 넣을 용어 (필드 + 단어 + 초성)
+         */
+        List<String> prefixTerms() {
+            List<String> terms = new ArrayList<>(fields());
+            terms.addAll(words);
+            return terms;
+        }
+
+        /**
+         * n-gram 대상 필드 (초성은 한글이 있을 때만)
+         */
+        List<String> fields() {
+            List<String> fields = new ArrayList<>(4);
+            addIfPresent(fields, symbol);
+            addIfPresent(fields, nameKr);
+            addIfPresent(fields, nameEn);
+            if (!chosung.equals(nameKr)) {
+                addIfPresent(fields, chosung);
+            }
+            return fields;
+        }
+
+        int rank(String q) {
+            if (q.equals(symbol) || q.equals(nameKr) || q.equals(nameEn)) {
+                return Snapshot.RANK_EXACT;
+            }
+            if (symbol.startsWith(q)) {
+                return Snapshot.RANK_SYMBOL_PREFIX;
+            }
+            if (nameKr.startsWith(q) || nameEn.startsWith(q)) {
+                return Snapshot.RANK_NAME_PREFIX;
+            }
+            if (chosung.startsWith(q)) {
+                return Snapshot.RANK_WORD_PREFIX;
+            }
+            for (String word : words) {
+                if (word.startsWith(q)) {
+                    return Snapshot.RANK_WORD_PREFIX;
+                }
+            }
+            if (symbol.contains(q) || nameKr.contains(q) || nameEn.contains(q) || chosung.contains(q)) {
+                return Snapshot.RANK_CONTAINS;
+            }
+            return Snapshot.NO_MATCH;
+        }
+
+        private static void addIfPresent(List<String> list, String value) {
+            if (!value.isEmpty()) {
+                list.add(value);
+            }
+        }
+    }
+
+    /**
+     * 접두어 트라이 (노드마다 해당 접두어를 가진 종목 ID를 오름차순으로 보관)
+     */
+    private static final class TrieNode {
+
+        private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = NO_KEYS;
+        private TrieNode[] children = NO_CHILDREN;
+        private IntList building = new IntList();
+        private int[] ids;
+
+        void insert(String term, int id) {
+            TrieNode node = this;
+            for (int i = 0; i < term.length(); i++) {
+                node = node.child(term.charAt(i));
+                node.building.addUnique(id);
+            }
+        }
+
+        int[] find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.keys, prefix.charAt(i));
+                node = index >= 0 ? node.children[index] : null;
+            }
+            return node != null ? node.ids : new int[0];
+        }
+
+        /**
+         * 빌드용 가변 목록을 배열로 고정
+         */
+        void freeze() {
+            ids = building.toArray();
+            building = null;
+            for (TrieNode child : children) {
+                child.freeze();
+            }
+        }
+
+        private TrieNode child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            TrieNode node = new TrieNode();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = node;
+            keys = newKeys;
+            children = newChildren;
+            return node;
+        }
+    }
+
+    /**
+     * 오름차순으로 추가되는 int 목록 (같은 종목의 여러 용어가 연속으로 추가되므로 마지막 값만 비교해 중복 제거)
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void addUnique(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * 한글 초성 변환
+     */
+    static final class Hangul {
+
+        private static final char[] CHOSUNG = {
+                'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+                'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+        };
+        private static final char SYLLABLE_START = '가';
+        private static final char SYLLABLE_END = '힣';
+        private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+        private Hangul() {
+        }
+
+        /**
+         * 완성형 한글 음절을 초성으로 변환 (그 외 문자는 그대로)
+         */
+        static String chosung(String text) {
+            StringBuilder sb = null;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= SYLLABLE_START && c <= SYLLABLE_END) {
+                    if (sb == null) {
+                        sb = new StringBuilder(text.length()).append(text, 0, i);
+                    }
+                    sb.append(CHOSUNG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSUNG]);
+                } else if (sb != null) {
+                    sb.append(c);
+                }
+            }
+            return sb != null ? sb.toString() : text;
+        }
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,103 @@
+package com.maru.trading.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 키셋(cursor) 페이지 수집기
+ * - 스트리밍 행 중 limit + 1건만 보관하여 다음 페이지 존재 여부와 nextCursor(마지막 행 ID)를 계산
+ * - 백엔드가 cursor를 무시하고 처음부터 응답하면 cursor 행을 만났을 때 그 이전 행을 버림
+ *   (limit도 무시해 전체를 보낸 경우에만 결과가 동일, limit을 적용했으면 cursor 이후 행이 잘림 -> isCutBeforeCursor)
+ * - 백엔드가 limit을 무시해도 보관하는 행 수는 limit + 1로 고정
+ */
+public class KeysetPageCollector implements Consumer<Map<String, Object>> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public static final String NEXT_CURSOR = "nextCursor";
+    public static final String HAS_MORE = "hasMore";
+    public static final String LIMIT = "limit";
+
+    private final String idField;
+    private final String cursor;
+    private final int limit;
+    private final List<Map<String, Object>> rows = new ArrayList<>();
+    private boolean cursorSeen;
+
+    public KeysetPageCollector(String idField, String cursor, int limit) {
+        this.idField = idField;
+        this.cursor = cursor != null && !cursor.isEmpty() ? cursor : null;
+        this.limit = normalizeLimit(limit);
+    }
+
+    /**
+     * 1 ~ MAX_LIMIT 범위로 보정 (0 이하는 기본값)
+     */
+    public static int normalizeLimit(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    @Override
+    public void accept(Map<String, Object> row) {
+        if (cursor != null && cursor.equals(idOf(row))) {
+            // cursor 이전 행은 이전 페이지에 속함
+            rows.clear();
+            cursorSeen = true;
+            return;
+        }
+        if (rows.size() <= limit) {
+            rows.add(row);
+        }
+    }
+
+    /**
+     * 백엔드가 cursor는 무시하고 limit만 적용하여 cursor 이후 행이 응답에 다 들어오지 못했는지 여부
+     * - cursor 행이 응답에 있었고, 응답이 요청한 행 수(requestedRows)를 채웠는데 cursor 이후 행이 한 페이지(limit + 1)에 못 미침
+     * - 이 경우 hasMore=false로 끝내면 나머지 행이 누락되므로 호출 측에서 limit 없이 다시 요청해야 함
+     */
+    public boolean isCutBeforeCursor(Map<String, Object> envelope, int requestedRows) {
+        if (!cursorSeen || rows.size() > limit) {
+            return false;
+        }
+        Object streamed = envelope.get(TradingApiHelper.STREAMED_COUNT_KEY);
+        return streamed instanceof Number && ((Number) streamed).longValue() >= requestedRows;
+    }
+
+    /**
+     * 페이지 응답 생성 (envelope의 요약 필드 유지 + itemField / nextCursor / hasMore / limit)
+     */
+    public Map<String, Object> toPage(Map<String, Object> envelope, String itemField) {
+        Map<String, Object> page = new HashMap<>(envelope);
+        page.remove(TradingApiHelper.STREAMED_COUNT_KEY);
+
+        boolean hasMore = rows.size() > limit;
+        List<Map<String, Object>> items = hasMore ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        page.put(itemField, items);
+        page.put(NEXT_CURSOR, hasMore ? idOf(items.get(items.size() - 1)) : null);
+        page.put(HAS_MORE, hasMore);
+        page.put(LIMIT, limit);
+        return page;
+    }
+
+    /**
+     * 행 ID (idField가 없으면 id 필드 사용)
+     */
+    private String idOf(Map<String, Object> row) {
+        Object id = row.get(idField);
+        if (id == null) {
+            id = row.get("id");
+        }
+        return id != null ? id.toString() : null;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
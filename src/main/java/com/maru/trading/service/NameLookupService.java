@@ -0,0 +1,123 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Account;
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.dto.Strategy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * ID -> 표시명 일괄 조회 (목록 화면용)
+ * - 종목코드 / 전략 ID / 계좌 ID별로 BatchLoader를 만들어 반환 (요청마다 새로 생성)
+ * - 종목명은 캐시된 종목 마스터 목록(longTtl) 한 번으로 조회하고, 마스터에 없는 종목만 개별 조회 (최대 MAX_SINGLE_LOOKUPS건)
+ * - 전략명 / 계좌 별칭은 캐시된 전체 목록 한 번으로 조회
+ * - 이름을 찾지 못하면 ID 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NameLookupService {
+
+    // 마스터에 없는 종목의 개별 조회 상한 (상장폐지 등 예외 케이스용)
+    static final int MAX_SINGLE_LOOKUPS = 20;
+
+    private final TradingApiService tradingApiService;
+
+    /**
+     * 종목코드 -> 종목명 (한글명 > 영문명 > 코드)
+     */
+    public BatchLoader<String, String> instrumentNames() {
+        return new BatchLoader<>("instrumentNames", this::loadInstrumentNames, Function.identity());
+    }
+
+    /**
+     * 전략 ID -> 전략명
+     */
+    public BatchLoader<String, String> strategyNames() {
+        return new BatchLoader<>("strategyNames", this::loadStrategyNames, Function.identity());
+    }
+
+    /**
+     * 계좌 ID -> 계좌 별칭
+     */
+    public BatchLoader<String, String> accountNames() {
+        return new BatchLoader<>("accountNames", this::loadAccountNames, Function.identity());
+    }
+
+    private Map<String, String> loadInstrumentNames(Set<String> symbols) {
+        Map<String, String> names = new HashMap<>();
+        try {
+            for (Instrument instrument : tradingApiService.getInstrumentList(null, null, null, null)) {
+                if (symbols.contains(instrument.symbol())) {
+                    names.put(instrument.symbol(), instrument.displayName());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load instrument master for names: {}", e.getMessage());
+        }
+
+        int singleLookups = 0;
+        for (String symbol : symbols) {
+            if (names.containsKey(symbol)) {
+                continue;
+            }
+            if (singleLookups++ >= MAX_SINGLE_LOOKUPS) {
+                break;
+            }
+            String name = lookupInstrumentName(symbol);
+            if (name != null) {
+                names.put(symbol, name);
+            }
+        }
+        return names;
+    }
+
+    private String lookupInstrumentName(String symbol) {
+        try {
+            Map<String, Object> instrument = tradingApiService.getInstrument(symbol);
+            if (instrument == null || instrument.containsKey("error")) {
+                return null;
+            }
+            Object nameKr = instrument.get("nameKr");
+            Object nameEn = instrument.get("nameEn");
+            if (nameKr != null && !nameKr.toString().isEmpty()) {
+                return nameKr.toString();
+            }
+            if (nameEn != null && !nameEn.toString().isEmpty()) {
+                return nameEn.toString();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get instrument name for symbol: {}", symbol);
+        }
+        return null;
+    }
+
+    private Map<String, String> loadStrategyNames(Set<String> strategyIds) {
+        List<Strategy> strategies = tradingApiService.getStrategyList();
+        Map<String, String> names = new HashMap<>();
+        for (Strategy strategy : strategies) {
+            if (strategyIds.contains(strategy.strategyId()) && strategy.name() != null && !strategy.name().isEmpty()) {
+                names.put(strategy.strategyId(), strategy.name());
+            }
+        }
+        return names;
+    }
+
+    private Map<String, String> loadAccountNames(Set<String> accountIds) {
+        List<Account> accounts = tradingApiService.getAccountList();
+        Map<String, String> names = new HashMap<>();
+        for (Account account : accounts) {
+            if (accountIds.contains(account.accountId()) && account.alias() != null && !account.alias().isEmpty()) {
+                names.put(account.accountId(), account.alias());
+            }
+        }
+        return names;
+    }
+}
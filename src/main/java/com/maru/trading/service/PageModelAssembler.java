@@ -0,0 +1,233 @@
+package com.maru.trading.service;
+
+import com.maru.trading.exception.TradingApiException;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 모델 병렬 조립기
+ * - 페이지에 필요한 위젯(백엔드 호출)과 의존 관계를 선언하면 독립 호출은 동시에 실행
+ * - 위젯별 deadline(페이지 조립 시작 기준)과 fallback 값 지원
+ * - 위젯별 소요 시간을 debug 로그로 출력
+ * - 위젯은 TradingApiAsyncClient(tradingApiExecutor)에서 실행, 대기열이 가득 차면 SERVICE_UNAVAILABLE로 실패 (fallback 적용)
+ * - deadline이 지난 위젯 작업은 취소되어 Executor 스레드를 계속 점유하지 않음
+ *
+ * <pre>
+ * PageModelAssembler.Assembly page = pageModelAssembler.assemble("trading-dashboard");
+ * Widget&lt;Map&lt;String, Object&gt;&gt; accounts = page.add("accounts", tradingApiService::getAccounts);
+ * Widget&lt;Map&lt;String, Object&gt;&gt; positions = page.add("positions", accounts, a -&gt; ...).fallback(HashMap::new);
+ * page.run();
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PageModelAssembler {
+
+    private final TradingApiAsyncClient asyncClient;
+    private final long defaultTimeoutMs;
+
+    public PageModelAssembler(TradingApiAsyncClient asyncClient,
+                              @Value("${trading.page.widget-timeout-ms:5000}") long defaultTimeoutMs) {
+        this.asyncClient = asyncClient;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+    }
+
+    /**
+     * 새 페이지 조립 시작
+     */
+    public Assembly assemble(String pageName) {
+        return new Assembly(pageName);
+    }
+
+    /**
+     * 위젯 실행 결과 상태
+     */
+    public enum Outcome {
+        PENDING, OK, FALLBACK, FAILED
+    }
+
+    /**
+     * 한 페이지의 위젯 묶음
+     */
+    public class Assembly {
+
+        private final String pageName;
+        private final List<Widget<?>> widgets = new ArrayList<>();
+        private long startNanos;
+        private boolean started;
+
+        private Assembly(String pageName) {
+            this.pageName = pageName;
+        }
+
+        /**
+         * 독립 위젯 추가
+         */
+        public <T> Widget<T> add(String name, Supplier<T> call) {
+            return register(new Widget<>(name, null, ignored -> call.get()));
+        }
+
+        /**
+         * 다른 위젯 결과에 의존하는 위젯 추가 (의존 위젯이 먼저 추가되어 있어야 함)
+         */
+        public <D, T> Widget<T> add(String name, Widget<D> dependency, Function<D, T> call) {
+            if (!widgets.contains(dependency)) {
+                throw new IllegalArgumentException("Dependency must be added before widget: " + name);
+            }
+            return register(new Widget<>(name, dependency, call));
+        }
+
+        private <T> Widget<T> register(Widget<T> widget) {
+            if (started) {
+                throw new IllegalStateException("Assembly already started: " + pageName);
+            }
+            widgets.add(widget);
+            return widget;
+        }
+
+        /**
+         * 모든 위젯 실행 후 완료(또는 deadline 초과)까지 대기
+         */
+        public Assembly run() {
+            started = true;
+            startNanos = System.nanoTime();
+
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[widgets.size()];
+            for (int i = 0; i < widgets.size(); i++) {
+                futures[i] = widgets.get(i).start();
+            }
+
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                // 개별 위젯에서 처리 (fallback 또는 get() 시 예외)
+            }
+
+            if (log.isDebugEnabled()) {
+                StringBuilder breakdown = new StringBuilder();
+                for (Widget<?> widget : widgets) {
+                    breakdown.append(' ').append(widget.name).append('=')
+                            .append(widget.elapsedMillis).append("ms(").append(widget.outcome).append(')');
+                }
+                log.debug("Page [{}] assembled in {}ms:{}", pageName,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), breakdown);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * 페이지 위젯 (백엔드 호출 1건)
+     */
+    public class Widget<T> {
+
+        private final String name;
+        private final Widget<?> dependency;
+        private final Function<Object, T> call;
+        private Supplier<T> fallback;
+        private long timeoutMs = defaultTimeoutMs;
+
+        private CompletableFuture<T> future;
+        private volatile Outcome outcome = Outcome.PENDING;
+        private volatile long elapsedMillis;
+
+        @SuppressWarnings("unchecked")
+        private <D> Widget(String name, Widget<D> dependency, Function<D, T> call) {
+            this.name = name;
+            this.dependency = dependency;
+            this.call = (Function<Object, T>) call;
+        }
+
+        /**
+         * 실패/타임아웃 시 사용할 기본값
+         */
+        public Widget<T> fallback(Supplier<T> fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * 페이지 조립 시작 기준 deadline (ms)
+         */
+        public Widget<T> timeout(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+            return this;
+        }
+
+        private CompletableFuture<T> start() {
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            CompletableFuture<T> raw;
+            if (dependency == null) {
+                raw = asyncClient.supplyAsync(() -> timed(null), timeoutMs);
+            } else {
+                // 선행 위젯을 기다린 시간만큼 줄어든 남은 deadline으로 실행
+                raw = dependency.future.thenCompose(input -> asyncClient.supplyAsync(() -> timed(input),
+                        Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()))));
+            }
+
+            future = raw.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                    .handle((value, ex) -> {
+                        if (ex == null) {
+                            outcome = Outcome.OK;
+                            return CompletableFuture.completedFuture(value);
+                        }
+                        Throwable cause = TradingApiAsyncClient.unwrap(ex);
+                        if (fallback != null) {
+                            outcome = Outcome.FALLBACK;
+                            log.warn("Widget [{}] failed, using fallback: {}", name, cause.toString());
+                            return CompletableFuture.completedFuture(fallback.get());
+                        }
+                        outcome = Outcome.FAILED;
+                        return CompletableFuture.<T>failedFuture(cause);
+                    })
+                    .thenCompose(Function.identity());
+            return future;
+        }
+
+        private T timed(Object input) {
+            long start = System.nanoTime();
+            try {
+                return call.apply(input);
+            } finally {
+                elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * 위젯 결과 (fallback 없는 위젯이 실패한 경우 원래 예외를 다시 던짐)
+         */
+        public T get() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = TradingApiAsyncClient.unwrap(e);
+                if (cause instanceof TimeoutException) {
+                    throw new TradingApiException(ErrorCode.TIMEOUT, name + " 조회 시간이 초과되었습니다.", cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new TradingApiException(ErrorCode.UNKNOWN_ERROR, cause.getMessage(), cause);
+            }
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,716 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maru.trading.dto.Fill;
+import com.maru.trading.entity.MirroredFill;
+import com.maru.trading.repository.MirroredFillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 체결 기반 로컬 성과 분석 엔진
+ * - 로컬 사본(trading_fills)의 체결을 시각 순서로 한 번씩만 반영하여 전략별 일별 시계열을 증분 유지
+ * - 실현 손익은 계좌/전략/종목별 평균단가 기준, 포지션을 줄이는 체결 하나를 거래 한 건으로 집계 (수수료/세금 차감)
+ * - 시계열은 전략별 기본형 배열(일자, 손익, 거래 수, 승리 수, 최대 이익/손실)과 누적합으로 보관하여
+ *   기간 합계는 이진 탐색 + 누적합 차이로, 낙폭/Sharpe/Sortino는 기간 내 일수만큼만 계산
+ * - 로컬 사본 동기화가 끝날 때마다 새 체결만 반영하고, 늦게 도착한 과거 체결이 있으면(건수 불일치) 전체 재계산
+ * - 조회 스레드는 불변 스냅샷과 스냅샷 반영 시점의 동기화 시각만 읽음 (잠금 / 동기화 / 반영 / 저장소 조회 없음)
+ * - 응답할 수 없으면(비활성 / 로컬 사본 미동기화 / 동기화 지연) null을 반환하고 호출자가 백엔드로 조회
+ * - Sharpe / Sortino: 거래일 일별 손익 기준, 무위험 수익률 0, 연환산 √252 (자본금 정보가 없어 수익률 대신 손익 금액 사용)
+ */
+@Slf4j
+@Service
+public class PerformanceAnalyticsEngine {
+
+    public static final String ALL_STRATEGIES = "*";
+    public static final String SOURCE = "source";
+    public static final String SOURCE_LOCAL = "local";
+
+    private static final int PAGE_SIZE = 1000;
+    private static final double TRADING_DAYS_PER_YEAR = 252.0;
+
+    private final MirroredFillRepository fillRepository;
+    private final TradingMirrorSynchronizer synchronizer;
+    private final boolean enabled;
+    private final Duration maxStaleness;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 쓰기 상태 (refresh()에서만 접근)
+    private final Map<String, SeriesBuilder> builders = new HashMap<>();
+    private final Map<String, Position> positions = new HashMap<>();
+    private LocalDateTime cursorAt;
+    private String cursorId;
+    private long processedCount;
+
+    // 조회 스냅샷 (전략ID -> 시계열, ALL_STRATEGIES는 전체 합계)
+    private volatile Map<String, Series> snapshot;
+    // 스냅샷에 반영된 로컬 사본의 마지막 동기화 시각과 최근 기간을 응답할 수 있는 기한 (refresh()에서 기록)
+    private volatile LocalDateTime snapshotSyncedAt;
+    private volatile LocalDateTime snapshotFreshUntil;
+
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong rebuildCount = new AtomicLong();
+
+    public PerformanceAnalyticsEngine(MirroredFillRepository fillRepository,
+                                      TradingMirrorSynchronizer synchronizer,
+                                      @Value("${trading.analytics.enabled:true}") boolean enabled,
+                                      @Value("${trading.mirror.max-staleness-seconds:120}") long maxStalenessSeconds) {
+        this.fillRepository = fillRepository;
+        this.synchronizer = synchronizer;
+        this.enabled = enabled;
+        this.maxStaleness = Duration.ofSeconds(maxStalenessSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            synchronizer.addSyncListener(this::refreshSafely);
+        }
+    }
+
+    // ==================== 반영 ====================
+
+    /**
+     * 마지막으로 반영한 체결 이후의 체결 반영 후 스냅샷 갱신
+     */
+    public synchronized void refresh() {
+        // 체결을 읽기 전의 동기화 시각 (이후 동기화된 체결이 섞여도 더 이르게 기록될 뿐)
+        LocalDateTime syncedAt = synchronizer.getLastSyncAt(null);
+        long visited = applyNewFills();
+        if (fillRepository.count() != processedCount) {
+            // cursor 이전 시각의 체결이 나중에 동기화됨 - 처음부터 다시 계산
+            reset();
+            visited = applyNewFills();
+            rebuildCount.incrementAndGet();
+            log.info("Performance analytics rebuilt from {} fills", processedCount);
+        }
+        if (visited > 0 || snapshot == null) {
+            publish();
+        }
+        snapshotFreshUntil = syncedAt != null ? syncedAt.plus(synchronizer.stalenessLimit(maxStaleness)) : null;
+        snapshotSyncedAt = syncedAt;
+        refreshCount.incrementAndGet();
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Performance analytics refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private long applyNewFills() {
+        long visited = 0;
+        while (true) {
+            List<MirroredFill> page = fillRepository.findAfter(cursorAt, cursorId, PageRequest.of(0, PAGE_SIZE));
+            for (MirroredFill row : page) {
+                apply(row);
+                cursorAt = row.getFilledAt();
+                cursorId = row.getFillId();
+            }
+            visited += page.size();
+            processedCount += page.size();
+            if (page.size() < PAGE_SIZE) {
+                return visited;
+            }
+        }
+    }
+
+    private void reset() {
+        builders.clear();
+        positions.clear();
+        cursorAt = null;
+        cursorId = null;
+        processedCount = 0;
+    }
+
+    /**
+     * 체결 하나 반영 - 평균단가 기준 실현 손익, 포지션을 줄이는 체결이면 거래 한 건
+     */
+    void apply(MirroredFill row) {
+        Fill fill = decode(row.getPayload());
+        if (fill == null || fill.fillPrice() == null || fill.fillQty() == null) {
+            return;
+        }
+        double price = fill.fillPrice().doubleValue();
+        double quantity = fill.fillQty().doubleValue();
+        double cost = value(fill.fee()) + value(fill.tax());
+        double signed = fill.isBuy() ? quantity : -quantity;
+
+        String strategyId = row.getStrategyId();
+        Position position = positions.computeIfAbsent(row.getAccountId() + "|" + strategyId + "|" + row.getSymbol(),
+                k -> new Position());
+        double tradePnl = position.apply(signed, price) - cost;
+        boolean closing = position.closedLast;
+
+        int day = (int) row.getFilledAt().toLocalDate().toEpochDay();
+        builder(ALL_STRATEGIES).add(day, tradePnl, closing);
+        if (strategyId != null) {
+            builder(strategyId).add(day, tradePnl, closing);
+        }
+    }
+
+    private SeriesBuilder builder(String strategyId) {
+        return builders.computeIfAbsent(strategyId, k -> new SeriesBuilder());
+    }
+
+    private void publish() {
+        Map<String, Series> previous = snapshot;
+        Map<String, Series> next = new HashMap<>();
+        builders.forEach((strategyId, builder) -> {
+            Series reused = previous != null && !builder.dirty ? previous.get(strategyId) : null;
+            next.put(strategyId, reused != null ? reused : builder.toSeries());
+            builder.dirty = false;
+        });
+        snapshot = next;
+    }
+
+    private Fill decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, Fill.class);
+        } catch (IOException e) {
+            log.debug("Skipping unreadable fill payload: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static double value(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 성과 분석 (period: daily / monthly) - 백엔드 /performance/analysis와 같은 형식 (data + summary)
+     */
+    public Map<String, Object> getPerformanceAnalysis(String period, String startDate, String endDate, String strategyId) {
+        int[] range = range(startDate, endDate);
+        Series series = range != null ? ready(range[1], strategyId) : null;
+        if (series == null) {
+            return null;
+        }
+        int lo = series.lowerBound(range[0]);
+        int hi = series.lowerBound(range[1] + 1);
+        List<Map<String, Object>> data = "monthly".equals(period) ? series.monthly(lo, hi) : series.daily(lo, hi);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("period", period);
+        result.put("data", data);
+        result.put("summary", series.summary(lo, hi));
+        result.put(SOURCE, SOURCE_LOCAL);
+        return result;
+    }
+
+    /**
+     * 전략별 통계 - 백엔드 /performance/strategies와 같은 형식 (strategies + summary)
+     *
+     * @param strategies 이름/상태 표시용 전략 목록 (id 또는 strategyId, name, status), 없으면 전략 ID로 표시
+     */
+    public Map<String, Object> getStrategyStatistics(String startDate, String endDate, List<Map<String, Object>> strategies) {
+        int[] range = range(startDate, endDate);
+        if (range == null || ready(range[1], ALL_STRATEGIES) == null) {
+            return null;
+        }
+        Map<String, Series> current = snapshot;
+
+        Map<String, Map<String, Object>> infoById = new LinkedHashMap<>();
+        if (strategies != null) {
+            for (Map<String, Object> strategy : strategies) {
+                Object id = strategy.get("id") != null ? strategy.get("id") : strategy.get("strategyId");
+                if (id != null) {
+                    infoById.put(id.toString(), strategy);
+                }
+            }
+        }
+        List<String> ids = new ArrayList<>(infoById.keySet());
+        current.keySet().stream()
+                .filter(id -> !ALL_STRATEGIES.equals(id) && !infoById.containsKey(id))
+                .sorted()
+                .forEach(ids::add);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        long totalTrades = 0;
+        double totalProfitLoss = 0;
+        double winRateSum = 0;
+        int withTrades = 0;
+        int active = 0;
+        for (String id : ids) {
+            Series series = current.get(id);
+            Map<String, Object> row = series != null
+                    ? series.summary(series.lowerBound(range[0]), series.lowerBound(range[1] + 1))
+                    : Series.EMPTY.summary(0, 0);
+            Map<String, Object> info = infoById.get(id);
+            Object name = info != null ? info.get("name") : null;
+            Object status = info != null ? info.get("status") : null;
+            row.put("id", id);
+            row.put("strategyId", id);
+            row.put("name", name != null ? name : id);
+            row.put("status", status);
+            rows.add(row);
+
+            long trades = ((Number) row.get("totalTrades")).longValue();
+            totalTrades += trades;
+            totalProfitLoss += ((Number) row.get("totalProfitLoss")).doubleValue();
+            if (trades > 0) {
+                winRateSum += ((Number) row.get("winRate")).doubleValue();
+                withTrades++;
+            }
+            if ("ACTIVE".equals(status)) {
+                active++;
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalStrategies", ids.size());
+        summary.put("activeStrategies", active);
+        summary.put("totalTrades", totalTrades);
+        summary.put("totalProfitLoss", totalProfitLoss);
+        summary.put("avgWinRate", withTrades > 0 ? winRateSum / withTrades : 0.0);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("strategies", rows);
+        result.put("summary", summary);
+        result.put(SOURCE, SOURCE_LOCAL);
+        return result;
+    }
+
+    /**
+     * 월별 일일 성과 (캘린더) - 백엔드 /performance/monthly-daily와 같은 형식 (dailyData + summary)
+     */
+    public Map<String, Object> getMonthlyDailyPerformance(int year, int month, String strategyId) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        int from = (int) yearMonth.atDay(1).toEpochDay();
+        int to = (int) yearMonth.atEndOfMonth().toEpochDay();
+        Series series = ready(to, strategyId);
+        if (series == null) {
+            return null;
+        }
+        int lo = series.lowerBound(from);
+        int hi = series.lowerBound(to + 1);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("year", year);
+        result.put("month", month);
+        result.put("strategyId", strategyId);
+        result.put("dailyData", series.daily(lo, hi));
+        result.put("summary", series.calendarSummary(lo, hi));
+        result.put(SOURCE, SOURCE_LOCAL);
+        return result;
+    }
+
+    /**
+     * 기간 내 거래일별 손익 (VaR 등 수치 계산용, 날짜순 복사본) - 응답할 수 없으면 null
+     */
+    public double[] getDailyProfitLoss(String startDate, String endDate, String strategyId) {
+        int[] range = range(startDate, endDate);
+        Series series = range != null ? ready(range[1], strategyId) : null;
+        if (series == null) {
+            return null;
+        }
+        return series.profitLoss(series.lowerBound(range[0]), series.lowerBound(range[1] + 1));
+    }
+
+    /**
+     * 기간 내 전략별 일별 손익 행렬 (상관관계 계산용) - 응답할 수 없으면 null
+     * - 행: 어느 전략이든 체결이 있는 날 (날짜순), 열: 전략 ID 이름순, 그날 체결이 없는 전략은 0
+     */
+    public DailyMatrix getDailyProfitLossByStrategy(String startDate, String endDate) {
+        int[] range = range(startDate, endDate);
+        Series all = range != null ? ready(range[1], ALL_STRATEGIES) : null;
+        if (all == null) {
+            return null;
+        }
+        Map<String, Series> current = snapshot;
+        List<String> ids = new ArrayList<>(current.keySet());
+        ids.remove(ALL_STRATEGIES);
+        ids.sort(null);
+
+        int[] days = Arrays.copyOfRange(all.days, all.lowerBound(range[0]), all.lowerBound(range[1] + 1));
+        double[][] values = new double[days.length][ids.size()];
+        for (int s = 0; s < ids.size(); s++) {
+            Series series = current.get(ids.get(s));
+            int i = series.lowerBound(range[0]);
+            for (int d = 0; d < days.length && i < series.days.length; d++) {
+                if (series.days[i] == days[d]) {
+                    values[d][s] = series.pnl[i++];
+                }
+            }
+        }
+        return new DailyMatrix(ids, days, values);
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount.get();
+    }
+
+    public synchronized long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * 조회할 시계열 (응답할 수 없으면 null)
+     * - 게시된 스냅샷만 읽음, 동기화와 반영은 백그라운드 동기화 리스너가 담당
+     * - 조회 기간이 스냅샷의 동기화 날짜 이후를 포함하면 그 동기화가 max-staleness 이내일 때만 응답
+     */
+    private Series ready(int toDay, String strategyId) {
+        LocalDateTime syncedAt = snapshotSyncedAt;
+        LocalDateTime freshUntil = snapshotFreshUntil;
+        Map<String, Series> current = snapshot;
+        if (!enabled || current == null || syncedAt == null) {
+            return null;
+        }
+        if (toDay >= syncedAt.toLocalDate().toEpochDay() && LocalDateTime.now().isAfter(freshUntil)) {
+            return null;
+        }
+        String key = strategyId == null || strategyId.isEmpty() ? ALL_STRATEGIES : strategyId;
+        Series series = current.get(key);
+        return series != null ? series : Series.EMPTY;
+    }
+
+    private static int[] range(String startDate, String endDate) {
+        try {
+            int from = startDate == null || startDate.isEmpty() ? Integer.MIN_VALUE
+                    : (int) LocalDate.parse(startDate).toEpochDay();
+            int to = endDate == null || endDate.isEmpty() ? (int) LocalDate.now().toEpochDay()
+                    : (int) LocalDate.parse(endDate).toEpochDay();
+            return new int[] {from, to};
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전략별 일별 손익 행렬 (days[i]일의 전략 j 손익 = values[i][j])
+     */
+    public static final class DailyMatrix {
+
+        private final List<String> strategyIds;
+        private final int[] days;
+        private final double[][] values;
+
+        DailyMatrix(List<String> strategyIds, int[] days, double[][] values) {
+            this.strategyIds = strategyIds;
+            this.days = days;
+            this.values = values;
+        }
+
+        public List<String> getStrategyIds() {
+            return strategyIds;
+        }
+
+        /**
+         * 일자 (epoch day, 오름차순)
+         */
+        public int[] getDays() {
+            return days;
+        }
+
+        public double[][] getValues() {
+            return values;
+        }
+    }
+
+    // ==================== 포지션 / 시계열 ====================
+
+    /**
+     * 계좌/전략/종목별 평균단가 포지션 (수량 부호: 매수 +, 매도 -)
+     */
+    private static final class Position {
+
+        private double quantity;
+        private double avgPrice;
+        private boolean closedLast;
+
+        /**
+         * @return 이번 체결로 실현된 손익 (수수료 제외)
+         */
+        double apply(double signed, double price) {
+            closedLast = false;
+            if (quantity == 0 || Math.signum(quantity) == Math.signum(signed)) {
+                double total = Math.abs(quantity) + Math.abs(signed);
+                avgPrice = (Math.abs(quantity) * avgPrice + Math.abs(signed) * price) / total;
+                quantity += signed;
+                return 0;
+            }
+            double closed = Math.min(Math.abs(signed), Math.abs(quantity));
+            double realized = closed * (price - avgPrice) * Math.signum(quantity);
+            closedLast = true;
+            quantity += signed;
+            if (Math.abs(quantity) < 1e-9) {
+                quantity = 0;
+                avgPrice = 0;
+            } else if (Math.signum(quantity) == Math.signum(signed)) {
+                // 반대 방향으로 넘어간 잔량은 이번 가격으로 새 포지션
+                avgPrice = price;
+            }
+            return realized;
+        }
+    }
+
+    /**
+     * 전략 하나의 일별 시계열 (쓰기용, 일자는 증가 순서로만 추가)
+     */
+    private static final class SeriesBuilder {
+
+        private int size;
+        private int[] days = new int[16];
+        private double[] pnl = new double[16];
+        private int[] trades = new int[16];
+        private int[] wins = new int[16];
+        private double[] best = new double[16];
+        private double[] worst = new double[16];
+        private boolean dirty;
+
+        void add(int day, double amount, boolean trade) {
+            if (size == 0 || days[size - 1] != day) {
+                if (size == days.length) {
+                    int capacity = size * 2;
+                    days = Arrays.copyOf(days, capacity);
+                    pnl = Arrays.copyOf(pnl, capacity);
+                    trades = Arrays.copyOf(trades, capacity);
+                    wins = Arrays.copyOf(wins, capacity);
+                    best = Arrays.copyOf(best, capacity);
+                    worst = Arrays.copyOf(worst, capacity);
+                }
+                days[size] = day;
+                best[size] = Double.NEGATIVE_INFINITY;
+                worst[size] = Double.POSITIVE_INFINITY;
+                size++;
+            }
+            int i = size - 1;
+            pnl[i] += amount;
+            if (trade) {
+                trades[i]++;
+                if (amount > 0) {
+                    wins[i]++;
+                }
+                best[i] = Math.max(best[i], amount);
+                worst[i] = Math.min(worst[i], amount);
+            }
+            dirty = true;
+        }
+
+        Series toSeries() {
+            return new Series(Arrays.copyOf(days, size), Arrays.copyOf(pnl, size), Arrays.copyOf(trades, size),
+                    Arrays.copyOf(wins, size), Arrays.copyOf(best, size), Arrays.copyOf(worst, size));
+        }
+    }
+
+    /**
+     * 전략 하나의 일별 시계열 스냅샷 (불변, 누적합 포함)
+     */
+    static final class Series {
+
+        static final Series EMPTY = new Series(new int[0], new double[0], new int[0], new int[0],
+                new double[0], new double[0]);
+
+        private final int[] days;
+        private final double[] pnl;
+        private final int[] trades;
+        private final int[] wins;
+        private final double[] best;
+        private final double[] worst;
+        private final double[] cumPnl;
+        private final long[] cumTrades;
+        private final long[] cumWins;
+
+        Series(int[] days, double[] pnl, int[] trades, int[] wins, double[] best, double[] worst) {
+            this.days = days;
+            this.pnl = pnl;
+            this.trades = trades;
+            this.wins = wins;
+            this.best = best;
+            this.worst = worst;
+            int n = days.length;
+            this.cumPnl = new double[n + 1];
+            this.cumTrades = new long[n + 1];
+            this.cumWins = new long[n + 1];
+            for (int i = 0; i < n; i++) {
+                cumPnl[i + 1] = cumPnl[i] + pnl[i];
+                cumTrades[i + 1] = cumTrades[i] + trades[i];
+                cumWins[i + 1] = cumWins[i] + wins[i];
+            }
+        }
+
+        /**
+         * day 이상인 첫 인덱스
+         */
+        int lowerBound(int day) {
+            int lo = 0;
+            int hi = days.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (days[mid] < day) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        double[] profitLoss(int lo, int hi) {
+            return Arrays.copyOfRange(pnl, lo, hi);
+        }
+
+        List<Map<String, Object>> daily(int lo, int hi) {
+            List<Map<String, Object>> data = new ArrayList<>(hi - lo);
+            for (int i = lo; i < hi; i++) {
+                data.add(point(LocalDate.ofEpochDay(days[i]).toString(), pnl[i], trades[i], wins[i],
+                        best[i], worst[i]));
+            }
+            return data;
+        }
+
+        List<Map<String, Object>> monthly(int lo, int hi) {
+            List<Map<String, Object>> data = new ArrayList<>();
+            int i = lo;
+            while (i < hi) {
+                YearMonth month = YearMonth.from(LocalDate.ofEpochDay(days[i]));
+                int end = lowerBound((int) month.plusMonths(1).atDay(1).toEpochDay());
+                end = Math.min(end, hi);
+                double monthBest = Double.NEGATIVE_INFINITY;
+                double monthWorst = Double.POSITIVE_INFINITY;
+                for (int j = i; j < end; j++) {
+                    monthBest = Math.max(monthBest, best[j]);
+                    monthWorst = Math.min(monthWorst, worst[j]);
+                }
+                data.add(point(month.toString(), cumPnl[end] - cumPnl[i], (int) (cumTrades[end] - cumTrades[i]),
+                        (int) (cumWins[end] - cumWins[i]), monthBest, monthWorst));
+                i = end;
+            }
+            return data;
+        }
+
+        /**
+         * 기간 요약 (성과 분석 / 전략별 통계 공통)
+         */
+        Map<String, Object> summary(int lo, int hi) {
+            long totalTrades = cumTrades[hi] - cumTrades[lo];
+            long winning = cumWins[hi] - cumWins[lo];
+            double total = cumPnl[hi] - cumPnl[lo];
+            double bestTrade = Double.NEGATIVE_INFINITY;
+            double worstTrade = Double.POSITIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                bestTrade = Math.max(bestTrade, best[i]);
+                worstTrade = Math.min(worstTrade, worst[i]);
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("totalProfitLoss", total);
+            summary.put("totalTrades", totalTrades);
+            summary.put("winningTrades", winning);
+            summary.put("losingTrades", totalTrades - winning);
+            summary.put("winRate", totalTrades > 0 ? winning * 100.0 / totalTrades : 0.0);
+            summary.put("avgProfitLoss", totalTrades > 0 ? total / totalTrades : 0.0);
+            summary.put("maxProfit", finite(bestTrade));
+            summary.put("maxLoss", finite(worstTrade));
+            summary.put("tradingDays", hi - lo);
+            summary.put("maxDrawdown", maxDrawdown(lo, hi));
+            summary.put("sharpeRatio", sharpe(lo, hi, false));
+            summary.put("sortinoRatio", sharpe(lo, hi, true));
+            return summary;
+        }
+
+        /**
+         * 캘린더 요약 (최대 이익/손실은 일별 손익 기준)
+         */
+        Map<String, Object> calendarSummary(int lo, int hi) {
+            long totalTrades = cumTrades[hi] - cumTrades[lo];
+            long winning = cumWins[hi] - cumWins[lo];
+            double total = cumPnl[hi] - cumPnl[lo];
+            double bestDay = Double.NEGATIVE_INFINITY;
+            double worstDay = Double.POSITIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                bestDay = Math.max(bestDay, pnl[i]);
+                worstDay = Math.min(worstDay, pnl[i]);
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("totalProfitLoss", total);
+            summary.put("tradingDays", hi - lo);
+            summary.put("totalTrades", totalTrades);
+            summary.put("winRate", totalTrades > 0 ? winning * 100.0 / totalTrades : 0.0);
+            summary.put("avgDailyProfitLoss", hi > lo ? total / (hi - lo) : 0.0);
+            summary.put("maxProfit", finite(bestDay));
+            summary.put("maxLoss", finite(worstDay));
+            return summary;
+        }
+
+        /**
+         * 기간 내 누적 손익의 최대 낙폭 (금액, 0 이상)
+         */
+        double maxDrawdown(int lo, int hi) {
+            double peak = 0;
+            double cumulative = 0;
+            double drawdown = 0;
+            for (int i = lo; i < hi; i++) {
+                cumulative += pnl[i];
+                peak = Math.max(peak, cumulative);
+                drawdown = Math.max(drawdown, peak - cumulative);
+            }
+            return drawdown;
+        }
+
+        /**
+         * 연환산 Sharpe (downsideOnly면 Sortino) - 거래일이 2일 미만이거나 변동이 없으면 0
+         */
+        double sharpe(int lo, int hi, boolean downsideOnly) {
+            int n = hi - lo;
+            if (n < 2) {
+                return 0.0;
+            }
+            double mean = (cumPnl[hi] - cumPnl[lo]) / n;
+            double sumSquares = 0;
+            for (int i = lo; i < hi; i++) {
+                double deviation = downsideOnly ? Math.min(0, pnl[i]) : pnl[i] - mean;
+                sumSquares += deviation * deviation;
+            }
+            double deviation = Math.sqrt(sumSquares / (downsideOnly ? n : n - 1));
+            return deviation > 0 ? mean / deviation * Math.sqrt(TRADING_DAYS_PER_YEAR) : 0.0;
+        }
+
+        private static Map<String, Object> point(String date, double profitLoss, int trades, int wins,
+                                                 double best, double worst) {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("date", date);
+            point.put("profitLoss", profitLoss);
+            point.put("trades", trades);
+            point.put("winRate", trades > 0 ? wins * 100.0 / trades : 0.0);
+            point.put("maxProfit", finite(best));
+            point.put("maxLoss", finite(worst));
+            return point;
+        }
+
+        private static double finite(double value) {
+            return Double.isInfinite(value) ? 0.0 : value;
+        }
+    }
+}
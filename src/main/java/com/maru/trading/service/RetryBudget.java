@@ -0,0 +1,109 @@
+package com.maru.trading.service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Trading API 전역 재시도 예산
+ * - 최근 window 동안 재시도 수가 요청 수의 ratio를 넘지 못하게 제한 (예: 10%)
+ * - 요청이 적을 때도 재시도가 막히지 않도록 window마다 minRetries만큼은 항상 허용
+ * - 장애 시 모든 호출이 재시도로 부하를 몇 배로 늘리는 retry storm 방지
+ * - 1초 단위 버킷을 window 길이만큼 순환하여 집계
+ */
+public class RetryBudget {
+
+    private static final double DEFAULT_RATIO = 0.1;
+    private static final int DEFAULT_MIN_RETRIES = 10;
+    private static final int DEFAULT_WINDOW_SECONDS = 10;
+    private static final long BUCKET_MILLIS = 1000;
+
+    private final double ratio;
+    private final int minRetries;
+    private final LongSupplier clock;
+
+    private final long[] requestBuckets;
+    private final long[] retryBuckets;
+    private final long[] bucketEpochs;
+
+    private final LongAdder grantedCount = new LongAdder();
+    private final LongAdder deniedCount = new LongAdder();
+
+    public RetryBudget() {
+        this(DEFAULT_RATIO, DEFAULT_MIN_RETRIES, DEFAULT_WINDOW_SECONDS, System::currentTimeMillis);
+    }
+
+    public RetryBudget(double ratio, int minRetries, int windowSeconds, LongSupplier clock) {
+        this.ratio = ratio;
+        this.minRetries = minRetries;
+        this.clock = clock;
+        this.requestBuckets = new long[windowSeconds];
+        this.retryBuckets = new long[windowSeconds];
+        this.bucketEpochs = new long[windowSeconds];
+    }
+
+    /**
+     * 최초 시도 1건 기록 (재시도는 포함하지 않음)
+     */
+    public synchronized void onRequest() {
+        requestBuckets[currentBucket()]++;
+    }
+
+    /**
+     * 재시도 1건 허가 요청 (허가되면 재시도로 기록)
+     */
+    public synchronized boolean tryAcquireRetry() {
+        int bucket = currentBucket();
+        long requests = 0;
+        long retries = 0;
+        long epoch = bucketEpochs[bucket];
+        for (int i = 0; i < bucketEpochs.length; i++) {
+            if (epoch - bucketEpochs[i] < bucketEpochs.length) {
+                requests += requestBuckets[i];
+                retries += retryBuckets[i];
+            }
+        }
+        if (retries >= Math.max(minRetries, (long) (requests * ratio))) {
+            deniedCount.increment();
+            return false;
+        }
+        retryBuckets[bucket]++;
+        grantedCount.increment();
+        return true;
+    }
+
+    /**
+     * 현재 시각의 버킷 (지난 window의 버킷이면 비움)
+     */
+    private int currentBucket() {
+        long epoch = clock.getAsLong() / BUCKET_MILLIS;
+        int bucket = (int) (epoch % bucketEpochs.length);
+        if (bucketEpochs[bucket] != epoch) {
+            bucketEpochs[bucket] = epoch;
+            requestBuckets[bucket] = 0;
+            retryBuckets[bucket] = 0;
+        }
+        return bucket;
+    }
+
+    public long getGrantedCount() {
+        return grantedCount.sum();
+    }
+
+    public long getDeniedCount() {
+        return deniedCount.sum();
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    /**
+     * 예산 부족으로 재시도하지 않은 호출을 Retry.Context에 최종 실패로 알릴 때 쓰는 예외
+     * - Retry 설정에서 재시도 대상이 아니어야 함 (failed_without_retry로 집계되고 대기 없이 바로 던져짐)
+     */
+    public static class ExhaustedException extends RuntimeException {
+        public ExhaustedException(Throwable cause) {
+            super("Retry budget exhausted: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.maru.trading.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 대시보드 응답 스냅샷 비교 (이전 응답 대비 변경분 계산)
+ * - 최상위 필드: 값이 바뀐 필드는 changed, 사라진 필드는 removed
+ * - items 목록: 행 ID(positionId / strategyId / id / symbol) 기준으로 바뀐 행만 upserted, 사라진 행은 removed,
+ *   순서는 ids로 전달 (행 전체를 다시 보내지 않음)
+ * - 변경이 없으면 빈 Map
+ */
+public final class SnapshotDiff {
+
+    public static final String CHANGED = "changed";
+    public static final String REMOVED = "removed";
+    public static final String ITEMS = "items";
+    public static final String UPSERTED = "upserted";
+    public static final String IDS = "ids";
+
+    private static final String[] ID_FIELDS = {"positionId", "strategyId", "id", "symbol"};
+
+    private SnapshotDiff() {
+    }
+
+    public static Map<String, Object> diff(Map<String, Object> previous, Map<String, Object> current) {
+        Map<String, Object> prev = previous != null ? previous : Map.of();
+        Map<String, Object> curr = current != null ? current : Map.of();
+        Map<String, Object> changed = new LinkedHashMap<>();
+        List<String> removed = new ArrayList<>();
+        Map<String, Object> itemsDiff = null;
+
+        for (Map.Entry<String, Object> entry : curr.entrySet()) {
+            String key = entry.getKey();
+            Object before = prev.get(key);
+            if (prev.containsKey(key) && Objects.equals(before, entry.getValue())) {
+                continue;
+            }
+            if (ITEMS.equals(key) && isIdentifiedList(before) && isIdentifiedList(entry.getValue())) {
+                itemsDiff = diffItems((List<?>) before, (List<?>) entry.getValue());
+            } else {
+                changed.put(key, entry.getValue());
+            }
+        }
+        for (String key : prev.keySet()) {
+            if (!curr.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+
+        Map<String, Object> diff = new LinkedHashMap<>();
+        if (!changed.isEmpty()) {
+            diff.put(CHANGED, changed);
+        }
+        if (!removed.isEmpty()) {
+            diff.put(REMOVED, removed);
+        }
+        if (itemsDiff != null) {
+            diff.put(ITEMS, itemsDiff);
+        }
+        return diff;
+    }
+
+    /**
+     * 목록 행 ID (ID 필드가 없으면 null)
+     */
+    public static String idOf(Object row) {
+        if (!(row instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> map = (Map<?, ?>) row;
+        for (String field : ID_FIELDS) {
+            Object id = map.get(field);
+            if (id != null) {
+                return id.toString();
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> diffItems(List<?> before, List<?> after) {
+        Map<String, Object> beforeById = new HashMap<>(before.size() * 2);
+        for (Object row : before) {
+            beforeById.put(idOf(row), row);
+        }
+
+        List<Object> upserted = new ArrayList<>();
+        List<String> ids = new ArrayList<>(after.size());
+        Set<String> afterIds = new HashSet<>(after.size() * 2);
+        for (Object row : after) {
+            String id = idOf(row);
+            ids.add(id);
+            afterIds.add(id);
+            if (!Objects.equals(beforeById.get(id), row)) {
+                upserted.add(row);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String id : beforeById.keySet()) {
+            if (!afterIds.contains(id)) {
+                removed.add(id);
+            }
+        }
+
+        Map<String, Object> itemsDiff = new LinkedHashMap<>();
+        itemsDiff.put(UPSERTED, upserted);
+        itemsDiff.put(REMOVED, removed);
+        itemsDiff.put(IDS, ids);
+        return itemsDiff;
+    }
+
+    /**
+     * 모든 행이 ID를 가진 목록인지 (ID가 없거나 중복되면 목록 전체를 changed로 전송)
+     */
+    private static boolean isIdentifiedList(Object value) {
+        if (!(value instanceof List)) {
+            return false;
+        }
+        Set<String> seen = new HashSet<>();
+        for (Object row : (List<?>) value) {
+            String id = idOf(row);
+            if (id == null || !seen.add(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Trading API 목록 응답 스트리밍 디코더 (Jackson Streaming API)
+ * - items / content 배열(또는 지정한 필드)을 한 행씩 Map으로 읽어 반환하므로 전체 트리를 메모리에 올리지 않음
+ * - 배열 외 필드(total, page, nextCursor 등)는 envelope로 보관 (배열 뒤 필드는 모두 읽은 후 채워짐)
+ * - 최상위가 배열인 응답도 지원
+ */
+public class StreamingItemReader implements Iterator<Map<String, Object>>, Closeable {
+
+    static final Set<String> ITEM_FIELDS = Set.of("items", "content");
+
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW_TYPE =
+            new TypeReference<LinkedHashMap<String, Object>>() {};
+
+    private final JsonParser parser;
+    private final ObjectReader rowReader;
+    private final ObjectReader valueReader;
+    private final Set<String> itemFields;
+    private final Map<String, Object> envelope = new LinkedHashMap<>();
+    private final boolean rootArray;
+
+    private String itemField;
+    private Map<String, Object> nextRow;
+    private boolean finished;
+    private long count;
+
+    public StreamingItemReader(ObjectMapper objectMapper, InputStream in) throws IOException {
+        this(objectMapper, in, ITEM_FIELDS);
+    }
+
+    /**
+     * @param itemFields 행 배열로 취급할 필드명 (예: 실행 히스토리의 executions)
+     */
+    public StreamingItemReader(ObjectMapper objectMapper, InputStream in, Set<String> itemFields) throws IOException {
+        this.itemFields = itemFields;
+        this.parser = objectMapper.getFactory().createParser(in);
+        this.rowReader = objectMapper.readerFor(ROW_TYPE);
+        this.valueReader = objectMapper.readerFor(Object.class);
+
+        JsonToken first = parser.nextToken();
+        this.rootArray = first == JsonToken.START_ARRAY;
+        if (first == JsonToken.START_OBJECT) {
+            finished = !readEnvelopeUntilItems();
+        } else if (!rootArray) {
+            finished = true;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                nextRow = rowReader.readValue(parser);
+                return true;
+            }
+            if (token == JsonToken.END_ARRAY || token == null) {
+                // 배열 뒤에 오는 필드도 envelope에 포함 (다른 목록 필드는 그대로 값으로 보관)
+                if (!rootArray && token != null) {
+                    readEnvelopeUntilItems();
+                }
+                finished = true;
+                return false;
+            }
+            // 객체가 아닌 행은 건너뜀
+            parser.skipChildren();
+            return hasNext();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, Object> row = nextRow;
+        nextRow = null;
+        count++;
+        return row;
+    }
+
+    /**
+     * 목록 외 필드 (모든 행을 읽은 후에 완전함)
+     */
+    public Map<String, Object> getEnvelope() {
+        return envelope;
+    }
+
+    /**
+     * 스트리밍 중인 배열의 필드명 (items / content, 최상위 배열이면 null)
+     */
+    public String getItemField() {
+        return itemField;
+    }
+
+    /**
+     * 지금까지 읽은 행 수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * 최상위 객체의 필드를 읽다가 첫 items / content 배열에서 멈춤 (배열을 찾으면 true)
+     */
+    private boolean readEnvelopeUntilItems() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (itemField == null && value == JsonToken.START_ARRAY && itemFields.contains(name)) {
+                itemField = name;
+                return true;
+            }
+            envelope.put(name, valueReader.readValue(parser));
+        }
+        return false;
+    }
+}
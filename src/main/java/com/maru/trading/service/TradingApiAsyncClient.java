@@ -0,0 +1,147 @@
+package com.maru.trading.service;
+
+import com.maru.trading.exception.TradingApiException;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Trading API 비동기 클라이언트
+ * - TradingApiHelper의 GET/POST/PUT/PATCH/DELETE에 대응하는 CompletableFuture 버전
+ * - 전용 tradingApiExecutor에서 실행되어 Tomcat 요청 스레드를 점유하지 않음
+ * - Retry/Circuit Breaker 및 TradingApiException 변환은 TradingApiHelper 것을 그대로 사용
+ */
+@Slf4j
+@Component
+public class TradingApiAsyncClient {
+
+    private final TradingApiHelper apiHelper;
+    private final Executor tradingApiExecutor;
+
+    public TradingApiAsyncClient(TradingApiHelper apiHelper,
+                                 @Qualifier("tradingApiExecutor") Executor tradingApiExecutor) {
+        this.apiHelper = apiHelper;
+        this.tradingApiExecutor = tradingApiExecutor;
+    }
+
+    /**
+     * 비동기 GET 요청
+     */
+    public CompletableFuture<Map<String, Object>> getAsync(String url, ErrorCode errorCode) {
+        return supplyAsync(() -> apiHelper.get(url, errorCode));
+    }
+
+    /**
+     * 비동기 GET 요청 (실패 시 기본값으로 완료)
+     */
+    public CompletableFuture<Map<String, Object>> getWithDefaultAsync(String url, Map<String, Object> defaultValue) {
+        return supplyAsync(() -> apiHelper.getWithDefault(url, defaultValue));
+    }
+
+    /**
+     * 비동기 POST 요청
+     */
+    public CompletableFuture<Map<String, Object>> postAsync(String url, Map<String, Object> body, ErrorCode errorCode) {
+        return supplyAsync(() -> apiHelper.post(url, body, errorCode));
+    }
+
+    /**
+     * 비동기 POST 요청 (Idempotency-Key 적용, 재시도 적용)
+     */
+    public CompletableFuture<Map<String, Object>> postIdempotentAsync(String url, Map<String, Object> body,
+                                                                      ErrorCode errorCode) {
+        return supplyAsync(() -> apiHelper.postIdempotent(url, body, errorCode));
+    }
+
+    /**
+     * 비동기 PUT 요청
+     */
+    public CompletableFuture<Map<String, Object>> putAsync(String url, Map<String, Object> body, ErrorCode errorCode) {
+        return supplyAsync(() -> apiHelper.put(url, body, errorCode));
+    }
+
+    /**
+     * 비동기 PATCH 요청
+     */
+    public CompletableFuture<Map<String, Object>> patchAsync(String url, Map<String, Object> body, ErrorCode errorCode) {
+        return supplyAsync(() -> apiHelper.patch(url, body, errorCode));
+    }
+
+    /**
+     * 비동기 DELETE 요청
+     */
+    public CompletableFuture<Void> deleteAsync(String url, ErrorCode errorCode) {
+        return supplyAsync(() -> {
+            apiHelper.delete(url, errorCode);
+            return null;
+        });
+    }
+
+    /**
+     * 임의의 Trading API 호출을 전용 Executor에서 실행
+     * - TradingApiService 메서드를 그대로 감싸 캐시(@Cacheable)도 유지됨
+     *   예) asyncClient.supplyAsync(tradingApiService::getAccounts)
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, tradingApiExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Trading API async executor saturated, rejecting call");
+            return CompletableFuture.failedFuture(
+                    new TradingApiException(ErrorCode.SERVICE_UNAVAILABLE, "비동기 호출 대기열이 가득 찼습니다.", e));
+        }
+    }
+
+    /**
+     * deadline이 있는 비동기 호출
+     * - deadline이 지나면 TimeoutException으로 완료하고 작업 취소 (대기열에 있으면 실행하지 않고, 실행 중이면 interrupt)
+     * - orTimeout()만으로는 반환 future만 완료되고 작업은 tradingApiExecutor 스레드를 계속 점유함
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> call, long timeoutMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, null);
+        try {
+            tradingApiExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Trading API async executor saturated, rejecting call");
+            return CompletableFuture.failedFuture(
+                    new TradingApiException(ErrorCode.SERVICE_UNAVAILABLE, "비동기 호출 대기열이 가득 찼습니다.", e));
+        }
+        result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, ex) -> {
+            if (ex instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * CompletionException/ExecutionException을 벗겨 원래 예외 반환
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -2,11 +2,14 @@ package com.maru.trading.service;
 
 import com.maru.trading.exception.TradingApiException;
 import com.maru.trading.exception.TradingApiException.ErrorCode;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maru.config.TradingEndpointGuard;
+import com.maru.trading.dto.ApiList;
 import io.github.resilience4j.retry.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -20,16 +23,30 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * Trading API 호출 헬퍼 클래스
- * - Retry/Circuit Breaker 적용
+ * - Retry 적용 (Circuit Breaker는 RestTemplate의 TradingEndpointGuard가 엔드포인트 분류별로 적용)
  * - 에러 처리 표준화
  * - 공통 API 호출 패턴 제공
+ * - 동일 GET 동시 호출 병합 (single-flight)
+ * - GET 조건부 요청 (ETag / Last-Modified, Cache-Control)
+ * - 대용량 목록 스트리밍 디코딩 (items / content 행 단위)
+ * - 멱등 요청(GET / PUT / DELETE, Idempotency-Key를 붙인 POST)만 재시도, 재시도 수는 전역 예산(RetryBudget)으로 제한
  */
 @Slf4j
 @Component
@@ -38,16 +55,32 @@ public class TradingApiHelper {
 
     private final RestTemplate tradingApiRestTemplate;
     private final Retry tradingApiRetry;
-    private final CircuitBreaker tradingApiCircuitBreaker;
 
     private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE_REF =
             new ParameterizedTypeReference<Map<String, Object>>() {};
 
+    // 진행 중인 GET 요청 (key: method + URL)
+    private final ConcurrentHashMap<String, CompletableFuture<Map<String, Object>>> inFlightGets =
+            new ConcurrentHashMap<>();
+    private final LongAdder executedGetCount = new LongAdder();
+    private final LongAdder coalescedGetCount = new LongAdder();
+
+    // URL별 마지막 GET 응답과 검증자
+    private final ConditionalGetCache conditionalGetCache = new ConditionalGetCache();
+
+    // 스트리밍 디코딩용 (응답 본문을 Map 트리로 만들지 않음)
+    private final ObjectMapper streamingObjectMapper = new ObjectMapper();
+    public static final String STREAMED_COUNT_KEY = "streamedCount";
+
+    // 재시도 예산 (최근 요청 대비 재시도 비율 제한)
+    private final RetryBudget retryBudget = new RetryBudget();
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     /**
      * GET 요청 실행 (재시도 적용)
      */
     public Map<String, Object> get(String url, ErrorCode errorCode) {
-        return executeWithResilience(() -> doGet(url), errorCode);
+        return executeWithResilience(() -> doGet(url), errorCode, true);
     }
 
     /**
@@ -55,7 +88,7 @@ public class TradingApiHelper {
      */
     public Map<String, Object> getWithDefault(String url, Map<String, Object> defaultValue) {
         try {
-            return executeWithResilience(() -> doGet(url), null);
+            return executeWithResilience(() -> doGet(url), null, true);
         } catch (Exception e) {
             log.warn("GET request failed, returning default value: {}", e.getMessage());
             return defaultValue;
@@ -63,18 +96,78 @@ public class TradingApiHelper {
     }
 
     /**
-     * POST 요청 실행 (재시도 적용)
+     * GET 요청 실행 (동시 호출 병합 적용, 재시도 없음)
+     * - RestClientException을 그대로 전파하므로 호출 측의 기존 예외 처리가 유지됨
+     * - interactive-read Circuit Breaker OPEN 시 ResourceAccessException (TradingEndpointGuard)
+     */
+    public Map<String, Object> getShared(String url) {
+        return doGet(url);
+    }
+
+    /**
+     * 목록 GET을 타입 레코드로 바로 디코딩 (재시도 적용)
+     * - Map 트리를 거치지 않고 Jackson이 items / content 배열을 레코드 목록으로 변환
+     */
+    public <T> List<T> getList(String url, Class<T> rowType, ErrorCode errorCode) {
+        ParameterizedTypeReference<ApiList<T>> typeRef = ParameterizedTypeReference.forType(
+                ResolvableType.forClassWithGenerics(ApiList.class, rowType).getType());
+        ApiList<T> body = executeWithResilience(() -> doGetTyped(url, typeRef), errorCode, true);
+        return body != null && body.items() != null ? body.items() : Collections.emptyList();
+    }
+
+    /**
+     * 단건 GET을 타입 레코드로 바로 디코딩 (재시도 적용)
+     */
+    public <T> T getOne(String url, Class<T> type, ErrorCode errorCode) {
+        return executeWithResilience(() -> doGetTyped(url, ParameterizedTypeReference.forType(type)), errorCode, true);
+    }
+
+    /**
+     * 목록 GET 스트리밍 (재시도/병합/HTTP 캐시 없음)
+     * - items / content 배열을 한 행씩 읽어 rowConsumer로 전달하고 전체 응답 트리는 만들지 않음
+     * - 행 처리 중 일부가 이미 소비되었을 수 있으므로 재시도하지 않음
+     * - 반환값: 배열 외 필드(total, nextCursor 등) + streamedCount
+     */
+    public Map<String, Object> stream(String url, Consumer<Map<String, Object>> rowConsumer, ErrorCode errorCode) {
+        return stream(url, StreamingItemReader.ITEM_FIELDS, rowConsumer, errorCode);
+    }
+
+    /**
+     * 목록 GET 스트리밍 (행 배열 필드명 지정)
+     */
+    public Map<String, Object> stream(String url, Set<String> itemFields, Consumer<Map<String, Object>> rowConsumer,
+                                      ErrorCode errorCode) {
+        try {
+            return doStream(url, itemFields, rowConsumer);
+        } catch (Exception e) {
+            throw translateException(e, errorCode);
+        }
+    }
+
+    /**
+     * POST 요청 실행 (재시도 없음)
+     * - 응답 전에 실패해도 백엔드에서 이미 처리되었을 수 있으므로 다시 보내지 않음 (작업 중복 방지)
      */
     public Map<String, Object> post(String url, Map<String, Object> body, ErrorCode errorCode) {
-        return executeWithResilience(() -> doPost(url, body), errorCode);
+        return executeWithResilience(() -> doPost(url, body, null), errorCode, false);
+    }
+
+    /**
+     * POST 요청 실행 (Idempotency-Key 적용, 재시도 적용)
+     * - 호출마다 키를 하나 만들어 모든 시도에 같은 값을 전송하므로 백엔드가 중복 요청을 식별할 수 있음
+     * - 백엔드가 Idempotency-Key를 지원하거나 요청 자체가 멱등인 경우(예: 취소)에만 사용
+     */
+    public Map<String, Object> postIdempotent(String url, Map<String, Object> body, ErrorCode errorCode) {
+        String idempotencyKey = UUID.randomUUID().toString();
+        return executeWithResilience(() -> doPost(url, body, idempotencyKey), errorCode, true);
     }
 
     /**
-     * POST 요청 실행 (재시도 적용, 기본값 반환)
+     * POST 요청 실행 (재시도 없음, 기본값 반환)
      */
     public Map<String, Object> postWithDefault(String url, Map<String, Object> body, Map<String, Object> defaultValue) {
         try {
-            return executeWithResilience(() -> doPost(url, body), null);
+            return executeWithResilience(() -> doPost(url, body, null), null, false);
         } catch (Exception e) {
             log.warn("POST request failed, returning default value: {}", e.getMessage());
             return defaultValue;
@@ -85,14 +178,14 @@ public class TradingApiHelper {
      * PUT 요청 실행 (재시도 적용)
      */
     public Map<String, Object> put(String url, Map<String, Object> body, ErrorCode errorCode) {
-        return executeWithResilience(() -> doPut(url, body), errorCode);
+        return executeWithResilience(() -> doPut(url, body), errorCode, true);
     }
 
     /**
-     * PATCH 요청 실행 (재시도 적용)
+     * PATCH 요청 실행 (재시도 없음, PATCH는 멱등이 보장되지 않음)
      */
     public Map<String, Object> patch(String url, Map<String, Object> body, ErrorCode errorCode) {
-        return executeWithResilience(() -> doPatch(url, body), errorCode);
+        return executeWithResilience(() -> doPatch(url, body), errorCode, false);
     }
 
     /**
@@ -102,39 +195,203 @@ public class TradingApiHelper {
         executeWithResilience(() -> {
             doDelete(url);
             return null;
-        }, errorCode);
+        }, errorCode, true);
     }
 
     /**
      * Resilience4j 적용 실행
+     * - idempotent가 아니면 한 번만 시도
+     * - Circuit Breaker는 공통 인스턴스 하나가 아니라 TradingEndpointGuard의 분류별 인스턴스만 적용
+     *   (느린 연산 호출이 조회용 Circuit Breaker를 열지 않도록)
      */
-    private <T> T executeWithResilience(Supplier<T> supplier, ErrorCode errorCode) {
-        Supplier<T> decoratedSupplier = Retry.decorateSupplier(tradingApiRetry,
-                CircuitBreaker.decorateSupplier(tradingApiCircuitBreaker, supplier));
+    private <T> T executeWithResilience(Supplier<T> supplier, ErrorCode errorCode, boolean idempotent) {
+        retryBudget.onRequest();
 
         try {
-            return decoratedSupplier.get();
+            return idempotent ? retryWithinBudget(supplier) : supplier.get();
         } catch (Exception e) {
             throw translateException(e, errorCode);
         }
     }
 
+    /**
+     * Retry 설정(최대 시도 수, 재시도 대상 예외, 백오프)대로 재시도하되 재시도마다 예산 확인
+     * - 예산이 없으면 Retry.Context에 최종 실패(failed_without_retry)로 기록한 뒤 마지막 예외를 그대로 전파
+     */
+    private <T> T retryWithinBudget(Supplier<T> supplier) {
+        Retry.Context<T> context = tradingApiRetry.context();
+        int maxAttempts = tradingApiRetry.getRetryConfig().getMaxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = supplier.get();
+                context.onComplete();
+                return result;
+            } catch (RuntimeException e) {
+                if (isGuardRejection(e)) {
+                    throw e;
+                }
+                boolean retryable = attempt < maxAttempts
+                        && tradingApiRetry.getRetryConfig().getExceptionPredicate().test(e);
+                if (retryable && !retryBudget.tryAcquireRetry()) {
+                    log.warn("Trading API retry budget exhausted, not retrying: {}", e.getMessage());
+                    onRetryDenied(context, e);
+                    throw e;
+                }
+                // 재시도 대상이면 백오프 대기 후 반환, 아니면(또는 시도 횟수 초과) 예외 전파
+                context.onRuntimeError(e);
+            }
+        }
+    }
+
+    /**
+     * 예산 거부를 재시도 대상이 아닌 예외로 Retry.Context에 전달 (retry 메트릭의 실패 건수에 포함)
+     * - 재시도 대상으로 설정된 경우 Context가 백오프 대기 후 시도로 셀 수 있으므로 기록하지 않음
+     */
+    private void onRetryDenied(Retry.Context<?> context, RuntimeException e) {
+        RetryBudget.ExhaustedException denied = new RetryBudget.ExhaustedException(e);
+        if (tradingApiRetry.getRetryConfig().getExceptionPredicate().test(denied)) {
+            return;
+        }
+        try {
+            context.onRuntimeError(denied);
+        } catch (RetryBudget.ExhaustedException ignored) {
+            // 재시도 대상이 아닌 예외는 Context가 집계 후 그대로 던짐
+        }
+    }
+
+    /**
+     * TradingEndpointGuard의 bulkhead / Circuit Breaker 거부 (백엔드에 보내지 않았으므로 재시도해도 다시 거부됨)
+     */
+    private static boolean isGuardRejection(RuntimeException e) {
+        return e instanceof ResourceAccessException && e.getCause() instanceof TradingEndpointGuard.RejectedException;
+    }
+
     /**
      * 실제 GET 요청 수행
+     * - 같은 URL로 진행 중인 요청이 있으면 새로 호출하지 않고 그 결과(또는 예외)를 공유
      */
     private Map<String, Object> doGet(String url) {
-        log.debug("Trading API GET: {}", url);
+        String key = HttpMethod.GET.name() + " " + url;
+        CompletableFuture<Map<String, Object>> call = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> inFlight = inFlightGets.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalescedGetCount.increment();
+            log.debug("Trading API GET coalesced: {}", url);
+            return awaitShared(inFlight);
+        }
+
+        try {
+            Map<String, Object> body = conditionalGetCache.getFresh(url);
+            if (body != null) {
+                log.debug("Trading API GET served from HTTP cache (max-age): {}", url);
+            } else {
+                executedGetCount.increment();
+                body = exchangeConditionally(url);
+            }
+            call.complete(body);
+            return body;
+        } catch (Throwable t) {
+            call.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlightGets.remove(key, call);
+        }
+    }
+
+    /**
+     * 저장된 검증자가 있으면 If-None-Match / If-Modified-Since를 붙여 요청하고, 304면 저장된 본문 재사용
+     */
+    private Map<String, Object> exchangeConditionally(String url) {
+        HttpHeaders conditionalHeaders = conditionalGetCache.conditionalHeaders(url);
+        log.debug("Trading API GET: {}{}", url, conditionalHeaders != null ? " (conditional)" : "");
         ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                url, HttpMethod.GET, null, MAP_TYPE_REF);
-        return response.getBody();
+                url, HttpMethod.GET, conditionalHeaders != null ? new HttpEntity<>(conditionalHeaders) : null, MAP_TYPE_REF);
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            Map<String, Object> cached = conditionalGetCache.notModified(url, response.getHeaders());
+            if (cached != null) {
+                return cached;
+            }
+            // 그 사이 저장 항목이 축출됨 -> 조건 없이 다시 요청
+            response = tradingApiRestTemplate.exchange(url, HttpMethod.GET, null, MAP_TYPE_REF);
+        }
+        Map<String, Object> body = response.getBody();
+        conditionalGetCache.store(url, response.getHeaders(), body);
+        return body;
+    }
+
+    /**
+     * 실제 타입 GET 수행 (병합/HTTP 캐시는 Map 응답 경로에만 적용)
+     */
+    private <T> T doGetTyped(String url, ParameterizedTypeReference<T> typeRef) {
+        log.debug("Trading API GET (typed): {}", url);
+        return tradingApiRestTemplate.exchange(url, HttpMethod.GET, null, typeRef).getBody();
     }
 
     /**
-     * 실제 POST 요청 수행
+     * 실제 스트리밍 GET 수행
+     * - Accept-Encoding: gzip은 HttpClient가 협상하고 압축 해제된 스트림을 그대로 파서에 연결
      */
-    private Map<String, Object> doPost(String url, Map<String, Object> body) {
+    private Map<String, Object> doStream(String url, Set<String> itemFields, Consumer<Map<String, Object>> rowConsumer) {
+        log.debug("Trading API GET (streaming): {}", url);
+        Map<String, Object> envelope = tradingApiRestTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                response -> {
+                    try (StreamingItemReader reader = new StreamingItemReader(streamingObjectMapper, response.getBody(), itemFields)) {
+                        while (reader.hasNext()) {
+                            rowConsumer.accept(reader.next());
+                        }
+                        Map<String, Object> result = new HashMap<>(reader.getEnvelope());
+                        result.put(STREAMED_COUNT_KEY, reader.getCount());
+                        return result;
+                    } catch (UncheckedIOException e) {
+                        // RestTemplate이 ResourceAccessException으로 변환하도록 원래 IOException 전파
+                        throw e.getCause();
+                    }
+                });
+        return envelope != null ? envelope : new HashMap<>();
+    }
+
+    public ConditionalGetCache getConditionalGetCache() {
+        return conditionalGetCache;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * 공유 중인 GET 결과 대기
+     * - 호출자가 응답 Map을 수정해도 서로 영향이 없도록 사본 반환
+     */
+    private Map<String, Object> awaitShared(CompletableFuture<Map<String, Object>> inFlight) {
+        try {
+            Map<String, Object> body = inFlight.join();
+            return body != null ? new HashMap<>(body) : null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실제 POST 요청 수행 (idempotencyKey가 있으면 Idempotency-Key 헤더 추가)
+     */
+    private Map<String, Object> doPost(String url, Map<String, Object> body, String idempotencyKey) {
         log.debug("Trading API POST: {}", url);
         HttpEntity<Map<String, Object>> request = createJsonRequest(body);
+        if (idempotencyKey != null) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(request.getHeaders());
+            headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+            request = new HttpEntity<>(body, headers);
+        }
         ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
                 url, HttpMethod.POST, request, MAP_TYPE_REF);
         return response.getBody();
@@ -265,6 +522,29 @@ public class TradingApiHelper {
         return responseBody.length() > 100 ? responseBody.substring(0, 100) : responseBody;
     }
 
+    // ==================== GET 병합 통계 ====================
+
+    /**
+     * 실제 백엔드로 전송된 GET 수
+     */
+    public long getExecutedGetCount() {
+        return executedGetCount.sum();
+    }
+
+    /**
+     * 진행 중인 요청에 병합되어 백엔드 호출을 생략한 GET 수
+     */
+    public long getCoalescedGetCount() {
+        return coalescedGetCount.sum();
+    }
+
+    /**
+     * 현재 진행 중인 GET 수
+     */
+    public int getInFlightGetCount() {
+        return inFlightGets.size();
+    }
+
     // ==================== URL 빌더 유틸리티 ====================
 
     /**
@@ -0,0 +1,179 @@
+package com.maru.trading.service;
+
+import com.maru.config.TradingEndpointClass;
+import com.maru.config.TradingEndpointGuard;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trading API 클라이언트 메트릭
+ * - GET 병합(single-flight) 현황
+ * - GET 조건부 요청(HTTP 캐시) 재사용 현황
+ * - 재시도 예산 허가 / 거부 건수, 재시도 결과별 호출 수
+ * - 엔드포인트 분류별 Circuit Breaker 거부 건수 / 상태 (tag: name)
+ * - Connection Pool 사용 중 / 유휴 / 대기 수
+ * - 엔드포인트별 지연 시간은 TradingApiRequestTimer가 기록 (trading.api.client.requests)
+ * - 엔드포인트 분류별 bulkhead 포화도 / 거부 건수 / Circuit Breaker 상태 (tag: class)
+ */
+@Component
+@RequiredArgsConstructor
+public class TradingApiMetrics implements MeterBinder {
+
+    private final TradingApiHelper apiHelper;
+    private final TradingEndpointGuard endpointGuard;
+    private final Retry tradingApiRetry;
+    private final PoolingHttpClientConnectionManager tradingApiConnectionManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("trading.api.get.executed", apiHelper, TradingApiHelper::getExecutedGetCount)
+                .description("Trading API GET requests actually sent to the backend")
+                .register(registry);
+
+        FunctionCounter.builder("trading.api.get.coalesced", apiHelper, TradingApiHelper::getCoalescedGetCount)
+                .description("Trading API GET requests served by joining an identical in-flight request")
+                .register(registry);
+
+        Gauge.builder("trading.api.get.inflight", apiHelper, TradingApiHelper::getInFlightGetCount)
+                .description("Trading API GET requests currently in flight")
+                .register(registry);
+
+        ConditionalGetCache httpCache = apiHelper.getConditionalGetCache();
+        FunctionCounter.builder("trading.api.http.cache.requests", httpCache, ConditionalGetCache::getFreshHitCount)
+                .description("Trading API GET responses by HTTP cache outcome")
+                .tag("result", "fresh")
+                .register(registry);
+        FunctionCounter.builder("trading.api.http.cache.requests", httpCache, ConditionalGetCache::getNotModifiedCount)
+                .description("Trading API GET responses by HTTP cache outcome")
+                .tag("result", "not_modified")
+                .register(registry);
+        FunctionCounter.builder("trading.api.http.cache.requests", httpCache, ConditionalGetCache::getFullResponseCount)
+                .description("Trading API GET responses by HTTP cache outcome")
+                .tag("result", "full")
+                .register(registry);
+
+        Gauge.builder("trading.api.http.cache.reuse.ratio", httpCache, ConditionalGetCache::getReuseRatio)
+                .description("Share of Trading API GETs answered without downloading the body (max-age hit or 304)")
+                .register(registry);
+        Gauge.builder("trading.api.http.cache.entries", httpCache, ConditionalGetCache::getEntryCount)
+                .description("URLs with a stored Trading API response and validator")
+                .register(registry);
+
+        RetryBudget retryBudget = apiHelper.getRetryBudget();
+        FunctionCounter.builder("trading.api.retry.budget", retryBudget, RetryBudget::getGrantedCount)
+                .description("Trading API retries by retry budget decision")
+                .tag("result", "granted")
+                .register(registry);
+        FunctionCounter.builder("trading.api.retry.budget", retryBudget, RetryBudget::getDeniedCount)
+                .description("Trading API retries by retry budget decision")
+                .tag("result", "denied")
+                .register(registry);
+
+        bindRetry(registry);
+        bindCircuitBreaker(registry);
+        bindConnectionPool(registry);
+
+        for (TradingEndpointClass endpointClass : TradingEndpointClass.values()) {
+            TradingEndpointGuard.Policy policy = endpointGuard.getPolicy(endpointClass);
+            if (policy != null) {
+                bindEndpointClass(registry, endpointClass.tag(), policy);
+            }
+        }
+    }
+
+    private void bindRetry(MeterRegistry registry) {
+        Retry.Metrics metrics = tradingApiRetry.getMetrics();
+        FunctionCounter.builder("trading.api.retry.calls", metrics, Retry.Metrics::getNumberOfSuccessfulCallsWithoutRetryAttempt)
+                .description("Trading API calls by retry outcome")
+                .tag("result", "successful_without_retry")
+                .register(registry);
+        FunctionCounter.builder("trading.api.retry.calls", metrics, Retry.Metrics::getNumberOfSuccessfulCallsWithRetryAttempt)
+                .description("Trading API calls by retry outcome")
+                .tag("result", "successful_with_retry")
+                .register(registry);
+        FunctionCounter.builder("trading.api.retry.calls", metrics, Retry.Metrics::getNumberOfFailedCallsWithoutRetryAttempt)
+                .description("Trading API calls by retry outcome")
+                .tag("result", "failed_without_retry")
+                .register(registry);
+        FunctionCounter.builder("trading.api.retry.calls", metrics, Retry.Metrics::getNumberOfFailedCallsWithRetryAttempt)
+                .description("Trading API calls by retry outcome")
+                .tag("result", "failed_with_retry")
+                .register(registry);
+    }
+
+    private void bindCircuitBreaker(MeterRegistry registry) {
+        for (TradingEndpointClass endpointClass : TradingEndpointClass.values()) {
+            TradingEndpointGuard.Policy policy = endpointGuard.getPolicy(endpointClass);
+            if (policy != null) {
+                bindCircuitBreaker(registry, policy.getCircuitBreaker());
+            }
+        }
+    }
+
+    private void bindCircuitBreaker(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        FunctionCounter.builder("trading.api.circuit.rejected", circuitBreaker,
+                        cb -> cb.getMetrics().getNumberOfNotPermittedCalls())
+                .description("Trading API calls rejected because the circuit breaker was open")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+        Gauge.builder("trading.api.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+                .description("Circuit breaker state (0=closed, 1=open, 2=half_open, ...)")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+    }
+
+    private void bindConnectionPool(MeterRegistry registry) {
+        PoolingHttpClientConnectionManager pool = tradingApiConnectionManager;
+        Gauge.builder("trading.api.pool.connections", pool, p -> p.getTotalStats().getLeased())
+                .description("Trading API connection pool connections by state")
+                .tag("state", "leased")
+                .register(registry);
+        Gauge.builder("trading.api.pool.connections", pool, p -> p.getTotalStats().getAvailable())
+                .description("Trading API connection pool connections by state")
+                .tag("state", "available")
+                .register(registry);
+        Gauge.builder("trading.api.pool.pending", pool, p -> p.getTotalStats().getPending())
+                .description("Requests waiting for a Trading API connection")
+                .register(registry);
+        Gauge.builder("trading.api.pool.max", pool, p -> p.getTotalStats().getMax())
+                .description("Maximum Trading API connections")
+                .register(registry);
+    }
+
+    private void bindEndpointClass(MeterRegistry registry, String tag, TradingEndpointGuard.Policy policy) {
+        Gauge.builder("trading.api.endpoint.active", policy, TradingEndpointGuard.Policy::getActiveCalls)
+                .description("Trading API calls currently holding a bulkhead permit")
+                .tag("class", tag)
+                .register(registry);
+        Gauge.builder("trading.api.endpoint.max.concurrent", policy,
+                        p -> p.getBulkhead().getMetrics().getMaxAllowedConcurrentCalls())
+                .description("Bulkhead size (connection pool share) of the endpoint class")
+                .tag("class", tag)
+                .register(registry);
+        Gauge.builder("trading.api.endpoint.saturation", policy, TradingEndpointGuard.Policy::getSaturation)
+                .description("Share of the endpoint class bulkhead in use (0 to 1)")
+                .tag("class", tag)
+                .register(registry);
+        FunctionCounter.builder("trading.api.endpoint.rejected", policy, TradingEndpointGuard.Policy::getBulkheadRejectedCount)
+                .description("Trading API calls rejected before sending")
+                .tag("class", tag)
+                .tag("reason", "bulkhead_full")
+                .register(registry);
+        FunctionCounter.builder("trading.api.endpoint.rejected", policy, TradingEndpointGuard.Policy::getCircuitRejectedCount)
+                .description("Trading API calls rejected before sending")
+                .tag("class", tag)
+                .tag("reason", "circuit_open")
+                .register(registry);
+        Gauge.builder("trading.api.endpoint.circuit.state", policy, p -> p.getCircuitBreaker().getState().getOrder())
+                .description("Circuit breaker state of the endpoint class (0=closed, 1=open, 2=half_open, ...)")
+                .tag("class", tag)
+                .register(registry);
+    }
+}
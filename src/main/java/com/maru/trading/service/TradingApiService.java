@@ -1,6 +1,13 @@
 package com.maru.trading.service;
 
 import com.maru.config.CacheConfig;
+import com.maru.trading.dto.Account;
+import com.maru.trading.dto.Fill;
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.dto.Order;
+import com.maru.trading.dto.Position;
+import com.maru.trading.dto.Strategy;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -19,8 +26,16 @@ import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Trading System API Service
@@ -33,11 +48,15 @@ public class TradingApiService {
 
     private final RestTemplate tradingApiRestTemplate;
     private final TradingApiHelper apiHelper;
+    private final TradingCacheWriter cacheWriter;
+    private final BacktestArtifactStore backtestArtifacts;
+    private final TradingMirror tradingMirror;
+    private final ClosedPeriodMemo periodMemo;
 
     /**
      * Health Check - 시스템 상태 조회
      */
-    @Cacheable(value = CacheConfig.CACHE_HEALTH, cacheManager = "shortTtlCacheManager")
+    @Cacheable(value = CacheConfig.CACHE_HEALTH, cacheManager = "shortTtlCacheManager", sync = true)
     public Map<String, Object> getHealthStatus() {
         Map<String, Object> defaultStatus = new HashMap<>();
         defaultStatus.put("status", "DOWN");
@@ -48,18 +67,12 @@ public class TradingApiService {
     /**
      * 계좌 목록 조회
      */
-    @Cacheable(value = CacheConfig.CACHE_ACCOUNTS)
+    @Cacheable(value = CacheConfig.CACHE_ACCOUNTS, sync = true)
     public Map<String, Object> getAccounts() {
         String url = "/api/v1/admin/accounts";
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get accounts from Trading System", e);
             throw new RuntimeException("계좌 목록을 가져올 수 없습니다.", e);
@@ -69,18 +82,12 @@ public class TradingApiService {
     /**
      * 계좌 상세 조회
      */
-    @Cacheable(value = CacheConfig.CACHE_ACCOUNTS, key = "#accountId")
+    @Cacheable(value = CacheConfig.CACHE_ACCOUNTS, key = "#accountId", sync = true)
     public Map<String, Object> getAccount(String accountId) {
         String url = "/api/v1/admin/accounts/" + accountId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get account from Trading System", e);
             throw new RuntimeException("계좌 정보를 가져올 수 없습니다.", e);
@@ -90,7 +97,6 @@ public class TradingApiService {
     /**
      * 계좌 등록
      */
-    @CacheEvict(value = CacheConfig.CACHE_ACCOUNTS, allEntries = true)
     public Map<String, Object> createAccount(Map<String, Object> accountData) {
         String url = "/api/v1/admin/accounts";
         try {
@@ -105,6 +111,7 @@ public class TradingApiService {
                     request,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.accountCreated();
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to create account in Trading System", e);
@@ -115,7 +122,6 @@ public class TradingApiService {
     /**
      * 계좌 수정
      */
-    @CacheEvict(value = CacheConfig.CACHE_ACCOUNTS, allEntries = true)
     public Map<String, Object> updateAccount(String accountId, Map<String, Object> accountData) {
         String url = "/api/v1/admin/accounts/" + accountId;
         try {
@@ -130,6 +136,7 @@ public class TradingApiService {
                     request,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.accountUpdated(accountId, response.getBody());
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to update account in Trading System", e);
@@ -140,7 +147,6 @@ public class TradingApiService {
     /**
      * 계좌 삭제
      */
-    @CacheEvict(value = CacheConfig.CACHE_ACCOUNTS, allEntries = true)
     public void deleteAccount(String accountId) {
         String url = "/api/v1/admin/accounts/" + accountId;
         try {
@@ -151,6 +157,7 @@ public class TradingApiService {
                     null,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.accountDeleted(accountId);
         } catch (RestClientException e) {
             log.error("Failed to delete account from Trading System", e);
             throw new RuntimeException("계좌 삭제에 실패했습니다.", e);
@@ -160,7 +167,7 @@ public class TradingApiService {
     /**
      * Kill Switch 상태 조회
      */
-    @Cacheable(value = "killSwitch", cacheManager = "shortTtlCacheManager")
+    @Cacheable(value = CacheConfig.CACHE_KILL_SWITCH, cacheManager = "shortTtlCacheManager", sync = true)
     public Map<String, Object> getKillSwitchStatus() {
         Map<String, Object> defaultStatus = new HashMap<>();
         defaultStatus.put("status", "UNKNOWN");
@@ -171,7 +178,7 @@ public class TradingApiService {
     /**
      * Kill Switch 토글 (ON/OFF)
      */
-    @CacheEvict(value = "killSwitch", allEntries = true)
+    @CacheEvict(value = CacheConfig.CACHE_KILL_SWITCH, cacheManager = "shortTtlCacheManager", allEntries = true)
     public Map<String, Object> toggleKillSwitch(String status, String reason, String accountId) {
         String url = "/api/v1/admin/kill-switch";
         try {
@@ -206,18 +213,12 @@ public class TradingApiService {
     /**
      * 전략 목록 조회
      */
-    @Cacheable(value = CacheConfig.CACHE_STRATEGIES)
+    @Cacheable(value = CacheConfig.CACHE_STRATEGIES, sync = true)
     public Map<String, Object> getStrategies() {
         String url = "/api/v1/admin/strategies";
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get strategies from Trading System", e);
             throw new RuntimeException("전략 목록을 가져올 수 없습니다.", e);
@@ -231,13 +232,7 @@ public class TradingApiService {
         String url = "/api/v1/query/orders/" + orderId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get order from Trading System: {}", orderId, e);
             throw new RuntimeException("주문 정보를 가져올 수 없습니다.", e);
@@ -254,13 +249,7 @@ public class TradingApiService {
         }
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get orders from Trading System", e);
             throw new RuntimeException("주문 목록을 가져올 수 없습니다.", e);
@@ -346,13 +335,7 @@ public class TradingApiService {
         String url = "/api/v1/query/positions/" + positionId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get position from Trading System: {}", positionId, e);
             throw new RuntimeException("포지션 정보를 가져올 수 없습니다.", e);
@@ -366,13 +349,7 @@ public class TradingApiService {
         String url = "/api/v1/query/positions?accountId=" + accountId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get positions from Trading System", e);
             throw new RuntimeException("포지션 목록을 가져올 수 없습니다.", e);
@@ -386,13 +363,7 @@ public class TradingApiService {
         String url = "/api/v1/query/balance?accountId=" + accountId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get account balance from Trading System", e);
             throw new RuntimeException("계좌 잔액을 가져올 수 없습니다.", e);
@@ -402,18 +373,12 @@ public class TradingApiService {
     /**
      * 전략 상세 조회
      */
-    @Cacheable(value = CacheConfig.CACHE_STRATEGIES, key = "#strategyId")
+    @Cacheable(value = CacheConfig.CACHE_STRATEGIES, key = "#strategyId", sync = true)
     public Map<String, Object> getStrategy(String strategyId) {
         String url = "/api/v1/admin/strategies/" + strategyId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get strategy from Trading System", e);
             throw new RuntimeException("전략 정보를 가져올 수 없습니다.", e);
@@ -423,7 +388,6 @@ public class TradingApiService {
     /**
      * 전략 등록
      */
-    @CacheEvict(value = CacheConfig.CACHE_STRATEGIES, allEntries = true)
     public Map<String, Object> createStrategy(Map<String, Object> strategyData) {
         String url = "/api/v1/admin/strategies";
         try {
@@ -438,6 +402,7 @@ public class TradingApiService {
                     request,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.strategyCreated();
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to create strategy in Trading System", e);
@@ -448,7 +413,6 @@ public class TradingApiService {
     /**
      * 전략 수정
      */
-    @CacheEvict(value = CacheConfig.CACHE_STRATEGIES, allEntries = true)
     public Map<String, Object> updateStrategy(String strategyId, Map<String, Object> strategyData) {
         String url = "/api/v1/admin/strategies/" + strategyId;
         try {
@@ -464,6 +428,7 @@ public class TradingApiService {
                     request,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.strategyUpdated(strategyId, response.getBody());
             return response.getBody();
         } catch (HttpServerErrorException e) {
             log.error("Server error from Trading System API: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
@@ -511,7 +476,6 @@ public class TradingApiService {
     /**
      * 전략 삭제
      */
-    @CacheEvict(value = CacheConfig.CACHE_STRATEGIES, allEntries = true)
     public void deleteStrategy(String strategyId) {
         String url = "/api/v1/admin/strategies/" + strategyId;
         try {
@@ -522,6 +486,7 @@ public class TradingApiService {
                     null,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.strategyDeleted(strategyId);
         } catch (RestClientException e) {
             log.error("Failed to delete strategy from Trading System", e);
             throw new RuntimeException("전략 삭제에 실패했습니다.", e);
@@ -531,7 +496,6 @@ public class TradingApiService {
     /**
      * 전략 상태 변경
      */
-    @CacheEvict(value = CacheConfig.CACHE_STRATEGIES, allEntries = true)
     public Map<String, Object> updateStrategyStatus(String strategyId, String status) {
         String url = "/api/v1/admin/strategies/" + strategyId + "/status";
         try {
@@ -549,6 +513,7 @@ public class TradingApiService {
                     request,
                     new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.strategyStatusUpdated(strategyId, status, response.getBody());
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to update strategy status in Trading System", e);
@@ -563,13 +528,7 @@ public class TradingApiService {
         String url = "/api/v1/query/fills/" + fillId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get fill from Trading System: {}", fillId, e);
             throw new RuntimeException("체결 정보를 가져올 수 없습니다.", e);
@@ -666,13 +625,7 @@ public class TradingApiService {
         String url = "/api/v1/query/balance?accountId=" + accountId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get balance from Trading System", e);
             throw new RuntimeException("계좌 잔고를 가져올 수 없습니다.", e);
@@ -748,13 +701,7 @@ public class TradingApiService {
         String url = "/api/v1/admin/risk-rules/account/" + accountId;
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get risk rules from Trading System", e);
             throw new RuntimeException("리스크 룰을 가져올 수 없습니다.", e);
@@ -883,13 +830,7 @@ public class TradingApiService {
         String url = "/api/v1/demo/scenarios";
         try {
             log.debug("Calling Trading API: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get demo scenarios from Trading System", e);
             throw new RuntimeException("데모 시나리오 목록을 가져올 수 없습니다.", e);
@@ -1119,13 +1060,7 @@ public class TradingApiService {
         String url = "/api/v1/query/dashboard/stats";
         try {
             log.debug("Calling Trading API for dashboard stats: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (RestClientException e) {
             log.error("Failed to get dashboard stats from Trading System", e);
             // Return empty stats
@@ -1192,15 +1127,15 @@ public class TradingApiService {
      */
     public Map<String, Object> getBacktestDetail(Long id) {
         String url = "/api/v1/query/backtests/" + id;
+        Map<String, Object> stored = backtestArtifacts.get(BacktestArtifactStore.DETAIL, String.valueOf(id));
+        if (stored != null) {
+            return stored;
+        }
         try {
             log.debug("Calling Trading API for backtest detail: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            Map<String, Object> detail = apiHelper.getShared(url);
+            backtestArtifacts.putIfCompleted(BacktestArtifactStore.DETAIL, String.valueOf(id), String.valueOf(id), detail);
+            return detail;
         } catch (RestClientException e) {
             log.error("Failed to get backtest detail from Trading System", e);
             Map<String, Object> emptyDetail = new HashMap<>();
@@ -1315,15 +1250,18 @@ public class TradingApiService {
      */
     public Map<String, Object> getBacktestTrades(Long backtestId) {
         String url = "/api/v1/admin/backtests/" + backtestId + "/trades";
+        Map<String, Object> stored = backtestArtifacts.get(BacktestArtifactStore.TRADES, String.valueOf(backtestId));
+        if (stored != null) {
+            return stored;
+        }
         try {
             log.debug("Calling Trading API for backtest trades: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            Map<String, Object> trades = apiHelper.getShared(url);
+            // 거래 내역 응답에는 status가 없으므로 백테스트 상세가 COMPLETED일 때만 저장 (실행 중이면 다음 조회에서 다시 받음)
+            if (BacktestArtifactStore.isCompleted(getBacktestDetail(backtestId))) {
+                backtestArtifacts.put(BacktestArtifactStore.TRADES, String.valueOf(backtestId), String.valueOf(backtestId), trades);
+            }
+            return trades;
         } catch (RestClientException e) {
             log.error("Failed to get backtest trades", e);
             Map<String, Object> errorResult = new HashMap<>();
@@ -1335,8 +1273,92 @@ public class TradingApiService {
 
     /**
      * 성과 분석 조회 (일별/월별)
+     * - 일별은 달력상 월 단위로 나눠 조회한 뒤 합침 (지난달까지는 ClosedPeriodMemo에 영구 보관, 이번 달은 짧은 TTL)
+     * - 월별이거나 월 단위로 합칠 수 없는 응답이면 전체 결과를 파라미터 키로 메모
      */
     public Map<String, Object> getPerformanceAnalysis(String period, String startDate, String endDate, String strategyId) {
+        LocalDate start = ClosedPeriodMemo.parseDate(startDate);
+        LocalDate end = ClosedPeriodMemo.parseDate(endDate);
+        if ("daily".equals(period) && start != null && end != null && !start.isAfter(end)) {
+            Map<String, Object> merged = mergedDailyPerformance(start, end, strategyId);
+            if (merged != null) {
+                return merged;
+            }
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("period", period);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        params.put("strategyId", strategyId);
+        return periodMemo.get("performance", end, params,
+                () -> fetchPerformanceAnalysis(period, startDate, endDate, strategyId));
+    }
+
+    /**
+     * 월별 일별 성과를 합쳐 요청 기간의 결과 생성 (월 결과에 data 목록이 없거나 오류면 null)
+     * - summary는 일별 항목에서 다시 계산: 손익/거래 수 합계, 거래 수 가중 승률, 거래당 평균 손익, 최대 이익/손실
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mergedDailyPerformance(LocalDate start, LocalDate end, String strategyId) {
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (YearMonth month : ClosedPeriodMemo.months(start, end)) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("month", month.toString());
+            params.put("strategyId", strategyId);
+            Map<String, Object> result = periodMemo.get("performance-daily", month.atEndOfMonth(), params,
+                    () -> fetchPerformanceAnalysis("daily", month.atDay(1).toString(),
+                            month.atEndOfMonth().toString(), strategyId));
+            if (result == null || result.containsKey("error") || !(result.get("data") instanceof List)) {
+                return null;
+            }
+            for (Map<String, Object> item : (List<Map<String, Object>>) result.get("data")) {
+                LocalDate date = ClosedPeriodMemo.parseDate(String.valueOf(item.get("date")));
+                if (date != null && !date.isBefore(start) && !date.isAfter(end)) {
+                    data.add(item);
+                }
+            }
+        }
+
+        double totalProfitLoss = 0;
+        long totalTrades = 0;
+        double weightedWins = 0;
+        Double maxProfit = null;
+        Double maxLoss = null;
+        for (Map<String, Object> item : data) {
+            long trades = number(item.get("trades")).longValue();
+            totalProfitLoss += number(item.get("profitLoss")).doubleValue();
+            totalTrades += trades;
+            weightedWins += number(item.get("winRate")).doubleValue() * trades;
+            if (item.get("maxProfit") instanceof Number) {
+                double value = ((Number) item.get("maxProfit")).doubleValue();
+                maxProfit = maxProfit == null ? value : Math.max(maxProfit, value);
+            }
+            if (item.get("maxLoss") instanceof Number) {
+                double value = ((Number) item.get("maxLoss")).doubleValue();
+                maxLoss = maxLoss == null ? value : Math.min(maxLoss, value);
+            }
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalProfitLoss", totalProfitLoss);
+        summary.put("totalTrades", totalTrades);
+        summary.put("winRate", totalTrades > 0 ? weightedWins / totalTrades : 0.0);
+        summary.put("avgProfitLoss", totalTrades > 0 ? totalProfitLoss / totalTrades : 0.0);
+        summary.put("tradingDays", data.size());
+        summary.put("maxProfit", maxProfit != null ? maxProfit : 0.0);
+        summary.put("maxLoss", maxLoss != null ? maxLoss : 0.0);
+
+        Map<String, Object> merged = new LinkedHashMap<>();
+        merged.put("period", "daily");
+        merged.put("data", data);
+        merged.put("summary", summary);
+        return merged;
+    }
+
+    private static Number number(Object value) {
+        return value instanceof Number ? (Number) value : 0;
+    }
+
+    private Map<String, Object> fetchPerformanceAnalysis(String period, String startDate, String endDate, String strategyId) {
         String url = "/api/v1/query/performance/analysis";
         try {
             Map<String, String> params = new HashMap<>();
@@ -1364,9 +1386,19 @@ public class TradingApiService {
     }
 
     /**
-     * 월별 일일 성과 데이터 조회 (캘린더용)
+     * 월별 일일 성과 데이터 조회 (캘린더용, 지난달까지는 영구 메모 / 이번 달은 짧은 TTL)
      */
     public Map<String, Object> getMonthlyDailyPerformance(int year, int month, String strategyId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("year", year);
+        params.put("month", month);
+        params.put("strategyId", strategyId);
+        LocalDate periodEnd = month >= 1 && month <= 12 ? YearMonth.of(year, month).atEndOfMonth() : null;
+        return periodMemo.get("calendar", periodEnd, params,
+                () -> fetchMonthlyDailyPerformance(year, month, strategyId));
+    }
+
+    private Map<String, Object> fetchMonthlyDailyPerformance(int year, int month, String strategyId) {
         StringBuilder url = new StringBuilder("/api/v1/query/performance/monthly-daily?");
         url.append("year=").append(year);
         url.append("&month=").append(month);
@@ -1481,9 +1513,20 @@ public class TradingApiService {
     }
 
     /**
-     * VaR 계산
+     * VaR 계산 (기간 전체에 대한 값이라 나눌 수 없으므로 파라미터 키로 메모, 종료일이 지났으면 영구 보관)
      */
     public Map<String, Object> calculateVaR(String strategyId, double confidenceLevel, int timeHorizon, String startDate, String endDate) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("strategyId", strategyId);
+        params.put("confidenceLevel", confidenceLevel);
+        params.put("timeHorizon", timeHorizon);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        return periodMemo.get("var", ClosedPeriodMemo.parseDate(endDate), params,
+                () -> fetchVaR(strategyId, confidenceLevel, timeHorizon, startDate, endDate));
+    }
+
+    private Map<String, Object> fetchVaR(String strategyId, double confidenceLevel, int timeHorizon, String startDate, String endDate) {
         String url = String.format("/api/v1/risk/var?strategyId=%s&confidenceLevel=%s&timeHorizon=%s&startDate=%s&endDate=%s",
             strategyId, confidenceLevel, timeHorizon, startDate, endDate);
         try {
@@ -1501,9 +1544,17 @@ public class TradingApiService {
     }
 
     /**
-     * 상관관계 분석
+     * 상관관계 분석 (나눌 수 없으므로 파라미터 키로 메모, 종료일이 지났으면 영구 보관)
      */
     public Map<String, Object> getCorrelationAnalysis(String startDate, String endDate) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        return periodMemo.get("correlation", ClosedPeriodMemo.parseDate(endDate), params,
+                () -> fetchCorrelationAnalysis(startDate, endDate));
+    }
+
+    private Map<String, Object> fetchCorrelationAnalysis(String startDate, String endDate) {
         String url = String.format("/api/v1/risk/correlation?startDate=%s&endDate=%s", startDate, endDate);
         try {
             ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
@@ -1525,7 +1576,7 @@ public class TradingApiService {
      * 종목 목록 조회
      */
     @Cacheable(value = CacheConfig.CACHE_INSTRUMENTS, cacheManager = "longTtlCacheManager",
-               key = "T(java.util.Objects).hash(#market, #status, #tradable, #search)")
+               key = "T(com.maru.trading.service.InstrumentListKey).of(#market, #status, #tradable, #search)", sync = true)
     public Map<String, Object> getInstruments(String market, String status, Boolean tradable, String search) {
         Map<String, String> params = new HashMap<>();
         if (market != null && !market.isEmpty()) params.put("market", market);
@@ -1545,7 +1596,7 @@ public class TradingApiService {
     /**
      * 종목 상세 조회
      */
-    @Cacheable(value = CacheConfig.CACHE_INSTRUMENTS, cacheManager = "longTtlCacheManager", key = "#symbol")
+    @Cacheable(value = CacheConfig.CACHE_INSTRUMENTS, cacheManager = "longTtlCacheManager", key = "#symbol", sync = true)
     public Map<String, Object> getInstrument(String symbol) {
         Map<String, Object> defaultResult = new HashMap<>();
         defaultResult.put("error", "종목 정보를 가져올 수 없습니다.");
@@ -1555,7 +1606,6 @@ public class TradingApiService {
     /**
      * 종목 상태 업데이트
      */
-    @CacheEvict(value = CacheConfig.CACHE_INSTRUMENTS, allEntries = true)
     public Map<String, Object> updateInstrumentStatus(String symbol, String status, Boolean tradable, Boolean halted) {
         String url = "/api/v1/admin/instruments/" + symbol + "/status";
         try {
@@ -1573,6 +1623,7 @@ public class TradingApiService {
                 url, HttpMethod.PUT, request,
                 new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            cacheWriter.instrumentStatusUpdated(symbol, statusData, response.getBody());
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to update instrument status", e);
@@ -1655,6 +1706,7 @@ public class TradingApiService {
                 url, HttpMethod.DELETE, null,
                 new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            backtestArtifacts.evictBacktest(backtestId);
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to delete backtest", e);
@@ -1670,12 +1722,17 @@ public class TradingApiService {
      */
     public Map<String, Object> getBacktest(String backtestId) {
         String url = "/api/v1/admin/backtests/" + backtestId;
+        Map<String, Object> stored = backtestArtifacts.get(BacktestArtifactStore.BACKTEST, backtestId);
+        if (stored != null) {
+            return stored;
+        }
         try {
             log.debug("Calling Trading API for backtest: {}", url);
             ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
                 url, HttpMethod.GET, null,
                 new ParameterizedTypeReference<Map<String, Object>>() {}
             );
+            backtestArtifacts.putIfCompleted(BacktestArtifactStore.BACKTEST, backtestId, backtestId, response.getBody());
             return response.getBody();
         } catch (RestClientException e) {
             log.error("Failed to get backtest", e);
@@ -1858,13 +1915,7 @@ public class TradingApiService {
         String url = "/api/v1/admin/accounts/" + accountId + "/permissions";
         try {
             log.debug("Calling Trading API for account permission: {}", url);
-            ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            return response.getBody();
+            return apiHelper.getShared(url);
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
                 log.error("Account not found: {}", accountId, e);
@@ -1967,13 +2018,27 @@ public class TradingApiService {
      */
     public Map<String, Object> getAsyncBacktestResult(String jobId) {
         String url = "/api/v1/admin/backtests/jobs/" + jobId + "/result";
+        Map<String, Object> stored = backtestArtifacts.get(BacktestArtifactStore.JOB_RESULT, jobId);
+        if (stored != null) {
+            return stored;
+        }
         try {
             log.debug("Calling Trading API for async backtest result: {}", url);
             ResponseEntity<Map<String, Object>> response = tradingApiRestTemplate.exchange(
                 url, HttpMethod.GET, null,
                 new ParameterizedTypeReference<Map<String, Object>>() {}
             );
-            return response.getBody();
+            Map<String, Object> result = response.getBody();
+            Object backtestId = result != null ? result.get("backtestId") : null;
+            // 결과에 status가 없으면 작업 상태로 완료 여부 확인
+            boolean completed = result != null && result.containsKey("status")
+                    ? BacktestArtifactStore.isCompleted(result)
+                    : BacktestArtifactStore.isCompleted(getAsyncBacktestStatus(jobId));
+            if (completed) {
+                backtestArtifacts.put(BacktestArtifactStore.JOB_RESULT, jobId,
+                        backtestId != null ? String.valueOf(backtestId) : null, result);
+            }
+            return result;
         } catch (RestClientException e) {
             log.error("Failed to get async backtest result", e);
             Map<String, Object> errorResult = new HashMap<>();
@@ -2029,4 +2094,269 @@ public class TradingApiService {
             return errorResult;
         }
     }
+
+    // ==================== 페이지 / 건수 조회 (Keyset Pagination) ====================
+    // limit + 1건과 cursor(이전 페이지 마지막 ID)를 백엔드에 전달하고, 응답은 스트리밍으로 limit + 1건까지만 보관
+    // 주문 / 체결은 로컬 사본(TradingMirror)에서 먼저 조회하고, 응답할 수 없을 때만 백엔드 호출
+    // 응답: items(최대 limit건) + nextCursor + hasMore + limit (+ 백엔드 요약 필드)
+
+    private static final Set<String> EXECUTION_ITEM_FIELDS = Set.of("executions");
+
+    /**
+     * 주문 목록 페이지 조회
+     */
+    public Map<String, Object> getOrders(String accountId, int limit, String cursor) {
+        return getOrdersWithFilters(accountId, null, null, null, null, null, null, limit, cursor);
+    }
+
+    /**
+     * 주문 목록 페이지 조회 (고급 필터링 + strategyId)
+     */
+    public Map<String, Object> getOrdersWithFilters(String accountId, String startDate, String endDate, String status,
+                                                    String symbol, String side, String strategyId,
+                                                    int limit, String cursor) {
+        Map<String, Object> mirrored = tradingMirror.findOrders(accountId, startDate, endDate, status, symbol, side,
+                strategyId, limit, cursor);
+        if (mirrored != null) {
+            return mirrored;
+        }
+        Map<String, String> params = orderParams(accountId, startDate, endDate, status, symbol, side, strategyId);
+        return fetchPage("/api/v1/query/orders", params, StreamingItemReader.ITEM_FIELDS, "items", "orderId", limit, cursor);
+    }
+
+    /**
+     * 전략별 주문 목록 페이지 조회
+     */
+    public Map<String, Object> getOrdersByStrategyId(String strategyId, int limit, String cursor) {
+        return getOrdersWithFilters(null, null, null, null, null, null, strategyId, limit, cursor);
+    }
+
+    /**
+     * 체결 내역 페이지 조회
+     */
+    public Map<String, Object> getFills(String accountId, String orderId, String symbol, int limit, String cursor) {
+        return getFillsWithFilters(accountId, null, null, orderId, symbol, limit, cursor);
+    }
+
+    /**
+     * 체결 내역 페이지 조회 (고급 필터링)
+     */
+    public Map<String, Object> getFillsWithFilters(String accountId, String startDate, String endDate,
+                                                   String orderId, String symbol, int limit, String cursor) {
+        Map<String, Object> mirrored = tradingMirror.findFills(accountId, startDate, endDate, orderId, symbol,
+                limit, cursor);
+        if (mirrored != null) {
+            return mirrored;
+        }
+        Map<String, String> params = fillParams(accountId, startDate, endDate, orderId, symbol);
+        return fetchPage("/api/v1/query/fills", params, StreamingItemReader.ITEM_FIELDS, "items", "fillId", limit, cursor);
+    }
+
+    /**
+     * 전략 실행 히스토리 페이지 조회 (요약 필드 totalExecutions 등은 백엔드 값 그대로 유지)
+     */
+    public Map<String, Object> getExecutionHistory(String strategyId, String startDate, String endDate, String status,
+                                                   int limit, String cursor) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("strategyId", strategyId);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        params.put("status", status);
+        return fetchPage("/api/v1/query/executions", params, EXECUTION_ITEM_FIELDS, "executions", "executionId",
+                limit, cursor);
+    }
+
+    /**
+     * 주문 건수 (목록을 보관하지 않음)
+     */
+    public long countOrders(String accountId) {
+        return count("/api/v1/query/orders", orderParams(accountId, null, null, null, null, null, null));
+    }
+
+    /**
+     * 전략별 주문 건수
+     */
+    public long countOrdersByStrategyId(String strategyId) {
+        return count("/api/v1/query/orders", orderParams(null, null, null, null, null, null, strategyId));
+    }
+
+    /**
+     * 체결 건수 (목록을 보관하지 않음)
+     */
+    public long countFills(String accountId) {
+        return count("/api/v1/query/fills", fillParams(accountId, null, null, null, null));
+    }
+
+    /**
+     * 조건에 맞는 주문 전체를 페이지 단위(MAX_LIMIT건)로 조회하여 한 건씩 전달 (엑셀 내보내기 등)
+     * - 한 번에 한 페이지만 보관하므로 건수와 무관하게 메모리 사용량 일정
+     * - 반환값: 전달한 건수
+     */
+    public long forEachOrder(String accountId, String startDate, String endDate, String status,
+                             String symbol, String side, Consumer<Map<String, Object>> rowConsumer) {
+        return forEachPage(cursor -> getOrdersWithFilters(accountId, startDate, endDate, status, symbol, side, null,
+                KeysetPageCollector.MAX_LIMIT, cursor), rowConsumer);
+    }
+
+    /**
+     * 조건에 맞는 체결 전체를 페이지 단위(MAX_LIMIT건)로 조회하여 한 건씩 전달 (엑셀 내보내기 등)
+     */
+    public long forEachFill(String accountId, String startDate, String endDate, String orderId,
+                            String symbol, Consumer<Map<String, Object>> rowConsumer) {
+        return forEachPage(cursor -> getFillsWithFilters(accountId, startDate, endDate, orderId, symbol,
+                KeysetPageCollector.MAX_LIMIT, cursor), rowConsumer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long forEachPage(Function<String, Map<String, Object>> pageFetcher, Consumer<Map<String, Object>> rowConsumer) {
+        long count = 0;
+        String cursor = null;
+        while (true) {
+            Map<String, Object> page = pageFetcher.apply(cursor);
+            List<Map<String, Object>> items = (List<Map<String, Object>>) page.get("items");
+            if (items != null) {
+                items.forEach(rowConsumer);
+                count += items.size();
+            }
+            Object next = page.get(KeysetPageCollector.NEXT_CURSOR);
+            // 마지막 페이지, 또는 cursor가 진행하지 않으면(백엔드 오류) 종료
+            if (!Boolean.TRUE.equals(page.get(KeysetPageCollector.HAS_MORE)) || next == null
+                    || next.toString().equals(cursor)) {
+                return count;
+            }
+            cursor = next.toString();
+        }
+    }
+
+    private Map<String, Object> fetchPage(String path, Map<String, String> params, Set<String> itemFields,
+                                          String itemField, String idField, int limit, String cursor) {
+        KeysetPageCollector collector = new KeysetPageCollector(idField, cursor, limit);
+        int requestedRows = collector.getLimit() + 1;
+        params.put("limit", String.valueOf(requestedRows));
+        params.put("cursor", cursor);
+        String url = apiHelper.buildUrl(path, params);
+        log.debug("Calling Trading API (page): {}", url);
+        Map<String, Object> envelope = apiHelper.stream(url, itemFields, collector, ErrorCode.UNKNOWN_ERROR);
+        if (collector.isCutBeforeCursor(envelope, requestedRows)) {
+            // 백엔드가 cursor를 무시하고 limit만 적용 -> limit 없이 다시 받아 cursor 이후 limit + 1건을 수집 (보관 행 수는 동일)
+            log.warn("Trading API ignored cursor but applied limit, re-requesting without limit: {}", url);
+            collector = new KeysetPageCollector(idField, cursor, limit);
+            params.remove("limit");
+            envelope = apiHelper.stream(apiHelper.buildUrl(path, params), itemFields, collector, ErrorCode.UNKNOWN_ERROR);
+        }
+        return collector.toPage(envelope, itemField);
+    }
+
+    /**
+     * 건수 조회 - limit=1로 요청해 total을 사용하고, total이 없으면 행을 세기만 함
+     */
+    private long count(String path, Map<String, String> params) {
+        params.put("limit", "1");
+        Map<String, Object> envelope = apiHelper.stream(apiHelper.buildUrl(path, params), row -> { }, ErrorCode.UNKNOWN_ERROR);
+        Object total = envelope.get("total");
+        if (total instanceof Number) {
+            return ((Number) total).longValue();
+        }
+        long streamed = ((Number) envelope.getOrDefault(TradingApiHelper.STREAMED_COUNT_KEY, 0L)).longValue();
+        if (streamed != 1) {
+            // 0건이거나, 백엔드가 limit을 무시하고 전체를 보냄
+            return streamed;
+        }
+        params.remove("limit");
+        envelope = apiHelper.stream(apiHelper.buildUrl(path, params), row -> { }, ErrorCode.UNKNOWN_ERROR);
+        return ((Number) envelope.getOrDefault(TradingApiHelper.STREAMED_COUNT_KEY, 0L)).longValue();
+    }
+
+    private static Map<String, String> orderParams(String accountId, String startDate, String endDate, String status,
+                                                   String symbol, String side, String strategyId) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("accountId", accountId);
+        params.put("strategyId", strategyId);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        params.put("status", status);
+        params.put("symbol", symbol);
+        params.put("side", side);
+        return params;
+    }
+
+    private static Map<String, String> fillParams(String accountId, String startDate, String endDate,
+                                                  String orderId, String symbol) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("accountId", accountId);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        params.put("orderId", orderId);
+        params.put("symbol", symbol);
+        return params;
+    }
+
+    // ==================== 타입 조회 (Typed Records) ====================
+    // Map 반환 메서드는 기존 화면/JSON 응답용 어댑터로 유지하고, 필터링/집계/내보내기는 아래 레코드 메서드 사용
+
+    /**
+     * 계좌 목록 (레코드)
+     */
+    @Cacheable(value = CacheConfig.CACHE_ACCOUNT_RECORDS, sync = true)
+    public List<Account> getAccountList() {
+        return apiHelper.getList("/api/v1/admin/accounts", Account.class, ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    /**
+     * 전략 목록 (레코드)
+     */
+    @Cacheable(value = CacheConfig.CACHE_STRATEGY_RECORDS, sync = true)
+    public List<Strategy> getStrategyList() {
+        return apiHelper.getList("/api/v1/admin/strategies", Strategy.class, ErrorCode.STRATEGY_NOT_FOUND);
+    }
+
+    /**
+     * 종목 목록 (레코드)
+     */
+    @Cacheable(value = CacheConfig.CACHE_INSTRUMENT_RECORDS, cacheManager = "longTtlCacheManager",
+               key = "T(com.maru.trading.service.InstrumentListKey).of(#market, #status, #tradable, #search)", sync = true)
+    public List<Instrument> getInstrumentList(String market, String status, Boolean tradable, String search) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("market", market);
+        params.put("status", status);
+        params.put("tradable", tradable != null ? tradable.toString() : null);
+        params.put("search", search);
+        return apiHelper.getList(apiHelper.buildUrl("/api/v1/admin/instruments", params),
+                Instrument.class, ErrorCode.INSTRUMENT_NOT_FOUND);
+    }
+
+    /**
+     * 종목 상세 (레코드)
+     */
+    public Instrument getInstrumentRecord(String symbol) {
+        return apiHelper.getOne("/api/v1/admin/instruments/" + symbol, Instrument.class, ErrorCode.INSTRUMENT_NOT_FOUND);
+    }
+
+    /**
+     * 주문 목록 (레코드)
+     */
+    public List<Order> getOrderList(String accountId) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("accountId", accountId);
+        return apiHelper.getList(apiHelper.buildUrl("/api/v1/query/orders", params), Order.class, ErrorCode.ORDER_NOT_FOUND);
+    }
+
+    /**
+     * 체결 목록 (레코드)
+     */
+    public List<Fill> getFillList(String accountId, String orderId, String symbol) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("accountId", accountId);
+        params.put("orderId", orderId);
+        params.put("symbol", symbol);
+        return apiHelper.getList(apiHelper.buildUrl("/api/v1/query/fills", params), Fill.class, ErrorCode.FILL_NOT_FOUND);
+    }
+
+    /**
+     * 포지션 목록 (레코드)
+     */
+    public List<Position> getPositionList(String accountId) {
+        return apiHelper.getList("/api/v1/query/positions?accountId=" + accountId, Position.class,
+                ErrorCode.POSITION_NOT_FOUND);
+    }
 }
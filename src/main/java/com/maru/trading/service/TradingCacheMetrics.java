@@ -0,0 +1,136 @@
+package com.maru.trading.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.maru.config.StaleWhileRevalidateCacheManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 캐시 메트릭
+ * - 캐시 매니저/캐시별 Caffeine 통계를 trading.cache.* 미터로 노출 (태그: cacheManager, cache)
+ * - 캐시는 최초 사용 시 생성되므로 StaleWhileRevalidateCacheManager의 생성 리스너로 등록
+ * - 값은 조회 시점에 계산되므로 런타임 크기/TTL 변경도 그대로 반영됨
+ * - 백테스트 결과 디스크 캐시는 trading.backtest.artifacts.* 미터로 노출
+ * - 기간 조회 메모는 trading.period.memo.requests 미터로 노출 (result: closed-hit, disk-hit, open-hit, miss)
+ */
+@Component
+@RequiredArgsConstructor
+public class TradingCacheMetrics implements MeterBinder {
+
+    private final CacheAdminService cacheAdminService;
+    private final BacktestArtifactStore backtestArtifacts;
+    private final ClosedPeriodMemo periodMemo;
+
+    private final Set<String> boundCaches = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cacheAdminService.getCacheManagers().forEach((managerName, manager) -> bindManager(registry, managerName, manager));
+        bindBacktestArtifacts(registry);
+        bindPeriodMemo(registry);
+    }
+
+    private void bindPeriodMemo(MeterRegistry registry) {
+        Map<String, ToDoubleFunction<ClosedPeriodMemo>> results = Map.of(
+                "closed-hit", ClosedPeriodMemo::getClosedHitCount,
+                "disk-hit", ClosedPeriodMemo::getDiskHitCount,
+                "open-hit", ClosedPeriodMemo::getOpenHitCount,
+                "miss", ClosedPeriodMemo::getMissCount);
+        results.forEach((result, count) -> FunctionCounter.builder("trading.period.memo.requests", periodMemo, count)
+                .description("Period query memo lookups by result")
+                .tag("result", result)
+                .register(registry));
+    }
+
+    private void bindBacktestArtifacts(MeterRegistry registry) {
+        Gauge.builder("trading.backtest.artifacts.entries", backtestArtifacts, BacktestArtifactStore::getEntryCount)
+                .description("Completed backtest artifacts stored on local disk")
+                .register(registry);
+        Gauge.builder("trading.backtest.artifacts.bytes", backtestArtifacts, BacktestArtifactStore::getTotalBytes)
+                .description("Compressed size of stored backtest artifacts")
+                .register(registry);
+        FunctionCounter.builder("trading.backtest.artifacts.requests", backtestArtifacts, BacktestArtifactStore::getHitCount)
+                .description("Backtest artifact lookups by result")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("trading.backtest.artifacts.requests", backtestArtifacts, BacktestArtifactStore::getMissCount)
+                .description("Backtest artifact lookups by result")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("trading.backtest.artifacts.writes", backtestArtifacts, BacktestArtifactStore::getWriteCount)
+                .description("Backtest artifacts written to disk")
+                .register(registry);
+        FunctionCounter.builder("trading.backtest.artifacts.evictions", backtestArtifacts, BacktestArtifactStore::getEvictionCount)
+                .description("Backtest artifacts removed to stay under the size limit")
+                .register(registry);
+    }
+
+    private void bindManager(MeterRegistry registry, String managerName, CacheManager manager) {
+        if (manager instanceof StaleWhileRevalidateCacheManager) {
+            ((StaleWhileRevalidateCacheManager) manager).addCacheCreationListener(
+                    (cacheName, cache) -> bindCache(registry, managerName, cache));
+            return;
+        }
+        for (String cacheName : manager.getCacheNames()) {
+            Cache cache = manager.getCache(cacheName);
+            if (cache != null) {
+                bindCache(registry, managerName, cache);
+            }
+        }
+    }
+
+    private void bindCache(MeterRegistry registry, String managerName, Cache cache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache = CacheAdminService.nativeCache(cache);
+        if (nativeCache == null || !boundCaches.add(managerName + "/" + cache.getName())) {
+            return;
+        }
+        Tags tags = Tags.of("cacheManager", managerName, "cache", cache.getName());
+
+        gauge(registry, "trading.cache.size", "Estimated number of cache entries", tags,
+                nativeCache, c -> c.estimatedSize());
+        gauge(registry, "trading.cache.weight", "Weighted size of cache entries", tags,
+                nativeCache, CacheAdminService::weightedSize);
+        gauge(registry, "trading.cache.maximum.size", "Configured maximum cache size", tags,
+                nativeCache, CacheAdminService::maximumSize);
+        gauge(registry, "trading.cache.ttl.seconds", "Configured cache TTL in seconds", tags,
+                cache, c -> CacheAdminService.ttl(c).getSeconds());
+        gauge(registry, "trading.cache.hit.ratio", "Cache hit ratio since startup", tags,
+                nativeCache, c -> c.stats().hitRate());
+        gauge(registry, "trading.cache.load.average.ms", "Average time spent loading new values (ms)", tags,
+                nativeCache, c -> c.stats().averageLoadPenalty() / 1_000_000.0);
+
+        counter(registry, "trading.cache.hits", "Cache hits", tags, nativeCache, CacheStats::hitCount);
+        counter(registry, "trading.cache.misses", "Cache misses", tags, nativeCache, CacheStats::missCount);
+        counter(registry, "trading.cache.evictions", "Cache evictions", tags, nativeCache, CacheStats::evictionCount);
+        counter(registry, "trading.cache.load.failures", "Failed cache loads", tags, nativeCache, CacheStats::loadFailureCount);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, String description, Tags tags,
+                                  T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String description, Tags tags,
+                                com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache,
+                                ToDoubleFunction<CacheStats> value) {
+        FunctionCounter.builder(name, nativeCache, c -> value.applyAsDouble(c.stats()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
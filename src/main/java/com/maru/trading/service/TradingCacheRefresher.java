@@ -0,0 +1,60 @@
+package com.maru.trading.service;
+
+import com.maru.config.CacheConfig;
+import com.maru.config.StaleWhileRevalidateCacheManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.function.Function;
+
+/**
+ * Stale-While-Revalidate 캐시의 백그라운드 갱신 loader 등록
+ * - 캐시 키를 해당 {@code @Cacheable} 서비스 메서드 호출로 되돌림 (프록시를 통해 호출, 키 생성 규칙과 동일해야 함)
+ * - 목록 키(SimpleKey.EMPTY / InstrumentListKey)는 목록 조회, 문자열 키는 ID별 조회
+ */
+@Component
+public class TradingCacheRefresher {
+
+    private final TradingApiService tradingApiService;
+    private final CacheManager cacheManager;
+    private final CacheManager shortTtlCacheManager;
+    private final CacheManager longTtlCacheManager;
+
+    public TradingCacheRefresher(TradingApiService tradingApiService,
+                                 CacheManager cacheManager,
+                                 @Qualifier("shortTtlCacheManager") CacheManager shortTtlCacheManager,
+                                 @Qualifier("longTtlCacheManager") CacheManager longTtlCacheManager) {
+        this.tradingApiService = tradingApiService;
+        this.cacheManager = cacheManager;
+        this.shortTtlCacheManager = shortTtlCacheManager;
+        this.longTtlCacheManager = longTtlCacheManager;
+    }
+
+    @PostConstruct
+    public void registerLoaders() {
+        register(cacheManager, CacheConfig.CACHE_ACCOUNTS, key -> key instanceof String
+                ? tradingApiService.getAccount((String) key)
+                : tradingApiService.getAccounts());
+        register(cacheManager, CacheConfig.CACHE_STRATEGIES, key -> key instanceof String
+                ? tradingApiService.getStrategy((String) key)
+                : tradingApiService.getStrategies());
+        register(longTtlCacheManager, CacheConfig.CACHE_INSTRUMENTS, key -> {
+            if (key instanceof InstrumentListKey) {
+                InstrumentListKey listKey = (InstrumentListKey) key;
+                return tradingApiService.getInstruments(listKey.getMarket(), listKey.getStatus(),
+                        listKey.getTradable(), listKey.getSearch());
+            }
+            return tradingApiService.getInstrument(String.valueOf(key));
+        });
+        register(shortTtlCacheManager, CacheConfig.CACHE_HEALTH, key -> tradingApiService.getHealthStatus());
+        register(shortTtlCacheManager, CacheConfig.CACHE_KILL_SWITCH, key -> tradingApiService.getKillSwitchStatus());
+    }
+
+    private static void register(CacheManager manager, String cacheName, Function<Object, Object> loader) {
+        if (manager instanceof StaleWhileRevalidateCacheManager) {
+            ((StaleWhileRevalidateCacheManager) manager).registerRefreshLoader(cacheName, loader);
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maru.config.CacheConfig;
+import com.maru.config.StaleWhileRevalidateCache;
+import com.maru.trading.dto.Account;
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.dto.Strategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 계좌/전략/종목 변경 시 캐시 Write-Through
+ * - 변경 응답을 ID별 캐시에 저장하고, 캐시된 목록에서는 해당 항목만 교체
+ * - 목록 포함 여부가 바뀐 경우(생성/삭제, 필터 조건 변경)에만 해당 목록 키를 무효화
+ * - 응답이 엔티티 형태가 아니면 해당 ID 키와 그 ID를 포함한 목록만 무효화
+ * - 캐시된 값을 패치할 때는 통계/refresh 없이 읽고, 원래 항목의 로드 시각을 유지한 채 값만 교체
+ * - 타입 레코드 목록 캐시(*Records)도 같은 규칙으로 해당 레코드만 교체/제거, 생성 시에만 전체 무효화
+ */
+@Slf4j
+@Component
+public class TradingCacheWriter {
+
+    static final String ACCOUNT_ID = "accountId";
+    static final String STRATEGY_ID = "strategyId";
+    static final String SYMBOL = "symbol";
+
+    // 레코드 <-> Map 변환 (레코드 목록 패치용)
+    private static final ObjectMapper RECORD_MAPPER = new ObjectMapper();
+
+    private final CacheManager cacheManager;
+    private final CacheManager longTtlCacheManager;
+
+    public TradingCacheWriter(CacheManager cacheManager,
+                              @Qualifier("longTtlCacheManager") CacheManager longTtlCacheManager) {
+        this.cacheManager = cacheManager;
+        this.longTtlCacheManager = longTtlCacheManager;
+    }
+
+    // ==================== 계좌 ====================
+
+    public void accountUpdated(String accountId, Map<String, Object> response) {
+        apply(cacheManager.getCache(CacheConfig.CACHE_ACCOUNTS), cache -> writeThrough(cache, ACCOUNT_ID, accountId,
+                response, Collections.emptyMap(), (listKey, item) -> true));
+        apply(cacheManager.getCache(CacheConfig.CACHE_ACCOUNT_RECORDS), cache -> patchRecords(cache, Account.class,
+                Account::accountId, ACCOUNT_ID, accountId, response, Collections.emptyMap(), (listKey, item) -> true));
+    }
+
+    public void accountCreated() {
+        apply(cacheManager.getCache(CacheConfig.CACHE_ACCOUNTS), TradingCacheWriter::evictLists);
+        clearRecords(cacheManager, CacheConfig.CACHE_ACCOUNT_RECORDS);
+    }
+
+    public void accountDeleted(String accountId) {
+        apply(cacheManager.getCache(CacheConfig.CACHE_ACCOUNTS), cache -> evictEntryAndLists(cache, accountId));
+        apply(cacheManager.getCache(CacheConfig.CACHE_ACCOUNT_RECORDS), cache ->
+                removeRecord(cache, Account.class, Account::accountId, accountId));
+    }
+
+    // ==================== 전략 ====================
+
+    public void strategyUpdated(String strategyId, Map<String, Object> response) {
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGIES), cache -> writeThrough(cache, STRATEGY_ID, strategyId,
+                response, Collections.emptyMap(), (listKey, item) -> true));
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGY_RECORDS), cache -> patchRecords(cache, Strategy.class,
+                Strategy::strategyId, STRATEGY_ID, strategyId, response, Collections.emptyMap(), (listKey, item) -> true));
+    }
+
+    public void strategyStatusUpdated(String strategyId, String status, Map<String, Object> response) {
+        Map<String, Object> changes = Collections.singletonMap("status", status);
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGIES), cache -> writeThrough(cache, STRATEGY_ID, strategyId,
+                response, changes, (listKey, item) -> true));
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGY_RECORDS), cache -> patchRecords(cache, Strategy.class,
+                Strategy::strategyId, STRATEGY_ID, strategyId, response, changes, (listKey, item) -> true));
+    }
+
+    public void strategyCreated() {
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGIES), TradingCacheWriter::evictLists);
+        clearRecords(cacheManager, CacheConfig.CACHE_STRATEGY_RECORDS);
+    }
+
+    public void strategyDeleted(String strategyId) {
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGIES), cache -> evictEntryAndLists(cache, strategyId));
+        apply(cacheManager.getCache(CacheConfig.CACHE_STRATEGY_RECORDS), cache ->
+                removeRecord(cache, Strategy.class, Strategy::strategyId, strategyId));
+    }
+
+    // ==================== 종목 ====================
+
+    /**
+     * 종목 상태 변경 - 조회 조건(InstrumentListKey)에 따라 목록 포함 여부를 다시 판단
+     */
+    public void instrumentStatusUpdated(String symbol, Map<String, Object> changes, Map<String, Object> response) {
+        BiPredicate<Object, Map<String, Object>> membership = (listKey, item) ->
+                !(listKey instanceof InstrumentListKey) || ((InstrumentListKey) listKey).matches(item);
+        apply(longTtlCacheManager.getCache(CacheConfig.CACHE_INSTRUMENTS), cache -> writeThrough(cache, SYMBOL, symbol,
+                response, changes, membership));
+        apply(longTtlCacheManager.getCache(CacheConfig.CACHE_INSTRUMENT_RECORDS), cache -> patchRecords(cache,
+                Instrument.class, Instrument::symbol, SYMBOL, symbol, response, changes, membership));
+    }
+
+    // ==================== 내부 처리 ====================
+
+    /**
+     * 캐시 갱신 실패가 변경 요청 실패로 이어지지 않도록 하고, 실패 시 해당 캐시 전체를 비움
+     */
+    private static void apply(Cache cache, Consumer<Cache> action) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            action.accept(cache);
+        } catch (RuntimeException e) {
+            log.warn("Cache [{}] write-through failed, clearing cache: {}", cache.getName(), e.getMessage());
+            cache.clear();
+        }
+    }
+
+    /**
+     * 생성 시 레코드 목록 전체 무효화 (새 레코드가 어느 목록의 어느 위치에 들어갈지 알 수 없음)
+     */
+    private static void clearRecords(CacheManager manager, String cacheName) {
+        Cache cache = manager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static void writeThrough(Cache cache, String idField, String id, Map<String, Object> response,
+                                     Map<String, Object> changes, BiPredicate<Object, Map<String, Object>> membership) {
+        if (id == null) {
+            return;
+        }
+        Map<String, Object> entity = isEntity(response, idField, id) ? copy(response) : null;
+        List<Object> listKeys = new ArrayList<>();
+        for (Object key : keys(cache)) {
+            if (!(key instanceof String)) {
+                listKeys.add(key);
+            }
+        }
+
+        // 응답이 엔티티가 아니면 캐시된 항목에 변경값을 적용해 변경 후 상태를 추정
+        Map<String, Object> cachedEntity = cachedMap(cache, id);
+        Map<String, Object> candidate = entity;
+        if (candidate == null && !changes.isEmpty()) {
+            Map<String, Object> base = isEntity(cachedEntity, idField, id)
+                    ? cachedEntity
+                    : findInLists(cache, listKeys, idField, id);
+            candidate = base != null ? merge(base, changes) : null;
+        }
+
+        // ID별 캐시
+        if (entity != null) {
+            cache.put(id, entity);
+        } else if (candidate != null && isEntity(cachedEntity, idField, id)) {
+            replace(cache, id, candidate);
+        } else {
+            cache.evict(id);
+        }
+
+        // 목록 캐시
+        for (Object key : listKeys) {
+            Map<String, Object> listValue = cachedMap(cache, key);
+            if (listValue != null) {
+                patchList(cache, key, listValue, idField, id, entity, candidate, changes, membership);
+            }
+        }
+    }
+
+    private static void patchList(Cache cache, Object key, Map<String, Object> listValue, String idField, String id,
+                                  Map<String, Object> entity, Map<String, Object> candidate,
+                                  Map<String, Object> changes, BiPredicate<Object, Map<String, Object>> membership) {
+        Map<String, Object> patched = null;
+        for (Map.Entry<String, Object> field : listValue.entrySet()) {
+            if (!(field.getValue() instanceof List)) {
+                continue;
+            }
+            List<?> items = (List<?>) field.getValue();
+            if (!isEntityList(items, idField)) {
+                continue;
+            }
+            int index = indexOf(items, idField, id);
+            Map<String, Object> updatedItem = entity;
+            if (updatedItem == null) {
+                // 목록 항목의 형태를 유지하도록 목록에 있던 항목에 변경값 적용
+                updatedItem = index >= 0 && !changes.isEmpty() ? merge(asMap(items.get(index)), changes) : candidate;
+            }
+            if (updatedItem == null) {
+                if (index >= 0) {
+                    // 변경 내용을 알 수 없으면 해당 항목을 포함한 목록만 무효화
+                    cache.evict(key);
+                    return;
+                }
+                continue;
+            }
+
+            boolean member = membership.test(key, updatedItem);
+            if (index >= 0 && member) {
+                List<Object> newItems = new ArrayList<>(items);
+                newItems.set(index, updatedItem);
+                if (patched == null) {
+                    patched = copy(listValue);
+                }
+                patched.put(field.getKey(), newItems);
+            } else if (index >= 0 || member) {
+                // 목록 포함 여부가 바뀜 -> 다음 조회 시 재조회
+                log.debug("Cache [{}] list {} membership changed for {}={}, evicting", cache.getName(), key, idField, id);
+                cache.evict(key);
+                return;
+            }
+        }
+        if (patched != null) {
+            replace(cache, key, patched);
+        }
+    }
+
+    /**
+     * 캐시된 값을 패치한 값으로 교체 (SWR 캐시는 원래 로드 시각 유지)
+     */
+    private static void replace(Cache cache, Object key, Object value) {
+        if (cache instanceof StaleWhileRevalidateCache) {
+            ((StaleWhileRevalidateCache) cache).replaceValue(key, value);
+        } else {
+            cache.put(key, value);
+        }
+    }
+
+    /**
+     * 타입 레코드 목록 패치 - 목록의 해당 레코드만 새 레코드로 교체 (patchList와 같은 규칙)
+     * - 레코드는 불변이므로 레코드를 Map으로 바꿔 변경값을 적용한 뒤 다시 레코드로 변환하고, 목록은 사본으로 교체
+     * - 변경 내용을 알 수 없으면 해당 레코드를 포함한 목록만, 포함 여부가 바뀐 목록은 그 목록만 무효화
+     */
+    private static <R> void patchRecords(Cache cache, Class<R> type, Function<R, String> idOf, String idField, String id,
+                                         Map<String, Object> response, Map<String, Object> changes,
+                                         BiPredicate<Object, Map<String, Object>> membership) {
+        if (id == null) {
+            return;
+        }
+        Map<String, Object> entity = isEntity(response, idField, id) ? copy(response) : null;
+        List<Object> listKeys = keys(cache);
+
+        // 응답이 엔티티가 아니면 다른 목록에 있는 같은 레코드에 변경값을 적용해 변경 후 상태를 추정
+        Map<String, Object> candidate = entity;
+        if (candidate == null && !changes.isEmpty()) {
+            for (Object key : listKeys) {
+                List<?> records = cachedList(cache, key);
+                int index = records != null ? indexOfRecord(records, type, idOf, id) : -1;
+                if (index >= 0) {
+                    candidate = merge(toMap(records.get(index)), changes);
+                    break;
+                }
+            }
+        }
+
+        for (Object key : listKeys) {
+            List<?> records = cachedList(cache, key);
+            if (records == null) {
+                continue;
+            }
+            int index = indexOfRecord(records, type, idOf, id);
+            Map<String, Object> updated = entity;
+            if (updated == null) {
+                updated = index >= 0 && !changes.isEmpty() ? merge(toMap(records.get(index)), changes) : candidate;
+            }
+            if (updated == null) {
+                if (index >= 0) {
+                    cache.evict(key);
+                }
+                continue;
+            }
+
+            boolean member = membership.test(key, updated);
+            if (index >= 0 && member) {
+                List<Object> newRecords = new ArrayList<>(records);
+                newRecords.set(index, RECORD_MAPPER.convertValue(updated, type));
+                replace(cache, key, newRecords);
+            } else if (index >= 0 || member) {
+                log.debug("Cache [{}] list {} membership changed for {}={}, evicting", cache.getName(), key, idField, id);
+                cache.evict(key);
+            }
+        }
+    }
+
+    /**
+     * 삭제된 레코드를 포함한 목록에서 해당 레코드만 제거
+     */
+    private static <R> void removeRecord(Cache cache, Class<R> type, Function<R, String> idOf, String id) {
+        if (id == null) {
+            return;
+        }
+        for (Object key : keys(cache)) {
+            List<?> records = cachedList(cache, key);
+            int index = records != null ? indexOfRecord(records, type, idOf, id) : -1;
+            if (index >= 0) {
+                List<Object> newRecords = new ArrayList<>(records);
+                newRecords.remove(index);
+                replace(cache, key, newRecords);
+            }
+        }
+    }
+
+    private static <R> int indexOfRecord(List<?> records, Class<R> type, Function<R, String> idOf, String id) {
+        for (int i = 0; i < records.size(); i++) {
+            Object record = records.get(i);
+            if (type.isInstance(record) && id.equals(idOf.apply(type.cast(record)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Map<String, Object> toMap(Object record) {
+        return RECORD_MAPPER.convertValue(record, new TypeReference<Map<String, Object>>() {});
+    }
+
+    private static void evictLists(Cache cache) {
+        for (Object key : keys(cache)) {
+            if (!(key instanceof String)) {
+                cache.evict(key);
+            }
+        }
+    }
+
+    private static void evictEntryAndLists(Cache cache, String id) {
+        cache.evict(id);
+        evictLists(cache);
+    }
+
+    /**
+     * 현재 캐시 키 (ID별 키는 String, 목록 키는 SimpleKey 또는 InstrumentListKey)
+     */
+    private static List<Object> keys(Cache cache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache = CacheAdminService.nativeCache(cache);
+        return nativeCache != null ? new ArrayList<>(nativeCache.asMap().keySet()) : Collections.emptyList();
+    }
+
+    private static Map<String, Object> findInLists(Cache cache, List<Object> listKeys, String idField, String id) {
+        for (Object key : listKeys) {
+            Map<String, Object> listValue = cachedMap(cache, key);
+            if (listValue == null) {
+                continue;
+            }
+            for (Object value : listValue.values()) {
+                if (value instanceof List) {
+                    List<?> items = (List<?>) value;
+                    int index = indexOf(items, idField, id);
+                    if (index >= 0) {
+                        return asMap(items.get(index));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isEntity(Map<String, Object> response, String idField, String id) {
+        return response != null && !response.containsKey("error") && id.equals(String.valueOf(response.get(idField)));
+    }
+
+    private static boolean isEntityList(List<?> items, String idField) {
+        return items.isEmpty() || (items.get(0) instanceof Map && ((Map<?, ?>) items.get(0)).containsKey(idField));
+    }
+
+    private static int indexOf(List<?> items, String idField, String id) {
+        for (int i = 0; i < items.size(); i++) {
+            Object item = items.get(i);
+            if (item instanceof Map && Objects.equals(id, String.valueOf(((Map<?, ?>) item).get(idField)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> cachedMap(Cache cache, Object key) {
+        Object value = cachedValue(cache, key);
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    private static List<?> cachedList(Cache cache, Object key) {
+        Object value = cachedValue(cache, key);
+        return value instanceof List ? (List<?>) value : null;
+    }
+
+    /**
+     * 캐시된 값 조회 - Cache.get()과 달리 히트/미스 통계와 SWR 백그라운드 갱신을 발생시키지 않음
+     */
+    private static Object cachedValue(Cache cache, Object key) {
+        Object value;
+        if (cache instanceof StaleWhileRevalidateCache) {
+            value = ((StaleWhileRevalidateCache) cache).peek(key);
+        } else {
+            com.github.benmanes.caffeine.cache.Cache<Object, ?> nativeCache = CacheAdminService.nativeCache(cache);
+            if (nativeCache != null) {
+                value = nativeCache.policy().getIfPresentQuietly(key);
+            } else {
+                Cache.ValueWrapper wrapper = cache.get(key);
+                value = wrapper != null ? wrapper.get() : null;
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object item) {
+        return item instanceof Map ? (Map<String, Object>) item : new HashMap<>();
+    }
+
+    private static Map<String, Object> merge(Map<String, Object> base, Map<String, Object> changes) {
+        Map<String, Object> merged = copy(base);
+        changes.forEach((k, v) -> {
+            if (v != null) {
+                merged.put(k, v);
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * 캐시 값은 호출자와 공유되므로 항상 사본으로 저장 (SWR 상태 필드 제외)
+     */
+    private static Map<String, Object> copy(Map<String, Object> source) {
+        Map<String, Object> copy = new LinkedHashMap<>(source);
+        copy.remove(StaleWhileRevalidateCache.CACHE_STATUS_KEY);
+        return copy;
+    }
+}
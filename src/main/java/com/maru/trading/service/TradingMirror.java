@@ -0,0 +1,199 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maru.trading.entity.MirroredFill;
+import com.maru.trading.entity.MirroredOrder;
+import com.maru.trading.repository.MirroredFillRepository;
+import com.maru.trading.repository.MirroredOrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 주문 / 체결 로컬 사본 조회
+ * - TradingMirrorSynchronizer가 채운 trading_orders / trading_fills에서 필터 + 키셋 페이지 조회
+ * - 마지막 동기화 이전에 끝난 기간(과거 이력)은 백엔드를 호출하지 않고 로컬 사본만으로 응답
+ * - 마지막 동기화 날짜 이후를 포함하는 조회는 동기화가 max-staleness 이내일 때만 로컬 사본으로 응답
+ * - 더 오래됐으면 백엔드로 조회하게 하고 따라잡기는 동기화 스레드에 예약 (요청 스레드에서 동기화하지 않음)
+ * - 응답할 수 없으면(비활성 / 미동기화 / 알 수 없는 cursor / 동기화 지연) null을 반환하고 호출자가 백엔드로 조회
+ * - 응답 형식은 백엔드 페이지와 동일: items + nextCursor + hasMore + limit (+ source=mirror)
+ */
+@Slf4j
+@Service
+public class TradingMirror {
+
+    public static final String SOURCE = "source";
+    public static final String SOURCE_MIRROR = "mirror";
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final MirroredOrderRepository orderRepository;
+    private final MirroredFillRepository fillRepository;
+    private final TradingMirrorSynchronizer synchronizer;
+    private final Duration maxStaleness;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong servedCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    public TradingMirror(MirroredOrderRepository orderRepository,
+                         MirroredFillRepository fillRepository,
+                         TradingMirrorSynchronizer synchronizer,
+                         @Value("${trading.mirror.max-staleness-seconds:120}") long maxStalenessSeconds) {
+        this.orderRepository = orderRepository;
+        this.fillRepository = fillRepository;
+        this.synchronizer = synchronizer;
+        this.maxStaleness = Duration.ofSeconds(maxStalenessSeconds);
+    }
+
+    /**
+     * 주문 페이지 (로컬 사본으로 응답할 수 없으면 null)
+     */
+    public Map<String, Object> findOrders(String accountId, String startDate, String endDate, String status,
+                                          String symbol, String side, String strategyId, int limit, String cursor) {
+        Range range = prepare(accountId, startDate, endDate);
+        if (range == null) {
+            return fallback();
+        }
+        LocalDateTime cursorAt = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            MirroredOrder last = orderRepository.findById(cursor).orElse(null);
+            if (last == null) {
+                return fallback();
+            }
+            cursorAt = last.getCreatedAt();
+        }
+        int pageLimit = KeysetPageCollector.normalizeLimit(limit);
+        List<MirroredOrder> rows = orderRepository.findPage(blankToNull(accountId), blankToNull(strategyId),
+                blankToNull(symbol), blankToNull(side), blankToNull(status), range.from, range.to,
+                cursorAt, cursorAt != null ? cursor : null, PageRequest.of(0, pageLimit + 1));
+        return toPage(rows, pageLimit, MirroredOrder::getOrderId, MirroredOrder::getPayload);
+    }
+
+    /**
+     * 체결 페이지 (로컬 사본으로 응답할 수 없으면 null)
+     */
+    public Map<String, Object> findFills(String accountId, String startDate, String endDate,
+                                         String orderId, String symbol, int limit, String cursor) {
+        Range range = prepare(accountId, startDate, endDate);
+        if (range == null) {
+            return fallback();
+        }
+        LocalDateTime cursorAt = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            MirroredFill last = fillRepository.findById(cursor).orElse(null);
+            if (last == null) {
+                return fallback();
+            }
+            cursorAt = last.getFilledAt();
+        }
+        int pageLimit = KeysetPageCollector.normalizeLimit(limit);
+        List<MirroredFill> rows = fillRepository.findPage(blankToNull(accountId), null, blankToNull(orderId),
+                blankToNull(symbol), range.from, range.to, cursorAt, cursorAt != null ? cursor : null,
+                PageRequest.of(0, pageLimit + 1));
+        return toPage(rows, pageLimit, MirroredFill::getFillId, MirroredFill::getPayload);
+    }
+
+    public long getServedCount() {
+        return servedCount.get();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 조회 기간 확인 (응답할 수 없으면 null, 동기화가 오래됐으면 따라잡기 예약)
+     * - 종료일이 마지막 동기화 날짜보다 이전이면 이미 로컬에 모두 있으므로 바로 조회
+     */
+    private Range prepare(String accountId, String startDate, String endDate) {
+        if (!synchronizer.isEnabled()) {
+            return null;
+        }
+        String account = blankToNull(accountId);
+        LocalDateTime from;
+        LocalDateTime to;
+        try {
+            from = isBlank(startDate) ? null : LocalDate.parse(startDate).atStartOfDay();
+            to = isBlank(endDate) ? null : LocalDate.parse(endDate).plusDays(1).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+        LocalDateTime lastSync = synchronizer.getLastSyncAt(account);
+        if (lastSync == null) {
+            return null;
+        }
+        boolean closedRange = to != null && !to.isAfter(lastSync.toLocalDate().atStartOfDay());
+        if (!closedRange && !synchronizer.isFresh(account, maxStaleness)) {
+            synchronizer.requestCatchUp(account, maxStaleness);
+            return null;
+        }
+        return new Range(from, to);
+    }
+
+    private <E> Map<String, Object> toPage(List<E> rows, int limit, Function<E, String> idOf,
+                                           Function<E, String> payloadOf) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        List<Map<String, Object>> items = new ArrayList<>(pageRows.size());
+        for (E row : pageRows) {
+            items.add(decode(payloadOf.apply(row)));
+        }
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("items", items);
+        page.put(KeysetPageCollector.NEXT_CURSOR, hasMore ? idOf.apply(pageRows.get(pageRows.size() - 1)) : null);
+        page.put(KeysetPageCollector.HAS_MORE, hasMore);
+        page.put(KeysetPageCollector.LIMIT, limit);
+        page.put(SOURCE, SOURCE_MIRROR);
+        servedCount.incrementAndGet();
+        return page;
+    }
+
+    private Map<String, Object> decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, MAP_TYPE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted mirrored trading row", e);
+        }
+    }
+
+    private Map<String, Object> fallback() {
+        fallbackCount.incrementAndGet();
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value;
+    }
+
+    private static final class Range {
+
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        Range(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.maru.trading.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 / 체결 로컬 사본 메트릭
+ * - trading.mirror.syncs / rows / failures: 동기화 횟수, 받은 행 수, 실패 횟수
+ * - trading.mirror.requests: 페이지 조회를 로컬 사본으로 응답했는지(mirror) 백엔드로 넘겼는지(backend)
+ */
+@Component
+@RequiredArgsConstructor
+public class TradingMirrorMetrics implements MeterBinder {
+
+    private final TradingMirrorSynchronizer synchronizer;
+    private final TradingMirror tradingMirror;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("trading.mirror.syncs", synchronizer, TradingMirrorSynchronizer::getSyncCount)
+                .description("Completed per-account order/fill mirror syncs")
+                .register(registry);
+        FunctionCounter.builder("trading.mirror.rows", synchronizer, TradingMirrorSynchronizer::getSyncedRowCount)
+                .description("Order/fill rows upserted into the local mirror")
+                .register(registry);
+        FunctionCounter.builder("trading.mirror.failures", synchronizer, TradingMirrorSynchronizer::getFailureCount)
+                .description("Failed order/fill mirror syncs")
+                .register(registry);
+        FunctionCounter.builder("trading.mirror.requests", tradingMirror, TradingMirror::getServedCount)
+                .description("Order/fill page requests by source")
+                .tag("source", "mirror")
+                .register(registry);
+        FunctionCounter.builder("trading.mirror.requests", tradingMirror, TradingMirror::getFallbackCount)
+                .description("Order/fill page requests by source")
+                .tag("source", "backend")
+                .register(registry);
+    }
+}
@@ -0,0 +1,475 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maru.trading.dto.Account;
+import com.maru.trading.entity.MirroredFill;
+import com.maru.trading.entity.MirroredOrder;
+import com.maru.trading.entity.TradingSyncWatermark;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
+import com.maru.trading.repository.MirroredFillRepository;
+import com.maru.trading.repository.MirroredOrderRepository;
+import com.maru.trading.repository.TradingSyncWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 주문 / 체결 로컬 사본 동기화
+ * - 주기마다 계좌별로 워터마크(마지막으로 받은 시각) 이후의 주문/체결을 스트리밍으로 받아 trading_orders / trading_fills에 upsert
+ * - 백엔드 필터가 날짜 단위이고 최근 주문은 상태가 바뀌므로 워터마크 날짜 - lookback일부터 다시 받음 (upsert라 중복 없음)
+ * - 백엔드에 변경 시각(updatedAt) 필터가 없어 lookback 이전에 생성된 미체결 주문은 매번 주문 ID로 다시 받음
+ * - 조회 경로의 따라잡기는 요청 스레드에서 동기화하지 않고 동기화 스레드에 한 번만 예약 (계좌 락 안에서 최신 여부 재확인)
+ * - 행은 batch-size 단위로 저장하므로 건수와 무관하게 메모리 사용량 일정
+ * - TradingApiService를 거치지 않고 TradingApiHelper로 직접 조회 (TradingApiService가 로컬 사본을 읽으므로 순환 방지)
+ */
+@Slf4j
+@Service
+public class TradingMirrorSynchronizer {
+
+    public static final String ORDERS = "orders";
+    public static final String FILLS = "fills";
+
+    private static final LocalDateTime UNKNOWN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Set<String> TERMINAL_ORDER_STATUSES = Set.of("FILLED", "CANCELLED", "CANCELED", "REJECTED", "EXPIRED");
+    // accountId가 null인 따라잡기(알려진 모든 계좌) 예약 키
+    private static final String ALL_ACCOUNTS = "*";
+
+    private final TradingApiHelper apiHelper;
+    private final MirroredOrderRepository orderRepository;
+    private final MirroredFillRepository fillRepository;
+    private final TradingSyncWatermarkRepository watermarkRepository;
+    private final boolean enabled;
+    private final long intervalSeconds;
+    private final int lookbackDays;
+    private final int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Object> accountLocks = new ConcurrentHashMap<>();
+    private final List<Runnable> syncListeners = new CopyOnWriteArrayList<>();
+    private final Set<String> pendingCatchUps = ConcurrentHashMap.newKeySet();
+    private volatile Set<String> knownAccounts = Set.of();
+
+    private final AtomicLong syncCount = new AtomicLong();
+    private final AtomicLong syncedRowCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TradingMirrorSynchronizer(TradingApiHelper apiHelper,
+                                     MirroredOrderRepository orderRepository,
+                                     MirroredFillRepository fillRepository,
+                                     TradingSyncWatermarkRepository watermarkRepository,
+                                     @Value("${trading.mirror.enabled:true}") boolean enabled,
+                                     @Value("${trading.mirror.interval-seconds:60}") long intervalSeconds,
+                                     @Value("${trading.mirror.lookback-days:3}") int lookbackDays,
+                                     @Value("${trading.mirror.batch-size:500}") int batchSize) {
+        this(apiHelper, orderRepository, fillRepository, watermarkRepository, enabled, intervalSeconds, lookbackDays,
+                batchSize, Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "trading-mirror");
+                    t.setDaemon(true);
+                    return t;
+                }));
+    }
+
+    TradingMirrorSynchronizer(TradingApiHelper apiHelper, MirroredOrderRepository orderRepository,
+                              MirroredFillRepository fillRepository, TradingSyncWatermarkRepository watermarkRepository,
+                              boolean enabled, long intervalSeconds, int lookbackDays, int batchSize,
+                              ScheduledExecutorService scheduler) {
+        this.apiHelper = apiHelper;
+        this.orderRepository = orderRepository;
+        this.fillRepository = fillRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.enabled = enabled;
+        this.intervalSeconds = intervalSeconds;
+        this.lookbackDays = lookbackDays;
+        this.batchSize = batchSize;
+        this.scheduler = scheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::syncAllSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+            log.info("Trading mirror sync started (interval={}s, lookback={}d)", intervalSeconds, lookbackDays);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ==================== 동기화 ====================
+
+    /**
+     * 모든 계좌 동기화
+     */
+    public void syncAll() {
+        List<Account> accounts = apiHelper.getList("/api/v1/admin/accounts", Account.class, ErrorCode.UNKNOWN_ERROR);
+        Set<String> accountIds = ConcurrentHashMap.newKeySet();
+        for (Account account : accounts) {
+            if (account.accountId() != null) {
+                sync(account.accountId());
+                accountIds.add(account.accountId());
+            }
+        }
+        knownAccounts = accountIds;
+    }
+
+    private void syncAllSafely() {
+        try {
+            syncAll();
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            log.warn("Trading mirror sync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 계좌 하나의 주문 / 체결 동기화 (같은 계좌는 동시에 한 번만)
+     */
+    public void sync(String accountId) {
+        sync(accountId, null);
+    }
+
+    /**
+     * maxStaleness가 있으면 계좌 락을 얻은 뒤 다시 확인해 그 사이 다른 동기화가 끝났으면 건너뜀
+     */
+    private void sync(String accountId, Duration maxStaleness) {
+        synchronized (accountLocks.computeIfAbsent(accountId, k -> new Object())) {
+            if (maxStaleness != null && isFresh(accountId, maxStaleness)) {
+                return;
+            }
+            long reopened = refreshOpenOrders(accountId);
+            long orders = syncDataset(ORDERS, accountId, "/api/v1/query/orders", this::toOrder,
+                    MirroredOrder::getUpdatedAt, MirroredOrder::getCreatedAt, orderRepository::saveAll,
+                    orderRepository::countByAccountId);
+            long fills = syncDataset(FILLS, accountId, "/api/v1/query/fills", this::toFill,
+                    fill -> null, MirroredFill::getFilledAt, fillRepository::saveAll,
+                    fillRepository::countByAccountId);
+            syncCount.incrementAndGet();
+            log.debug("Trading mirror synced: accountId={}, orders={}, reopened={}, fills={}",
+                    accountId, orders, reopened, fills);
+        }
+        if (!syncListeners.isEmpty()) {
+            syncListeners.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * 계좌 동기화가 끝날 때마다 (동기화 스레드에서) 호출할 리스너 등록
+     */
+    public void addSyncListener(Runnable listener) {
+        syncListeners.add(listener);
+    }
+
+    /**
+     * 마지막 동기화가 maxStaleness 이내인지 (accountId가 null이면 알려진 모든 계좌)
+     * - maxStaleness는 stalenessLimit 적용 (주기 동기화만으로 항상 오래된 것으로 판정되지 않도록)
+     */
+    public boolean isFresh(String accountId, Duration maxStaleness) {
+        LocalDateTime lastSync = getLastSyncAt(accountId);
+        return lastSync != null && !lastSync.isBefore(LocalDateTime.now().minus(stalenessLimit(maxStaleness)));
+    }
+
+    /**
+     * 오래된 계좌의 따라잡기를 동기화 스레드에 예약 (accountId가 null이면 알려진 모든 계좌)
+     * - 호출 스레드에서는 동기화하지 않음, 같은 대상의 예약이 이미 있으면 무시
+     */
+    public void requestCatchUp(String accountId, Duration maxStaleness) {
+        String key = accountId != null ? accountId : ALL_ACCOUNTS;
+        if (!pendingCatchUps.add(key)) {
+            return;
+        }
+        Duration staleness = stalenessLimit(maxStaleness);
+        try {
+            scheduler.execute(() -> {
+                try {
+                    for (String id : accountId != null ? Set.of(accountId) : knownAccounts) {
+                        sync(id, staleness);
+                    }
+                } catch (RuntimeException e) {
+                    failureCount.incrementAndGet();
+                    log.warn("Trading mirror catch-up failed: accountId={}, error={}", accountId, e.getMessage());
+                } finally {
+                    pendingCatchUps.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingCatchUps.remove(key);
+        }
+    }
+
+    /**
+     * 실제 적용할 max-staleness (동기화 주기의 2배 이상)
+     */
+    public Duration stalenessLimit(Duration maxStaleness) {
+        Duration minimum = Duration.ofSeconds(intervalSeconds * 2);
+        return maxStaleness.compareTo(minimum) < 0 ? minimum : maxStaleness;
+    }
+
+    /**
+     * lookback 구간보다 먼저 생성된 미체결 주문을 주문 ID로 다시 받아 상태 갱신
+     * - 날짜 필터는 생성일 기준이라 오래된 주문이 나중에 체결/취소되면 구간 조회로는 다시 받지 못함
+     * - 조회에 실패한 주문은 건너뛰고 다음 주기에 다시 시도 (여전히 미체결로 남아 있으므로)
+     */
+    private long refreshOpenOrders(String accountId) {
+        LocalDateTime syncedThrough = watermarkRepository.findById(TradingSyncWatermark.idOf(ORDERS, accountId))
+                .map(TradingSyncWatermark::getSyncedThrough)
+                .orElse(null);
+        if (syncedThrough == null) {
+            return 0;
+        }
+        LocalDateTime windowStart = syncedThrough.toLocalDate().minusDays(lookbackDays).atStartOfDay();
+        List<String> orderIds = orderRepository.findOpenOrderIds(accountId, TERMINAL_ORDER_STATUSES, windowStart);
+        List<MirroredOrder> batch = new ArrayList<>(Math.min(orderIds.size(), batchSize));
+        long count = 0;
+        for (String orderId : orderIds) {
+            Map<String, Object> row = apiHelper.getWithDefault("/api/v1/query/orders/" + orderId, null);
+            MirroredOrder order = row != null ? toOrder(row) : null;
+            if (order == null) {
+                continue;
+            }
+            batch.add(order);
+            if (batch.size() >= batchSize) {
+                orderRepository.saveAll(new ArrayList<>(batch));
+                count += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            orderRepository.saveAll(batch);
+            count += batch.size();
+        }
+        return count;
+    }
+
+    private <E> long syncDataset(String dataset, String accountId, String path,
+                                 Function<Map<String, Object>, E> mapper,
+                                 Function<E, LocalDateTime> updatedAt, Function<E, LocalDateTime> createdAt,
+                                 Consumer<List<E>> saver, ToLongFunction<String> counter) {
+        String id = TradingSyncWatermark.idOf(dataset, accountId);
+        TradingSyncWatermark watermark = watermarkRepository.findById(id).orElseGet(() -> {
+            TradingSyncWatermark created = new TradingSyncWatermark();
+            created.setId(id);
+            created.setDataset(dataset);
+            created.setAccountId(accountId);
+            return created;
+        });
+
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("accountId", accountId);
+        if (watermark.getSyncedThrough() != null) {
+            params.put("startDate", watermark.getSyncedThrough().toLocalDate().minusDays(lookbackDays).toString());
+        }
+
+        List<E> batch = new ArrayList<>(batchSize);
+        LocalDateTime[] latest = {watermark.getSyncedThrough()};
+        long[] count = {0};
+        apiHelper.stream(apiHelper.buildUrl(path, params), row -> {
+            E entity = mapper.apply(row);
+            if (entity == null) {
+                return;
+            }
+            batch.add(entity);
+            latest[0] = later(latest[0], later(createdAt.apply(entity), updatedAt.apply(entity)));
+            if (batch.size() >= batchSize) {
+                saver.accept(new ArrayList<>(batch));
+                count[0] += batch.size();
+                batch.clear();
+            }
+        }, ErrorCode.UNKNOWN_ERROR);
+        if (!batch.isEmpty()) {
+            saver.accept(batch);
+            count[0] += batch.size();
+        }
+
+        // 미래 시각(시계 차이)으로 워터마크가 앞서 나가지 않도록 현재 시각으로 제한
+        LocalDateTime now = LocalDateTime.now();
+        watermark.setSyncedThrough(latest[0] != null && latest[0].isAfter(now) ? now : latest[0]);
+        watermark.setLastSyncAt(now);
+        // lookback 구간은 매번 다시 받아 덮어쓰므로 받은 행 수를 더하지 않고 실제 저장된 행 수로 기록
+        watermark.setRowCount(counter.applyAsLong(accountId));
+        watermarkRepository.save(watermark);
+        syncedRowCount.addAndGet(count[0]);
+        return count[0];
+    }
+
+    // ==================== 현황 ====================
+
+    /**
+     * 로컬 사본으로 응답할 수 있는지 (주문/체결 모두 한 번 이상 동기화, accountId가 null이면 알려진 모든 계좌)
+     */
+    public boolean isSynced(String accountId) {
+        if (accountId == null) {
+            Set<String> accounts = knownAccounts;
+            return !accounts.isEmpty() && accounts.stream().allMatch(this::isSynced);
+        }
+        return getLastSyncAt(accountId) != null;
+    }
+
+    /**
+     * 주문/체결 중 더 오래된 마지막 동기화 시각 (accountId가 null이면 알려진 모든 계좌 중 가장 오래된 값)
+     */
+    public LocalDateTime getLastSyncAt(String accountId) {
+        if (accountId == null) {
+            LocalDateTime oldest = null;
+            for (String id : knownAccounts) {
+                LocalDateTime lastSync = getLastSyncAt(id);
+                if (lastSync == null) {
+                    return null;
+                }
+                oldest = oldest == null || lastSync.isBefore(oldest) ? lastSync : oldest;
+            }
+            return oldest;
+        }
+        LocalDateTime orders = lastSyncAt(ORDERS, accountId);
+        LocalDateTime fills = lastSyncAt(FILLS, accountId);
+        if (orders == null || fills == null) {
+            return null;
+        }
+        return orders.isBefore(fills) ? orders : fills;
+    }
+
+    private LocalDateTime lastSyncAt(String dataset, String accountId) {
+        return watermarkRepository.findById(TradingSyncWatermark.idOf(dataset, accountId))
+                .map(TradingSyncWatermark::getLastSyncAt)
+                .orElse(null);
+    }
+
+    public long getSyncCount() {
+        return syncCount.get();
+    }
+
+    public long getSyncedRowCount() {
+        return syncedRowCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    // ==================== 변환 ====================
+
+    MirroredOrder toOrder(Map<String, Object> row) {
+        String orderId = text(row.get("orderId"));
+        if (orderId == null) {
+            return null;
+        }
+        MirroredOrder order = new MirroredOrder();
+        order.setOrderId(orderId);
+        order.setAccountId(text(row.get("accountId")));
+        order.setStrategyId(text(row.get("strategyId")));
+        order.setSymbol(text(row.get("symbol")));
+        order.setSide(text(row.get("side")));
+        order.setStatus(text(row.get("status")));
+        LocalDateTime createdAt = parseTimestamp(row.get("createdAt"));
+        order.setCreatedAt(createdAt != null ? createdAt : UNKNOWN_TIME);
+        order.setUpdatedAt(parseTimestamp(row.get("updatedAt")));
+        order.setPayload(toJson(row));
+        order.setSyncedAt(LocalDateTime.now());
+        return order;
+    }
+
+    MirroredFill toFill(Map<String, Object> row) {
+        String fillId = text(row.get("fillId"));
+        if (fillId == null) {
+            return null;
+        }
+        MirroredFill fill = new MirroredFill();
+        fill.setFillId(fillId);
+        fill.setOrderId(text(row.get("orderId")));
+        fill.setAccountId(text(row.get("accountId")));
+        fill.setStrategyId(text(row.get("strategyId")));
+        fill.setSymbol(text(row.get("symbol")));
+        fill.setSide(text(row.get("side")));
+        Object filledAt = row.containsKey("filledAt") ? row.get("filledAt") : row.get("fillTimestamp");
+        LocalDateTime timestamp = parseTimestamp(filledAt);
+        fill.setFilledAt(timestamp != null ? timestamp : UNKNOWN_TIME);
+        fill.setPayload(toJson(row));
+        fill.setSyncedAt(LocalDateTime.now());
+        return fill;
+    }
+
+    private String toJson(Map<String, Object> row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize trading row", e);
+        }
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null || UNKNOWN_TIME.equals(a)) {
+            return b;
+        }
+        if (b == null || UNKNOWN_TIME.equals(b)) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * 백엔드 시각 값 파싱 (ISO / "yyyy-MM-dd HH:mm:ss" / 오프셋 포함 / epoch millis, 실패 시 null)
+     */
+    static LocalDateTime parseTimestamp(Object value) {
+        if (value instanceof Number) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Number) value).longValue()), ZoneId.systemDefault());
+        }
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+        String text = value.toString().replace(' ', 'T');
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            // 오프셋 포함 형식
+        }
+        try {
+            return OffsetDateTime.parse(text).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            // 날짜만 있는 값
+        }
+        try {
+            return LocalDate.parse(text).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
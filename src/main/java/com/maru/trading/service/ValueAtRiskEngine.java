@@ -0,0 +1,588 @@
+package com.maru.trading.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬 VaR 엔진 (일별 손익 배열 기준)
+ * - 입력: PerformanceAnalyticsEngine의 거래일별 실현 손익 (double[]), 결과 금액은 손익 부호 그대로 (손실이면 음수)
+ * - 과거 시뮬레이션: 일별 손익의 하위 (1-신뢰수준) 분위수, 보유기간은 √h 배
+ * - 분산-공분산: 평균·표준편차의 정규분포 가정 (μh - zσ√h)
+ * - 몬테카를로: 일별 손익을 복원추출해 h일 경로를 만드는 부트스트랩, 시뮬레이션 구간을 fork-join 작업으로 나누고
+ *   작업마다 SplittableRandom.split()으로 난수열을 분리 (스레드 수와 무관하게 같은 시드면 같은 결과)
+ * - CVaR(Expected Shortfall): VaR 분위수 이하 값들의 평균
+ * - computeGrid(): 정렬/적률/시뮬레이션을 한 번만 수행하고 신뢰수준 × 보유기간 격자 전체를 계산
+ *   (시뮬레이션은 최대 보유기간까지 한 경로를 만들며 중간 보유기간의 누적값도 함께 기록)
+ * - 로컬 체결 데이터가 준비되지 않았거나 거래일이 min-observations 미만이면 null을 반환하고 호출자가 백엔드로 조회
+ * - 로컬 결과를 반환할 때 같은 조건의 백엔드 결과와 일별 VaR를 백그라운드에서 비교하여 차이가 크면 경고 로그
+ *   (같은 조건은 cross-check.interval 동안 한 번만, 대기열이 차면 건너뜀)
+ */
+@Slf4j
+@Service
+public class ValueAtRiskEngine {
+
+    public static final int HISTORICAL = 0;
+    public static final int PARAMETRIC = 1;
+    public static final int MONTE_CARLO = 2;
+    private static final String[] METHOD_NAMES = {"historical", "parametric", "monteCarlo"};
+
+    private static final int WEEK = 5;
+    private static final int MONTH = 21;
+    private static final int HISTOGRAM_BINS = 20;
+    private static final int SIMULATION_CHUNK = 4096;
+    private static final double TRADING_DAYS_PER_YEAR = 252.0;
+
+    private final PerformanceAnalyticsEngine performanceAnalytics;
+    private final boolean enabled;
+    private final int minObservations;
+    private final int simulations;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final boolean crossCheckEnabled;
+    private final double crossCheckTolerance;
+    private final Cache<String, Boolean> crossChecked;
+    private final Executor crossCheckExecutor;
+
+    private final AtomicLong localCount = new AtomicLong();
+    private final AtomicLong crossCheckCount = new AtomicLong();
+    private final AtomicLong crossCheckMismatchCount = new AtomicLong();
+    private volatile double lastDeviation = Double.NaN;
+
+    @Autowired
+    public ValueAtRiskEngine(PerformanceAnalyticsEngine performanceAnalytics,
+                             @Value("${trading.var.enabled:true}") boolean enabled,
+                             @Value("${trading.var.min-observations:20}") int minObservations,
+                             @Value("${trading.var.simulations:20000}") int simulations,
+                             @Value("${trading.var.seed:0}") long seed,
+                             @Value("${trading.var.cross-check.enabled:true}") boolean crossCheckEnabled,
+                             @Value("${trading.var.cross-check.tolerance:0.25}") double crossCheckTolerance,
+                             @Value("${trading.var.cross-check.interval-seconds:3600}") long crossCheckIntervalSeconds) {
+        this(performanceAnalytics, enabled, minObservations, simulations, seed, ForkJoinPool.commonPool(),
+                crossCheckEnabled, crossCheckTolerance, Duration.ofSeconds(crossCheckIntervalSeconds),
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), r -> {
+                    Thread t = new Thread(r, "var-cross-check");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.DiscardPolicy()));
+    }
+
+    ValueAtRiskEngine(PerformanceAnalyticsEngine performanceAnalytics, boolean enabled, int minObservations,
+                      int simulations, long seed, ForkJoinPool pool, boolean crossCheckEnabled,
+                      double crossCheckTolerance, Duration crossCheckInterval, Executor crossCheckExecutor) {
+        this.performanceAnalytics = performanceAnalytics;
+        this.enabled = enabled;
+        this.minObservations = Math.max(2, minObservations);
+        this.simulations = Math.max(1, simulations);
+        this.seed = seed;
+        this.pool = pool;
+        this.crossCheckEnabled = crossCheckEnabled;
+        this.crossCheckTolerance = crossCheckTolerance;
+        this.crossChecked = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(crossCheckInterval)
+                .build();
+        this.crossCheckExecutor = crossCheckExecutor;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (crossCheckExecutor instanceof ExecutorService) {
+            ((ExecutorService) crossCheckExecutor).shutdownNow();
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * VaR 분석 - 백엔드 /risk/var와 같은 형식 (varData + statistics), 응답할 수 없으면 null
+     *
+     * @param backend 같은 조건의 백엔드 조회 (교차 검증용, null이면 비교하지 않음)
+     */
+    public Map<String, Object> calculateVaR(String strategyId, double confidenceLevel, int timeHorizon,
+                                            String startDate, String endDate,
+                                            Supplier<Map<String, Object>> backend) {
+        if (!validConfidence(confidenceLevel) || timeHorizon < 1) {
+            return null;
+        }
+        double[] pnl = observations(strategyId, startDate, endDate);
+        if (pnl == null) {
+            return null;
+        }
+        Grid grid = computeGrid(pnl, new double[] {confidenceLevel}, new int[] {1, timeHorizon, WEEK, MONTH});
+        int c = grid.confidenceIndex(confidenceLevel);
+        Moments moments = Moments.of(pnl);
+
+        Map<String, Object> methods = new LinkedHashMap<>();
+        for (int method = HISTORICAL; method <= MONTE_CARLO; method++) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("dailyVaR", grid.var(method, c, grid.horizonIndex(1)));
+            values.put("periodVaR", grid.var(method, c, grid.horizonIndex(timeHorizon)));
+            values.put("cvar", grid.cvar(method, c, grid.horizonIndex(1)));
+            methods.put(METHOD_NAMES[method], values);
+        }
+
+        Map<String, Object> varData = new LinkedHashMap<>();
+        varData.put("dailyVaR", grid.var(HISTORICAL, c, grid.horizonIndex(1)));
+        varData.put("periodVaR", grid.var(HISTORICAL, c, grid.horizonIndex(timeHorizon)));
+        varData.put("weeklyVaR", grid.var(HISTORICAL, c, grid.horizonIndex(WEEK)));
+        varData.put("monthlyVaR", grid.var(HISTORICAL, c, grid.horizonIndex(MONTH)));
+        varData.put("cvar", grid.cvar(HISTORICAL, c, grid.horizonIndex(1)));
+        varData.put("expectedShortfall", grid.cvar(HISTORICAL, c, grid.horizonIndex(1)));
+        varData.put("confidenceLevel", confidenceLevel);
+        varData.put("timeHorizon", timeHorizon);
+        varData.put("meanPL", moments.mean);
+        varData.put("stdPL", moments.stdDev);
+        varData.put("observations", pnl.length);
+        varData.put("method", METHOD_NAMES[HISTORICAL]);
+        varData.put("methods", methods);
+        varData.put("distribution", histogram(pnl));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("varData", varData);
+        result.put("statistics", statistics(pnl, moments));
+        result.put(PerformanceAnalyticsEngine.SOURCE, PerformanceAnalyticsEngine.SOURCE_LOCAL);
+        localCount.incrementAndGet();
+
+        if (backend != null) {
+            crossCheck(String.join("|", String.valueOf(strategyId), String.valueOf(confidenceLevel),
+                    String.valueOf(startDate), String.valueOf(endDate)), (double) varData.get("dailyVaR"), backend);
+        }
+        return result;
+    }
+
+    /**
+     * 신뢰수준 × 보유기간 격자 VaR/CVaR (세 방식 모두) - 응답할 수 없으면 null
+     *
+     * @throws IllegalArgumentException 신뢰수준이 (0, 1) 밖이거나 보유기간이 1 미만
+     */
+    public Map<String, Object> getVaRGrid(String strategyId, double[] confidenceLevels, int[] timeHorizons,
+                                          String startDate, String endDate) {
+        double[] pnl = observations(strategyId, startDate, endDate);
+        if (pnl == null) {
+            return null;
+        }
+        Grid grid = computeGrid(pnl, confidenceLevels, timeHorizons);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("strategyId", strategyId);
+        result.put("startDate", startDate);
+        result.put("endDate", endDate);
+        result.put("observations", pnl.length);
+        result.put("simulations", simulations);
+        result.put("grid", grid.rows());
+        result.put(PerformanceAnalyticsEngine.SOURCE, PerformanceAnalyticsEngine.SOURCE_LOCAL);
+        localCount.incrementAndGet();
+        return result;
+    }
+
+    private double[] observations(String strategyId, String startDate, String endDate) {
+        if (!enabled) {
+            return null;
+        }
+        double[] pnl = performanceAnalytics.getDailyProfitLoss(startDate, endDate, strategyId);
+        return pnl != null && pnl.length >= minObservations ? pnl : null;
+    }
+
+    // ==================== 계산 ====================
+
+    /**
+     * 격자 계산 - 신뢰수준/보유기간은 정렬 후 중복 제거
+     */
+    public Grid computeGrid(double[] pnl, double[] confidenceLevels, int[] timeHorizons) {
+        if (pnl.length < 2) {
+            throw new IllegalArgumentException("관측치가 2개 이상 필요합니다.");
+        }
+        double[] levels = Arrays.stream(confidenceLevels).sorted().distinct().toArray();
+        int[] horizons = Arrays.stream(timeHorizons).sorted().distinct().toArray();
+        if (levels.length == 0 || !validConfidence(levels[0]) || !validConfidence(levels[levels.length - 1])) {
+            throw new IllegalArgumentException("신뢰수준은 0과 1 사이여야 합니다.");
+        }
+        if (horizons.length == 0 || horizons[0] < 1) {
+            throw new IllegalArgumentException("보유기간은 1일 이상이어야 합니다.");
+        }
+
+        double[] sorted = pnl.clone();
+        Arrays.sort(sorted);
+        Moments moments = Moments.of(pnl);
+        double[][] simulated = simulate(pnl, horizons);
+
+        double[][][] var = new double[3][levels.length][horizons.length];
+        double[][][] cvar = new double[3][levels.length][horizons.length];
+        for (int c = 0; c < levels.length; c++) {
+            double alpha = 1 - levels[c];
+            double z = inverseNormal(levels[c]);
+            double dailyVaR = quantile(sorted, alpha);
+            double dailyCVaR = tailMean(sorted, alpha);
+            for (int h = 0; h < horizons.length; h++) {
+                double scale = Math.sqrt(horizons[h]);
+                var[HISTORICAL][c][h] = dailyVaR * scale;
+                cvar[HISTORICAL][c][h] = dailyCVaR * scale;
+                var[PARAMETRIC][c][h] = moments.mean * horizons[h] - z * moments.stdDev * scale;
+                cvar[PARAMETRIC][c][h] = moments.mean * horizons[h] - moments.stdDev * scale * normalDensity(z) / alpha;
+                var[MONTE_CARLO][c][h] = quantile(simulated[h], alpha);
+                cvar[MONTE_CARLO][c][h] = tailMean(simulated[h], alpha);
+            }
+        }
+        return new Grid(levels, horizons, var, cvar);
+    }
+
+    /**
+     * 보유기간별 부트스트랩 시뮬레이션 결과 (보유기간 인덱스 × 시뮬레이션, 정렬됨)
+     */
+    private double[][] simulate(double[] pnl, int[] horizons) {
+        int maxHorizon = horizons[horizons.length - 1];
+        int[] recordAt = new int[maxHorizon + 1];
+        Arrays.fill(recordAt, -1);
+        for (int h = 0; h < horizons.length; h++) {
+            recordAt[horizons[h]] = h;
+        }
+        double[][] out = new double[horizons.length][simulations];
+        pool.invoke(new SimulationTask(pnl, recordAt, out, 0, simulations, new SplittableRandom(seed)));
+        pool.submit(() -> IntStream.range(0, out.length).parallel().forEach(h -> Arrays.sort(out[h]))).join();
+        return out;
+    }
+
+    /**
+     * 시뮬레이션 구간 [from, to)를 반씩 나누며 난수열도 split
+     */
+    private static final class SimulationTask extends RecursiveAction {
+
+        private final double[] pnl;
+        private final int[] recordAt;
+        private final double[][] out;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        SimulationTask(double[] pnl, int[] recordAt, double[][] out, int from, int to, SplittableRandom random) {
+            this.pnl = pnl;
+            this.recordAt = recordAt;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SIMULATION_CHUNK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SimulationTask(pnl, recordAt, out, from, mid, random.split()),
+                        new SimulationTask(pnl, recordAt, out, mid, to, random));
+                return;
+            }
+            int n = pnl.length;
+            int maxHorizon = recordAt.length - 1;
+            for (int s = from; s < to; s++) {
+                double sum = 0;
+                for (int day = 1; day <= maxHorizon; day++) {
+                    sum += pnl[random.nextInt(n)];
+                    int h = recordAt[day];
+                    if (h >= 0) {
+                        out[h][s] = sum;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 하위 alpha 분위수 (정렬된 배열, 관측치 수 × alpha 번째 값)
+     */
+    static double quantile(double[] sorted, double alpha) {
+        return sorted[tailIndex(sorted.length, alpha)];
+    }
+
+    /**
+     * 하위 alpha 분위수 이하 값들의 평균
+     */
+    static double tailMean(double[] sorted, double alpha) {
+        int k = tailIndex(sorted.length, alpha);
+        double sum = 0;
+        for (int i = 0; i <= k; i++) {
+            sum += sorted[i];
+        }
+        return sum / (k + 1);
+    }
+
+    private static int tailIndex(int n, double alpha) {
+        // 1 - 0.95 = 0.050000000000000044 같은 오차로 한 칸 밀리지 않도록 보정
+        return Math.min(n - 1, Math.max(0, (int) Math.ceil(alpha * n - 1e-9) - 1));
+    }
+
+    /**
+     * 표준정규분포 역함수 (Acklam 근사, 상대 오차 1.2e-9 이내)
+     */
+    static double inverseNormal(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+    private static double normalDensity(double z) {
+        return Math.exp(-0.5 * z * z) / Math.sqrt(2 * Math.PI);
+    }
+
+    private static boolean validConfidence(double confidenceLevel) {
+        return confidenceLevel > 0 && confidenceLevel < 1;
+    }
+
+    private static Map<String, Object> statistics(double[] pnl, Moments moments) {
+        double peak = 0;
+        double cumulative = 0;
+        double drawdown = 0;
+        double maxProfit = Double.NEGATIVE_INFINITY;
+        double maxLoss = Double.POSITIVE_INFINITY;
+        for (double value : pnl) {
+            cumulative += value;
+            peak = Math.max(peak, cumulative);
+            drawdown = Math.max(drawdown, peak - cumulative);
+            maxProfit = Math.max(maxProfit, value);
+            maxLoss = Math.min(maxLoss, value);
+        }
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("meanPL", moments.mean);
+        statistics.put("stdDev", moments.stdDev);
+        statistics.put("stdPL", moments.stdDev);
+        statistics.put("skewness", moments.skewness);
+        statistics.put("kurtosis", moments.kurtosis);
+        statistics.put("maxDrawdown", -drawdown);
+        statistics.put("maxProfit", maxProfit);
+        statistics.put("maxLoss", maxLoss);
+        statistics.put("sharpeRatio", moments.stdDev > 0
+                ? moments.mean / moments.stdDev * Math.sqrt(TRADING_DAYS_PER_YEAR) : 0.0);
+        return statistics;
+    }
+
+    /**
+     * 손익 분포 (구간 하한 range + 건수, 최소~최대를 같은 폭으로 나눔)
+     */
+    private static List<Map<String, Object>> histogram(double[] pnl) {
+        double min = Arrays.stream(pnl).min().orElse(0);
+        double max = Arrays.stream(pnl).max().orElse(0);
+        int bins = max > min ? HISTOGRAM_BINS : 1;
+        double width = max > min ? (max - min) / bins : 1;
+        int[] counts = new int[bins];
+        for (double value : pnl) {
+            counts[Math.min(bins - 1, (int) ((value - min) / width))]++;
+        }
+        List<Map<String, Object>> distribution = new ArrayList<>(bins);
+        for (int i = 0; i < bins; i++) {
+            Map<String, Object> bin = new LinkedHashMap<>();
+            bin.put("range", min + i * width);
+            bin.put("count", counts[i]);
+            distribution.add(bin);
+        }
+        return distribution;
+    }
+
+    // ==================== 교차 검증 ====================
+
+    private void crossCheck(String key, double localDailyVaR, Supplier<Map<String, Object>> backend) {
+        if (!crossCheckEnabled || crossChecked.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            crossCheckExecutor.execute(() -> compare(key, localDailyVaR, backend));
+        } catch (RejectedExecutionException e) {
+            crossChecked.invalidate(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compare(String key, double localDailyVaR, Supplier<Map<String, Object>> backend) {
+        try {
+            Map<String, Object> result = backend.get();
+            if (result == null || result.containsKey("error")) {
+                return;
+            }
+            Object value = result.get("varData") instanceof Map
+                    ? ((Map<String, Object>) result.get("varData")).get("dailyVaR")
+                    : result.get("var");
+            if (!(value instanceof Number)) {
+                return;
+            }
+            // 백엔드는 VaR를 손실 금액(양수)으로 줄 수도 있으므로 크기로 비교
+            double remote = Math.abs(((Number) value).doubleValue());
+            double deviation = Math.abs(Math.abs(localDailyVaR) - remote) / Math.max(remote, 1.0);
+            lastDeviation = deviation;
+            crossCheckCount.incrementAndGet();
+            if (deviation > crossCheckTolerance) {
+                crossCheckMismatchCount.incrementAndGet();
+                log.warn("Local VaR differs from backend: key={}, local={}, backend={}, deviation={}",
+                        key, localDailyVaR, remote, String.format("%.3f", deviation));
+            }
+        } catch (RuntimeException e) {
+            log.debug("VaR cross-check skipped: key={}, cause={}", key, e.getMessage());
+        }
+    }
+
+    // ==================== 현황 ====================
+
+    public long getLocalCount() {
+        return localCount.get();
+    }
+
+    public long getCrossCheckCount() {
+        return crossCheckCount.get();
+    }
+
+    public long getCrossCheckMismatchCount() {
+        return crossCheckMismatchCount.get();
+    }
+
+    public double getLastDeviation() {
+        return lastDeviation;
+    }
+
+    // ==================== 결과 ====================
+
+    /**
+     * 평균 / 표본 표준편차 / 왜도 / 첨도 (정규분포면 3)
+     */
+    static final class Moments {
+
+        final double mean;
+        final double stdDev;
+        final double skewness;
+        final double kurtosis;
+
+        private Moments(double mean, double stdDev, double skewness, double kurtosis) {
+            this.mean = mean;
+            this.stdDev = stdDev;
+            this.skewness = skewness;
+            this.kurtosis = kurtosis;
+        }
+
+        static Moments of(double[] values) {
+            int n = values.length;
+            double mean = 0;
+            for (double value : values) {
+                mean += value;
+            }
+            mean /= n;
+            double m2 = 0;
+            double m3 = 0;
+            double m4 = 0;
+            for (double value : values) {
+                double d = value - mean;
+                double d2 = d * d;
+                m2 += d2;
+                m3 += d2 * d;
+                m4 += d2 * d2;
+            }
+            double variance = m2 / n;
+            double stdDev = n > 1 ? Math.sqrt(m2 / (n - 1)) : 0.0;
+            double skewness = variance > 0 ? (m3 / n) / Math.pow(variance, 1.5) : 0.0;
+            double kurtosis = variance > 0 ? (m4 / n) / (variance * variance) : 0.0;
+            return new Moments(mean, stdDev, skewness, kurtosis);
+        }
+    }
+
+    /**
+     * 격자 계산 결과 - [방식][신뢰수준][보유기간]
+     */
+    public static final class Grid {
+
+        private final double[] confidenceLevels;
+        private final int[] timeHorizons;
+        private final double[][][] var;
+        private final double[][][] cvar;
+
+        Grid(double[] confidenceLevels, int[] timeHorizons, double[][][] var, double[][][] cvar) {
+            this.confidenceLevels = confidenceLevels;
+            this.timeHorizons = timeHorizons;
+            this.var = var;
+            this.cvar = cvar;
+        }
+
+        public double[] getConfidenceLevels() {
+            return confidenceLevels.clone();
+        }
+
+        public int[] getTimeHorizons() {
+            return timeHorizons.clone();
+        }
+
+        public double var(int method, int confidenceIndex, int horizonIndex) {
+            return var[method][confidenceIndex][horizonIndex];
+        }
+
+        public double cvar(int method, int confidenceIndex, int horizonIndex) {
+            return cvar[method][confidenceIndex][horizonIndex];
+        }
+
+        public int confidenceIndex(double confidenceLevel) {
+            return Arrays.binarySearch(confidenceLevels, confidenceLevel);
+        }
+
+        public int horizonIndex(int timeHorizon) {
+            return Arrays.binarySearch(timeHorizons, timeHorizon);
+        }
+
+        /**
+         * 신뢰수준 × 보유기간 행 목록 (방식별 VaR/CVaR)
+         */
+        public List<Map<String, Object>> rows() {
+            List<Map<String, Object>> rows = new ArrayList<>(confidenceLevels.length * timeHorizons.length);
+            for (int c = 0; c < confidenceLevels.length; c++) {
+                for (int h = 0; h < timeHorizons.length; h++) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("confidenceLevel", confidenceLevels[c]);
+                    row.put("timeHorizon", timeHorizons[h]);
+                    for (int method = HISTORICAL; method <= MONTE_CARLO; method++) {
+                        row.put(METHOD_NAMES[method] + "VaR", var[method][c][h]);
+                        row.put(METHOD_NAMES[method] + "CVaR", cvar[method][c][h]);
+                    }
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }
+    }
+}
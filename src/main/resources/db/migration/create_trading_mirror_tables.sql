@@ -0,0 +1,50 @@
+-- Trading Mirror Tables
+-- Created: 2026-10-16
+-- Description: Local read model of backend orders/fills, synced incrementally per account
+
+-- Orders mirror
+CREATE TABLE IF NOT EXISTS trading_orders (
+    order_id VARCHAR(64) PRIMARY KEY,
+    account_id VARCHAR(64),
+    strategy_id VARCHAR(64),
+    symbol VARCHAR(32),
+    side VARCHAR(10) COMMENT 'BUY, SELL',
+    status VARCHAR(30),
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME,
+    payload TEXT NOT NULL COMMENT 'Backend order row as JSON',
+    synced_at DATETIME NOT NULL,
+
+    INDEX idx_trading_orders_account_created (account_id, created_at),
+    INDEX idx_trading_orders_strategy_created (strategy_id, created_at),
+    INDEX idx_trading_orders_symbol (symbol),
+    INDEX idx_trading_orders_status (status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Mirrored trading orders';
+
+-- Fills mirror
+CREATE TABLE IF NOT EXISTS trading_fills (
+    fill_id VARCHAR(64) PRIMARY KEY,
+    order_id VARCHAR(64),
+    account_id VARCHAR(64),
+    strategy_id VARCHAR(64),
+    symbol VARCHAR(32),
+    side VARCHAR(10) COMMENT 'BUY, SELL',
+    filled_at DATETIME NOT NULL,
+    payload TEXT NOT NULL COMMENT 'Backend fill row as JSON',
+    synced_at DATETIME NOT NULL,
+
+    INDEX idx_trading_fills_account_filled (account_id, filled_at),
+    INDEX idx_trading_fills_strategy_filled (strategy_id, filled_at),
+    INDEX idx_trading_fills_order (order_id),
+    INDEX idx_trading_fills_symbol (symbol)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Mirrored trading fills';
+
+-- Sync watermarks (one row per dataset/account)
+CREATE TABLE IF NOT EXISTS trading_sync_watermarks (
+    id VARCHAR(100) PRIMARY KEY COMMENT '{dataset}:{accountId}',
+    dataset VARCHAR(20) NOT NULL COMMENT 'orders, fills',
+    account_id VARCHAR(64) NOT NULL,
+    synced_through DATETIME COMMENT 'Latest row timestamp received',
+    last_sync_at DATETIME COMMENT 'When the last sync finished',
+    row_count BIGINT DEFAULT 0 NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Trading mirror sync watermarks';
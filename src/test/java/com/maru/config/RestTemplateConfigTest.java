@@ -4,13 +4,18 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.http.client.HttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -38,8 +43,32 @@ class RestTemplateConfigTest {
     @DisplayName("RestTemplate Bean 생성 확인")
     void restTemplateBeanCreated() {
         HttpClient httpClient = config.tradingApiHttpClient();
-        RestTemplate restTemplate = config.tradingApiRestTemplate(httpClient);
+        TradingEndpointGuard guard = config.tradingEndpointGuard(config.tradingApiCircuitBreakerRegistry());
+        TradingApiRequestTimer timer = config.tradingApiRequestTimer(
+                new StaticListableBeanFactory(Map.of("meterRegistry", new SimpleMeterRegistry()))
+                        .getBeanProvider(MeterRegistry.class));
+        RestTemplate restTemplate = config.tradingApiRestTemplate(httpClient, guard, timer);
         assertThat(restTemplate).isNotNull();
+        assertThat(restTemplate.getInterceptors()).containsExactly(timer, guard);
+    }
+
+    @Test
+    @DisplayName("엔드포인트 분류별 bulkhead / Circuit Breaker / timeout 분리")
+    void endpointGuardPolicies() {
+        CircuitBreakerRegistry registry = config.tradingApiCircuitBreakerRegistry();
+        TradingEndpointGuard guard = config.tradingEndpointGuard(registry);
+
+        TradingEndpointGuard.Policy read = guard.getPolicy(TradingEndpointClass.INTERACTIVE_READ);
+        TradingEndpointGuard.Policy mutation = guard.getPolicy(TradingEndpointClass.MUTATION);
+        TradingEndpointGuard.Policy compute = guard.getPolicy(TradingEndpointClass.LONG_RUNNING_COMPUTE);
+
+        assertThat(read.getCircuitBreaker().getName()).isEqualTo("tradingApi-interactive-read");
+        assertThat(compute.getCircuitBreaker()).isNotSameAs(read.getCircuitBreaker());
+        assertThat(compute.getSocketTimeoutMs()).isGreaterThan(read.getSocketTimeoutMs());
+        // 분류별 동시 호출 수 합계가 route당 커넥션 수(50)를 넘지 않음
+        assertThat(read.getBulkhead().getBulkheadConfig().getMaxConcurrentCalls()
+                + mutation.getBulkhead().getBulkheadConfig().getMaxConcurrentCalls()
+                + compute.getBulkhead().getBulkheadConfig().getMaxConcurrentCalls()).isLessThanOrEqualTo(50);
     }
 
     @Test
@@ -68,21 +97,25 @@ class RestTemplateConfigTest {
     }
 
     @Test
-    @DisplayName("CircuitBreaker Bean 생성 및 설정 확인")
-    void circuitBreakerBeanConfigured() {
+    @DisplayName("분류별 CircuitBreaker 설정 확인 (공통 인스턴스 없음)")
+    void circuitBreakerPerEndpointClass() {
         CircuitBreakerRegistry registry = config.tradingApiCircuitBreakerRegistry();
-        CircuitBreaker circuitBreaker = config.tradingApiCircuitBreaker(registry);
+        TradingEndpointGuard guard = config.tradingEndpointGuard(registry);
 
-        assertThat(circuitBreaker).isNotNull();
-        assertThat(circuitBreaker.getName()).isEqualTo("tradingApi");
-        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        for (TradingEndpointClass endpointClass : TradingEndpointClass.values()) {
+            CircuitBreaker circuitBreaker = guard.getPolicy(endpointClass).getCircuitBreaker();
+            assertThat(circuitBreaker.getName()).isEqualTo("tradingApi-" + endpointClass.tag());
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+        assertThat(registry.find("tradingApi")).isEmpty();
     }
 
     @Test
     @DisplayName("CircuitBreaker 설정값 확인")
     void circuitBreakerConfiguration() {
         CircuitBreakerRegistry registry = config.tradingApiCircuitBreakerRegistry();
-        CircuitBreaker circuitBreaker = config.tradingApiCircuitBreaker(registry);
+        CircuitBreaker circuitBreaker = config.tradingEndpointGuard(registry)
+                .getPolicy(TradingEndpointClass.INTERACTIVE_READ).getCircuitBreaker();
         var cbConfig = circuitBreaker.getCircuitBreakerConfig();
 
         assertThat(cbConfig.getFailureRateThreshold()).isEqualTo(50f);
@@ -0,0 +1,243 @@
+package com.maru.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StaleWhileRevalidateCache 단위 테스트
+ */
+@DisplayName("StaleWhileRevalidateCache 테스트")
+class StaleWhileRevalidateCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicBoolean circuitOpen = new AtomicBoolean(false);
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final AtomicBoolean backendDown = new AtomicBoolean(false);
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // 백그라운드 갱신은 큐에 쌓아두고 테스트에서 명시적으로 실행
+        cache = new StaleWhileRevalidateCache("accounts", Duration.ofSeconds(30), Duration.ofMinutes(5), 100,
+                pendingTasks::add, circuitOpen::get, nanos::get);
+        // 프록시된 서비스 메서드 호출을 흉내냄 (@Cacheable -> cache.get(key, valueLoader))
+        cache.setRefreshLoader(key -> cache.get(key, loader()));
+    }
+
+    @Test
+    @DisplayName("최초 조회는 로드 후 FRESH")
+    void miss_LoadsAndMarksFresh() {
+        Map<String, Object> result = cache.get("key", loader());
+
+        assertThat(result.get("version")).isEqualTo(1);
+        assertThat(result.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.FRESH);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이내 조회는 캐시 값 반환")
+    void withinTtl_ServesCachedValue() {
+        cache.get("key", loader());
+        advance(10);
+
+        Map<String, Object> result = cache.get("key", loader());
+
+        assertThat(result.get("version")).isEqualTo(1);
+        assertThat(result.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.FRESH);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 경과 후 조회는 이전 값을 즉시 반환하고 백그라운드에서 갱신")
+    void afterTtl_ServesCurrentValueAndRefreshes() {
+        cache.get("key", loader());
+        advance(31);
+
+        Map<String, Object> stale = cache.get("key", loader());
+        runPendingTasks();
+        Map<String, Object> refreshed = cache.get("key", loader());
+
+        assertThat(stale.get("version")).isEqualTo(1);
+        assertThat(stale.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.STALE);
+        assertThat(refreshed.get("version")).isEqualTo(2);
+        assertThat(refreshed.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.FRESH);
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 한참 지난 값은 요청 스레드에서 한 번만 로드 (백그라운드 갱신과 중복 호출 없음)")
+    void beyondRevalidate_ReloadsOnceSynchronously() {
+        cache.get("key", loader());
+        advance(90);
+
+        Map<String, Object> result = cache.get("key", loader());
+        runPendingTasks();
+
+        assertThat(result.get("version")).isEqualTo(2);
+        assertThat(result.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.FRESH);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("갱신 loader가 없으면 백그라운드 갱신 없이 이전 값 제공")
+    void noRefreshLoader_NoBackgroundRefresh() {
+        cache.setRefreshLoader(null);
+        cache.get("key", loader());
+        advance(31);
+
+        Map<String, Object> stale = cache.get("key", loader());
+        runPendingTasks();
+
+        assertThat(stale.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.STALE);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Circuit Breaker OPEN 시 백엔드 호출 없이 STALE 값 반환")
+    void circuitOpen_ServesStaleWithoutCallingBackend() {
+        cache.get("key", loader());
+        circuitOpen.set(true);
+        advance(120);
+
+        Map<String, Object> result = cache.get("key", loader());
+
+        assertThat(result.get("version")).isEqualTo(1);
+        assertThat(result.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.STALE);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 maxStale 범위 내에서 STALE 값 반환")
+    void reloadFailure_ServesStale() {
+        cache.get("key", loader());
+        backendDown.set(true);
+        advance(120);
+
+        Map<String, Object> result = cache.get("key", loader());
+
+        assertThat(result.get("version")).isEqualTo(1);
+        assertThat(result.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.STALE);
+    }
+
+    @Test
+    @DisplayName("maxStale 초과 후 실패하면 예외 전파")
+    void beyondMaxStale_PropagatesFailure() {
+        cache.get("key", loader());
+        backendDown.set(true);
+        advance(60 * 10);
+
+        assertThatThrownBy(() -> cache.get("key", loader()))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseMessage("Connection refused");
+    }
+
+    @Test
+    @DisplayName("put/evict 동작")
+    void putAndEvict() {
+        Map<String, Object> value = new HashMap<>();
+        value.put("accountId", "acc-1");
+        cache.put("acc-1", value);
+
+        assertThat(cache.get("acc-1", Map.class)).containsEntry("accountId", "acc-1");
+
+        cache.evict("acc-1");
+
+        assertThat(cache.get("acc-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 매니저는 지정된 이름만 Stale-While-Revalidate 캐시로 생성")
+    void cacheManager_CreatesSwrCachesByName() {
+        StaleWhileRevalidateCacheManager manager = new StaleWhileRevalidateCacheManager(
+                Duration.ofMinutes(5), 100, Set.of("accounts"), Duration.ofMinutes(30), Runnable::run, () -> false);
+
+        assertThat(manager.getCache("accounts")).isInstanceOf(StaleWhileRevalidateCache.class);
+        assertThat(manager.getCache("healthStatus")).isInstanceOf(CaffeineCache.class);
+        assertThat(manager.isStaleWhileRevalidate("accounts")).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("캐시 생성 전에 등록한 갱신 loader도 생성 시 적용")
+    void cacheManager_AppliesRefreshLoaderOnCreation() {
+        StaleWhileRevalidateCacheManager manager = new StaleWhileRevalidateCacheManager(
+                Duration.ofMillis(1), 100, Set.of("accounts"), Duration.ofMinutes(30), Runnable::run, () -> false);
+        AtomicInteger refreshCount = new AtomicInteger();
+        manager.registerRefreshLoader("accounts", key -> {
+            refreshCount.incrementAndGet();
+            return Map.of("version", 2);
+        });
+
+        Cache accounts = manager.getCache("accounts");
+        accounts.put("key", Map.of("version", 1));
+        ((LoadingCache<Object, ?>) ((StaleWhileRevalidateCache) accounts).getNativeCache()).refresh("key");
+
+        assertThat(refreshCount.get()).isEqualTo(1);
+        assertThat(accounts.get("key", Map.class)).containsEntry("version", 2);
+    }
+
+    @Test
+    @DisplayName("값 교체(replaceValue)는 로드 시각을 유지하고 통계/갱신을 발생시키지 않음")
+    void replaceValue_KeepsEntryAge() {
+        // Given - TTL이 지나 STALE인 항목
+        cache.get("key", loader());
+        advance(31);
+        long requests = cache.getNativeCache().stats().requestCount();
+
+        // When
+        boolean replaced = cache.replaceValue("key", Map.of("version", 99));
+
+        // Then
+        assertThat(replaced).isTrue();
+        assertThat(cache.peek("key")).isEqualTo(Map.of("version", 99));
+        assertThat(cache.getNativeCache().stats().requestCount()).isEqualTo(requests);
+        runPendingTasks();
+        assertThat(loadCount.get()).isEqualTo(1);
+        // 패치된 값도 원래 나이 기준으로 STALE 판정
+        Map<String, Object> result = cache.get("key", loader());
+        assertThat(result.get("version")).isEqualTo(99);
+        assertThat(result.get(StaleWhileRevalidateCache.CACHE_STATUS_KEY)).isEqualTo(StaleWhileRevalidateCache.STALE);
+        assertThat(cache.replaceValue("missing", Map.of("version", 1))).isFalse();
+    }
+
+    private Callable<Map<String, Object>> loader() {
+        return () -> {
+            if (backendDown.get()) {
+                throw new IllegalStateException("Connection refused");
+            }
+            Map<String, Object> value = new HashMap<>();
+            value.put("version", loadCount.incrementAndGet());
+            return value;
+        };
+    }
+
+    private void runPendingTasks() {
+        List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private void advance(long seconds) {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
@@ -0,0 +1,94 @@
+package com.maru.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * TradingApiRequestTimer 단위 테스트
+ */
+@DisplayName("TradingApiRequestTimer 테스트")
+class TradingApiRequestTimerTest {
+
+    private SimpleMeterRegistry registry;
+    private TradingApiRequestTimer timer;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        timer = new TradingApiRequestTimer(registry);
+        execution = mock(ClientHttpRequestExecution.class);
+    }
+
+    @Test
+    @DisplayName("경로의 ID / 종목코드를 {id}로 정규화")
+    void uriTemplate() {
+        assertThat(TradingApiRequestTimer.uriTemplate("/api/v1/admin/strategies/strategy-001/status"))
+                .isEqualTo("/api/v1/admin/strategies/{id}/status");
+        assertThat(TradingApiRequestTimer.uriTemplate("/api/v1/admin/instruments/005930"))
+                .isEqualTo("/api/v1/admin/instruments/{id}");
+        assertThat(TradingApiRequestTimer.uriTemplate("/api/v1/admin/risk-rules/account/acc-1/symbol/AAPL"))
+                .isEqualTo("/api/v1/admin/risk-rules/account/{id}/symbol/{id}");
+        assertThat(TradingApiRequestTimer.uriTemplate("/api/v1/demo/backtest/ma-crossover"))
+                .isEqualTo("/api/v1/demo/backtest/ma-crossover");
+        assertThat(TradingApiRequestTimer.uriTemplate("")).isEqualTo("/");
+    }
+
+    @Test
+    @DisplayName("절대 URL 호출도 경로 템플릿 / 메서드 / 결과 / 상태 태그로 기록")
+    void recordsAbsoluteUrl() throws Exception {
+        // Given
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getRawStatusCode()).thenReturn(503);
+        when(execution.execute(any(), any())).thenReturn(response);
+
+        // When
+        timer.intercept(new MockClientHttpRequest(HttpMethod.POST,
+                URI.create("http://localhost:8099/api/v1/admin/scheduler/enable")), new byte[0], execution);
+
+        // Then
+        Timer recorded = registry.find(TradingApiRequestTimer.METRIC_NAME)
+                .tag("uri", "/api/v1/admin/scheduler/enable")
+                .tag("method", "POST")
+                .tag("outcome", "SERVER_ERROR")
+                .tag("status", "503")
+                .tag("class", "mutation")
+                .timer();
+        assertThat(recorded).isNotNull();
+        assertThat(recorded.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bulkhead / Circuit Breaker 거부는 status=REJECTED")
+    void recordsRejection() throws Exception {
+        // Given
+        when(execution.execute(any(), any())).thenThrow(new TradingEndpointGuard.RejectedException("bulkhead full"));
+
+        // When & Then
+        assertThatThrownBy(() -> timer.intercept(new MockClientHttpRequest(HttpMethod.GET,
+                URI.create("/api/v1/query/orders?accountId=acc-1")), new byte[0], execution))
+                .isInstanceOf(TradingEndpointGuard.RejectedException.class);
+
+        Timer recorded = registry.find(TradingApiRequestTimer.METRIC_NAME)
+                .tag("uri", "/api/v1/query/orders")
+                .tag("status", "REJECTED")
+                .tag("outcome", "UNKNOWN")
+                .timer();
+        assertThat(recorded).isNotNull();
+    }
+}
@@ -0,0 +1,131 @@
+package com.maru.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.apache.http.client.config.RequestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TradingEndpointGuard 단위 테스트
+ */
+@DisplayName("TradingEndpointGuard 테스트")
+class TradingEndpointGuardTest {
+
+    private TradingEndpointGuard guard;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<TradingEndpointClass, TradingEndpointGuard.Policy> policies = new EnumMap<>(TradingEndpointClass.class);
+        for (TradingEndpointClass endpointClass : TradingEndpointClass.values()) {
+            Bulkhead bulkhead = Bulkhead.of(endpointClass.tag(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(1)
+                    .maxWaitDuration(Duration.ZERO)
+                    .build());
+            int timeout = endpointClass == TradingEndpointClass.LONG_RUNNING_COMPUTE ? 120_000 : 5_000;
+            policies.put(endpointClass, new TradingEndpointGuard.Policy(bulkhead,
+                    CircuitBreaker.ofDefaults(endpointClass.tag()), timeout));
+        }
+        guard = new TradingEndpointGuard(policies);
+
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getRawStatusCode()).thenReturn(200);
+        execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenReturn(response);
+    }
+
+    @Test
+    @DisplayName("분류 - 조회 / 변경 / 장시간 연산")
+    void classify() {
+        assertThat(TradingEndpointClass.classify(HttpMethod.GET, "/api/v1/query/orders"))
+                .isEqualTo(TradingEndpointClass.INTERACTIVE_READ);
+        assertThat(TradingEndpointClass.classify(HttpMethod.POST, "/api/v1/admin/orders/cancel"))
+                .isEqualTo(TradingEndpointClass.MUTATION);
+        assertThat(TradingEndpointClass.classify(HttpMethod.POST, "/api/v1/admin/backtests"))
+                .isEqualTo(TradingEndpointClass.LONG_RUNNING_COMPUTE);
+        assertThat(TradingEndpointClass.classify(HttpMethod.POST, "/api/v1/admin/backtests/async"))
+                .isEqualTo(TradingEndpointClass.MUTATION);
+        assertThat(TradingEndpointClass.classify(HttpMethod.POST, "/api/v1/optimization/grid-search"))
+                .isEqualTo(TradingEndpointClass.LONG_RUNNING_COMPUTE);
+        assertThat(TradingEndpointClass.classify(HttpMethod.GET, "/api/v1/risk/var"))
+                .isEqualTo(TradingEndpointClass.LONG_RUNNING_COMPUTE);
+    }
+
+    @Test
+    @DisplayName("bulkhead가 가득 차면 같은 분류만 거부되고, 응답을 닫으면 허가 반환")
+    void bulkheadIsolatesClasses() throws Exception {
+        // Given - 연산 분류의 유일한 허가를 점유
+        ClientHttpResponse computeResponse = guard.intercept(
+                request(HttpMethod.POST, "/api/v1/optimization/grid-search"), new byte[0], execution);
+
+        // When & Then - 연산은 거부, 조회는 영향 없음
+        assertThatThrownBy(() -> guard.intercept(
+                request(HttpMethod.POST, "/api/v1/optimization/genetic-algorithm"), new byte[0], execution))
+                .isInstanceOf(TradingEndpointGuard.RejectedException.class)
+                .hasMessageContaining("long-running-compute");
+        guard.intercept(request(HttpMethod.GET, "/api/v1/query/orders"), new byte[0], execution).close();
+
+        TradingEndpointGuard.Policy compute = guard.getPolicy(TradingEndpointClass.LONG_RUNNING_COMPUTE);
+        assertThat(compute.getSaturation()).isEqualTo(1.0);
+        assertThat(compute.getBulkheadRejectedCount()).isEqualTo(1);
+
+        computeResponse.close();
+        computeResponse.close();
+        assertThat(compute.getActiveCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Circuit Breaker OPEN이면 요청을 보내지 않음")
+    void openCircuitRejects() throws Exception {
+        // Given
+        TradingEndpointGuard.Policy mutation = guard.getPolicy(TradingEndpointClass.MUTATION);
+        mutation.getCircuitBreaker().transitionToOpenState();
+
+        // When & Then
+        assertThatThrownBy(() -> guard.intercept(
+                request(HttpMethod.POST, "/api/v1/admin/kill-switch"), new byte[0], execution))
+                .isInstanceOf(TradingEndpointGuard.RejectedException.class);
+        verify(execution, never()).execute(any(), any());
+        assertThat(mutation.getCircuitRejectedCount()).isEqualTo(1);
+        assertThat(mutation.getActiveCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청별 socket timeout은 분류 값 사용")
+    void requestConfigPerClass() {
+        RequestConfig defaults = RequestConfig.custom().setSocketTimeout(10_000).setConnectTimeout(5_000).build();
+
+        RequestConfig compute = guard.requestConfig(defaults, HttpMethod.POST,
+                URI.create("http://localhost:8099/api/v1/admin/backtests"));
+        RequestConfig read = guard.requestConfig(defaults, HttpMethod.GET,
+                URI.create("http://localhost:8099/health"));
+
+        assertThat(compute.getSocketTimeout()).isEqualTo(120_000);
+        assertThat(compute.getConnectTimeout()).isEqualTo(5_000);
+        assertThat(read.getSocketTimeout()).isEqualTo(5_000);
+    }
+
+    private static MockClientHttpRequest request(HttpMethod method, String path) {
+        return new MockClientHttpRequest(method, URI.create("http://localhost:8099" + path));
+    }
+}
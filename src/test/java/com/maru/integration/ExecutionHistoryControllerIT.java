@@ -49,7 +49,7 @@ class ExecutionHistoryControllerIT {
         when(tradingApiService.getStrategies()).thenReturn(strategiesData);
 
         Map<String, Object> executionResult = createExecutionHistoryResult();
-        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull()))
+        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull(), eq(50), isNull()))
                 .thenReturn(executionResult);
 
         // When & Then
@@ -72,7 +72,7 @@ class ExecutionHistoryControllerIT {
         when(tradingApiService.getStrategies()).thenReturn(strategiesData);
 
         Map<String, Object> executionResult = createExecutionHistoryResult();
-        when(tradingApiService.getExecutionHistory("strategy-1", "2024-01-01", "2024-06-30", "SUCCESS"))
+        when(tradingApiService.getExecutionHistory("strategy-1", "2024-01-01", "2024-06-30", "SUCCESS", 50, null))
                 .thenReturn(executionResult);
 
         // When & Then
@@ -97,7 +97,7 @@ class ExecutionHistoryControllerIT {
         strategiesData.put("items", createStrategiesList());
         when(tradingApiService.getStrategies()).thenReturn(strategiesData);
 
-        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull()))
+        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull(), eq(50), isNull()))
                 .thenThrow(new RuntimeException("Request timeout"));
 
         // When & Then
@@ -115,7 +115,7 @@ class ExecutionHistoryControllerIT {
         when(tradingApiService.getStrategies()).thenThrow(new RuntimeException("API error"));
 
         Map<String, Object> executionResult = createExecutionHistoryResult();
-        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull()))
+        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull(), eq(50), isNull()))
                 .thenReturn(executionResult);
 
         // When & Then
@@ -130,7 +130,7 @@ class ExecutionHistoryControllerIT {
     void page_CompleteFailure() throws Exception {
         // Given - 두 API 모두 실패해도 내부 try-catch로 처리됨
         when(tradingApiService.getStrategies()).thenThrow(new RuntimeException("Fatal error"));
-        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull()))
+        when(tradingApiService.getExecutionHistory(isNull(), anyString(), anyString(), isNull(), eq(50), isNull()))
                 .thenThrow(new RuntimeException("Fatal error"));
 
         // When & Then - 내부 try-catch가 처리하여 warning 표시 (error 아님)
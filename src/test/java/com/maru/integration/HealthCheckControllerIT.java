@@ -62,13 +62,8 @@ class HealthCheckControllerIT {
         accountsData.put("items", accounts);
         when(tradingApiService.getAccounts()).thenReturn(accountsData);
 
-        Map<String, Object> ordersData = new HashMap<>();
-        ordersData.put("items", Collections.emptyList());
-        when(tradingApiService.getOrders(anyString())).thenReturn(ordersData);
-
-        Map<String, Object> fillsData = new HashMap<>();
-        fillsData.put("items", Collections.emptyList());
-        when(tradingApiService.getFills(anyString(), isNull(), isNull())).thenReturn(fillsData);
+        when(tradingApiService.countOrders(anyString())).thenReturn(0L);
+        when(tradingApiService.countFills(anyString())).thenReturn(0L);
 
         // When & Then
         mockMvc.perform(get("/trading/health-check"))
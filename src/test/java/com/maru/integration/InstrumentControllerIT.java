@@ -1,6 +1,7 @@
 package com.maru.integration;
 
 import com.maru.todo.TodoApplication;
+import com.maru.trading.dto.Instrument;
 import com.maru.trading.service.TradingApiService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -254,14 +255,10 @@ class InstrumentControllerIT {
     @DisplayName("종목 검색 API - 성공")
     void searchInstrumentsApi_Success() throws Exception {
         // Given
-        List<Map<String, Object>> instruments = new ArrayList<>();
-        instruments.add(createInstrumentMock("005930", "삼성전자"));
-        instruments.add(createInstrumentMock("005935", "삼성전자우"));
-        Map<String, Object> result = new HashMap<>();
-        result.put("items", instruments);
-        result.put("total", 2);
-
-        when(tradingApiService.getInstruments("KOSPI", "LISTED", true, "삼성")).thenReturn(result);
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(Arrays.asList(
+                instrumentRecord("005930", "삼성전자"),
+                instrumentRecord("005935", "삼성전자우"),
+                instrumentRecord("000660", "SK하이닉스")));
 
         // When & Then
         mockMvc.perform(get("/trading/instruments/api/search")
@@ -277,11 +274,8 @@ class InstrumentControllerIT {
     @DisplayName("종목 검색 API - 빈 결과")
     void searchInstrumentsApi_EmptyResult() throws Exception {
         // Given
-        Map<String, Object> result = new HashMap<>();
-        result.put("items", Collections.emptyList());
-        result.put("total", 0);
-
-        when(tradingApiService.getInstruments(null, "LISTED", true, "존재하지않는종목")).thenReturn(result);
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(Arrays.asList(
+                instrumentRecord("005930", "삼성전자")));
 
         // When & Then
         mockMvc.perform(get("/trading/instruments/api/search")
@@ -318,4 +312,9 @@ class InstrumentControllerIT {
         instrument.put("createdAt", "2024-01-01T10:00:00");
         return instrument;
     }
+
+    private Instrument instrumentRecord(String symbol, String nameKr) {
+        return new Instrument(symbol, "KOSPI", nameKr, null, "LISTED", true, false,
+                null, null, null, null, null, null);
+    }
 }
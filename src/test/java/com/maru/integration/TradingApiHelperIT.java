@@ -1,5 +1,7 @@
 package com.maru.integration;
 
+import com.maru.config.TradingEndpointClass;
+import com.maru.config.TradingEndpointGuard;
 import com.maru.todo.TodoApplication;
 import com.maru.trading.exception.TradingApiException;
 import com.maru.trading.exception.TradingApiException.ErrorCode;
@@ -55,14 +57,16 @@ class TradingApiHelperIT {
     private Retry tradingApiRetry;
 
     @Autowired
-    private CircuitBreaker tradingApiCircuitBreaker;
+    private TradingEndpointGuard tradingEndpointGuard;
 
+    private CircuitBreaker tradingApiCircuitBreaker;
     private TradingApiHelper helper;
 
     @BeforeEach
     void setUp() {
-        helper = new TradingApiHelper(tradingApiRestTemplate, tradingApiRetry, tradingApiCircuitBreaker);
-        // Circuit Breaker 상태 리셋
+        helper = new TradingApiHelper(tradingApiRestTemplate, tradingApiRetry);
+        // 조회 분류 Circuit Breaker 상태 리셋
+        tradingApiCircuitBreaker = tradingEndpointGuard.getPolicy(TradingEndpointClass.INTERACTIVE_READ).getCircuitBreaker();
         tradingApiCircuitBreaker.reset();
     }
 
@@ -83,7 +87,7 @@ class TradingApiHelperIT {
         @DisplayName("CircuitBreaker Bean이 올바르게 주입됨")
         void circuitBreakerBean_IsInjected() {
             assertThat(tradingApiCircuitBreaker).isNotNull();
-            assertThat(tradingApiCircuitBreaker.getName()).isEqualTo("tradingApi");
+            assertThat(tradingApiCircuitBreaker.getName()).isEqualTo("tradingApi-interactive-read");
         }
 
         @Test
@@ -198,27 +202,33 @@ class TradingApiHelperIT {
         }
 
         @Test
-        @DisplayName("연속 실패 시 Circuit Breaker OPEN 상태로 전이")
-        void consecutiveFailures_OpensCircuitBreaker() {
-            // Given - 모든 요청 실패
+        @DisplayName("연속 실패해도 헬퍼는 호출을 차단하지 않음 (차단은 분류별 Circuit Breaker가 담당)")
+        void consecutiveFailures_NotShortCircuitedByHelper() {
+            // Given - 10번 실패 후 성공
+            Map<String, Object> expectedResponse = new HashMap<>();
+            expectedResponse.put("status", "UP");
+            AtomicInteger calls = new AtomicInteger();
             when(tradingApiRestTemplate.exchange(
                     anyString(),
                     eq(HttpMethod.GET),
                     any(),
                     any(ParameterizedTypeReference.class)
-            )).thenThrow(new ResourceAccessException("Failure"));
-
-            // When - minimumNumberOfCalls(5) 이상 실패 시킴
+            )).thenAnswer(invocation -> {
+                if (calls.incrementAndGet() <= 10) {
+                    throw new ResourceAccessException("Failure");
+                }
+                return new ResponseEntity<>(expectedResponse, HttpStatus.OK);
+            });
+
+            // When - minimumNumberOfCalls(5) 이상 실패 시킴 (getShared는 재시도 없음)
             for (int i = 0; i < 10; i++) {
                 try {
-                    helper.get("/health", ErrorCode.CONNECTION_FAILED);
-                } catch (TradingApiException ignored) {}
+                    helper.getShared("/health");
+                } catch (ResourceAccessException ignored) {}
             }
 
-            // Then - Circuit Breaker가 OPEN 상태가 되어야 함
-            // 최소 호출 수 이상이면 상태가 변경될 수 있음
-            CircuitBreaker.State state = tradingApiCircuitBreaker.getState();
-            assertThat(state).isIn(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED);
+            // Then - 다음 호출도 백엔드까지 전달됨
+            assertThat(helper.getShared("/health").get("status")).isEqualTo("UP");
         }
     }
 
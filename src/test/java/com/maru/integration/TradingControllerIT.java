@@ -234,7 +234,7 @@ class TradingControllerIT {
         ordersData.put("items", orders);
 
         when(tradingApiService.getAccounts()).thenReturn(accountsData);
-        when(tradingApiService.getOrders("account-1")).thenReturn(ordersData);
+        when(tradingApiService.getOrders("account-1", 50, null)).thenReturn(ordersData);
 
         // When & Then
         mockMvc.perform(get("/trading/orders")
@@ -272,7 +272,8 @@ class TradingControllerIT {
         ordersData.put("items", Collections.emptyList());
 
         when(tradingApiService.getAccounts()).thenReturn(accountsData);
-        when(tradingApiService.getOrdersWithFilters(eq("account-1"), eq("2024-01-01"), eq("2024-01-31"), eq("FILLED"), eq("005930"), isNull()))
+        when(tradingApiService.getOrdersWithFilters(eq("account-1"), eq("2024-01-01"), eq("2024-01-31"), eq("FILLED"), eq("005930"), isNull(),
+                isNull(), eq(50), isNull()))
                 .thenReturn(ordersData);
 
         // When & Then
@@ -446,7 +447,7 @@ class TradingControllerIT {
         fillsData.put("items", fills);
 
         when(tradingApiService.getAccounts()).thenReturn(accountsData);
-        when(tradingApiService.getFills("account-1", null, null)).thenReturn(fillsData);
+        when(tradingApiService.getFills("account-1", null, null, 50, null)).thenReturn(fillsData);
 
         // When & Then
         mockMvc.perform(get("/trading/fills")
@@ -483,7 +484,8 @@ class TradingControllerIT {
         fillsData.put("items", Collections.emptyList());
 
         when(tradingApiService.getAccounts()).thenReturn(accountsData);
-        when(tradingApiService.getFillsWithFilters(eq("account-1"), eq("2024-01-01"), eq("2024-01-31"), isNull(), eq("005930")))
+        when(tradingApiService.getFillsWithFilters(eq("account-1"), eq("2024-01-01"), eq("2024-01-31"), isNull(), eq("005930"),
+                eq(50), isNull()))
                 .thenReturn(fillsData);
 
         // When & Then
@@ -544,7 +546,7 @@ class TradingControllerIT {
         accountsData.put("items", Collections.emptyList());
 
         when(tradingApiService.getAccounts()).thenReturn(accountsData);
-        when(tradingApiService.getOrders("account-1")).thenThrow(new RuntimeException("API 연결 실패"));
+        when(tradingApiService.getOrders("account-1", 50, null)).thenThrow(new RuntimeException("API 연결 실패"));
 
         // When & Then
         mockMvc.perform(get("/trading/orders")
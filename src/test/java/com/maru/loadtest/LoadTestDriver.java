@@ -0,0 +1,303 @@
+package com.maru.loadtest;
+
+import com.maru.integration.TestConfig;
+import com.maru.todo.TodoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.servlet.Filter;
+import javax.servlet.http.HttpServletRequest;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * maruweb 단독 부하 테스트 드라이버
+ * - StubTradingBackend를 띄우고 maruweb을 같은 JVM에서 H2 + test 프로파일로 기동 (cautostock / MariaDB 불필요)
+ * - 화면(page) 요청과 JSON 폴링 요청을 가중치대로 섞어 목표 RPS로 전송 (open model: 응답을 기다리지 않고 예정 시각에 발사)
+ * - 지연 시간은 예정 발사 시각부터 측정하므로 서버가 밀려도 대기 시간이 결과에 포함됨 (coordinated omission 방지)
+ * - maruweb 엔드포인트별 p50 / p95 / p99, 처리량, 오류율, 요청당 할당량(서블릿 스레드 기준) 출력
+ * - 단위 테스트가 아니므로 surefire 대상이 아님, 직접 실행:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.maru.loadtest.LoadTestDriver
+ *   (인자: RPS, 측정 초, 워밍업 초 / 스텁 설정은 StubTradingBackend.Profile의 -Dstub.* 프로퍼티)
+ */
+public class LoadTestDriver {
+
+    private static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+    private static final long[] NO_SAMPLES = new long[0];
+
+    /**
+     * 요청 구성 (이름, 경로, 가중치) - 대시보드/목록 화면과 화면에서 주기적으로 호출하는 JSON API
+     */
+    private static final Endpoint[] MIX = {
+            new Endpoint("page:dashboard", "/trading/dashboard", 10),
+            new Endpoint("page:orders", "/trading/orders?accountId=acc-0", 6),
+            new Endpoint("page:fills", "/trading/fills?accountId=acc-0", 5),
+            new Endpoint("page:positions", "/trading/positions?accountId=acc-0", 4),
+            new Endpoint("page:strategies", "/trading/strategies", 4),
+            new Endpoint("page:execution-history", "/trading/execution-history", 3),
+            new Endpoint("page:instruments", "/trading/instruments", 2),
+            new Endpoint("page:health-check", "/trading/health-check", 2),
+            new Endpoint("json:health", "/trading/api/health", 15),
+            new Endpoint("json:positions", "/trading/api/positions?accountId=acc-0", 12),
+            new Endpoint("json:balance", "/trading/api/balance?accountId=acc-0", 12),
+            new Endpoint("json:fills-recent", "/trading/api/fills/recent?accountId=acc-0&limit=20", 10),
+            new Endpoint("json:strategies-status", "/trading/api/strategies/status", 8),
+            new Endpoint("json:instrument-search", "/trading/api/instruments/search?query=%EC%82%BC%EC%84%B1&limit=20", 7)
+    };
+
+    private static final Map<String, Allocation> ALLOCATIONS = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        int rps = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        int warmupSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 15;
+
+        StubTradingBackend.Profile profile = StubTradingBackend.Profile.fromSystemProperties();
+        try (StubTradingBackend stub = new StubTradingBackend(profile).start()) {
+            System.out.printf("stub backend: %s (listening on %d)%n", profile, stub.getPort());
+            try (ConfigurableApplicationContext app = startMaruweb(stub.getPort())) {
+                int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+                String baseUrl = "http://127.0.0.1:" + port;
+
+                System.out.printf("warmup: %d rps x %ds%n", rps, warmupSeconds);
+                run(baseUrl, rps, warmupSeconds);
+                ALLOCATIONS.clear();
+
+                System.out.printf("measure: %d rps x %ds%n", rps, seconds);
+                long stubBefore = stub.getRequestCount();
+                Map<String, Recorder> results = run(baseUrl, rps, seconds);
+                report(results, seconds, stub.getRequestCount() - stubBefore);
+            }
+        }
+    }
+
+    /**
+     * maruweb 기동 (임의 포트, 스텁 백엔드, H2)
+     */
+    private static ConfigurableApplicationContext startMaruweb(int stubPort) {
+        return new SpringApplicationBuilder(TodoApplication.class, TestConfig.class, LoadTestConfig.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "trading.api.base-url=http://127.0.0.1:" + stubPort,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "calendar.sync.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.maru=WARN",
+                        "DB_USERNAME=sa",
+                        "DB_PASSWORD=",
+                        "GOOGLE_CLIENT_ID=load-test",
+                        "GOOGLE_CLIENT_SECRET=load-test",
+                        "CALENDAR_ENCRYPTION_KEY=load-test-encryption-key-32-characters")
+                .run();
+    }
+
+    // ==================== 부하 발생 ====================
+
+    private static Map<String, Recorder> run(String baseUrl, int rps, int seconds) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(32, r -> {
+                    Thread thread = new Thread(r, "load-client");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        for (Endpoint endpoint : MIX) {
+            recorders.put(endpoint.name, new Recorder(rps * seconds));
+        }
+        int totalWeight = Arrays.stream(MIX).mapToInt(e -> e.weight).sum();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long start = System.nanoTime();
+        long total = (long) rps * seconds;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        for (long i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            Endpoint endpoint = pick(totalWeight);
+            Recorder recorder = recorders.get(endpoint.name);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header(ENDPOINT_HEADER, endpoint.name)
+                    .GET()
+                    .build();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        recorder.record(System.nanoTime() - scheduled,
+                                error == null && response.statusCode() < 400);
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return recorders;
+    }
+
+    private static Endpoint pick(int totalWeight) {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : MIX) {
+            r -= endpoint.weight;
+            if (r < 0) {
+                return endpoint;
+            }
+        }
+        return MIX[MIX.length - 1];
+    }
+
+    // ==================== 결과 ====================
+
+    private static void report(Map<String, Recorder> results, int seconds, long backendCalls) {
+        System.out.printf("%n%-26s %8s %8s %9s %9s %9s %7s %12s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "err%", "alloc/req");
+        long count = 0;
+        long errors = 0;
+        for (Map.Entry<String, Recorder> entry : results.entrySet()) {
+            Recorder recorder = entry.getValue();
+            long[] samples = recorder.sorted();
+            Allocation allocation = ALLOCATIONS.get(entry.getKey());
+            System.out.printf("%-26s %8d %8.1f %9.1f %9.1f %9.1f %7.2f %12s%n",
+                    entry.getKey(), samples.length, (double) samples.length / seconds,
+                    percentile(samples, 0.50), percentile(samples, 0.95), percentile(samples, 0.99),
+                    samples.length > 0 ? 100.0 * recorder.errors.sum() / samples.length : 0,
+                    allocation != null ? bytes(allocation.perRequest()) : "-");
+            count += samples.length;
+            errors += recorder.errors.sum();
+        }
+
+        long allocated = ALLOCATIONS.values().stream().mapToLong(a -> a.bytes.sum()).sum();
+        System.out.printf("%ntotal: %d requests, %.1f req/s, errors %.2f%%, backend calls %d (%.2f per request)%n",
+                count, (double) count / seconds, count > 0 ? 100.0 * errors / count : 0,
+                backendCalls, count > 0 ? (double) backendCalls / count : 0);
+        System.out.printf("allocation rate (request threads): %s/s%n", bytes(allocated / Math.max(1, seconds)));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static String bytes(long bytes) {
+        if (bytes >= 1 << 20) {
+            return String.format("%.1fMB", bytes / (double) (1 << 20));
+        }
+        return String.format("%.1fKB", bytes / 1024.0);
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private final String path;
+        private final int weight;
+
+        Endpoint(String name, String path, int weight) {
+            this.name = name;
+            this.path = path;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 엔드포인트별 지연 시간 기록 (나노초, 정렬은 결과 출력 시 한 번)
+     */
+    private static final class Recorder {
+
+        private long[] samples;
+        private int size;
+        private final LongAdder errors = new LongAdder();
+
+        Recorder(int expected) {
+            this.samples = new long[Math.max(16, expected / 4)];
+        }
+
+        synchronized void record(long nanos, boolean success) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        synchronized long[] sorted() {
+            if (size == 0) {
+                return NO_SAMPLES;
+            }
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * 엔드포인트별 할당량 (요청을 처리한 서블릿 스레드의 할당 바이트, 비동기 위젯 스레드 할당은 제외)
+     */
+    private static final class Allocation {
+
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+
+        long perRequest() {
+            long n = requests.sum();
+            return n > 0 ? bytes.sum() / n : 0;
+        }
+    }
+
+    /**
+     * 요청 처리 스레드의 할당량을 X-Load-Test-Endpoint 헤더별로 집계하는 필터
+     */
+    @Configuration
+    static class LoadTestConfig {
+
+        @Bean
+        public FilterRegistrationBean<Filter> allocationTrackingFilter() {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            Filter filter = (request, response, chain) -> {
+                String endpoint = ((HttpServletRequest) request).getHeader(ENDPOINT_HEADER);
+                if (endpoint == null) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                long before = threads.getCurrentThreadAllocatedBytes();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    Allocation allocation = ALLOCATIONS.computeIfAbsent(endpoint, k -> new Allocation());
+                    allocation.bytes.add(threads.getCurrentThreadAllocatedBytes() - before);
+                    allocation.requests.increment();
+                }
+            };
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+            registration.addUrlPatterns("/*");
+            registration.setOrder(Integer.MIN_VALUE);
+            return registration;
+        }
+    }
+}
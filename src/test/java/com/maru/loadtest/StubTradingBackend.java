@@ -0,0 +1,373 @@
+package com.maru.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 부하 테스트용 Trading 백엔드(cautostock) 스텁 (JDK 내장 HttpServer, 외부 의존성 없음)
+ * - TradingApiService / MarketDataService / SchedulerService가 호출하는 /api/v1 엔드포인트에 실제와 같은 형태의 응답 제공
+ * - 목록 크기, 응답 지연(기본 + jitter, 연산 엔드포인트는 별도), 오류 비율을 Profile로 설정
+ * - 경로별 응답 본문은 처음 생성 후 재사용 (스텁의 CPU / 할당이 측정 대상인 maruweb에 섞이지 않도록)
+ * - Accept-Encoding: gzip 요청에는 압축 응답
+ */
+public class StubTradingBackend implements AutoCloseable {
+
+    private static final String[] SYMBOLS_KR = {"삼성전자", "SK하이닉스", "LG에너지솔루션", "삼성바이오로직스", "현대차",
+            "기아", "셀트리온", "POSCO홀딩스", "NAVER", "카카오", "삼성SDI", "LG화학", "KB금융", "신한지주", "현대모비스"};
+    private static final String[] STRATEGY_TYPES = {"MA_CROSSOVER", "RSI", "BOLLINGER", "MACD"};
+    private static final Pattern COMPUTE_PATH = Pattern.compile(
+            "/api/v1/(optimization/(grid-search|genetic-algorithm)|admin/backtests(/monte-carlo)?|risk/.*|demo/(backtest|optimization|advanced)/.*|query/performance/analysis)");
+
+    private final Profile profile;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<String, byte[]> bodyCache = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubTradingBackend(Profile profile) throws IOException {
+        this.profile = profile;
+        registerRoutes();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", profile.port), 1024);
+        this.executor = Executors.newFixedThreadPool(profile.threads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public StubTradingBackend start() {
+        server.start();
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ==================== 요청 처리 ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.increment();
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        sleep(COMPUTE_PATH.matcher(path).matches() ? profile.computeLatencyMs : profile.latencyMs);
+
+        if (profile.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < profile.errorRate) {
+            respond(exchange, 503, "{\"error\":\"stub injected failure\"}".getBytes());
+            return;
+        }
+
+        byte[] body = "GET".equals(method)
+                ? bodyCache.computeIfAbsent(path, p -> serialize(route(p).apply(p)))
+                : serialize(mutationAck(path));
+        respond(exchange, 200, body);
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip") && body.length > 1024;
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(body);
+            }
+        } else {
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void sleep(int[] latency) {
+        int millis = latency[0] + (latency[1] > 0 ? ThreadLocalRandom.current().nextInt(latency[1] + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Function<String, Object> route(String path) {
+        for (Route route : routes) {
+            if (route.pattern.matcher(path).matches()) {
+                return route.body;
+            }
+        }
+        return p -> page(new ArrayList<>());
+    }
+
+    // ==================== 경로별 응답 ====================
+
+    private void registerRoutes() {
+        route("/health", p -> map("status", "UP", "components", map("db", map("status", "UP"), "broker", map("status", "UP"))));
+        route("/api/v1/admin/kill-switch", p -> map("status", "OFF", "reason", null, "updatedAt", now()));
+
+        route("/api/v1/admin/accounts", p -> page(list(profile.accounts, this::account)));
+        route("/api/v1/admin/accounts/[^/]+", p -> account(0));
+        route("/api/v1/admin/accounts/[^/]+/permissions", p -> page(list(4, i -> map(
+                "permission", new String[]{"TRADE", "VIEW", "WITHDRAW", "ADMIN"}[i], "granted", i < 2))));
+
+        route("/api/v1/admin/strategies", p -> page(list(profile.strategies, this::strategy)));
+        route("/api/v1/admin/strategies/[^/]+", p -> strategy(0));
+
+        route("/api/v1/admin/instruments", p -> page(list(profile.instruments, this::instrument)));
+        route("/api/v1/admin/instruments/[^/]+", p -> instrument(0));
+
+        route("/api/v1/query/orders", p -> page(list(profile.rows, this::order)));
+        route("/api/v1/query/orders/[^/]+", p -> order(0));
+        route("/api/v1/query/fills", p -> page(list(profile.rows, this::fill)));
+        route("/api/v1/query/fills/[^/]+", p -> fill(0));
+        route("/api/v1/query/positions", p -> page(list(Math.min(profile.rows, 30), this::position)));
+        route("/api/v1/query/positions/[^/]+", p -> position(0));
+        route("/api/v1/query/balance", p -> map("accountId", "acc-0", "cash", 12_500_000, "totalValue", 48_300_000,
+                "buyingPower", 12_500_000, "unrealizedPnl", 1_230_000, "realizedPnl", 560_000, "updatedAt", now()));
+        route("/api/v1/query/dashboard/stats", p -> map("todayOrders", 42, "todayFills", 37, "todayProfitLoss", 182_000,
+                "totalProfitLoss", 4_820_000, "winRate", 57.3,
+                "recentActivities", list(10, i -> map("type", i % 2 == 0 ? "ORDER" : "FILL", "symbol", symbol(i),
+                        "message", SYMBOLS_KR[i % SYMBOLS_KR.length] + " 체결", "timestamp", now())),
+                "dailyStats", list(30, i -> map("date", LocalDate.now().minusDays(i).toString(),
+                        "profitLoss", (i * 7919 % 400_000) - 150_000, "orders", 20 + i % 15))));
+        route("/api/v1/query/executions", p -> map("executions", list(profile.rows, this::execution),
+                "total", profile.rows, "successCount", profile.rows - 3, "failureCount", 3));
+        route("/api/v1/query/performance/.*", p -> performance());
+        route("/api/v1/query/backtests/[^/]+", p -> backtest(0));
+
+        route("/api/v1/admin/backtests", p -> page(list(20, this::backtest)));
+        route("/api/v1/admin/backtests/[^/]+", p -> backtest(0));
+        route("/api/v1/admin/backtests/[^/]+/trades", p -> page(list(profile.rows, this::fill)));
+        route("/api/v1/admin/backtests/jobs/[^/]+/(status|result)", p -> map("jobId", "job-0", "status", "COMPLETED",
+                "progress", 100, "result", backtest(0)));
+        route("/api/v1/optimization/results", p -> page(list(20, i -> map("id", "opt-" + i, "strategyType", STRATEGY_TYPES[i % 4],
+                "bestParams", map("shortPeriod", 5 + i, "longPeriod", 20 + i), "bestReturn", 12.5 - i * 0.3, "createdAt", now()))));
+
+        route("/api/v1/risk/var", p -> map("var", 1_850_000, "cvar", 2_430_000, "confidenceLevel", 0.95, "timeHorizon", 1,
+                "method", "HISTORICAL", "returns", list(250, i -> ((i * 7919) % 600 - 300) / 10_000.0)));
+        route("/api/v1/risk/correlation", p -> map("symbols", list(10, this::symbol),
+                "matrix", list(10, i -> list(10, j -> i == j ? 1.0 : ((i * 31 + j * 17) % 200 - 100) / 100.0))));
+        route("/api/v1/admin/risk-rules/.*", p -> map("ruleId", "rule-0", "maxPositionValue", 10_000_000,
+                "maxOpenOrders", 20, "maxDailyLoss", 1_000_000, "enabled", true));
+
+        route("/api/v1/admin/market-data/symbols", p -> map("symbols", list(20, this::symbol), "count", 20));
+        route("/api/v1/admin/market-data/status", p -> map("connected", true, "subscribedCount", 20,
+                "lastMessageAt", now(), "messagesPerSecond", 120));
+        route("/api/v1/admin/scheduler/status", p -> map("enabled", true, "running", false, "lastExecutionAt", now(),
+                "totalExecutions", 1520, "successCount", 1498, "failureCount", 22));
+        route("/api/v1/demo/scenarios", p -> page(list(8, i -> map("id", "scenario-" + i, "name", "시나리오 " + i))));
+    }
+
+    private void route(String regex, Function<String, Object> body) {
+        routes.add(new Route(Pattern.compile(regex), body));
+    }
+
+    private Map<String, Object> mutationAck(String path) {
+        if (COMPUTE_PATH.matcher(path).matches()) {
+            return map("success", true, "backtestId", "bt-stub", "jobId", "job-stub", "status", "COMPLETED",
+                    "result", backtest(0));
+        }
+        return map("success", true, "ok", true, "message", "accepted", "id", "stub-" + System.nanoTime());
+    }
+
+    private Map<String, Object> account(int i) {
+        return map("accountId", "acc-" + i, "alias", "계좌 " + i, "broker", "KIS", "environment", i == 0 ? "PAPER" : "LIVE",
+                "status", "ACTIVE", "cano", String.format("5012%04d", i), "acntPrdtCd", "01",
+                "createdAt", "2025-01-02T09:00:00", "updatedAt", now());
+    }
+
+    private Map<String, Object> strategy(int i) {
+        return map("strategyId", "strategy-" + String.format("%03d", i), "name", STRATEGY_TYPES[i % 4] + " 전략 " + i,
+                "description", "부하 테스트용 전략", "type", STRATEGY_TYPES[i % 4], "status", i % 3 == 0 ? "STOPPED" : "ACTIVE",
+                "mode", "PAPER", "accountId", "acc-" + (i % Math.max(1, profile.accounts)),
+                "symbol", symbol(i) + "," + symbol(i + 1), "createdAt", "2025-01-02T09:00:00", "updatedAt", now());
+    }
+
+    private Map<String, Object> instrument(int i) {
+        return map("symbol", symbol(i), "market", i % 3 == 0 ? "KOSDAQ" : "KOSPI",
+                "nameKr", SYMBOLS_KR[i % SYMBOLS_KR.length] + (i >= SYMBOLS_KR.length ? " " + i : ""),
+                "nameEn", "Company " + i, "status", "LISTED", "tradable", i % 20 != 0, "halted", false,
+                "sectorCode", "S" + (i % 30), "industry", "업종 " + (i % 30), "tickSize", 100, "lotSize", 1,
+                "listingDate", "2000-01-04", "delistingDate", null);
+    }
+
+    private Map<String, Object> order(int i) {
+        return map("orderId", "ORD-" + (100_000 + i), "accountId", "acc-0", "strategyId", "strategy-" + String.format("%03d", i % 10),
+                "symbol", symbol(i), "side", i % 2 == 0 ? "BUY" : "SELL", "orderType", "LIMIT",
+                "status", i % 5 == 0 ? "CANCELLED" : "FILLED", "price", 70_000 + i * 10, "qty", 10 + i % 50,
+                "filledQty", 10 + i % 50, "avgPrice", 70_000 + i * 10, "createdAt", now(), "updatedAt", now());
+    }
+
+    private Map<String, Object> fill(int i) {
+        return map("fillId", "FILL-" + (200_000 + i), "orderId", "ORD-" + (100_000 + i), "accountId", "acc-0",
+                "strategyId", "strategy-" + String.format("%03d", i % 10), "symbol", symbol(i),
+                "side", i % 2 == 0 ? "BUY" : "SELL", "price", 70_000 + i * 10, "qty", 10 + i % 50, "fee", 150,
+                "tax", i % 2 == 0 ? 0 : 420, "brokerOrderNo", "B" + (300_000 + i), "filledAt", now());
+    }
+
+    private Map<String, Object> position(int i) {
+        return map("positionId", "POS-" + i, "accountId", "acc-0", "strategyId", "strategy-" + String.format("%03d", i % 10),
+                "symbol", symbol(i), "side", "LONG", "status", "OPEN", "qty", 100 + i, "avgPrice", 68_000 + i * 10,
+                "currentPrice", 70_000 + i * 10, "marketValue", (100 + i) * (70_000 + i * 10),
+                "costBasis", (100 + i) * (68_000 + i * 10), "unrealizedPnl", (100 + i) * 2_000, "realizedPnl", 0,
+                "openedAt", now(), "updatedAt", now());
+    }
+
+    private Map<String, Object> execution(int i) {
+        return map("executionId", "exec-" + (500_000 - i), "strategyId", "strategy-" + String.format("%03d", i % 10),
+                "strategyName", STRATEGY_TYPES[i % 4] + " 전략 " + (i % 10), "symbol", symbol(i),
+                "status", i % 40 == 0 ? "FAILED" : "SUCCESS", "signal", i % 3 == 0 ? "BUY" : "HOLD",
+                "executedAt", LocalDateTime.now().minusMinutes(i).toString(), "durationMs", 40 + i % 200);
+    }
+
+    private Map<String, Object> backtest(int i) {
+        return map("backtestId", "bt-" + i, "strategyType", STRATEGY_TYPES[i % 4], "symbol", symbol(i),
+                "startDate", "2024-01-01", "endDate", "2024-12-31", "totalReturn", 18.4 - i, "sharpeRatio", 1.32,
+                "maxDrawdown", -8.7, "winRate", 56.1, "totalTrades", 84, "status", "COMPLETED",
+                "equityCurve", list(250, d -> map("date", LocalDate.of(2024, 1, 1).plusDays(d).toString(),
+                        "equity", 10_000_000 + d * 7_300)), "createdAt", now());
+    }
+
+    private Map<String, Object> performance() {
+        return map("totalReturn", 14.2, "sharpeRatio", 1.18, "maxDrawdown", -9.4, "winRate", 55.2, "totalTrades", 312,
+                "strategies", list(10, i -> map("strategyId", "strategy-" + String.format("%03d", i),
+                        "strategyName", STRATEGY_TYPES[i % 4] + " 전략 " + i, "return", 20.0 - i * 2, "trades", 30 + i)),
+                "monthly", list(12, i -> map("month", "2025-" + String.format("%02d", i + 1), "profitLoss", (i * 7919 % 900_000) - 300_000)),
+                "daily", list(90, i -> map("date", LocalDate.now().minusDays(i).toString(), "profitLoss", (i * 4049 % 300_000) - 100_000)));
+    }
+
+    private String symbol(int i) {
+        return String.format("%06d", (5930 + i * 97) % 1_000_000);
+    }
+
+    private static Map<String, Object> page(List<?> items) {
+        return map("items", items, "total", items.size(), "page", 0, "size", items.size());
+    }
+
+    private static <T> List<T> list(int size, Function<Integer, T> row) {
+        List<T> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(row.apply(i));
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> map(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static String now() {
+        return LocalDateTime.now().withNano(0).toString();
+    }
+
+    private static final class Route {
+        private final Pattern pattern;
+        private final Function<String, Object> body;
+
+        Route(Pattern pattern, Function<String, Object> body) {
+            this.pattern = pattern;
+            this.body = body;
+        }
+    }
+
+    // ==================== 설정 ====================
+
+    /**
+     * 스텁 설정 (목록 크기 / 지연 / 오류 비율)
+     * - latencyMs: {기본, jitter 최대} 밀리초, 연산 엔드포인트는 computeLatencyMs
+     */
+    public static class Profile {
+
+        int port;
+        int threads = 64;
+        int accounts = 3;
+        int strategies = 20;
+        int instruments = 3_000;
+        int rows = 200;
+        int[] latencyMs = {15, 25};
+        int[] computeLatencyMs = {800, 400};
+        double errorRate;
+
+        /**
+         * 시스템 프로퍼티로 설정 (stub.port, stub.rows, stub.instruments, stub.latency-ms=15,25, stub.error-rate=0.01 등)
+         */
+        public static Profile fromSystemProperties() {
+            Profile profile = new Profile();
+            profile.port = Integer.getInteger("stub.port", 0);
+            profile.threads = Integer.getInteger("stub.threads", profile.threads);
+            profile.accounts = Integer.getInteger("stub.accounts", profile.accounts);
+            profile.strategies = Integer.getInteger("stub.strategies", profile.strategies);
+            profile.instruments = Integer.getInteger("stub.instruments", profile.instruments);
+            profile.rows = Integer.getInteger("stub.rows", profile.rows);
+            profile.latencyMs = range(System.getProperty("stub.latency-ms"), profile.latencyMs);
+            profile.computeLatencyMs = range(System.getProperty("stub.compute-latency-ms"), profile.computeLatencyMs);
+            profile.errorRate = Double.parseDouble(System.getProperty("stub.error-rate", "0"));
+            return profile;
+        }
+
+        private static int[] range(String value, int[] defaultValue) {
+            if (value == null || value.isEmpty()) {
+                return defaultValue;
+            }
+            String[] parts = value.split(",");
+            return new int[]{Integer.parseInt(parts[0].trim()), parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 0};
+        }
+
+        @Override
+        public String toString() {
+            return String.format("port=%d, rows=%d, instruments=%d, strategies=%d, latency=%d+%dms, compute=%d+%dms, errorRate=%.3f",
+                    port, rows, instruments, strategies, latencyMs[0], latencyMs[1],
+                    computeLatencyMs[0], computeLatencyMs[1], errorRate);
+        }
+    }
+}
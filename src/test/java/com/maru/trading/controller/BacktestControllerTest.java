@@ -1,6 +1,7 @@
 package com.maru.trading.controller;
 
 import com.maru.trading.controller.TestConfig;
+import com.maru.trading.service.BacktestProgressHub;
 import com.maru.trading.service.TradingApiService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,9 @@ class BacktestControllerTest {
     @MockBean
     private TradingApiService tradingApiService;
 
+    @MockBean
+    private BacktestProgressHub backtestProgressHub;
+
     @Test
     @DisplayName("백테스팅 결과 목록 페이지 - 성공")
     void list_Success() throws Exception {
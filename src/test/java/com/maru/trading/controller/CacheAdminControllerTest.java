@@ -0,0 +1,170 @@
+package com.maru.trading.controller;
+
+import com.maru.trading.dto.CacheStatsInfo;
+import com.maru.trading.service.CacheAdminService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest
+@ContextConfiguration(classes = TestConfig.class)
+@Import(CacheAdminController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("CacheAdminController 단위 테스트")
+class CacheAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheAdminService cacheAdminService;
+
+    @Nested
+    @DisplayName("캐시 관리 페이지")
+    class CachesPageTest {
+
+        @Test
+        @DisplayName("성공: 캐시 통계 페이지 렌더링")
+        void cachesPage_Success() throws Exception {
+            // Given
+            when(cacheAdminService.getAllCacheStats()).thenReturn(Collections.singletonList(createStats()));
+
+            // When & Then
+            mockMvc.perform(get("/trading/admin/caches"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("trading/cache-admin"))
+                    .andExpect(model().attributeExists("caches"));
+        }
+
+        @Test
+        @DisplayName("실패: 통계 조회 에러 시 에러 메시지 표시")
+        void cachesPage_Error() throws Exception {
+            // Given
+            when(cacheAdminService.getAllCacheStats()).thenThrow(new RuntimeException("stats error"));
+
+            // When & Then
+            mockMvc.perform(get("/trading/admin/caches"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("trading/cache-admin"))
+                    .andExpect(model().attributeExists("error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 튜닝")
+    class TuneTest {
+
+        @Test
+        @DisplayName("성공: 폼 제출 후 리다이렉트")
+        void tuneCache_Success() throws Exception {
+            // Given
+            when(cacheAdminService.tune("cacheManager", "accounts", 1000L, 600L)).thenReturn(createStats());
+
+            // When & Then
+            mockMvc.perform(post("/trading/admin/caches/tune")
+                            .param("cacheManager", "cacheManager")
+                            .param("cacheName", "accounts")
+                            .param("maximumSize", "1000")
+                            .param("ttlSeconds", "600"))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(redirectedUrl("/trading/admin/caches"))
+                    .andExpect(flash().attributeExists("message"));
+
+            verify(cacheAdminService).tune("cacheManager", "accounts", 1000L, 600L);
+        }
+
+        @Test
+        @DisplayName("실패: 잘못된 값은 에러 메시지와 함께 리다이렉트")
+        void tuneCache_Invalid() throws Exception {
+            // Given
+            when(cacheAdminService.tune(anyString(), anyString(), any(), any()))
+                    .thenThrow(new IllegalArgumentException("maximumSize must be positive: 0"));
+
+            // When & Then
+            mockMvc.perform(post("/trading/admin/caches/tune")
+                            .param("cacheManager", "cacheManager")
+                            .param("cacheName", "accounts")
+                            .param("maximumSize", "0"))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(flash().attributeExists("error"));
+        }
+
+        @Test
+        @DisplayName("API: TTL만 변경")
+        void tuneCacheApi_TtlOnly() throws Exception {
+            // Given
+            when(cacheAdminService.tune(eq("shortTtlCacheManager"), eq("healthStatus"), isNull(), eq(10L)))
+                    .thenReturn(createStats());
+
+            // When & Then
+            mockMvc.perform(put("/trading/admin/caches/api/shortTtlCacheManager/healthStatus")
+                            .param("ttlSeconds", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.cache.cacheName").value("accounts"));
+        }
+
+        @Test
+        @DisplayName("API: 알 수 없는 캐시는 400")
+        void tuneCacheApi_UnknownCache() throws Exception {
+            // Given
+            when(cacheAdminService.tune(anyString(), anyString(), any(), any()))
+                    .thenThrow(new IllegalArgumentException("Unknown cache: cacheManager/unknown"));
+
+            // When & Then
+            mockMvc.perform(put("/trading/admin/caches/api/cacheManager/unknown")
+                            .param("maximumSize", "10"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+
+    @Test
+    @DisplayName("API: 캐시 통계 조회")
+    void getCacheStats_Api() throws Exception {
+        // Given
+        when(cacheAdminService.getAllCacheStats()).thenReturn(Collections.singletonList(createStats()));
+
+        // When & Then
+        mockMvc.perform(get("/trading/admin/caches/api"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.caches[0].cacheManager").value("cacheManager"))
+                .andExpect(jsonPath("$.caches[0].hitRate").value(0.75));
+    }
+
+    private CacheStatsInfo createStats() {
+        return CacheStatsInfo.builder()
+                .cacheManager("cacheManager")
+                .cacheName("accounts")
+                .staleWhileRevalidate(true)
+                .ttlSeconds(300)
+                .maximumSize(500)
+                .estimatedSize(3)
+                .weightedSize(3)
+                .requestCount(4)
+                .hitCount(3)
+                .missCount(1)
+                .hitRate(0.75)
+                .missRate(0.25)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.NameLookupService;
 import com.maru.trading.service.TradingApiService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,13 +19,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest
 @ContextConfiguration(classes = TestConfig.class)
-@Import(ExecutionHistoryController.class)
+@Import({ExecutionHistoryController.class, NameLookupService.class})
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("ExecutionHistoryController 단위 테스트")
 class ExecutionHistoryControllerTest {
@@ -55,7 +57,7 @@ class ExecutionHistoryControllerTest {
     @DisplayName("실행 히스토리 페이지 - 성공")
     void history_Success() throws Exception {
         when(tradingApiService.getStrategies()).thenReturn(createMockStrategiesResponse());
-        when(tradingApiService.getExecutionHistory(any(), any(), any(), any()))
+        when(tradingApiService.getExecutionHistory(any(), any(), any(), any(), anyInt(), any()))
                 .thenReturn(createMockHistoryResponse());
 
         mockMvc.perform(get("/trading/execution-history"))
@@ -101,7 +103,7 @@ class ExecutionHistoryControllerTest {
         historyResponse.put("failedExecutions", 0);
         historyResponse.put("totalProfitLoss", 10000);
 
-        when(tradingApiService.getExecutionHistory("strategy-001", "2025-01-01", "2025-12-31", null))
+        when(tradingApiService.getExecutionHistory("strategy-001", "2025-01-01", "2025-12-31", null, 50, null))
                 .thenReturn(historyResponse);
 
         mockMvc.perform(get("/trading/execution-history")
@@ -120,7 +122,7 @@ class ExecutionHistoryControllerTest {
         // getStrategies 실패 시 strategies만 빈 리스트가 됨 (내부 catch에서 처리)
         when(tradingApiService.getStrategies()).thenThrow(new RuntimeException("Connection refused"));
         // getExecutionHistory도 실패하면 warning 메시지가 추가됨
-        when(tradingApiService.getExecutionHistory(any(), any(), any(), any()))
+        when(tradingApiService.getExecutionHistory(any(), any(), any(), any(), anyInt(), any()))
                 .thenThrow(new RuntimeException("Connection refused"));
 
         mockMvc.perform(get("/trading/execution-history"))
@@ -134,7 +136,7 @@ class ExecutionHistoryControllerTest {
     @DisplayName("실행 히스토리 - 조회 버튼 클릭 (날짜/상태 필터)")
     void history_SearchButtonClick() throws Exception {
         when(tradingApiService.getStrategies()).thenReturn(createMockStrategiesResponse());
-        when(tradingApiService.getExecutionHistory(any(), any(), any(), any()))
+        when(tradingApiService.getExecutionHistory(any(), any(), any(), any(), anyInt(), any()))
                 .thenReturn(createMockHistoryResponse());
 
         mockMvc.perform(get("/trading/execution-history")
@@ -154,7 +156,7 @@ class ExecutionHistoryControllerTest {
     @DisplayName("실행 히스토리 - 상태 필터 (SUCCESS)")
     void history_WithStatusFilter() throws Exception {
         when(tradingApiService.getStrategies()).thenReturn(createMockStrategiesResponse());
-        when(tradingApiService.getExecutionHistory(any(), any(), any(), any()))
+        when(tradingApiService.getExecutionHistory(any(), any(), any(), any(), anyInt(), any()))
                 .thenReturn(createMockHistoryResponse());
 
         mockMvc.perform(get("/trading/execution-history")
@@ -180,7 +182,7 @@ class ExecutionHistoryControllerTest {
         strategiesResponse.put("items", Arrays.asList(strategyWithNullId, strategyWithId));
         when(tradingApiService.getStrategies()).thenReturn(strategiesResponse);
 
-        when(tradingApiService.getExecutionHistory(any(), any(), any(), any()))
+        when(tradingApiService.getExecutionHistory(any(), any(), any(), any(), anyInt(), any()))
                 .thenReturn(createMockHistoryResponse());
 
         // null id를 가진 전략이 있어도 페이지가 정상적으로 렌더링되어야 함
@@ -1,6 +1,7 @@
 package com.maru.trading.controller;
 
 import com.maru.trading.controller.TestConfig;
+import com.maru.trading.service.PageModelAssembler;
 import com.maru.trading.service.TradingApiService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +17,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -24,7 +25,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest
 @ContextConfiguration(classes = TestConfig.class)
-@Import(HealthCheckController.class)
+@Import({HealthCheckController.class, PageModelAssembler.class})
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("HealthCheckController 단위 테스트")
 class HealthCheckControllerTest {
@@ -52,17 +53,11 @@ class HealthCheckControllerTest {
         account1.put("accountId", "test-account-001");
         accountsResponse.put("items", Arrays.asList(account1));
 
-        Map<String, Object> ordersResponse = new HashMap<>();
-        ordersResponse.put("items", Arrays.asList());
-
-        Map<String, Object> fillsResponse = new HashMap<>();
-        fillsResponse.put("items", Arrays.asList());
-
         when(tradingApiService.getHealthStatus()).thenReturn(healthResponse);
         when(tradingApiService.getStrategies()).thenReturn(strategiesResponse);
         when(tradingApiService.getAccounts()).thenReturn(accountsResponse);
-        when(tradingApiService.getOrders(anyString())).thenReturn(ordersResponse);
-        when(tradingApiService.getFills(anyString(), any(), any())).thenReturn(fillsResponse);
+        when(tradingApiService.countOrders(anyString())).thenReturn(3L);
+        when(tradingApiService.countFills(anyString())).thenReturn(2L);
 
         mockMvc.perform(get("/trading/health-check"))
                 .andExpect(status().isOk())
@@ -70,7 +65,9 @@ class HealthCheckControllerTest {
                 .andExpect(model().attributeExists("tradingApiHealth"))
                 .andExpect(model().attributeExists("dbHealth"))
                 .andExpect(model().attributeExists("activeStrategyCount"))
-                .andExpect(model().attribute("activeStrategyCount", 1));
+                .andExpect(model().attribute("activeStrategyCount", 1))
+                .andExpect(model().attribute("todayStats", hasEntry("orderCount", (Object) 3L)))
+                .andExpect(model().attribute("todayStats", hasEntry("fillCount", (Object) 2L)));
     }
 
     @Test
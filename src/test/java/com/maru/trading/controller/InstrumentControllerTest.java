@@ -1,5 +1,7 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.service.InstrumentSearchIndex;
 import com.maru.trading.service.TradingApiService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +25,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest
 @ContextConfiguration(classes = TestConfig.class)
-@Import(InstrumentController.class)
+@Import({InstrumentController.class, InstrumentSearchIndex.class})
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("InstrumentController 단위 테스트")
 class InstrumentControllerTest {
@@ -183,29 +185,57 @@ class InstrumentControllerTest {
                 .andExpect(jsonPath("$.error").value("Instrument not found"));
     }
 
+    // 검색 인덱스는 컨텍스트에 남아 이전 테스트의 목록으로 응답하므로 테스트마다 새로 생성
+    @org.springframework.test.annotation.DirtiesContext(methodMode = org.springframework.test.annotation.DirtiesContext.MethodMode.AFTER_METHOD)
     @Test
     @DisplayName("종목 검색 API - 성공")
     void searchInstrumentsApi_Success() throws Exception {
-        when(tradingApiService.getInstruments(any(), any(), any(), any()))
-                .thenReturn(createMockInstrumentsResponse());
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(Arrays.asList(
+                instrument("005930", "KOSPI", "삼성전자", "LISTED", true),
+                instrument("000660", "KOSPI", "SK하이닉스", "LISTED", true),
+                instrument("005935", "KOSPI", "삼성전자우", "DELISTED", true)));
 
         mockMvc.perform(get("/trading/instruments/api/search")
                         .param("search", "삼성"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items[0].symbol").value("005930"))
                 .andExpect(jsonPath("$.total").value(1));
     }
 
+    // 검색 인덱스는 컨텍스트에 남아 이전 테스트의 목록으로 응답하므로 테스트마다 새로 생성
+    @org.springframework.test.annotation.DirtiesContext(methodMode = org.springframework.test.annotation.DirtiesContext.MethodMode.AFTER_METHOD)
     @Test
     @DisplayName("종목 검색 API - 시장 필터")
     void searchInstrumentsApi_WithMarketFilter() throws Exception {
-        when(tradingApiService.getInstruments("KOSPI", "LISTED", true, "삼성"))
-                .thenReturn(createMockInstrumentsResponse());
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(Arrays.asList(
+                instrument("207940", "KOSDAQ", "삼성바이오", "LISTED", true),
+                instrument("005930", "KOSPI", "삼성전자", "LISTED", true)));
 
         mockMvc.perform(get("/trading/instruments/api/search")
                         .param("market", "KOSPI")
                         .param("search", "삼성"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
                 .andExpect(jsonPath("$.items[0].market").value("KOSPI"));
     }
+
+    // 검색 인덱스는 컨텍스트에 남아 이전 테스트의 목록으로 응답하므로 테스트마다 새로 생성
+    @org.springframework.test.annotation.DirtiesContext(methodMode = org.springframework.test.annotation.DirtiesContext.MethodMode.AFTER_METHOD)
+    @Test
+    @DisplayName("종목 검색 API - 검색어가 없으면 Trading API 목록 그대로")
+    void searchInstrumentsApi_NoSearch_UsesTradingApi() throws Exception {
+        when(tradingApiService.getInstruments("KOSPI", "LISTED", true, null))
+                .thenReturn(createMockInstrumentsResponse());
+
+        mockMvc.perform(get("/trading/instruments/api/search")
+                        .param("market", "KOSPI"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    private static Instrument instrument(String symbol, String market, String nameKr, String status, boolean tradable) {
+        return new Instrument(symbol, market, nameKr, null, status, tradable, false,
+                null, null, null, null, null, null);
+    }
 }
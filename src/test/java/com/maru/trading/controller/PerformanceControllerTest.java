@@ -1,7 +1,10 @@
 package com.maru.trading.controller;
 
 import com.maru.trading.controller.TestConfig;
+import com.maru.trading.service.ExcelExportService;
+import com.maru.trading.service.PerformanceAnalyticsEngine;
 import com.maru.trading.service.TradingApiService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +20,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +40,20 @@ class PerformanceControllerTest {
     @MockBean
     private TradingApiService tradingApiService;
 
+    @MockBean
+    private ExcelExportService excelExportService;
+
+    @MockBean
+    private PerformanceAnalyticsEngine performanceAnalytics;
+
+    @BeforeEach
+    void setUp() {
+        // 로컬 분석 엔진이 응답하지 못하는 상태가 기본 (백엔드 조회 경로)
+        when(performanceAnalytics.getPerformanceAnalysis(any(), any(), any(), any())).thenReturn(null);
+        when(performanceAnalytics.getStrategyStatistics(any(), any(), any())).thenReturn(null);
+        when(performanceAnalytics.getMonthlyDailyPerformance(anyInt(), anyInt(), any())).thenReturn(null);
+    }
+
     private Map<String, Object> createMockPerformanceResponse() {
         Map<String, Object> result = new HashMap<>();
         result.put("data", Arrays.asList());
@@ -98,4 +118,18 @@ class PerformanceControllerTest {
                 .andExpect(view().name("trading/performance-analysis"))
                 .andExpect(model().attributeExists("error"));
     }
+
+    @Test
+    @DisplayName("성과 분석 - 로컬 분석 엔진으로 응답하면 백엔드를 호출하지 않음")
+    void performance_ServedLocally() throws Exception {
+        when(performanceAnalytics.getPerformanceAnalysis(any(), any(), any(), any()))
+                .thenReturn(createMockPerformanceResponse());
+
+        mockMvc.perform(get("/trading/performance"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("trading/performance-analysis"))
+                .andExpect(model().attributeExists("summary"));
+
+        verify(tradingApiService, never()).getPerformanceAnalysis(any(), any(), any(), any());
+    }
 }
@@ -1,6 +1,10 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.CorrelationEngine;
+import com.maru.trading.service.PageModelAssembler;
 import com.maru.trading.service.TradingApiService;
+import com.maru.trading.service.ValueAtRiskEngine;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,13 +20,15 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest
 @ContextConfiguration(classes = TestConfig.class)
-@Import(RiskAnalysisController.class)
+@Import({RiskAnalysisController.class, PageModelAssembler.class})
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("RiskAnalysisController 단위 테스트")
 class RiskAnalysisControllerTest {
@@ -33,6 +39,20 @@ class RiskAnalysisControllerTest {
     @MockBean
     private TradingApiService tradingApiService;
 
+    @MockBean
+    private ValueAtRiskEngine valueAtRiskEngine;
+
+    @MockBean
+    private CorrelationEngine correlationEngine;
+
+    @BeforeEach
+    void setUp() {
+        // 로컬 엔진이 응답하지 못하는 상태가 기본 (백엔드 조회 경로)
+        when(valueAtRiskEngine.calculateVaR(any(), anyDouble(), anyInt(), any(), any(), any())).thenReturn(null);
+        when(valueAtRiskEngine.getVaRGrid(any(), any(), any(), any(), any())).thenReturn(null);
+        when(correlationEngine.getCorrelationAnalysis(any(), any(), any())).thenReturn(null);
+    }
+
     private Map<String, Object> createMockVarResponse() {
         Map<String, Object> result = new HashMap<>();
         Map<String, Object> varData = new HashMap<>();
@@ -121,4 +141,64 @@ class RiskAnalysisControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("trading/risk-dashboard"));
     }
+
+    @Test
+    @DisplayName("VaR 분석 - 로컬 엔진 결과 사용")
+    void varAnalysis_ServedLocally() throws Exception {
+        when(valueAtRiskEngine.calculateVaR(any(), anyDouble(), anyInt(), any(), any(), any()))
+                .thenReturn(createMockVarResponse());
+
+        mockMvc.perform(get("/trading/risk/var"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("varData"))
+                .andExpect(model().attributeDoesNotExist("error"));
+
+        verify(tradingApiService, never()).calculateVaR(any(), anyDouble(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("VaR 격자 API - 성공 / 로컬 데이터 부족 / 잘못된 파라미터")
+    void varGrid() throws Exception {
+        Map<String, Object> grid = new HashMap<>();
+        grid.put("grid", Arrays.asList());
+        when(valueAtRiskEngine.getVaRGrid(any(), any(), any(), any(), any())).thenReturn(grid);
+
+        mockMvc.perform(get("/trading/risk/var/grid").param("confidenceLevels", "0.95,0.99").param("timeHorizons", "1,10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.grid").isArray());
+
+        when(valueAtRiskEngine.getVaRGrid(any(), any(), any(), any(), any())).thenReturn(null);
+        mockMvc.perform(get("/trading/risk/var/grid"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false));
+
+        when(valueAtRiskEngine.getVaRGrid(any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("신뢰수준은 0과 1 사이여야 합니다."));
+        mockMvc.perform(get("/trading/risk/var/grid").param("confidenceLevels", "1.5"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("상관관계 - 로컬 엔진 결과 사용 (대시보드는 전략 쌍 목록)")
+    void correlation_ServedLocally() throws Exception {
+        Map<String, Object> local = createMockCorrelationResponse();
+        Map<String, Object> pair = new HashMap<>();
+        pair.put("strategy1", "S1");
+        pair.put("strategy2", "S2");
+        pair.put("correlation", 0.42);
+        local.put("pairs", Arrays.asList(pair));
+        when(correlationEngine.getCorrelationAnalysis(any(), any(), any())).thenReturn(local);
+        when(tradingApiService.calculateVaR(any(), anyDouble(), anyInt(), any(), any()))
+                .thenReturn(createMockVarResponse());
+
+        mockMvc.perform(get("/trading/risk/correlation"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("correlationMatrix", Arrays.asList()));
+        mockMvc.perform(get("/trading/risk/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("correlationMatrix", Arrays.asList(pair)));
+
+        verify(tradingApiService, never()).getCorrelationAnalysis(any(), any());
+    }
 }
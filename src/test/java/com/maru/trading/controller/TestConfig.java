@@ -1,6 +1,10 @@
 package com.maru.trading.controller;
 
+import com.maru.trading.service.TradingApiAsyncClient;
+import com.maru.trading.service.TradingApiHelper;
+import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
@@ -14,6 +18,7 @@ import org.springframework.web.servlet.View;
 import org.springframework.web.servlet.ViewResolver;
 
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Minimal configuration for @WebMvcTest in trading controller tests.
@@ -49,6 +54,17 @@ public class TestConfig {
         };
     }
 
+    /**
+     * TradingApiAsyncClient for PageModelAssembler widgets.
+     * Widgets call the mocked services directly, so the helper itself is never used.
+     * Skipped when the real client is component-scanned (e.g. E2E tests picking up this class).
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TradingApiAsyncClient testTradingApiAsyncClient() {
+        return new TradingApiAsyncClient(Mockito.mock(TradingApiHelper.class), ForkJoinPool.commonPool());
+    }
+
     /**
      * A mock view that does nothing but set status to 200.
      */
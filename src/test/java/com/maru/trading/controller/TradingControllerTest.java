@@ -1,7 +1,10 @@
 package com.maru.trading.controller;
 
 import com.maru.trading.controller.TestConfig;
+import com.maru.trading.dto.Instrument;
 import com.maru.trading.service.ExcelExportService;
+import com.maru.trading.service.InstrumentSearchIndex;
+import com.maru.trading.service.PageModelAssembler;
 import com.maru.trading.service.TradingApiService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -26,7 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest
 @ContextConfiguration(classes = TestConfig.class)
-@Import(TradingController.class)
+@Import({TradingController.class, PageModelAssembler.class, InstrumentSearchIndex.class})
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("TradingController 단위 테스트")
 class TradingControllerTest {
@@ -274,7 +278,7 @@ class TradingControllerTest {
 
         Map<String, Object> ordersResponse = new HashMap<>();
         ordersResponse.put("items", Arrays.asList());
-        when(tradingApiService.getOrders(anyString())).thenReturn(ordersResponse);
+        when(tradingApiService.getOrders(anyString(), anyInt(), any())).thenReturn(ordersResponse);
 
         mockMvc.perform(get("/trading/orders")
                         .param("accountId", "test-account-001"))
@@ -425,7 +429,7 @@ class TradingControllerTest {
 
         Map<String, Object> fillsResponse = new HashMap<>();
         fillsResponse.put("items", Arrays.asList());
-        when(tradingApiService.getFills(anyString(), any(), any())).thenReturn(fillsResponse);
+        when(tradingApiService.getFills(anyString(), any(), any(), anyInt(), any())).thenReturn(fillsResponse);
 
         mockMvc.perform(get("/trading/fills")
                         .param("accountId", "test-account-001"))
@@ -577,4 +581,27 @@ class TradingControllerTest {
                 .andExpect(redirectedUrl("/trading/accounts"))
                 .andExpect(flash().attributeExists("error"));
     }
+
+    @Test
+    @DisplayName("종목 검색 API - 종목코드/한글명 부분 일치 및 limit 적용")
+    void searchInstruments_FiltersTypedInstruments() throws Exception {
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(Arrays.asList(
+                instrument("005930", "삼성전자"),
+                instrument("005935", "삼성전자우"),
+                instrument("000660", "SK하이닉스")));
+
+        mockMvc.perform(get("/trading/api/instruments/search")
+                        .param("query", "삼성")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].symbol").value("005930"))
+                .andExpect(jsonPath("$.items[0].nameKr").value("삼성전자"));
+    }
+
+    private static Instrument instrument(String symbol, String nameKr) {
+        return new Instrument(symbol, "KOSPI", nameKr, null, "LISTED", true, false,
+                null, null, null, null, null, null);
+    }
 }
@@ -0,0 +1,73 @@
+package com.maru.trading.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Trading API 레코드 디코딩 테스트
+ */
+@DisplayName("Trading API 레코드 테스트")
+class TradingRecordsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("체결 목록 - 별칭 필드와 알 수 없는 필드 처리")
+    void fillList_AliasesAndUnknownFields() throws Exception {
+        // Given
+        String json = "{\"total\":1,\"items\":[{\"fillId\":\"f-1\",\"symbol\":\"005930\",\"side\":\"BUY\","
+                + "\"price\":70000,\"quantity\":10,\"commission\":350,\"filledAt\":\"2026-01-02T09:00:00\","
+                + "\"venue\":\"KRX\"}]}";
+
+        // When
+        ApiList<Fill> fills = objectMapper.readValue(json, new TypeReference<ApiList<Fill>>() {});
+
+        // Then
+        assertThat(fills.total()).isEqualTo(1L);
+        Fill fill = fills.items().get(0);
+        assertThat(fill.fillPrice()).isEqualByComparingTo("70000");
+        assertThat(fill.fillQty()).isEqualByComparingTo("10");
+        assertThat(fill.fee()).isEqualByComparingTo("350");
+        assertThat(fill.fillTimestamp()).isEqualTo("2026-01-02T09:00:00");
+        assertThat(fill.isBuy()).isTrue();
+        assertThat(fill.notional()).isEqualByComparingTo(new BigDecimal("700000"));
+    }
+
+    @Test
+    @DisplayName("전략 목록 - strategies 배열과 쉼표 구분 종목코드")
+    void strategyList_StrategiesField() throws Exception {
+        // Given
+        String json = "{\"strategies\":[{\"id\":42,\"name\":\"MA\",\"symbol\":\"005930, 000660,\"}]}";
+
+        // When
+        ApiList<Strategy> strategies = objectMapper.readValue(json, new TypeReference<ApiList<Strategy>>() {});
+
+        // Then
+        Strategy strategy = strategies.items().get(0);
+        assertThat(strategy.strategyId()).isEqualTo("42");
+        assertThat(strategy.symbols()).containsExactly("005930", "000660");
+    }
+
+    @Test
+    @DisplayName("종목 - 표시명 우선순위와 검색 일치")
+    void instrument_DisplayNameAndMatches() throws Exception {
+        // Given
+        Instrument instrument = objectMapper.readValue(
+                "{\"symbol\":\"005930\",\"nameKr\":\"\",\"nameEn\":\"Samsung Electronics\",\"tradable\":true}",
+                Instrument.class);
+
+        // Then
+        assertThat(instrument.displayName()).isEqualTo("Samsung Electronics");
+        assertThat(instrument.tradable()).isTrue();
+        assertThat(instrument.halted()).isFalse();
+        assertThat(instrument.matches("samsung")).isTrue();
+        assertThat(instrument.matches("0059")).isTrue();
+        assertThat(instrument.matches("sk")).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BacktestArtifactStore 단위 테스트
+ */
+@DisplayName("BacktestArtifactStore 테스트")
+class BacktestArtifactStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("완료된 결과는 저장 후 재시작해도 디스크에서 조회")
+    void survivesRestart() {
+        // Given
+        BacktestArtifactStore store = new BacktestArtifactStore(directory.toString(), 1 << 20, true);
+        store.put(BacktestArtifactStore.TRADES, "42", "42", trades(100));
+
+        // When
+        BacktestArtifactStore reopened = new BacktestArtifactStore(directory.toString(), 1 << 20, true);
+        Map<String, Object> result = reopened.get(BacktestArtifactStore.TRADES, "42");
+
+        // Then
+        assertThat(result).isEqualTo(trades(100));
+        assertThat(reopened.getEntryCount()).isEqualTo(1);
+        assertThat(reopened.getHitCount()).isEqualTo(1);
+        assertThat(reopened.get(BacktestArtifactStore.DETAIL, "42")).isNull();
+        assertThat(reopened.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오류 응답, 진행 중이거나 status가 없는 결과는 저장하지 않음")
+    void storesOnlyCompleted() {
+        // Given
+        BacktestArtifactStore store = new BacktestArtifactStore(directory.toString(), 1 << 20, true);
+
+        // When
+        store.putIfCompleted(BacktestArtifactStore.BACKTEST, "bt-1", "bt-1", Map.of("status", "RUNNING"));
+        store.putIfCompleted(BacktestArtifactStore.BACKTEST, "bt-2", "bt-2", Map.of("error", "unavailable"));
+        store.putIfCompleted(BacktestArtifactStore.BACKTEST, "bt-3", "bt-3", Map.of("status", "COMPLETED", "totalReturn", 0.15));
+        // status가 없으면 완료로 보지 않음
+        store.putIfCompleted(BacktestArtifactStore.BACKTEST, "bt-4", "bt-4", Map.of("totalReturn", 0.15));
+
+        // Then
+        assertThat(store.get(BacktestArtifactStore.BACKTEST, "bt-1")).isNull();
+        assertThat(store.get(BacktestArtifactStore.BACKTEST, "bt-2")).isNull();
+        assertThat(store.get(BacktestArtifactStore.BACKTEST, "bt-3")).containsEntry("totalReturn", 0.15);
+        assertThat(store.get(BacktestArtifactStore.BACKTEST, "bt-4")).isNull();
+        assertThat(store.getWriteCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘으면 가장 오래 읽지 않은 결과부터 삭제")
+    void evictsLeastRecentlyUsed() {
+        // Given
+        BacktestArtifactStore probe = new BacktestArtifactStore(directory.resolve("probe").toString(), 1 << 20, true);
+        probe.put(BacktestArtifactStore.TRADES, "1", "1", trades(50));
+        long entryBytes = probe.getTotalBytes();
+        BacktestArtifactStore store = new BacktestArtifactStore(directory.resolve("lru").toString(), entryBytes * 2 + entryBytes / 2, true);
+        store.put(BacktestArtifactStore.TRADES, "1", "1", trades(50));
+        store.put(BacktestArtifactStore.TRADES, "2", "2", trades(50));
+
+        // When
+        store.get(BacktestArtifactStore.TRADES, "1");
+        store.put(BacktestArtifactStore.TRADES, "3", "3", trades(50));
+
+        // Then
+        assertThat(store.getEntryCount()).isEqualTo(2);
+        assertThat(store.getEvictionCount()).isEqualTo(1);
+        assertThat(store.get(BacktestArtifactStore.TRADES, "2")).isNull();
+        assertThat(store.get(BacktestArtifactStore.TRADES, "1")).isNotNull();
+        assertThat(store.get(BacktestArtifactStore.TRADES, "3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("백테스트 삭제 시 해당 백테스트의 결과만 모두 제거")
+    void evictsDeletedBacktest() {
+        // Given
+        BacktestArtifactStore store = new BacktestArtifactStore(directory.toString(), 1 << 20, true);
+        store.putIfCompleted(BacktestArtifactStore.DETAIL, "7", "7", Map.of("status", "COMPLETED"));
+        store.put(BacktestArtifactStore.TRADES, "7", "7", trades(3));
+        store.put(BacktestArtifactStore.JOB_RESULT, "job-a", "7", Map.of("backtestId", 7));
+        store.putIfCompleted(BacktestArtifactStore.DETAIL, "8", "8", Map.of("status", "COMPLETED"));
+
+        // When
+        store.evictBacktest("7");
+
+        // Then
+        assertThat(store.getEntryCount()).isEqualTo(1);
+        assertThat(store.get(BacktestArtifactStore.JOB_RESULT, "job-a")).isNull();
+        assertThat(store.get(BacktestArtifactStore.DETAIL, "8")).isNotNull();
+        assertThat(new BacktestArtifactStore(directory.toString(), 1 << 20, true).getEntryCount()).isEqualTo(1);
+    }
+
+    private Map<String, Object> trades(int count) {
+        List<Object> trades = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> trade = new HashMap<>();
+            trade.put("tradeId", "t-" + i);
+            trade.put("symbol", "005930");
+            trade.put("price", 71000 + i);
+            trades.add(trade);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("trades", trades);
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BacktestProgressHub 단위 테스트
+ */
+@DisplayName("BacktestProgressHub 테스트")
+class BacktestProgressHubTest {
+
+    private TradingApiService tradingApiService;
+    private ScheduledExecutorService scheduler;
+    private BacktestProgressHub hub;
+
+    @BeforeEach
+    void setUp() {
+        tradingApiService = mock(TradingApiService.class);
+        // 예약만 기록하고 실행하지 않음, pollNow()로 직접 조회
+        scheduler = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        hub = new BacktestProgressHub(tradingApiService, scheduler, 60_000L, 500L, 1000L, 5000L);
+    }
+
+    @Test
+    @DisplayName("구독자 수와 무관하게 작업당 한 번만 조회")
+    void onePollPerJob() {
+        // Given
+        when(tradingApiService.getAsyncBacktestStatus("job-1")).thenReturn(status("RUNNING", 40));
+        for (int i = 0; i < 5; i++) {
+            hub.register("job-1", new SseEmitter());
+        }
+
+        // When
+        hub.pollNow("job-1");
+
+        // Then
+        verify(tradingApiService, times(1)).getAsyncBacktestStatus("job-1");
+        assertThat(hub.getSubscriberCount("job-1")).isEqualTo(5);
+        assertThat(hub.getSubscriberCount()).isEqualTo(5);
+        assertThat(hub.getPollerCount()).isEqualTo(1);
+        assertThat(hub.getBackendPollCount()).isEqualTo(1);
+        verify(scheduler).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 모든 구독을 완료하고 폴러 제거")
+    void cleansUpFinishedJob() {
+        // Given
+        when(tradingApiService.getAsyncBacktestStatus("job-1")).thenReturn(status("COMPLETED", 100));
+        hub.register("job-1", new SseEmitter());
+        hub.register("job-1", new SseEmitter());
+
+        // When
+        hub.pollNow("job-1");
+
+        // Then
+        assertThat(hub.getPollerCount()).isZero();
+        assertThat(hub.getSubscriberCount()).isZero();
+
+        // 끝난 뒤 새로 구독하면 새 폴러로 한 번 더 조회
+        hub.register("job-1", new SseEmitter());
+        assertThat(hub.getPollerCount()).isEqualTo(1);
+        hub.pollNow("job-1");
+        assertThat(hub.getPollerCount()).isZero();
+        verify(tradingApiService, times(2)).getAsyncBacktestStatus("job-1");
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 떠나면 폴러 제거")
+    void stopsWithoutSubscribers() {
+        // Given
+        SseEmitter first = new SseEmitter();
+        SseEmitter second = new SseEmitter();
+        hub.register("job-1", first);
+        hub.register("job-1", second);
+
+        // When
+        hub.unsubscribe("job-1", first);
+
+        // Then
+        assertThat(hub.getPollerCount()).isEqualTo(1);
+        hub.unsubscribe("job-1", second);
+        assertThat(hub.getPollerCount()).isZero();
+        assertThat(hub.getSubscriberCount()).isZero();
+        hub.pollNow("job-1");
+        verify(tradingApiService, times(0)).getAsyncBacktestStatus("job-1");
+    }
+
+    @Test
+    @DisplayName("백엔드 조회 중에도 구독 해제가 대기하지 않음")
+    void unsubscribeDoesNotWaitForFetch() throws Exception {
+        // Given
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tradingApiService.getAsyncBacktestStatus("job-1")).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return status("RUNNING", 40);
+        });
+        SseEmitter emitter = new SseEmitter();
+        hub.register("job-1", emitter);
+        CompletableFuture<Void> poll = CompletableFuture.runAsync(() -> hub.pollNow("job-1"));
+        assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<Void> unsubscribe = CompletableFuture.runAsync(() -> hub.unsubscribe("job-1", emitter));
+
+        // Then
+        unsubscribe.get(1, TimeUnit.SECONDS);
+        assertThat(hub.getPollerCount()).isZero();
+        release.countDown();
+        poll.get(5, TimeUnit.SECONDS);
+        // 조회가 끝나도 종료된 폴러는 다시 예약하지 않음 (등록 시 최초 예약 1회만)
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("상태에 따라 조회 주기 조정")
+    void adaptiveInterval() {
+        assertThat(hub.nextDelayMs(status("QUEUED", 0))).isEqualTo(5000L);
+        assertThat(hub.nextDelayMs(status("RUNNING", 30))).isEqualTo(1000L);
+        assertThat(hub.nextDelayMs(status("RUNNING", 95))).isEqualTo(500L);
+        assertThat(hub.nextDelayMs(Map.of("status", "UNKNOWN", "error", "down"))).isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("상태 조회 실패 시 UNKNOWN 상태를 전송하고 천천히 재시도")
+    void backsOffOnFailure() {
+        // Given
+        when(tradingApiService.getAsyncBacktestStatus("job-1")).thenThrow(new RuntimeException("down"));
+        hub.register("job-1", new SseEmitter());
+
+        // When
+        hub.pollNow("job-1");
+
+        // Then
+        assertThat(hub.getPollerCount()).isEqualTo(1);
+        verify(scheduler).schedule(any(Runnable.class), eq(5000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private Map<String, Object> status(String status, int progress) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", status);
+        result.put("progress", progress);
+        return result;
+    }
+}
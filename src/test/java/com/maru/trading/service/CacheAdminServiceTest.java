@@ -0,0 +1,205 @@
+package com.maru.trading.service;
+
+import com.maru.config.StaleWhileRevalidateCache;
+import com.maru.config.StaleWhileRevalidateCacheManager;
+import com.maru.trading.dto.CacheStatsInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * CacheAdminService / TradingCacheMetrics 단위 테스트
+ */
+@DisplayName("CacheAdminService 테스트")
+class CacheAdminServiceTest {
+
+    private StaleWhileRevalidateCacheManager defaultManager;
+    private StaleWhileRevalidateCacheManager shortTtlManager;
+    private CacheAdminService cacheAdminService;
+
+    @BeforeEach
+    void setUp() {
+        defaultManager = new StaleWhileRevalidateCacheManager(Duration.ofMinutes(5), 500,
+                Set.of("accounts"), Duration.ofMinutes(30), Runnable::run, () -> false);
+        shortTtlManager = new StaleWhileRevalidateCacheManager(Duration.ofSeconds(30), 100,
+                Set.of(), Duration.ofMinutes(30), Runnable::run, () -> false);
+
+        Map<String, CacheManager> managers = new LinkedHashMap<>();
+        managers.put("shortTtlCacheManager", shortTtlManager);
+        managers.put("cacheManager", defaultManager);
+        cacheAdminService = new CacheAdminService(managers);
+    }
+
+    @Nested
+    @DisplayName("통계 조회")
+    class StatsTest {
+
+        @Test
+        @DisplayName("생성된 모든 캐시를 매니저/캐시 이름 순으로 반환")
+        void getAllCacheStats_ListsCachesInOrder() {
+            // Given
+            load(defaultManager.getCache("strategies"), "all");
+            load(defaultManager.getCache("accounts"), "all");
+            load(shortTtlManager.getCache("healthStatus"), "health");
+
+            // When
+            List<CacheStatsInfo> stats = cacheAdminService.getAllCacheStats();
+
+            // Then
+            assertThat(stats).extracting(CacheStatsInfo::getCacheManager)
+                    .containsExactly("cacheManager", "cacheManager", "shortTtlCacheManager");
+            assertThat(stats).extracting(CacheStatsInfo::getCacheName)
+                    .containsExactly("accounts", "strategies", "healthStatus");
+            assertThat(stats.get(0).isStaleWhileRevalidate()).isTrue();
+            assertThat(stats.get(1).isStaleWhileRevalidate()).isFalse();
+        }
+
+        @Test
+        @DisplayName("히트/미스, 엔트리 수, 최대 크기, TTL 반영")
+        void getCacheStats_ReportsCaffeineStats() {
+            // Given
+            Cache cache = shortTtlManager.getCache("healthStatus");
+            load(cache, "health");
+            load(cache, "health");
+            load(cache, "health");
+
+            // When
+            CacheStatsInfo stats = cacheAdminService.getCacheStats("shortTtlCacheManager", "healthStatus");
+
+            // Then
+            assertThat(stats.getRequestCount()).isEqualTo(3);
+            assertThat(stats.getHitCount()).isEqualTo(2);
+            assertThat(stats.getMissCount()).isEqualTo(1);
+            assertThat(stats.getHitRate()).isEqualTo(2.0 / 3);
+            assertThat(stats.getLoadSuccessCount()).isEqualTo(1);
+            assertThat(stats.getEstimatedSize()).isEqualTo(1);
+            assertThat(stats.getWeightedSize()).isEqualTo(1);
+            assertThat(stats.getMaximumSize()).isEqualTo(100);
+            assertThat(stats.getTtlSeconds()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 캐시는 생성하지 않고 예외")
+        void getCacheStats_UnknownCache() {
+            assertThatThrownBy(() -> cacheAdminService.getCacheStats("cacheManager", "unknown"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> cacheAdminService.getCacheStats("unknownManager", "accounts"))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(defaultManager.getCacheNames()).doesNotContain("unknown");
+        }
+    }
+
+    @Nested
+    @DisplayName("런타임 튜닝")
+    class TuneTest {
+
+        @Test
+        @DisplayName("일반 캐시의 최대 크기와 TTL 변경")
+        void tune_CaffeineCache() {
+            // Given
+            load(shortTtlManager.getCache("healthStatus"), "health");
+
+            // When
+            CacheStatsInfo stats = cacheAdminService.tune("shortTtlCacheManager", "healthStatus", 50L, 10L);
+
+            // Then
+            assertThat(stats.getMaximumSize()).isEqualTo(50);
+            assertThat(stats.getTtlSeconds()).isEqualTo(10);
+            assertThat(stats.getEstimatedSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Stale-While-Revalidate 캐시의 TTL 변경")
+        void tune_StaleWhileRevalidateCache() {
+            // Given
+            StaleWhileRevalidateCache cache = (StaleWhileRevalidateCache) defaultManager.getCache("accounts");
+            load(cache, "all");
+
+            // When
+            CacheStatsInfo stats = cacheAdminService.tune("cacheManager", "accounts", null, 120L);
+
+            // Then
+            assertThat(cache.getTtl()).isEqualTo(Duration.ofSeconds(120));
+            assertThat(stats.getTtlSeconds()).isEqualTo(120);
+            assertThat(stats.getMaximumSize()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("0 이하의 값은 거부")
+        void tune_RejectsNonPositiveValues() {
+            load(shortTtlManager.getCache("healthStatus"), "health");
+
+            assertThatThrownBy(() -> cacheAdminService.tune("shortTtlCacheManager", "healthStatus", 0L, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> cacheAdminService.tune("shortTtlCacheManager", "healthStatus", null, -1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Micrometer 메트릭")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("바인딩 이후 생성된 캐시도 게이지로 등록")
+        void bindTo_RegistersLazilyCreatedCaches() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            load(defaultManager.getCache("accounts"), "all");
+            new TradingCacheMetrics(cacheAdminService, mock(BacktestArtifactStore.class), mock(ClosedPeriodMemo.class)).bindTo(registry);
+
+            // When
+            Cache health = shortTtlManager.getCache("healthStatus");
+            load(health, "health");
+            load(health, "health");
+
+            // Then
+            assertThat(registry.get("trading.cache.size")
+                    .tags("cacheManager", "cacheManager", "cache", "accounts").gauge().value()).isEqualTo(1.0);
+            assertThat(registry.get("trading.cache.hit.ratio")
+                    .tags("cacheManager", "shortTtlCacheManager", "cache", "healthStatus").gauge().value()).isEqualTo(0.5);
+            assertThat(registry.get("trading.cache.hits")
+                    .tags("cacheManager", "shortTtlCacheManager", "cache", "healthStatus").functionCounter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("런타임 변경한 최대 크기가 게이지에 반영")
+        void gauge_ReflectsTuning() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            new TradingCacheMetrics(cacheAdminService, mock(BacktestArtifactStore.class), mock(ClosedPeriodMemo.class)).bindTo(registry);
+            load(shortTtlManager.getCache("healthStatus"), "health");
+
+            // When
+            cacheAdminService.tune("shortTtlCacheManager", "healthStatus", 20L, null);
+
+            // Then
+            assertThat(registry.get("trading.cache.maximum.size")
+                    .tags("cacheManager", "shortTtlCacheManager", "cache", "healthStatus").gauge().value()).isEqualTo(20.0);
+        }
+    }
+
+    private static void load(Cache cache, String key) {
+        cache.get(key, () -> {
+            Map<String, Object> value = new HashMap<>();
+            value.put("key", key);
+            return value;
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClosedPeriodMemo 단위 테스트
+ */
+@DisplayName("ClosedPeriodMemo 테스트")
+class ClosedPeriodMemoTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("닫힌 기간 결과는 디스크에 저장되어 재시작 후에도 재사용")
+    void closedPeriodPersists() {
+        // Given
+        ClosedPeriodMemo memo = memo(Duration.ofSeconds(60));
+        memo.get("calendar", LocalDate.of(2026, 2, 28), params("2026-02"), loader("feb"));
+
+        // When
+        ClosedPeriodMemo restarted = memo(Duration.ofSeconds(60));
+        Map<String, Object> result = restarted.get("calendar", LocalDate.of(2026, 2, 28), params("2026-02"), loader("other"));
+
+        // Then
+        assertThat(result.get("value")).isEqualTo("feb");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(restarted.getDiskHitCount()).isEqualTo(1);
+
+        // 메모리에 올라온 뒤에는 디스크도 읽지 않음
+        restarted.get("calendar", LocalDate.of(2026, 2, 28), params("2026-02"), loader("other"));
+        assertThat(restarted.getClosedHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("열린 기간 결과는 TTL 동안만 재사용하고 디스크에 저장하지 않음")
+    void openPeriodUsesShortTtl() {
+        // Given
+        ClosedPeriodMemo memo = memo(Duration.ofSeconds(60));
+        LocalDate endOfMonth = YearMonth.of(2026, 3).atEndOfMonth();
+
+        // When
+        memo.get("calendar", endOfMonth, params("2026-03"), loader("mar"));
+        memo.get("calendar", endOfMonth, params("2026-03"), loader("mar"));
+        memo.invalidateOpen();
+        memo.get("calendar", endOfMonth, params("2026-03"), loader("mar"));
+
+        // Then
+        assertThat(memo.isClosed(endOfMonth)).isFalse();
+        assertThat(memo.getOpenHitCount()).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(memo(Duration.ofSeconds(60)).get("calendar", endOfMonth, params("2026-03"), loader("again"))
+                .get("value")).isEqualTo("again");
+    }
+
+    @Test
+    @DisplayName("오류 응답은 저장하지 않음")
+    void errorsAreNotMemoized() {
+        // Given
+        ClosedPeriodMemo memo = memo(Duration.ofSeconds(60));
+        Supplier<Map<String, Object>> failing = () -> {
+            loads.incrementAndGet();
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "VaR 계산에 실패했습니다.");
+            return error;
+        };
+
+        // When
+        memo.get("var", LocalDate.of(2025, 12, 31), params("2025"), failing);
+        memo.get("var", LocalDate.of(2025, 12, 31), params("2025"), failing);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키는 파라미터 순서와 무관")
+    void canonicalKey() {
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("startDate", "2026-01-01");
+        a.put("endDate", "2026-01-31");
+        a.put("strategyId", null);
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("strategyId", null);
+        b.put("endDate", "2026-01-31");
+        b.put("startDate", "2026-01-01");
+
+        assertThat(ClosedPeriodMemo.key(a)).isEqualTo(ClosedPeriodMemo.key(b)).hasSize(32);
+        b.put("endDate", "2026-02-28");
+        assertThat(ClosedPeriodMemo.key(a)).isNotEqualTo(ClosedPeriodMemo.key(b));
+    }
+
+    @Test
+    @DisplayName("기간을 달력상 월로 분할")
+    void splitsIntoMonths() {
+        assertThat(ClosedPeriodMemo.months(LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 3)))
+                .containsExactly(YearMonth.of(2025, 11), YearMonth.of(2025, 12), YearMonth.of(2026, 1), YearMonth.of(2026, 2));
+        assertThat(ClosedPeriodMemo.parseDate("2026/01/01")).isNull();
+    }
+
+    private ClosedPeriodMemo memo(Duration openTtl) {
+        BacktestArtifactStore store = new BacktestArtifactStore(directory.toString(), 1 << 20, true);
+        return new ClosedPeriodMemo(store, true, openTtl, 100, CLOCK);
+    }
+
+    private Supplier<Map<String, Object>> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            Map<String, Object> result = new HashMap<>();
+            result.put("value", value);
+            return result;
+        };
+    }
+
+    private static Map<String, Object> params(String period) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("period", period);
+        params.put("strategyId", null);
+        return params;
+    }
+}
@@ -0,0 +1,124 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConditionalGetCache 단위 테스트
+ */
+@DisplayName("ConditionalGetCache 테스트")
+class ConditionalGetCacheTest {
+
+    private static final String URL = "/api/v1/query/orders?accountId=acc-1";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private ConditionalGetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConditionalGetCache(100, now::get);
+    }
+
+    @Test
+    @DisplayName("ETag와 Last-Modified를 조건부 요청 헤더로 변환")
+    void conditionalHeaders_FromValidators() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"abc\"");
+        headers.setLastModified(1_700_000_000_000L);
+        cache.store(URL, headers, body());
+
+        // When
+        HttpHeaders conditional = cache.conditionalHeaders(URL);
+
+        // Then
+        assertThat(conditional.getIfNoneMatch()).containsExactly("\"abc\"");
+        assertThat(conditional.getIfModifiedSince()).isEqualTo(1_700_000_000_000L);
+        assertThat(cache.getFresh(URL)).isNull();
+    }
+
+    @Test
+    @DisplayName("max-age 경과 전까지만 요청 없이 재사용")
+    void maxAge_FreshUntilExpired() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("private, max-age=5");
+        cache.store(URL, headers, body());
+
+        // When & Then
+        assertThat(cache.getFresh(URL)).containsEntry("total", 3);
+        now.addAndGet(5_000);
+        assertThat(cache.getFresh(URL)).isNull();
+    }
+
+    @Test
+    @DisplayName("no-cache는 저장하되 항상 재검증, no-store는 저장하지 않음")
+    void noCacheAndNoStore() {
+        // Given
+        HttpHeaders noCache = new HttpHeaders();
+        noCache.setCacheControl("no-cache, max-age=60");
+        noCache.setETag("\"v1\"");
+        HttpHeaders noStore = new HttpHeaders();
+        noStore.setCacheControl("no-store");
+        noStore.setETag("\"v1\"");
+
+        // When
+        cache.store(URL, noCache, body());
+        cache.store("/other", noStore, body());
+
+        // Then
+        assertThat(cache.getFresh(URL)).isNull();
+        assertThat(cache.conditionalHeaders(URL)).isNotNull();
+        assertThat(cache.conditionalHeaders("/other")).isNull();
+    }
+
+    @Test
+    @DisplayName("304 응답의 max-age로 신선도 갱신 및 재사용 비율 집계")
+    void notModified_RefreshesFreshness() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        cache.store(URL, headers, body());
+        HttpHeaders notModifiedHeaders = new HttpHeaders();
+        notModifiedHeaders.setCacheControl("max-age=30");
+
+        // When
+        Map<String, Object> reused = cache.notModified(URL, notModifiedHeaders);
+
+        // Then
+        assertThat(reused).containsEntry("total", 3);
+        assertThat(cache.getFresh(URL)).isNotNull();
+        assertThat(cache.getNotModifiedCount()).isEqualTo(1);
+        assertThat(cache.getFreshHitCount()).isEqualTo(1);
+        assertThat(cache.getReuseRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("반환된 본문을 수정해도 저장된 본문은 그대로")
+    void returnedBody_IsCopy() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=60");
+        cache.store(URL, headers, body());
+
+        // When
+        cache.getFresh(URL).put("total", 99);
+
+        // Then
+        assertThat(cache.getFresh(URL)).containsEntry("total", 3);
+    }
+
+    private static Map<String, Object> body() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("total", 3);
+        return body;
+    }
+}
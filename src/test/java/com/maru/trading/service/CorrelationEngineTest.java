@@ -0,0 +1,214 @@
+package com.maru.trading.service;
+
+import com.maru.trading.service.PerformanceAnalyticsEngine.DailyMatrix;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CorrelationEngine 단위 테스트
+ */
+@DisplayName("CorrelationEngine 테스트")
+class CorrelationEngineTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+
+    private PerformanceAnalyticsEngine performanceAnalytics;
+    private ForkJoinPool pool;
+    private double[][] history;
+
+    @BeforeEach
+    void setUp() {
+        performanceAnalytics = mock(PerformanceAnalyticsEngine.class);
+        pool = new ForkJoinPool(4);
+        history = randomSeries(60, 3, 11);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("누적 공적률은 2-pass 공분산과 같음 (추가/제거)")
+    void momentsMatchTwoPass() {
+        // Given
+        CorrelationEngine.Moments moments = new CorrelationEngine.Moments(3, null);
+
+        // When - 60일을 넣고 앞 20일을 뺌
+        for (double[] day : history) {
+            moments.add(day);
+        }
+        for (int d = 0; d < 20; d++) {
+            moments.remove(history[d]);
+        }
+
+        // Then
+        double[][] window = Arrays.copyOfRange(history, 20, 60);
+        assertThat(moments.count()).isEqualTo(40);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertThat(moments.comoment(i, j)).isCloseTo(twoPassComoment(window, i, j), within(1e-6));
+            }
+        }
+        assertThat(moments.correlation()[0][1]).isCloseTo(twoPassCorrelation(window, 0, 1), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("행 블록 병렬 계산은 순차 계산과 같음")
+    void parallelBlocksMatchSequential() {
+        // Given - 200개 계열
+        double[][] wide = randomSeries(30, 200, 5);
+        CorrelationEngine.Moments sequential = new CorrelationEngine.Moments(200, null);
+        CorrelationEngine.Moments parallel = new CorrelationEngine.Moments(200, pool);
+
+        // When
+        for (double[] day : wide) {
+            sequential.add(day);
+            parallel.add(day);
+        }
+
+        // Then
+        double[][] expected = sequential.correlation();
+        double[][] actual = parallel.correlation();
+        for (int i = 0; i < 200; i++) {
+            assertThat(actual[i]).containsExactly(expected[i]);
+            assertThat(actual[i][i]).isEqualTo(1.0);
+        }
+        assertThat(actual[17][150]).isEqualTo(actual[150][17]);
+    }
+
+    @Test
+    @DisplayName("기간이 하루 밀리면 빠진 날과 새 날만 반영")
+    @SuppressWarnings("unchecked")
+    void rollingWindowUpdatesIncrementally() {
+        // Given - 30일 기간 (거래일 = 매일)
+        CorrelationEngine engine = new CorrelationEngine(performanceAnalytics, true, 10, 128, 1000, pool);
+        stubRange(0, 30);
+        engine.getCorrelationAnalysis(date(0), date(29), List.of(Map.of("id", "S0", "name", "모멘텀")));
+        long updatesAfterBuild = engine.getDayUpdateCount();
+
+        // When - 하루 이동
+        stubRange(1, 31);
+        Map<String, Object> result = engine.getCorrelationAnalysis(date(1), date(30), null);
+
+        // Then - 1일 제거 + 1일 추가, 재계산 없음
+        assertThat(engine.getRebuildCount()).isEqualTo(1);
+        assertThat(engine.getDayUpdateCount() - updatesAfterBuild).isEqualTo(2);
+        List<List<Double>> matrix = (List<List<Double>>) result.get("correlationMatrix");
+        assertThat(matrix.get(0).get(2)).isCloseTo(twoPassCorrelation(Arrays.copyOfRange(history, 1, 31), 0, 2), within(1e-9));
+        assertThat(result.get("strategies")).isEqualTo(List.of("S0", "S1", "S2"));
+        assertThat((List<?>) result.get("pairs")).hasSize(3);
+        assertThat(result.get(PerformanceAnalyticsEngine.SOURCE)).isEqualTo(PerformanceAnalyticsEngine.SOURCE_LOCAL);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 날의 손익이 바뀌면 그날만 다시 반영")
+    @SuppressWarnings("unchecked")
+    void changedDayIsReplaced() {
+        // Given
+        CorrelationEngine engine = new CorrelationEngine(performanceAnalytics, true, 10, 128, 1000, pool);
+        stubRange(0, 30);
+        engine.getCorrelationAnalysis(date(0), date(29), null);
+        long updatesAfterBuild = engine.getDayUpdateCount();
+
+        // When - 마지막 날 체결 추가
+        history[29] = new double[] {500, -300, 20};
+        stubRange(0, 30);
+        Map<String, Object> result = engine.getCorrelationAnalysis(date(0), date(29), null);
+
+        // Then
+        assertThat(engine.getRebuildCount()).isEqualTo(1);
+        assertThat(engine.getDayUpdateCount() - updatesAfterBuild).isEqualTo(2);
+        List<List<Double>> matrix = (List<List<Double>>) result.get("correlationMatrix");
+        assertThat(matrix.get(0).get(1)).isCloseTo(twoPassCorrelation(Arrays.copyOfRange(history, 0, 30), 0, 1), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("거래일이 부족하거나 전략이 하나면 null (백엔드로 조회)")
+    void notEnoughData() {
+        CorrelationEngine engine = new CorrelationEngine(performanceAnalytics, true, 10, 128, 1000, pool);
+
+        when(performanceAnalytics.getDailyProfitLossByStrategy(anyString(), anyString())).thenReturn(null);
+        assertThat(engine.getCorrelationAnalysis(date(0), date(29), null)).isNull();
+
+        stubRange(0, 5);
+        assertThat(engine.getCorrelationAnalysis(date(0), date(4), null)).isNull();
+
+        when(performanceAnalytics.getDailyProfitLossByStrategy(any(), any())).thenReturn(
+                new DailyMatrix(List.of("S0"), new int[20], new double[20][1]));
+        assertThat(engine.getCorrelationAnalysis(date(0), date(19), null)).isNull();
+        assertThat(engine.getCorrelationAnalysis("2026/01/01", date(19), null)).isNull();
+    }
+
+    private void stubRange(int fromDay, int toDay) {
+        int[] days = new int[toDay - fromDay];
+        double[][] values = new double[toDay - fromDay][];
+        for (int d = fromDay; d < toDay; d++) {
+            days[d - fromDay] = (int) FIRST_DAY.plusDays(d).toEpochDay();
+            values[d - fromDay] = history[d].clone();
+        }
+        List<String> ids = new ArrayList<>();
+        for (int s = 0; s < history[0].length; s++) {
+            ids.add("S" + s);
+        }
+        when(performanceAnalytics.getDailyProfitLossByStrategy(any(), any()))
+                .thenReturn(new DailyMatrix(ids, days, values));
+    }
+
+    private static String date(int day) {
+        return FIRST_DAY.plusDays(day).toString();
+    }
+
+    /**
+     * 상관된 일별 손익 (계열 j = 공통 요인 + 개별 잡음)
+     */
+    private static double[][] randomSeries(int days, int series, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[][] values = new double[days][series];
+        for (int d = 0; d < days; d++) {
+            double common = random.nextDouble(-1000, 1000);
+            for (int s = 0; s < series; s++) {
+                values[d][s] = common * (s % 3 - 1) + random.nextDouble(-500, 500);
+            }
+        }
+        return values;
+    }
+
+    private static double twoPassComoment(double[][] values, int i, int j) {
+        double meanI = 0;
+        double meanJ = 0;
+        for (double[] day : values) {
+            meanI += day[i];
+            meanJ += day[j];
+        }
+        meanI /= values.length;
+        meanJ /= values.length;
+        double sum = 0;
+        for (double[] day : values) {
+            sum += (day[i] - meanI) * (day[j] - meanJ);
+        }
+        return sum;
+    }
+
+    private static double twoPassCorrelation(double[][] values, int i, int j) {
+        return twoPassComoment(values, i, j)
+                / Math.sqrt(twoPassComoment(values, i, i) * twoPassComoment(values, j, j));
+    }
+}
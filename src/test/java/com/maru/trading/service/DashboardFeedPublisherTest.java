@@ -0,0 +1,215 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardFeedPublisher 단위 테스트
+ */
+@DisplayName("DashboardFeedPublisher 테스트")
+class DashboardFeedPublisherTest {
+
+    private TradingApiService tradingApiService;
+    private SimpMessagingTemplate messagingTemplate;
+    private DashboardFeedPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        tradingApiService = mock(TradingApiService.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        when(tradingApiService.getAccountList()).thenReturn(List.of(
+                new Account("acc-1", "main", "KIS", "PAPER", "ACTIVE", null, null, null, null)));
+        // 스케줄러가 끼어들지 않도록 긴 주기, poll()을 직접 호출
+        publisher = new DashboardFeedPublisher(tradingApiService, messagingTemplate, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.destroy();
+    }
+
+    @Test
+    @DisplayName("구독 탭 수와 무관하게 리소스당 한 번만 조회")
+    void onePollPerResource() {
+        // Given
+        when(tradingApiService.getHealthStatus()).thenReturn(new HashMap<>(Map.of("status", "UP")));
+        for (int session = 0; session < 5; session++) {
+            publisher.onSubscribe(subscribe("s" + session, "sub-0", "/topic/dashboard/health"));
+        }
+
+        // When
+        publisher.poll();
+
+        // Then
+        verify(tradingApiService, times(1)).getHealthStatus();
+        assertThat(publisher.getSubscriberCount("health")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 전송하지 않고, 변경분만 version과 함께 전송")
+    @SuppressWarnings("unchecked")
+    void publishesOnlyChanges() {
+        // Given
+        when(tradingApiService.getPositions("acc-1")).thenReturn(
+                new HashMap<>(Map.of("items", List.of(Map.of("positionId", "p1", "quantity", 10)))),
+                new HashMap<>(Map.of("items", List.of(Map.of("positionId", "p1", "quantity", 10)))),
+                new HashMap<>(Map.of("items", List.of(Map.of("positionId", "p1", "quantity", 12)))));
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/topic/dashboard/positions/acc-1"));
+
+        // When
+        publisher.poll();
+        publisher.poll();
+        publisher.poll();
+
+        // Then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/dashboard/positions/acc-1"), payload.capture());
+        Map<String, Object> message = (Map<String, Object>) payload.getValue();
+        assertThat(message).containsEntry("resource", "positions/acc-1").containsEntry("version", 2L);
+        Map<String, Object> items = (Map<String, Object>) message.get(SnapshotDiff.ITEMS);
+        assertThat((List<Object>) items.get(SnapshotDiff.UPSERTED))
+                .containsExactly(Map.of("positionId", "p1", "quantity", 12));
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 폴링 중지, 다시 구독하면 재개")
+    void pausesWithoutSubscribers() {
+        // Given
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/topic/dashboard/stats"));
+        publisher.onSubscribe(subscribe("s1", "sub-1", "/topic/dashboard/strategies"));
+        publisher.onSubscribe(subscribe("s2", "sub-0", "/topic/dashboard/stats"));
+        assertThat(publisher.isPolling()).isTrue();
+
+        // When
+        publisher.onUnsubscribe(unsubscribe("s1", "sub-1"));
+        publisher.onDisconnect(new SessionDisconnectEvent(this, subscribeMessage("s1", "sub-0", null), "s1", CloseStatus.NORMAL));
+
+        // Then
+        assertThat(publisher.isPolling()).isTrue();
+        assertThat(publisher.getSubscriberCount("stats")).isEqualTo(1);
+        assertThat(publisher.getSubscriberCount("strategies")).isZero();
+
+        publisher.onDisconnect(new SessionDisconnectEvent(this, subscribeMessage("s2", "sub-0", null), "s2", CloseStatus.NORMAL));
+        assertThat(publisher.isPolling()).isFalse();
+        publisher.poll();
+        verify(tradingApiService, never()).getDashboardStats();
+
+        publisher.onSubscribe(subscribe("s3", "sub-0", "/topic/dashboard/stats"));
+        assertThat(publisher.isPolling()).isTrue();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 대상은 추적하지 않음")
+    void ignoresUnknownDestinations() {
+        // When
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/topic/dashboard/unknown"));
+        publisher.onSubscribe(subscribe("s1", "sub-1", "/topic/notifications"));
+
+        // Then
+        assertThat(publisher.isPolling()).isFalse();
+        assertThat(publisher.snapshot("unknown")).isNull();
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("계좌 목록에 없거나 형식이 잘못된 계좌는 구독/조회하지 않음")
+    void ignoresUnknownAccounts() {
+        // When
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/topic/dashboard/positions/acc-999"));
+        publisher.onSubscribe(subscribe("s1", "sub-1", "/topic/dashboard/balance/acc 1"));
+
+        // Then
+        assertThat(publisher.isPolling()).isFalse();
+        assertThat(publisher.snapshot("positions/acc-999")).isNull();
+        assertThat(publisher.snapshot("balance/" + "x".repeat(65))).isNull();
+        assertThat(publisher.getFeedCount()).isZero();
+        verify(tradingApiService, never()).getPositions(anyString());
+        verify(tradingApiService, never()).getAccountBalance(anyString());
+    }
+
+    @Test
+    @DisplayName("피드는 구독 중인 리소스에만 유지하고 마지막 구독 해제 시 제거")
+    void feedsLiveOnlyWhileSubscribed() {
+        // Given
+        when(tradingApiService.getAccountBalance("acc-1")).thenReturn(new HashMap<>(Map.of("totalEvaluation", 1000)));
+
+        // When - 구독 전 스냅샷은 피드로 남지 않음
+        publisher.snapshot("balance/acc-1");
+        assertThat(publisher.getFeedCount()).isZero();
+
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/topic/dashboard/balance/acc-1"));
+        publisher.poll();
+        publisher.snapshot("balance/acc-1");
+
+        // Then - 구독 중에는 폴링하는 피드의 스냅샷을 재사용
+        assertThat(publisher.getFeedCount()).isEqualTo(1);
+        verify(tradingApiService, times(2)).getAccountBalance("acc-1");
+
+        publisher.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        assertThat(publisher.getFeedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("초기 스냅샷은 전체 데이터와 version")
+    void snapshot() {
+        // Given
+        when(tradingApiService.getAccountBalance("acc-1")).thenReturn(new HashMap<>(Map.of("totalEvaluation", 1000)));
+
+        // When
+        Map<String, Object> snapshot = publisher.snapshot("balance/acc-1");
+
+        // Then
+        assertThat(snapshot).containsEntry("resource", "balance/acc-1")
+                .containsEntry("version", 1L)
+                .containsEntry("full", true)
+                .containsEntry("data", Map.of("totalEvaluation", 1000));
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        return new SessionSubscribeEvent(this, subscribeMessage(sessionId, subscriptionId, destination));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private Message<byte[]> subscribeMessage(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
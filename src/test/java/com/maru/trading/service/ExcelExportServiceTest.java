@@ -327,6 +327,87 @@ class ExcelExportServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("스트리밍 내보내기")
+    class StreamingExportTest {
+
+        @Test
+        @DisplayName("수량/가격은 숫자 셀, 시간은 날짜 셀로 기록")
+        void writesTypedCells() throws IOException {
+            // given
+            List<Map<String, Object>> orders = createSampleOrders();
+            orders.get(0).put("price", "70,500.5");
+
+            // when
+            excelExportService.exportOrdersToExcel(orders, response);
+
+            // then
+            Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(response.getContentAsByteArray()));
+            Row dataRow = workbook.getSheet("주문내역").getRow(1);
+            assertThat(dataRow.getCell(4).getCellType()).isEqualTo(CellType.NUMERIC);
+            assertThat(dataRow.getCell(4).getNumericCellValue()).isEqualTo(100.0);
+            assertThat(dataRow.getCell(5).getNumericCellValue()).isEqualTo(70500.5);
+            assertThat(DateUtil.isCellDateFormatted(dataRow.getCell(7))).isTrue();
+            assertThat(dataRow.getCell(7).getLocalDateTimeCellValue())
+                    .isEqualTo(java.time.LocalDateTime.of(2024, 1, 1, 10, 0, 0));
+
+            workbook.close();
+        }
+
+        @Test
+        @DisplayName("행 윈도우보다 많은 행을 공급자에서 받아 기록하고 열 너비 설정")
+        void streamsRowsFromSource() throws IOException {
+            // given
+            int rowCount = ExcelExportService.ROW_WINDOW * 5;
+
+            // when
+            excelExportService.exportFills(sink -> {
+                for (int i = 1; i <= rowCount; i++) {
+                    Map<String, Object> fill = new HashMap<>();
+                    fill.put("fillId", "FILL" + i);
+                    fill.put("quantity", i);
+                    fill.put("filledAt", "2024-01-01T10:00:00+09:00");
+                    sink.accept(fill);
+                }
+            }, response);
+
+            // then
+            Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(response.getContentAsByteArray()));
+            Sheet sheet = workbook.getSheet("체결내역");
+            assertThat(sheet.getLastRowNum()).isEqualTo(rowCount);
+            assertThat(sheet.getRow(rowCount).getCell(0).getStringCellValue()).isEqualTo("FILL" + rowCount);
+            assertThat(sheet.getRow(rowCount).getCell(3).getNumericCellValue()).isEqualTo(rowCount);
+            assertThat(sheet.getColumnWidth(5)).isGreaterThanOrEqualTo(19 * 256);
+
+            workbook.close();
+        }
+
+        @Test
+        @DisplayName("성과 리포트는 요약/상세 시트로 기록하고 승률은 백분율 셀")
+        void exportsPerformanceReport() throws IOException {
+            // given
+            Map<String, Object> summary = Map.of("totalProfitLoss", 150000, "totalTrades", 12,
+                    "winRate", 58.3, "avgProfitLoss", 12500);
+            List<Map<String, Object>> data = List.of(Map.of("date", "2024-01-02", "trades", 3,
+                    "profitLoss", 50000, "winRate", 66.7, "maxProfit", 30000, "maxLoss", -10000));
+
+            // when
+            excelExportService.exportPerformanceReport("daily", "2024-01-01", "2024-01-31", null,
+                    summary, data, "report.xlsx", response);
+
+            // then
+            assertThat(response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"report.xlsx\"");
+            Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(response.getContentAsByteArray()));
+            assertThat(workbook.getSheet("요약")).isNotNull();
+            Row dataRow = workbook.getSheet("상세 데이터").getRow(1);
+            assertThat(DateUtil.isCellDateFormatted(dataRow.getCell(0))).isTrue();
+            assertThat(dataRow.getCell(3).getNumericCellValue()).isEqualTo(0.667, org.assertj.core.data.Offset.offset(1e-9));
+            assertThat(dataRow.getCell(5).getNumericCellValue()).isEqualTo(-10000.0);
+
+            workbook.close();
+        }
+    }
+
     // Helper methods
     private List<Map<String, Object>> createSampleOrders() {
         List<Map<String, Object>> orders = new ArrayList<>();
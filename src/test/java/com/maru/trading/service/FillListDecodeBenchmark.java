@@ -0,0 +1,161 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 체결 목록 디코딩 벤치마크 (전체 Map 트리 vs 스트리밍)
+ * - gzip 압축된 10만 건 체결 응답을 두 방식으로 디코딩하여 지연시간, 할당량, 힙 최대 사용량 비교
+ * - 단위 테스트가 아니므로 surefire 대상이 아님, 직접 실행:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.maru.trading.service.FillListDecodeBenchmark
+ *   (인자: 행 수, 반복 횟수 / 힙 비교는 -Xmx512m 등 고정 힙에서 실행 권장)
+ */
+public class FillListDecodeBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        byte[] gzipped = gzip(fillList(objectMapper, rows));
+        System.out.printf("fill list: %,d rows, %,d bytes gzip%n", rows, gzipped.length);
+
+        // JIT 워밍업
+        for (int i = 0; i < 3; i++) {
+            decodeTree(objectMapper, gzipped);
+            decodeStreaming(objectMapper, gzipped);
+        }
+
+        report("tree", iterations, () -> decodeTree(objectMapper, gzipped));
+        report("streaming", iterations, () -> decodeStreaming(objectMapper, gzipped));
+    }
+
+    /**
+     * 기존 방식 - 응답 전체를 Map 트리로 만든 후 items 순회
+     */
+    @SuppressWarnings("unchecked")
+    static double decodeTree(ObjectMapper objectMapper, byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            Map<String, Object> body = objectMapper.readValue(in, MAP_TYPE);
+            double notional = 0;
+            for (Map<String, Object> fill : (List<Map<String, Object>>) body.get("items")) {
+                notional += ((Number) fill.get("price")).doubleValue() * ((Number) fill.get("qty")).doubleValue();
+            }
+            return notional;
+        }
+    }
+
+    /**
+     * 스트리밍 방식 - 체결 한 건씩 읽고 버림
+     */
+    static double decodeStreaming(ObjectMapper objectMapper, byte[] gzipped) throws IOException {
+        try (StreamingItemReader reader = new StreamingItemReader(objectMapper,
+                new GZIPInputStream(new ByteArrayInputStream(gzipped)))) {
+            double notional = 0;
+            while (reader.hasNext()) {
+                Map<String, Object> fill = reader.next();
+                notional += ((Number) fill.get("price")).doubleValue() * ((Number) fill.get("qty")).doubleValue();
+            }
+            return notional;
+        }
+    }
+
+    private static void report(String name, int iterations, Decoder decoder) throws IOException {
+        long[] nanos = new long[iterations];
+        long allocated = 0;
+        long peakHeap = 0;
+        for (int i = 0; i < iterations; i++) {
+            System.gc();
+            resetPeakUsage();
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            decoder.decode();
+            nanos[i] = System.nanoTime() - start;
+            allocated += allocatedBytes() - allocatedBefore;
+            peakHeap = Math.max(peakHeap, peakHeapUsed());
+        }
+        java.util.Arrays.sort(nanos);
+        System.out.printf("%-10s p50=%6.1fms max=%6.1fms alloc/op=%,6dKB peakHeap=%,6dKB%n", name,
+                nanos[iterations / 2] / 1e6, nanos[iterations - 1] / 1e6,
+                allocated / iterations / 1024, peakHeap / 1024);
+    }
+
+    private static byte[] fillList(ObjectMapper objectMapper, int rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeNumberField("total", rows);
+            gen.writeArrayFieldStart("items");
+            for (int i = 0; i < rows; i++) {
+                gen.writeStartObject();
+                gen.writeStringField("fillId", "fill-" + i);
+                gen.writeStringField("orderId", "order-" + (i / 2));
+                gen.writeStringField("accountId", "acc-1");
+                gen.writeStringField("symbol", String.format("%06d", i % 2000));
+                gen.writeStringField("side", i % 2 == 0 ? "BUY" : "SELL");
+                gen.writeNumberField("price", 50_000 + (i % 1000) * 10);
+                gen.writeNumberField("qty", 1 + i % 100);
+                gen.writeNumberField("fee", 15.5);
+                gen.writeStringField("filledAt", "2026-01-02T09:00:00");
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static void resetPeakUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeapUsed() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        double decode() throws IOException;
+    }
+}
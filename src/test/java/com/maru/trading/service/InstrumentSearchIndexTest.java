@@ -0,0 +1,98 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Instrument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * InstrumentSearchIndex 단위 테스트
+ */
+@DisplayName("InstrumentSearchIndex 테스트")
+class InstrumentSearchIndexTest {
+
+    private TradingApiService tradingApiService;
+    private List<Runnable> rebuilds;
+    private InstrumentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        tradingApiService = mock(TradingApiService.class);
+        rebuilds = new ArrayList<>();
+        index = new InstrumentSearchIndex(tradingApiService, rebuilds::add);
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(Arrays.asList(
+                instrument("005935", "삼성전자우", "Samsung Electronics Pref", true),
+                instrument("000660", "SK하이닉스", "SK hynix", true),
+                instrument("005930", "삼성전자", "Samsung Electronics", true),
+                instrument("028260", "삼성물산", "Samsung C&T", true),
+                instrument("035720", "카카오", "Kakao", false)));
+    }
+
+    @Test
+    @DisplayName("초성 검색 - ㅅㅅㅈㅈ -> 삼성전자, 짧은 이름 우선")
+    void chosungQuery() {
+        assertThat(symbols(index.search("ㅅㅅㅈㅈ", i -> true, 10))).containsExactly("005930", "005935");
+        assertThat(symbols(index.search("ㅎㅇㄴ", i -> true, 10))).containsExactly("000660");
+    }
+
+    @Test
+    @DisplayName("순위 - 완전 일치 > 종목코드 접두어 > 이름 접두어 > 부분 일치")
+    void ranking() {
+        assertThat(symbols(index.search("삼성전자", i -> true, 10))).containsExactly("005930", "005935");
+        assertThat(symbols(index.search("0059", i -> true, 10))).containsExactly("005930", "005935");
+        // 부분 일치 (n-gram): 전자 -> 삼성전자, 삼성전자우
+        assertThat(symbols(index.search("전자", i -> true, 10))).containsExactly("005930", "005935");
+        // 영문 단어 접두어 / 대소문자 무시
+        assertThat(symbols(index.search("HYN", i -> true, 10))).containsExactly("000660");
+        assertThat(index.search("없는종목", i -> true, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필터와 limit 적용, 검색어가 없으면 마스터 순서")
+    void filterAndLimit() {
+        assertThat(symbols(index.search("카카오", Instrument::tradable, 10))).isEmpty();
+        assertThat(symbols(index.search("삼성", i -> true, 2))).containsExactly("005930", "028260");
+        assertThat(symbols(index.search("", i -> true, 2))).containsExactly("005935", "000660");
+    }
+
+    @Test
+    @DisplayName("마스터 목록이 바뀌면 백그라운드에서 재생성, 그동안 이전 인덱스로 응답")
+    void rebuildsWhenMasterChanges() {
+        // Given
+        assertThat(index.search("LG", i -> true, 10)).isEmpty();
+        assertThat(rebuilds).isEmpty();
+        List<Instrument> refreshed = new ArrayList<>(tradingApiService.getInstrumentList(null, null, null, null));
+        refreshed.add(instrument("003550", "LG", "LG Corp", true));
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(refreshed);
+
+        // When - 재생성 예약은 한 번만, 요청은 이전 인덱스로 응답
+        assertThat(index.search("lg", i -> true, 10)).isEmpty();
+        assertThat(index.search("lg", i -> true, 10)).isEmpty();
+        assertThat(rebuilds).hasSize(1);
+        rebuilds.remove(0).run();
+
+        // Then
+        assertThat(symbols(index.search("lg", i -> true, 10))).containsExactly("003550");
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(rebuilds).isEmpty();
+    }
+
+    private static List<String> symbols(List<Instrument> instruments) {
+        List<String> symbols = new ArrayList<>();
+        instruments.forEach(instrument -> symbols.add(instrument.symbol()));
+        return symbols;
+    }
+
+    private static Instrument instrument(String symbol, String nameKr, String nameEn, boolean tradable) {
+        return new Instrument(symbol, "KOSPI", nameKr, nameEn, "LISTED", tradable, false,
+                null, null, null, null, null, null);
+    }
+}
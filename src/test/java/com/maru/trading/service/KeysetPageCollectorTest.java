@@ -0,0 +1,122 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeysetPageCollector 단위 테스트
+ */
+@DisplayName("KeysetPageCollector 테스트")
+class KeysetPageCollectorTest {
+
+    @Test
+    @DisplayName("limit + 1건이면 다음 페이지 존재, nextCursor는 페이지 마지막 ID")
+    void hasMore_NextCursorIsLastId() {
+        // Given
+        KeysetPageCollector collector = new KeysetPageCollector("orderId", null, 2);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            collector.accept(Map.of("orderId", "o-" + i));
+        }
+        Map<String, Object> page = collector.toPage(Map.of("total", 5, TradingApiHelper.STREAMED_COUNT_KEY, 5L), "items");
+
+        // Then
+        assertThat(ids(page, "orderId")).containsExactly("o-1", "o-2");
+        assertThat(page)
+                .containsEntry(KeysetPageCollector.NEXT_CURSOR, "o-2")
+                .containsEntry(KeysetPageCollector.HAS_MORE, true)
+                .containsEntry(KeysetPageCollector.LIMIT, 2)
+                .containsEntry("total", 5)
+                .doesNotContainKey(TradingApiHelper.STREAMED_COUNT_KEY);
+    }
+
+    @Test
+    @DisplayName("백엔드가 cursor와 limit을 모두 무시해도 cursor 이후 행만 반환")
+    void cursorIgnoredByBackend_SkipsPreviousRows() {
+        // Given
+        KeysetPageCollector collector = new KeysetPageCollector("fillId", "f-2", 2);
+
+        // When
+        for (int i = 1; i <= 4; i++) {
+            collector.accept(Map.of("fillId", "f-" + i));
+        }
+        Map<String, Object> page = collector.toPage(Map.of(), "items");
+
+        // Then
+        assertThat(ids(page, "fillId")).containsExactly("f-3", "f-4");
+        assertThat(page)
+                .containsEntry(KeysetPageCollector.HAS_MORE, false)
+                .containsEntry(KeysetPageCollector.NEXT_CURSOR, null);
+    }
+
+    @Test
+    @DisplayName("백엔드가 cursor만 무시하고 limit을 적용하면 잘린 응답으로 판단")
+    void cursorIgnoredButLimitApplied_IsCutBeforeCursor() {
+        // Given - 이전 페이지 마지막 행 o-2, 백엔드는 다시 처음부터 limit + 1 = 3건만 응답
+        KeysetPageCollector collector = new KeysetPageCollector("orderId", "o-2", 2);
+        for (int i = 1; i <= 3; i++) {
+            collector.accept(Map.of("orderId", "o-" + i));
+        }
+
+        // Then
+        assertThat(collector.isCutBeforeCursor(Map.of(TradingApiHelper.STREAMED_COUNT_KEY, 3L), 3)).isTrue();
+        // 전체를 보냈으면(요청 수 미만에서 끝남) 잘리지 않음
+        assertThat(collector.isCutBeforeCursor(Map.of(TradingApiHelper.STREAMED_COUNT_KEY, 3L), 4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("백엔드가 cursor를 적용했거나 한 페이지를 채웠으면 잘린 응답이 아님")
+    void cursorHonoredOrPageFull_NotCut() {
+        // cursor 행이 응답에 없음
+        KeysetPageCollector honored = new KeysetPageCollector("orderId", "o-2", 2);
+        for (int i = 3; i <= 5; i++) {
+            honored.accept(Map.of("orderId", "o-" + i));
+        }
+        assertThat(honored.isCutBeforeCursor(Map.of(TradingApiHelper.STREAMED_COUNT_KEY, 3L), 3)).isFalse();
+
+        // cursor 이후 limit + 1건을 모두 받음
+        KeysetPageCollector full = new KeysetPageCollector("orderId", "o-1", 2);
+        for (int i = 1; i <= 4; i++) {
+            full.accept(Map.of("orderId", "o-" + i));
+        }
+        assertThat(full.isCutBeforeCursor(Map.of(TradingApiHelper.STREAMED_COUNT_KEY, 4L), 3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("idField가 없으면 id 필드 사용")
+    void fallbackToIdField() {
+        // Given
+        KeysetPageCollector collector = new KeysetPageCollector("executionId", null, 1);
+
+        // When
+        collector.accept(Map.of("id", 10));
+        collector.accept(Map.of("id", 11));
+        Map<String, Object> page = collector.toPage(Map.of(), "executions");
+
+        // Then
+        assertThat(page).containsEntry(KeysetPageCollector.NEXT_CURSOR, "10");
+        assertThat((List<?>) page.get("executions")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("limit 보정 - 0 이하는 기본값, 최대값 초과는 최대값")
+    void normalizeLimit() {
+        assertThat(KeysetPageCollector.normalizeLimit(0)).isEqualTo(KeysetPageCollector.DEFAULT_LIMIT);
+        assertThat(KeysetPageCollector.normalizeLimit(-1)).isEqualTo(KeysetPageCollector.DEFAULT_LIMIT);
+        assertThat(KeysetPageCollector.normalizeLimit(20)).isEqualTo(20);
+        assertThat(KeysetPageCollector.normalizeLimit(10_000)).isEqualTo(KeysetPageCollector.MAX_LIMIT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> ids(Map<String, Object> page, String idField) {
+        return ((List<Map<String, Object>>) page.get("items")).stream()
+                .map(row -> row.get(idField))
+                .collect(java.util.stream.Collectors.toList());
+    }
+}
@@ -0,0 +1,96 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.dto.Strategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NameLookupService / BatchLoader 단위 테스트
+ */
+@DisplayName("NameLookupService 테스트")
+class NameLookupServiceTest {
+
+    private TradingApiService tradingApiService;
+    private NameLookupService nameLookupService;
+
+    @BeforeEach
+    void setUp() {
+        tradingApiService = mock(TradingApiService.class);
+        nameLookupService = new NameLookupService(tradingApiService);
+    }
+
+    @Test
+    @DisplayName("종목명 - 중복 키를 모아 마스터 목록 한 번으로 조회")
+    void instrumentNames_OneBatchForAllKeys() {
+        // Given
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(List.of(
+                instrument("005930", "삼성전자", "Samsung Electronics"),
+                instrument("000660", "", "SK hynix")));
+        BatchLoader<String, String> names = nameLookupService.instrumentNames();
+
+        // When
+        names.addAll(Arrays.asList("005930", "000660", "005930"));
+        String samsung = names.get("005930");
+        String hynix = names.get("000660");
+
+        // Then
+        assertThat(samsung).isEqualTo("삼성전자");
+        assertThat(hynix).isEqualTo("SK hynix");
+        assertThat(names.getBatchCount()).isEqualTo(1);
+        verify(tradingApiService, times(1)).getInstrumentList(null, null, null, null);
+        verify(tradingApiService, never()).getInstrument(anyString());
+    }
+
+    @Test
+    @DisplayName("종목명 - 마스터에 없는 종목만 개별 조회, 실패하면 코드 그대로")
+    void instrumentNames_MissesLookedUpIndividually() {
+        // Given
+        when(tradingApiService.getInstrumentList(null, null, null, null)).thenReturn(List.of());
+        when(tradingApiService.getInstrument("035720")).thenReturn(Map.of("symbol", "035720", "nameKr", "카카오"));
+        when(tradingApiService.getInstrument("999999")).thenReturn(Map.of("error", "not found"));
+
+        // When
+        Map<String, String> names = nameLookupService.instrumentNames().getAll(List.of("035720", "999999"));
+
+        // Then
+        assertThat(names).containsEntry("035720", "카카오").containsEntry("999999", "999999");
+    }
+
+    @Test
+    @DisplayName("전략명 / 계좌 별칭 - 목록 조회 실패 시 ID 그대로")
+    void strategyAndAccountNames() {
+        // Given
+        when(tradingApiService.getStrategyList()).thenReturn(List.of(
+                new Strategy("s-1", "MA 교차", null, null, null, null, null, null, null, null)));
+        when(tradingApiService.getAccountList()).thenThrow(new RuntimeException("timeout"));
+
+        // When
+        BatchLoader<String, String> strategyNames = nameLookupService.strategyNames();
+        BatchLoader<String, String> accountNames = nameLookupService.accountNames();
+
+        // Then
+        assertThat(strategyNames.getAll(List.of("s-1", "s-2"))).containsEntry("s-1", "MA 교차").containsEntry("s-2", "s-2");
+        assertThat(accountNames.get("acc-1")).isEqualTo("acc-1");
+        assertThat(accountNames.get("acc-1")).isEqualTo("acc-1");
+        verify(tradingApiService, times(1)).getAccountList();
+    }
+
+    private static Instrument instrument(String symbol, String nameKr, String nameEn) {
+        return new Instrument(symbol, "KOSPI", nameKr, nameEn, "LISTED", true, false,
+                null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,219 @@
+package com.maru.trading.service;
+
+import com.maru.trading.exception.TradingApiException;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
+import com.maru.trading.service.PageModelAssembler.Outcome;
+import com.maru.trading.service.PageModelAssembler.Widget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PageModelAssembler 단위 테스트
+ */
+@DisplayName("PageModelAssembler 단위 테스트")
+class PageModelAssemblerTest {
+
+    private ExecutorService executor;
+    private PageModelAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        assembler = new PageModelAssembler(new TradingApiAsyncClient(null, executor), 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("독립 위젯은 병렬로 실행됨")
+    void independentWidgets_RunConcurrently() {
+        // Given
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> first = page.add("first", () -> sleepAndReturn(300, "A"));
+        Widget<String> second = page.add("second", () -> sleepAndReturn(300, "B"));
+        Widget<String> third = page.add("third", () -> sleepAndReturn(300, "C"));
+
+        // When
+        long start = System.currentTimeMillis();
+        page.run();
+        long elapsed = System.currentTimeMillis() - start;
+
+        // Then - 순차 실행(900ms)보다 빠름
+        assertThat(first.get() + second.get() + third.get()).isEqualTo("ABC");
+        assertThat(elapsed).isLessThan(800);
+        assertThat(first.getOutcome()).isEqualTo(Outcome.OK);
+        assertThat(first.getElapsedMillis()).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("의존 위젯은 선행 위젯 결과를 입력으로 받음")
+    void dependentWidget_ReceivesDependencyResult() {
+        // Given
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> account = page.add("account", () -> "account-1");
+        Widget<String> positions = page.add("positions", account, accountId -> "positions:" + accountId);
+
+        // When
+        page.run();
+
+        // Then
+        assertThat(positions.get()).isEqualTo("positions:account-1");
+    }
+
+    @Test
+    @DisplayName("실패한 위젯은 fallback 값 사용")
+    void failingWidget_UsesFallback() {
+        // Given
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<Integer> count = page.add("count", () -> {
+            throw new RuntimeException("Connection refused");
+        });
+        count.fallback(() -> 0);
+
+        // When
+        page.run();
+
+        // Then
+        assertThat(count.get()).isZero();
+        assertThat(count.getOutcome()).isEqualTo(Outcome.FALLBACK);
+    }
+
+    @Test
+    @DisplayName("deadline 초과 시 fallback 값 사용")
+    void slowWidget_TimesOutToFallback() {
+        // Given
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> slow = page.add("slow", () -> sleepAndReturn(1000, "late"))
+                .timeout(100)
+                .fallback(() -> "fallback");
+
+        // When
+        long start = System.currentTimeMillis();
+        page.run();
+
+        // Then
+        assertThat(System.currentTimeMillis() - start).isLessThan(900);
+        assertThat(slow.get()).isEqualTo("fallback");
+    }
+
+    @Test
+    @DisplayName("fallback 없는 위젯 실패 시 원래 예외를 다시 던짐")
+    void requiredWidget_Failure_Rethrows() {
+        // Given
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> required = page.add("required", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // When
+        page.run();
+
+        // Then
+        assertThatThrownBy(required::get)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("fallback 없는 위젯 deadline 초과 시 TIMEOUT 예외")
+    void requiredWidget_Timeout_ThrowsTimeout() {
+        // Given
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> slow = page.add("slow", () -> sleepAndReturn(1000, "late")).timeout(100);
+
+        // When
+        page.run();
+
+        // Then
+        assertThatThrownBy(slow::get)
+                .isInstanceOf(TradingApiException.class)
+                .satisfies(e -> assertThat(((TradingApiException) e).getErrorCode()).isEqualTo(ErrorCode.TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("선행 위젯 실패 시 의존 위젯은 실행되지 않고 fallback 사용")
+    void dependencyFailure_SkipsDependentWidget() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> account = page.add("account", () -> {
+            throw new RuntimeException("accounts down");
+        });
+        Widget<String> positions = page.add("positions", account, accountId -> {
+            calls.incrementAndGet();
+            return "positions";
+        }).fallback(() -> "none");
+
+        // When
+        page.run();
+
+        // Then
+        assertThat(positions.get()).isEqualTo("none");
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("deadline이 지난 위젯 작업은 interrupt되어 Executor 스레드를 반환")
+    void timedOutWidget_IsInterrupted() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PageModelAssembler.Assembly page = assembler.assemble("test");
+        Widget<String> slow = page.add("slow", () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }).timeout(100).fallback(() -> "fallback");
+
+        // When
+        page.run();
+
+        // Then
+        assertThat(slow.get()).isEqualTo("fallback");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Executor 포화(작업 거부) 시 위젯은 fallback 사용")
+    void executorRejection_UsesFallback() {
+        // Given
+        PageModelAssembler rejecting = new PageModelAssembler(new TradingApiAsyncClient(null, command -> {
+            throw new RejectedExecutionException("saturated");
+        }), 2000);
+        PageModelAssembler.Assembly page = rejecting.assemble("test");
+        Widget<String> widget = page.add("widget", () -> "value").fallback(() -> "fallback");
+
+        // When
+        page.run();
+
+        // Then
+        assertThat(widget.get()).isEqualTo("fallback");
+        assertThat(widget.getOutcome()).isEqualTo(Outcome.FALLBACK);
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
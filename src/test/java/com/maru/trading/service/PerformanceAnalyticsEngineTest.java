@@ -0,0 +1,247 @@
+package com.maru.trading.service;
+
+import com.maru.trading.entity.MirroredFill;
+import com.maru.trading.repository.MirroredFillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * PerformanceAnalyticsEngine 단위 테스트
+ */
+@DisplayName("PerformanceAnalyticsEngine 테스트")
+class PerformanceAnalyticsEngineTest {
+
+    private MirroredFillRepository fillRepository;
+    private TradingMirrorSynchronizer synchronizer;
+    private PerformanceAnalyticsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        fillRepository = mock(MirroredFillRepository.class);
+        synchronizer = mock(TradingMirrorSynchronizer.class);
+        engine = new PerformanceAnalyticsEngine(fillRepository, synchronizer, true, 15);
+        when(synchronizer.getLastSyncAt(null)).thenReturn(LocalDateTime.now());
+        when(synchronizer.stalenessLimit(any(Duration.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // 매수 10주 @100 -> 5주 @110 매도 (+50 - 수수료 10) -> 5주 @90 매도 (-50 - 수수료 10)
+        when(fillRepository.findAfter(isNull(), isNull(), any())).thenReturn(List.of(
+                fill("f-1", "2026-01-05T09:00:00", "BUY", 100, 10, 0),
+                fill("f-2", "2026-01-06T09:00:00", "SELL", 110, 5, 10),
+                fill("f-3", "2026-01-07T09:00:00", "SELL", 90, 5, 10)));
+        when(fillRepository.findAfter(eq(LocalDateTime.parse("2026-01-07T09:00:00")), eq("f-3"), any()))
+                .thenReturn(List.of());
+        when(fillRepository.count()).thenReturn(3L);
+    }
+
+    @Test
+    @DisplayName("평균단가 기준 일별 손익과 기간 요약")
+    @SuppressWarnings("unchecked")
+    void dailyAnalysis() {
+        // Given
+        engine.refresh();
+
+        // When
+        Map<String, Object> result = engine.getPerformanceAnalysis("daily", "2026-01-01", "2026-01-31", "S1");
+
+        // Then
+        List<Map<String, Object>> data = (List<Map<String, Object>>) result.get("data");
+        assertThat(data).extracting(d -> d.get("date")).containsExactly("2026-01-05", "2026-01-06", "2026-01-07");
+        assertThat(data).extracting(d -> d.get("profitLoss")).containsExactly(0.0, 40.0, -60.0);
+        assertThat(data).extracting(d -> d.get("trades")).containsExactly(0, 1, 1);
+
+        Map<String, Object> summary = (Map<String, Object>) result.get("summary");
+        assertThat(summary.get("totalProfitLoss")).isEqualTo(-20.0);
+        assertThat(summary.get("totalTrades")).isEqualTo(2L);
+        assertThat(summary.get("winRate")).isEqualTo(50.0);
+        assertThat(summary.get("avgProfitLoss")).isEqualTo(-10.0);
+        assertThat(summary.get("maxProfit")).isEqualTo(40.0);
+        assertThat(summary.get("maxLoss")).isEqualTo(-60.0);
+        assertThat(summary.get("maxDrawdown")).isEqualTo(60.0);
+        assertThat((double) summary.get("sharpeRatio")).isLessThan(0.0);
+        assertThat(result.get(PerformanceAnalyticsEngine.SOURCE)).isEqualTo(PerformanceAnalyticsEngine.SOURCE_LOCAL);
+    }
+
+    @Test
+    @DisplayName("기간 필터와 월별 집계")
+    @SuppressWarnings("unchecked")
+    void monthlyAndRangeFilter() {
+        // Given
+        engine.refresh();
+
+        // When
+        Map<String, Object> monthly = engine.getPerformanceAnalysis("monthly", "2026-01-01", "2026-12-31", null);
+        Map<String, Object> partial = engine.getPerformanceAnalysis("daily", "2026-01-06", "2026-01-06", null);
+
+        // Then
+        List<Map<String, Object>> months = (List<Map<String, Object>>) monthly.get("data");
+        assertThat(months).hasSize(1);
+        assertThat(months.get(0).get("date")).isEqualTo("2026-01");
+        assertThat(months.get(0).get("profitLoss")).isEqualTo(-20.0);
+        assertThat(((Map<String, Object>) partial.get("summary")).get("totalProfitLoss")).isEqualTo(40.0);
+    }
+
+    @Test
+    @DisplayName("캘린더 요약은 일별 손익 기준")
+    @SuppressWarnings("unchecked")
+    void calendar() {
+        // Given
+        engine.refresh();
+
+        // When
+        Map<String, Object> result = engine.getMonthlyDailyPerformance(2026, 1, null);
+
+        // Then
+        assertThat((List<?>) result.get("dailyData")).hasSize(3);
+        Map<String, Object> summary = (Map<String, Object>) result.get("summary");
+        assertThat(summary.get("tradingDays")).isEqualTo(3);
+        assertThat((double) summary.get("avgDailyProfitLoss")).isCloseTo(-20.0 / 3, within(1e-9));
+        assertThat(summary.get("maxProfit")).isEqualTo(40.0);
+        assertThat(summary.get("maxLoss")).isEqualTo(-60.0);
+        assertThat(engine.getMonthlyDailyPerformance(2026, 2, null).get("dailyData")).isEqualTo(List.of());
+    }
+
+    @Test
+    @DisplayName("전략별 통계는 전략 목록의 이름/상태 사용")
+    @SuppressWarnings("unchecked")
+    void strategyStatistics() {
+        // Given
+        engine.refresh();
+        List<Map<String, Object>> strategies = List.of(
+                Map.of("id", "S1", "name", "모멘텀", "status", "ACTIVE"),
+                Map.of("id", "S2", "name", "평균회귀", "status", "INACTIVE"));
+
+        // When
+        Map<String, Object> result = engine.getStrategyStatistics("2026-01-01", "2026-01-31", strategies);
+
+        // Then
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) result.get("strategies");
+        assertThat(rows).extracting(r -> r.get("name")).containsExactly("모멘텀", "평균회귀");
+        assertThat(rows.get(0).get("totalProfitLoss")).isEqualTo(-20.0);
+        assertThat(rows.get(1).get("totalTrades")).isEqualTo(0L);
+        Map<String, Object> summary = (Map<String, Object>) result.get("summary");
+        assertThat(summary.get("totalStrategies")).isEqualTo(2);
+        assertThat(summary.get("activeStrategies")).isEqualTo(1);
+        assertThat(summary.get("avgWinRate")).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("전략별 일별 손익 행렬")
+    void dailyMatrixByStrategy() {
+        // Given
+        engine.refresh();
+
+        // When
+        PerformanceAnalyticsEngine.DailyMatrix matrix = engine.getDailyProfitLossByStrategy("2026-01-06", "2026-01-31");
+
+        // Then
+        assertThat(matrix.getStrategyIds()).containsExactly("S1");
+        assertThat(matrix.getDays()).hasSize(2);
+        assertThat(matrix.getValues()[0]).containsExactly(40.0);
+        assertThat(matrix.getValues()[1]).containsExactly(-60.0);
+    }
+
+    @Test
+    @DisplayName("새 체결만 증분 반영")
+    @SuppressWarnings("unchecked")
+    void appliesNewFillsIncrementally() {
+        // Given
+        engine.refresh();
+        when(fillRepository.findAfter(eq(LocalDateTime.parse("2026-01-07T09:00:00")), eq("f-3"), any()))
+                .thenReturn(List.of(fill("f-4", "2026-01-07T10:00:00", "BUY", 80, 1, 0)));
+        when(fillRepository.findAfter(eq(LocalDateTime.parse("2026-01-07T10:00:00")), eq("f-4"), any()))
+                .thenReturn(List.of());
+        when(fillRepository.count()).thenReturn(4L);
+
+        // When
+        engine.refresh();
+
+        // Then
+        verify(fillRepository, times(1)).findAfter(isNull(), isNull(), any());
+        assertThat(engine.getProcessedCount()).isEqualTo(4);
+        assertThat(engine.getRebuildCount()).isZero();
+        Map<String, Object> summary = (Map<String, Object>) engine
+                .getPerformanceAnalysis("daily", "2026-01-01", "2026-01-31", null).get("summary");
+        assertThat(summary.get("totalTrades")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 과거 체결이 있으면 전체 재계산")
+    void rebuildsOnLateFill() {
+        // Given
+        engine.refresh();
+        when(fillRepository.count()).thenReturn(4L);
+
+        // When
+        engine.refresh();
+
+        // Then
+        assertThat(engine.getRebuildCount()).isEqualTo(1);
+        verify(fillRepository, times(2)).findAfter(isNull(), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("로컬 사본이 준비되지 않으면 null 반환 (백엔드로 조회)")
+    void notReady() {
+        // 반영 전
+        assertThat(engine.getPerformanceAnalysis("daily", "2026-01-01", "2026-01-31", null)).isNull();
+
+        // 반영 시점에 미동기화 계좌가 있음
+        when(synchronizer.getLastSyncAt(null)).thenReturn(null);
+        engine.refresh();
+        assertThat(engine.getMonthlyDailyPerformance(2026, 1, null)).isNull();
+
+        // 잘못된 날짜
+        when(synchronizer.getLastSyncAt(null)).thenReturn(LocalDateTime.now());
+        engine.refresh();
+        assertThat(engine.getStrategyStatistics("2026/01/01", null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("조회는 게시된 스냅샷만 읽고 동기화가 오래됐으면 최근 기간만 백엔드로 조회")
+    void readsPublishedSnapshotOnly() {
+        // Given
+        when(synchronizer.getLastSyncAt(null)).thenReturn(LocalDateTime.now().minusMinutes(1));
+        engine.refresh();
+        clearInvocations(synchronizer, fillRepository);
+
+        // When
+        Map<String, Object> closed = engine.getPerformanceAnalysis("daily", "2026-01-01", "2026-01-31", null);
+        Map<String, Object> open = engine.getPerformanceAnalysis("daily", "2026-01-01", null, null);
+
+        // Then
+        assertThat(closed).isNotNull();
+        assertThat(open).isNull();
+        verifyNoInteractions(synchronizer, fillRepository);
+    }
+
+    private static MirroredFill fill(String fillId, String filledAt, String side, double price, double qty, double fee) {
+        MirroredFill fill = new MirroredFill();
+        fill.setFillId(fillId);
+        fill.setAccountId("A1");
+        fill.setStrategyId("S1");
+        fill.setSymbol("005930");
+        fill.setSide(side);
+        fill.setFilledAt(LocalDateTime.parse(filledAt));
+        fill.setPayload(String.format("{\"fillId\":\"%s\",\"side\":\"%s\",\"fillPrice\":%s,\"fillQty\":%s,\"fee\":%s}",
+                fillId, side, price, qty, fee));
+        return fill;
+    }
+}
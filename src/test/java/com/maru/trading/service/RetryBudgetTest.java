@@ -0,0 +1,74 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RetryBudget 단위 테스트
+ */
+@DisplayName("RetryBudget 테스트")
+class RetryBudgetTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private RetryBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        // 요청의 10%, window(10초)당 최소 2회
+        budget = new RetryBudget(0.1, 2, 10, now::get);
+    }
+
+    @Test
+    @DisplayName("요청이 적으면 최소 허용 횟수까지만 재시도")
+    void minRetries_AllowedWithoutTraffic() {
+        // Given
+        budget.onRequest();
+
+        // When & Then
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+        assertThat(budget.getGrantedCount()).isEqualTo(2);
+        assertThat(budget.getDeniedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도는 요청 수의 비율을 넘지 않음")
+    void ratio_LimitsRetries() {
+        // Given - 100건 요청 -> 재시도 10회
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+
+        // When
+        int granted = 0;
+        for (int i = 0; i < 50; i++) {
+            if (budget.tryAcquireRetry()) {
+                granted++;
+            }
+        }
+
+        // Then
+        assertThat(granted).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("window가 지나면 예산 회복")
+    void window_Expires() {
+        // Given
+        budget.tryAcquireRetry();
+        budget.tryAcquireRetry();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        // When - 10초 경과
+        now.addAndGet(10_000L);
+
+        // Then
+        assertThat(budget.tryAcquireRetry()).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SnapshotDiff 단위 테스트
+ */
+@DisplayName("SnapshotDiff 테스트")
+class SnapshotDiffTest {
+
+    @Test
+    @DisplayName("변경이 없으면 빈 Map")
+    void noChange() {
+        Map<String, Object> snapshot = Map.of("status", "UP", "items", List.of(Map.of("id", 1, "qty", 10)));
+
+        assertThat(SnapshotDiff.diff(snapshot, new LinkedHashMap<>(snapshot))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("바뀐 필드는 changed, 사라진 필드는 removed")
+    @SuppressWarnings("unchecked")
+    void fieldChanges() {
+        // Given
+        Map<String, Object> before = Map.of("status", "UP", "todayOrders", 3, "error", "timeout");
+        Map<String, Object> after = Map.of("status", "UP", "todayOrders", 4);
+
+        // When
+        Map<String, Object> diff = SnapshotDiff.diff(before, after);
+
+        // Then
+        assertThat((Map<String, Object>) diff.get(SnapshotDiff.CHANGED)).containsOnly(Map.entry("todayOrders", 4));
+        assertThat((List<String>) diff.get(SnapshotDiff.REMOVED)).containsExactly("error");
+        assertThat(diff).doesNotContainKey(SnapshotDiff.ITEMS);
+    }
+
+    @Test
+    @DisplayName("items는 바뀐 행만 upserted, 사라진 행은 removed, 순서는 ids")
+    @SuppressWarnings("unchecked")
+    void itemChanges() {
+        // Given
+        Map<String, Object> samsung = Map.of("positionId", "p1", "symbol", "005930", "quantity", 10);
+        Map<String, Object> hynix = Map.of("positionId", "p2", "symbol", "000660", "quantity", 5);
+        Map<String, Object> naver = Map.of("positionId", "p3", "symbol", "035420", "quantity", 1);
+        Map<String, Object> hynixUpdated = Map.of("positionId", "p2", "symbol", "000660", "quantity", 7);
+        Map<String, Object> before = Map.of("items", List.of(samsung, hynix, naver));
+        Map<String, Object> after = Map.of("items", List.of(hynixUpdated, samsung));
+
+        // When
+        Map<String, Object> diff = SnapshotDiff.diff(before, after);
+
+        // Then
+        Map<String, Object> items = (Map<String, Object>) diff.get(SnapshotDiff.ITEMS);
+        assertThat((List<Object>) items.get(SnapshotDiff.UPSERTED)).containsExactly(hynixUpdated);
+        assertThat((List<String>) items.get(SnapshotDiff.REMOVED)).containsExactly("p3");
+        assertThat((List<String>) items.get(SnapshotDiff.IDS)).containsExactly("p2", "p1");
+        assertThat(diff).doesNotContainKey(SnapshotDiff.CHANGED);
+    }
+
+    @Test
+    @DisplayName("행 ID가 없거나 중복되면 items 전체를 changed로 전송")
+    @SuppressWarnings("unchecked")
+    void unidentifiedItems() {
+        // Given
+        Map<String, Object> before = Map.of("items", List.of(Map.of("name", "a")));
+        Map<String, Object> after = Map.of("items", List.of(Map.of("name", "b")));
+
+        // When
+        Map<String, Object> diff = SnapshotDiff.diff(before, after);
+
+        // Then
+        assertThat((Map<String, Object>) diff.get(SnapshotDiff.CHANGED)).containsKey("items");
+        assertThat(diff).doesNotContainKey(SnapshotDiff.ITEMS);
+    }
+
+    @Test
+    @DisplayName("행 ID는 positionId > strategyId > id > symbol 순")
+    void idOf() {
+        assertThat(SnapshotDiff.idOf(Map.of("positionId", "p1", "symbol", "005930"))).isEqualTo("p1");
+        assertThat(SnapshotDiff.idOf(Map.of("strategyId", "s1", "id", 3))).isEqualTo("s1");
+        assertThat(SnapshotDiff.idOf(Map.of("id", 3))).isEqualTo("3");
+        assertThat(SnapshotDiff.idOf(Map.of("symbol", "005930"))).isEqualTo("005930");
+        assertThat(SnapshotDiff.idOf(Map.of("name", "x"))).isNull();
+        assertThat(SnapshotDiff.idOf("not a row")).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package com.maru.trading.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StreamingItemReader 단위 테스트
+ */
+@DisplayName("StreamingItemReader 테스트")
+class StreamingItemReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("items 배열을 행 단위로 읽고 앞뒤 필드는 envelope로 보관")
+    void readsItemsAndEnvelope() throws IOException {
+        // Given
+        String json = "{\"total\":2,\"items\":[{\"fillId\":\"f-1\",\"qty\":10},{\"fillId\":\"f-2\",\"qty\":5}],"
+                + "\"nextCursor\":\"f-2\",\"summary\":{\"qty\":15}}";
+
+        // When
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (StreamingItemReader reader = reader(json)) {
+            reader.forEachRemaining(rows::add);
+
+            // Then
+            assertThat(reader.getItemField()).isEqualTo("items");
+            assertThat(reader.getCount()).isEqualTo(2);
+            assertThat(reader.getEnvelope())
+                    .containsEntry("total", 2)
+                    .containsEntry("nextCursor", "f-2")
+                    .containsKey("summary")
+                    .doesNotContainKey("items");
+        }
+        assertThat(rows).extracting(r -> r.get("fillId")).containsExactly("f-1", "f-2");
+    }
+
+    @Test
+    @DisplayName("Spring Page 형태(content)와 최상위 배열 지원")
+    void readsContentAndRootArray() throws IOException {
+        try (StreamingItemReader reader = reader("{\"content\":[{\"id\":1}],\"totalElements\":1}")) {
+            assertThat(reader.next()).containsEntry("id", 1);
+            assertThat(reader.hasNext()).isFalse();
+            assertThat(reader.getEnvelope()).containsEntry("totalElements", 1);
+        }
+        try (StreamingItemReader reader = reader("[{\"id\":1},{\"id\":2}]")) {
+            reader.forEachRemaining(row -> { });
+            assertThat(reader.getCount()).isEqualTo(2);
+            assertThat(reader.getItemField()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("목록 필드가 없으면 행 없이 envelope만 반환")
+    void noItems_EnvelopeOnly() throws IOException {
+        try (StreamingItemReader reader = reader("{\"error\":\"not found\",\"items\":null}")) {
+            assertThat(reader.hasNext()).isFalse();
+            assertThat(reader.getEnvelope()).containsEntry("error", "not found").containsKey("items");
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 응답은 UncheckedIOException")
+    void truncatedBody_Throws() throws IOException {
+        try (StreamingItemReader reader = reader("{\"items\":[{\"id\":1},{\"id\":")) {
+            assertThat(reader.next()).containsEntry("id", 1);
+            assertThatThrownBy(reader::hasNext).isInstanceOf(UncheckedIOException.class);
+        }
+    }
+
+    private StreamingItemReader reader(String json) throws IOException {
+        return new StreamingItemReader(objectMapper, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,218 @@
+package com.maru.trading.service;
+
+import com.maru.trading.exception.TradingApiException;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TradingApiAsyncClient 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TradingApiAsyncClient 단위 테스트")
+class TradingApiAsyncClientTest {
+
+    @Mock
+    private RestTemplate tradingApiRestTemplate;
+
+    private ExecutorService executor;
+    private TradingApiAsyncClient asyncClient;
+
+    @BeforeEach
+    void setUp() {
+        Retry retry = Retry.of("testRetry", RetryConfig.custom()
+                .maxAttempts(1)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+        TradingApiHelper helper = new TradingApiHelper(tradingApiRestTemplate, retry);
+
+        executor = Executors.newFixedThreadPool(2);
+        asyncClient = new TradingApiAsyncClient(helper, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("비동기 GET 요청이 전용 Executor 스레드에서 실행됨")
+    void getAsync_RunsOnExecutor() {
+        // Given
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "UP");
+        String callerThread = Thread.currentThread().getName();
+        Map<String, String> executedOn = new HashMap<>();
+
+        when(tradingApiRestTemplate.exchange(
+                eq("/health"),
+                eq(HttpMethod.GET),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenAnswer(invocation -> {
+            executedOn.put("thread", Thread.currentThread().getName());
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        });
+
+        // When
+        Map<String, Object> result = asyncClient.getAsync("/health", ErrorCode.CONNECTION_FAILED).join();
+
+        // Then
+        assertThat(result.get("status")).isEqualTo("UP");
+        assertThat(executedOn.get("thread")).isNotEqualTo(callerThread);
+    }
+
+    @Test
+    @DisplayName("비동기 POST 요청 성공")
+    void postAsync_Success() {
+        // Given
+        Map<String, Object> response = new HashMap<>();
+        response.put("orderId", "order-1");
+
+        when(tradingApiRestTemplate.exchange(
+                eq("/api/v1/admin/orders/cancel"),
+                eq(HttpMethod.POST),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
+
+        // When
+        Map<String, Object> result = asyncClient.postAsync(
+                "/api/v1/admin/orders/cancel", new HashMap<>(), ErrorCode.ORDER_CANCEL_FAILED).join();
+
+        // Then
+        assertThat(result.get("orderId")).isEqualTo("order-1");
+    }
+
+    @Test
+    @DisplayName("실패 시 TradingApiException으로 변환된 예외로 완료")
+    void getAsync_Failure_CompletesWithTradingApiException() {
+        // Given
+        when(tradingApiRestTemplate.exchange(
+                eq("/api/v1/query/orders/missing"),
+                eq(HttpMethod.GET),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        // When
+        CompletableFuture<Map<String, Object>> future =
+                asyncClient.getAsync("/api/v1/query/orders/missing", ErrorCode.ORDER_NOT_FOUND);
+
+        // Then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .satisfies(e -> {
+                    Throwable cause = TradingApiAsyncClient.unwrap(e);
+                    assertThat(cause).isInstanceOf(TradingApiException.class);
+                    assertThat(((TradingApiException) cause).getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND);
+                });
+    }
+
+    @Test
+    @DisplayName("실패 시 기본값으로 완료")
+    void getWithDefaultAsync_Failure_ReturnsDefault() {
+        // Given
+        Map<String, Object> defaultValue = new HashMap<>();
+        defaultValue.put("status", "DOWN");
+
+        when(tradingApiRestTemplate.exchange(
+                eq("/health"),
+                eq(HttpMethod.GET),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenThrow(new HttpClientErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        Map<String, Object> result = asyncClient.getWithDefaultAsync("/health", defaultValue).join();
+
+        // Then
+        assertThat(result.get("status")).isEqualTo("DOWN");
+    }
+
+    @Test
+    @DisplayName("Executor 포화 시 SERVICE_UNAVAILABLE로 즉시 실패")
+    void supplyAsync_Rejected_FailsWithServiceUnavailable() {
+        // Given
+        TradingApiAsyncClient saturated = new TradingApiAsyncClient(
+                mock(TradingApiHelper.class),
+                command -> {
+                    throw new RejectedExecutionException("full");
+                });
+
+        // When
+        CompletableFuture<Map<String, Object>> future = saturated.getAsync("/health", null);
+
+        // Then
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::join)
+                .satisfies(e -> assertThat(((TradingApiException) TradingApiAsyncClient.unwrap(e)).getErrorCode())
+                        .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE));
+        verifyNoInteractions(tradingApiRestTemplate);
+    }
+
+    @Test
+    @DisplayName("deadline이 지나면 실행 중인 작업을 interrupt하고 대기 중인 작업은 실행하지 않음")
+    void supplyAsync_Timeout_CancelsTask() throws InterruptedException {
+        // Given - 스레드 2개를 모두 점유한 뒤 세 번째 작업은 대기열에 남음
+        CountDownLatch interrupted = new CountDownLatch(2);
+        AtomicInteger queuedRuns = new AtomicInteger();
+        Supplier<String> blocking = () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        };
+        CompletableFuture<String> first = asyncClient.supplyAsync(blocking, 100);
+        CompletableFuture<String> second = asyncClient.supplyAsync(blocking, 100);
+        CompletableFuture<String> queued = asyncClient.supplyAsync(() -> {
+            queuedRuns.incrementAndGet();
+            return "queued";
+        }, 50);
+
+        // Then
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(first::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        // 스레드가 풀린 뒤에도 취소된 작업은 실행되지 않음
+        assertThat(asyncClient.supplyAsync(() -> "next", 1000).join()).isEqualTo("next");
+        assertThat(queuedRuns.get()).isZero();
+    }
+}
@@ -1,10 +1,8 @@
 package com.maru.trading.service;
 
+import com.maru.config.TradingEndpointGuard;
 import com.maru.trading.exception.TradingApiException;
 import com.maru.trading.exception.TradingApiException.ErrorCode;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
@@ -13,26 +11,38 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -50,7 +60,6 @@ class TradingApiHelperTest {
 
     private TradingApiHelper helper;
     private Retry retry;
-    private CircuitBreaker circuitBreaker;
 
     @BeforeEach
     void setUp() {
@@ -62,16 +71,7 @@ class TradingApiHelperTest {
         RetryRegistry retryRegistry = RetryRegistry.of(retryConfig);
         retry = retryRegistry.retry("testRetry");
 
-        // 테스트용 Circuit Breaker 설정
-        CircuitBreakerConfig cbConfig = CircuitBreakerConfig.custom()
-                .failureRateThreshold(50)
-                .slidingWindowSize(5)
-                .minimumNumberOfCalls(3)
-                .build();
-        CircuitBreakerRegistry cbRegistry = CircuitBreakerRegistry.of(cbConfig);
-        circuitBreaker = cbRegistry.circuitBreaker("testCB");
-
-        helper = new TradingApiHelper(tradingApiRestTemplate, retry, circuitBreaker);
+        helper = new TradingApiHelper(tradingApiRestTemplate, retry);
     }
 
     @Test
@@ -79,7 +79,6 @@ class TradingApiHelperTest {
     void helperInstance_IsCreated() {
         assertThat(helper).isNotNull();
         assertThat(retry).isNotNull();
-        assertThat(circuitBreaker).isNotNull();
     }
 
     // ==================== HTTP 메서드 테스트 ====================
@@ -406,6 +405,346 @@ class TradingApiHelperTest {
                     any(ParameterizedTypeReference.class)
             );
         }
+
+        @Test
+        @DisplayName("재시도 예산이 없으면 재시도하지 않고 Retry 메트릭에 실패로 기록")
+        void retryBudgetExhausted_RecordedAsFailure() {
+            // Given - 운영 설정처럼 재시도 대상 예외를 지정하고 예산 거부 예외는 제외
+            Retry budgetedRetry = Retry.of("budgetedRetry", RetryConfig.custom()
+                    .maxAttempts(2)
+                    .waitDuration(Duration.ofMillis(1))
+                    .retryExceptions(RestClientException.class)
+                    .ignoreExceptions(RetryBudget.ExhaustedException.class)
+                    .build());
+            TradingApiHelper budgetedHelper = new TradingApiHelper(tradingApiRestTemplate, budgetedRetry);
+            when(tradingApiRestTemplate.exchange(
+                    eq("/health"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenThrow(new ResourceAccessException("Persistent failure"));
+
+            // When - 기본 예산(window당 10회)을 모두 쓴 뒤 한 번 더 호출
+            for (int i = 0; i < 11; i++) {
+                assertThatThrownBy(() -> budgetedHelper.get("/health", ErrorCode.CONNECTION_FAILED))
+                        .isInstanceOf(TradingApiException.class);
+            }
+
+            // Then
+            assertThat(budgetedHelper.getRetryBudget().getDeniedCount()).isEqualTo(1);
+            assertThat(budgetedRetry.getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(10);
+            assertThat(budgetedRetry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt()).isEqualTo(1);
+            verify(tradingApiRestTemplate, times(21)).exchange(
+                    eq("/health"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            );
+        }
+
+        @Test
+        @DisplayName("분류별 Circuit Breaker / bulkhead 거부는 재시도하지 않음")
+        void guardRejection_NotRetried() {
+            // Given
+            when(tradingApiRestTemplate.exchange(
+                    eq("/health"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenThrow(new ResourceAccessException("I/O error",
+                    new TradingEndpointGuard.RejectedException("interactive-read circuit breaker is OPEN: /health")));
+
+            // When & Then
+            assertThatThrownBy(() -> helper.get("/health", ErrorCode.CONNECTION_FAILED))
+                    .isInstanceOf(TradingApiException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+
+            verify(tradingApiRestTemplate, times(1)).exchange(
+                    eq("/health"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            );
+        }
+
+        @Test
+        @DisplayName("POST는 실패해도 재시도하지 않음")
+        void post_Failure_NotRetried() {
+            // Given
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/create"),
+                    eq(HttpMethod.POST),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenThrow(new ResourceAccessException("Read timed out"));
+
+            // When & Then
+            assertThatThrownBy(() -> helper.post("/api/create", new HashMap<>(), ErrorCode.INTERNAL_ERROR))
+                    .isInstanceOf(TradingApiException.class);
+
+            verify(tradingApiRestTemplate, times(1)).exchange(
+                    eq("/api/create"),
+                    eq(HttpMethod.POST),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            );
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("Idempotency-Key POST는 같은 키로 재시도")
+        void postIdempotent_RetriedWithSameKey() {
+            // Given
+            Map<String, Object> expectedResponse = new HashMap<>();
+            expectedResponse.put("status", "CANCELLED");
+
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/cancel"),
+                    eq(HttpMethod.POST),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            ))
+            .thenThrow(new ResourceAccessException("Read timed out"))
+            .thenReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
+
+            // When
+            Map<String, Object> result = helper.postIdempotent("/api/cancel", new HashMap<>(), ErrorCode.INTERNAL_ERROR);
+
+            // Then
+            ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(tradingApiRestTemplate, times(2)).exchange(
+                    eq("/api/cancel"),
+                    eq(HttpMethod.POST),
+                    captor.capture(),
+                    any(ParameterizedTypeReference.class)
+            );
+            String firstKey = captor.getAllValues().get(0).getHeaders().getFirst(TradingApiHelper.IDEMPOTENCY_KEY_HEADER);
+            String secondKey = captor.getAllValues().get(1).getHeaders().getFirst(TradingApiHelper.IDEMPOTENCY_KEY_HEADER);
+            assertThat(firstKey).isNotBlank();
+            assertThat(secondKey).isEqualTo(firstKey);
+            assertThat(result.get("status")).isEqualTo("CANCELLED");
+        }
+    }
+
+    // ==================== 조건부 GET 테스트 ====================
+
+    @Nested
+    @DisplayName("조건부 GET(ETag) 테스트")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("ETag 저장 후 If-None-Match 전송, 304면 저장된 본문 재사용")
+        void notModified_ReusesStoredBody() {
+            // Given
+            Map<String, Object> positions = new HashMap<>();
+            positions.put("items", List.of(Map.of("symbol", "005930")));
+            HttpHeaders firstHeaders = new HttpHeaders();
+            firstHeaders.setETag("\"v1\"");
+
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/v1/query/positions"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenReturn(new ResponseEntity<>(positions, firstHeaders, HttpStatus.OK))
+              .thenReturn(new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_MODIFIED));
+
+            // When
+            Map<String, Object> first = helper.getShared("/api/v1/query/positions");
+            Map<String, Object> second = helper.getShared("/api/v1/query/positions");
+
+            // Then
+            assertThat(second).isEqualTo(first);
+            ArgumentCaptor<HttpEntity<?>> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(tradingApiRestTemplate, times(2)).exchange(
+                    eq("/api/v1/query/positions"),
+                    eq(HttpMethod.GET),
+                    entityCaptor.capture(),
+                    any(ParameterizedTypeReference.class)
+            );
+            assertThat(entityCaptor.getAllValues().get(0)).isNull();
+            assertThat(entityCaptor.getAllValues().get(1).getHeaders().getIfNoneMatch()).containsExactly("\"v1\"");
+            assertThat(helper.getConditionalGetCache().getNotModifiedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Cache-Control max-age 동안은 요청 없이 재사용")
+        void maxAge_SkipsBackendCall() {
+            // Given
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("totalOrders", 10);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setCacheControl("max-age=60");
+
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/v1/query/dashboard/stats"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenReturn(new ResponseEntity<>(stats, headers, HttpStatus.OK));
+
+            // When
+            helper.getShared("/api/v1/query/dashboard/stats");
+            Map<String, Object> second = helper.getShared("/api/v1/query/dashboard/stats");
+
+            // Then
+            assertThat(second).containsEntry("totalOrders", 10);
+            verify(tradingApiRestTemplate, times(1)).exchange(
+                    eq("/api/v1/query/dashboard/stats"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            );
+            assertThat(helper.getConditionalGetCache().getFreshHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("검증자가 없는 응답은 저장하지 않음")
+        void noValidator_NotStored() {
+            // Given
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/v1/query/fills"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenReturn(new ResponseEntity<>(new HashMap<>(), HttpStatus.OK));
+
+            // When
+            helper.getShared("/api/v1/query/fills");
+            helper.getShared("/api/v1/query/fills");
+
+            // Then
+            verify(tradingApiRestTemplate, times(2)).exchange(
+                    eq("/api/v1/query/fills"),
+                    eq(HttpMethod.GET),
+                    isNull(),
+                    any(ParameterizedTypeReference.class)
+            );
+            assertThat(helper.getConditionalGetCache().getEntryCount()).isZero();
+        }
+    }
+
+    // ==================== GET 병합 테스트 ====================
+
+    @Nested
+    @DisplayName("GET 병합(single-flight) 테스트")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("동시에 들어온 동일 GET은 백엔드를 한 번만 호출")
+        void concurrentIdenticalGets_ShareOneBackendCall() throws Exception {
+            // Given
+            Map<String, Object> expectedResponse = new HashMap<>();
+            expectedResponse.put("items", List.of());
+            CountDownLatch release = new CountDownLatch(1);
+
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/v1/admin/strategies"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return new ResponseEntity<>(expectedResponse, HttpStatus.OK);
+            });
+
+            ExecutorService callers = Executors.newFixedThreadPool(4);
+            try {
+                // When
+                List<Future<Map<String, Object>>> results = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    results.add(callers.submit(() -> helper.getShared("/api/v1/admin/strategies")));
+                }
+                awaitCoalesced(3);
+                release.countDown();
+
+                // Then
+                for (Future<Map<String, Object>> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).containsKey("items");
+                }
+            } finally {
+                callers.shutdownNow();
+            }
+
+            verify(tradingApiRestTemplate, times(1)).exchange(
+                    eq("/api/v1/admin/strategies"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            );
+            assertThat(helper.getExecutedGetCount()).isEqualTo(1);
+            assertThat(helper.getCoalescedGetCount()).isEqualTo(3);
+            assertThat(helper.getInFlightGetCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("병합된 호출자는 같은 예외를 받음")
+        void concurrentIdenticalGets_ShareError() throws Exception {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            when(tradingApiRestTemplate.exchange(
+                    eq("/api/v1/query/positions?accountId=acc-1"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                throw new ResourceAccessException("Connection refused");
+            });
+
+            ExecutorService callers = Executors.newFixedThreadPool(2);
+            try {
+                // When
+                Future<Map<String, Object>> first = callers.submit(
+                        () -> helper.getShared("/api/v1/query/positions?accountId=acc-1"));
+                Future<Map<String, Object>> second = callers.submit(
+                        () -> helper.getShared("/api/v1/query/positions?accountId=acc-1"));
+                awaitCoalesced(1);
+                release.countDown();
+
+                // Then
+                assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(ResourceAccessException.class);
+                assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(ResourceAccessException.class);
+            } finally {
+                callers.shutdownNow();
+            }
+
+            verify(tradingApiRestTemplate, times(1)).exchange(
+                    eq("/api/v1/query/positions?accountId=acc-1"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            );
+        }
+
+        @Test
+        @DisplayName("순차 호출은 병합되지 않음")
+        void sequentialGets_AreNotCoalesced() {
+            // Given
+            when(tradingApiRestTemplate.exchange(
+                    eq("/health"),
+                    eq(HttpMethod.GET),
+                    any(),
+                    any(ParameterizedTypeReference.class)
+            )).thenReturn(new ResponseEntity<>(new HashMap<>(), HttpStatus.OK));
+
+            // When
+            helper.getShared("/health");
+            helper.getShared("/health");
+
+            // Then
+            assertThat(helper.getExecutedGetCount()).isEqualTo(2);
+            assertThat(helper.getCoalescedGetCount()).isZero();
+        }
+
+        private void awaitCoalesced(long expected) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (helper.getCoalescedGetCount() < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
     }
 
     // ==================== URL 빌더 테스트 ====================
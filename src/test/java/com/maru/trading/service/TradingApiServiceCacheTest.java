@@ -1,9 +1,6 @@
 package com.maru.trading.service;
 
 import com.maru.config.CacheConfig;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
@@ -11,16 +8,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -43,12 +45,27 @@ class TradingApiServiceCacheTest {
     @Mock
     private RestTemplate tradingApiRestTemplate;
 
+    @Mock
+    private BacktestArtifactStore backtestArtifacts;
+
+    @Mock
+    private TradingMirror tradingMirror;
+
+    @TempDir
+    Path memoDirectory;
+
+    private ClosedPeriodMemo periodMemo;
+
     private CacheManager cacheManager;
     private TradingApiHelper apiHelper;
+    private TradingCacheWriter cacheWriter;
 
     @BeforeEach
     void setUp() {
         cacheManager = new CaffeineCacheManager();
+        cacheWriter = new TradingCacheWriter(cacheManager, cacheManager);
+        // 마감 기간 메모는 mock 저장소와 분리된 임시 디렉터리 저장소 사용
+        periodMemo = new ClosedPeriodMemo(new BacktestArtifactStore(memoDirectory.toString(), 1 << 20, true), true, Duration.ZERO, 100, Clock.systemDefaultZone());
 
         // 테스트용 Resilience4j 설정
         RetryConfig retryConfig = RetryConfig.custom()
@@ -57,14 +74,7 @@ class TradingApiServiceCacheTest {
                 .build();
         Retry retry = RetryRegistry.of(retryConfig).retry("testRetry");
 
-        CircuitBreakerConfig cbConfig = CircuitBreakerConfig.custom()
-                .failureRateThreshold(50)
-                .slidingWindowSize(5)
-                .minimumNumberOfCalls(3)
-                .build();
-        CircuitBreaker cb = CircuitBreakerRegistry.of(cbConfig).circuitBreaker("testCB");
-
-        apiHelper = new TradingApiHelper(tradingApiRestTemplate, retry, cb);
+        apiHelper = new TradingApiHelper(tradingApiRestTemplate, retry);
     }
 
     // ==================== 캐시 히트/미스 테스트 ====================
@@ -82,7 +92,7 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
 
         // When - 첫 번째 호출
         Map<String, Object> result1 = service.getHealthStatus();
@@ -120,7 +130,7 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(account2, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
 
         // When
         Map<String, Object> result1 = service.getAccount("account-1");
@@ -153,7 +163,7 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
 
         // When
         Map<String, Object> result = service.getHealthStatus();
@@ -176,7 +186,7 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
 
         // When
         Map<String, Object> result = service.getAccounts();
@@ -199,7 +209,7 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
 
         // When
         Map<String, Object> result = service.getInstruments(null, null, null, null);
@@ -224,10 +234,14 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(createResponse, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
         Map<String, Object> accountData = new HashMap<>();
         accountData.put("broker", "키움증권");
 
+        Cache accountsCache = cacheManager.getCache(CacheConfig.CACHE_ACCOUNTS);
+        accountsCache.put(SimpleKey.EMPTY, new HashMap<>());
+        accountsCache.put("account-1", new HashMap<>());
+
         // When
         Map<String, Object> result = service.createAccount(accountData);
 
@@ -239,6 +253,10 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         );
         assertThat(result.get("accountId")).isEqualTo("new-account");
+
+        // 목록만 무효화되고 기존 계좌 상세 캐시는 유지
+        assertThat(accountsCache.get(SimpleKey.EMPTY)).isNull();
+        assertThat(accountsCache.get("account-1")).isNotNull();
     }
 
     @Test
@@ -252,7 +270,12 @@ class TradingApiServiceCacheTest {
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
 
-        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper);
+        TradingApiService service = new TradingApiService(tradingApiRestTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
+
+        Cache accountsCache = cacheManager.getCache(CacheConfig.CACHE_ACCOUNTS);
+        accountsCache.put(SimpleKey.EMPTY, new HashMap<>());
+        accountsCache.put("account-1", new HashMap<>());
+        accountsCache.put("account-2", new HashMap<>());
 
         // When
         service.deleteAccount("account-1");
@@ -264,6 +287,11 @@ class TradingApiServiceCacheTest {
                 any(),
                 any(ParameterizedTypeReference.class)
         );
+
+        // 삭제된 계좌와 목록만 무효화
+        assertThat(accountsCache.get(SimpleKey.EMPTY)).isNull();
+        assertThat(accountsCache.get("account-1")).isNull();
+        assertThat(accountsCache.get("account-2")).isNotNull();
     }
 
     // ==================== 캐시 설정 확인 테스트 ====================
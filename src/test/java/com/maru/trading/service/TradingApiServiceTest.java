@@ -1,8 +1,5 @@
 package com.maru.trading.service;
 
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
@@ -10,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
@@ -22,8 +20,11 @@ import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +33,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +46,20 @@ class TradingApiServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private TradingCacheWriter cacheWriter;
+
+    @Mock
+    private BacktestArtifactStore backtestArtifacts;
+
+    @Mock
+    private TradingMirror tradingMirror;
+
+    @TempDir
+    Path memoDirectory;
+
+    private ClosedPeriodMemo periodMemo;
+
     private TradingApiService tradingApiService;
     private TradingApiHelper apiHelper;
 
@@ -53,15 +72,12 @@ class TradingApiServiceTest {
                 .build();
         Retry retry = RetryRegistry.of(retryConfig).retry("testRetry");
 
-        CircuitBreakerConfig cbConfig = CircuitBreakerConfig.custom()
-                .failureRateThreshold(50)
-                .slidingWindowSize(5)
-                .minimumNumberOfCalls(3)
-                .build();
-        CircuitBreaker cb = CircuitBreakerRegistry.of(cbConfig).circuitBreaker("testCB");
-
-        apiHelper = new TradingApiHelper(restTemplate, retry, cb);
-        tradingApiService = new TradingApiService(restTemplate, apiHelper);
+        apiHelper = new TradingApiHelper(restTemplate, retry);
+        // 스텁하지 않은 mock은 get()에서 빈 Map을 돌려주므로 저장된 결과가 없는 것으로 고정
+        lenient().when(backtestArtifacts.get(anyString(), anyString())).thenReturn(null);
+        // 마감 기간 메모는 mock 저장소와 분리된 임시 디렉터리 저장소 사용
+        periodMemo = new ClosedPeriodMemo(new BacktestArtifactStore(memoDirectory.toString(), 1 << 20, true), true, Duration.ZERO, 100, Clock.systemDefaultZone());
+        tradingApiService = new TradingApiService(restTemplate, apiHelper, cacheWriter, backtestArtifacts, tradingMirror, periodMemo);
     }
 
     // ==================== Health Status Tests ====================
@@ -1239,6 +1255,43 @@ class TradingApiServiceTest {
         assertThat(result.get("totalReturn")).isEqualTo(15.5);
     }
 
+    @Test
+    @DisplayName("일별 성능 분석 - 월별로 나눠 조회 후 합치고 지난 기간은 재사용")
+    @SuppressWarnings("unchecked")
+    void getPerformanceAnalysis_MergesClosedMonths() {
+        // given - 월별 응답에 해당 월 1일, 15일 데이터
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenAnswer(inv -> {
+                    String url = inv.getArgument(0);
+                    String month = url.substring(url.indexOf("startDate=") + 10, url.indexOf("startDate=") + 17);
+                    Map<String, Object> body = new HashMap<>();
+                    body.put("data", List.of(day(month + "-01", 100, 2, 50.0), day(month + "-15", -30, 1, 0.0)));
+                    return new ResponseEntity<>(body, HttpStatus.OK);
+                });
+
+        // when
+        Map<String, Object> result = tradingApiService.getPerformanceAnalysis("daily", "2024-01-10", "2024-02-20", null);
+        tradingApiService.getPerformanceAnalysis("daily", "2024-02-01", "2024-02-28", null);
+
+        // then - 1월 1일은 범위 밖, 2월은 두 번째 조회에서 재사용
+        List<Map<String, Object>> data = (List<Map<String, Object>>) result.get("data");
+        assertThat(data).extracting(d -> d.get("date")).containsExactly("2024-01-15", "2024-02-01", "2024-02-15");
+        Map<String, Object> summary = (Map<String, Object>) result.get("summary");
+        assertThat(summary.get("totalProfitLoss")).isEqualTo(40.0);
+        assertThat(summary.get("totalTrades")).isEqualTo(4L);
+        assertThat(summary.get("winRate")).isEqualTo(25.0);
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class));
+    }
+
+    private static Map<String, Object> day(String date, double profitLoss, int trades, double winRate) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("date", date);
+        item.put("profitLoss", profitLoss);
+        item.put("trades", trades);
+        item.put("winRate", winRate);
+        return item;
+    }
+
     // ==================== Risk Rule CRUD Tests ====================
 
     @Test
@@ -2153,6 +2206,12 @@ class TradingApiServiceTest {
                 any(),
                 any(ParameterizedTypeReference.class)
         )).thenReturn(new ResponseEntity<>(tradesResponse, HttpStatus.OK));
+        when(restTemplate.exchange(
+                eq("/api/v1/query/backtests/" + backtestId),
+                eq(HttpMethod.GET),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new HashMap<>(Map.of("id", 1, "status", "COMPLETED")), HttpStatus.OK));
 
         // when
         Map<String, Object> result = tradingApiService.getBacktestTrades(backtestId);
@@ -2162,6 +2221,39 @@ class TradingApiServiceTest {
         assertThat(result).containsKey("trades");
     }
 
+    @Test
+    @DisplayName("백테스트 거래 조회 - 백테스트가 COMPLETED일 때만 디스크에 저장")
+    void getBacktestTrades_StoresOnlyWhenBacktestCompleted() {
+        // given
+        Map<String, Object> tradesResponse = new HashMap<>();
+        tradesResponse.put("trades", new java.util.ArrayList<>());
+        when(restTemplate.exchange(
+                eq("/api/v1/admin/backtests/1/trades"),
+                eq(HttpMethod.GET),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(tradesResponse, HttpStatus.OK));
+        when(restTemplate.exchange(
+                eq("/api/v1/query/backtests/1"),
+                eq(HttpMethod.GET),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new HashMap<>(Map.of("id", 1, "status", "RUNNING")), HttpStatus.OK),
+                new ResponseEntity<>(new HashMap<>(Map.of("id", 1, "status", "COMPLETED")), HttpStatus.OK));
+
+        // when
+        tradingApiService.getBacktestTrades(1L);
+
+        // then - 실행 중에는 거래 내역도 상세도 저장하지 않음
+        verify(backtestArtifacts, never()).put(eq(BacktestArtifactStore.TRADES), anyString(), anyString(), any());
+
+        // when - 완료 후 다시 조회
+        tradingApiService.getBacktestTrades(1L);
+
+        // then
+        verify(backtestArtifacts).put(BacktestArtifactStore.TRADES, "1", "1", tradesResponse);
+    }
+
     @Test
     @DisplayName("백테스트 거래 조회 - API 장애 시 오류 맵 반환")
     void getBacktestTrades_ApiFailure_ReturnsErrorMap() {
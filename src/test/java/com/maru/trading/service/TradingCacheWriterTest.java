@@ -0,0 +1,337 @@
+package com.maru.trading.service;
+
+import com.maru.config.CacheConfig;
+import com.maru.config.StaleWhileRevalidateCache;
+import com.maru.trading.dto.Instrument;
+import com.maru.trading.dto.Strategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TradingCacheWriter 단위 테스트
+ */
+@DisplayName("TradingCacheWriter 테스트")
+class TradingCacheWriterTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CaffeineCacheManager longTtlCacheManager;
+    private TradingCacheWriter cacheWriter;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        longTtlCacheManager = new CaffeineCacheManager();
+        cacheWriter = new TradingCacheWriter(cacheManager, longTtlCacheManager);
+    }
+
+    @Nested
+    @DisplayName("전략")
+    class StrategyTest {
+
+        @Test
+        @DisplayName("상태 변경 시 상세 캐시와 목록의 해당 항목만 교체")
+        void strategyStatusUpdated_PatchesEntryAndList() {
+            // Given
+            Cache cache = cacheManager.getCache(CacheConfig.CACHE_STRATEGIES);
+            cache.put(SimpleKey.EMPTY, listOf(
+                    item("strategyId", "s-1", "status", "INACTIVE"),
+                    item("strategyId", "s-2", "status", "ACTIVE")));
+            cache.put("s-1", item("strategyId", "s-1", "status", "INACTIVE"));
+            cache.put("s-2", item("strategyId", "s-2", "status", "ACTIVE"));
+
+            // When - 응답 본문이 엔티티가 아니어도 변경된 상태값으로 패치
+            cacheWriter.strategyStatusUpdated("s-1", "ACTIVE", item("ok", true, "message", "updated"));
+
+            // Then
+            List<Map<String, Object>> items = items(cache.get(SimpleKey.EMPTY));
+            assertThat(items).extracting(m -> m.get("status")).containsExactly("ACTIVE", "ACTIVE");
+            assertThat(valueOf(cache, "s-1")).containsEntry("status", "ACTIVE");
+            assertThat(valueOf(cache, "s-2")).containsEntry("status", "ACTIVE");
+        }
+
+        @Test
+        @DisplayName("수정 응답을 상세 캐시에 저장하고 목록 항목 교체")
+        void strategyUpdated_WritesThroughResponse() {
+            // Given
+            Cache cache = cacheManager.getCache(CacheConfig.CACHE_STRATEGIES);
+            cache.put(SimpleKey.EMPTY, listOf(item("strategyId", "s-1", "name", "old")));
+
+            // When
+            cacheWriter.strategyUpdated("s-1", item("strategyId", "s-1", "name", "new"));
+
+            // Then
+            assertThat(valueOf(cache, "s-1")).containsEntry("name", "new");
+            assertThat(items(cache.get(SimpleKey.EMPTY)).get(0)).containsEntry("name", "new");
+        }
+
+        @Test
+        @DisplayName("등록 시 목록만 무효화")
+        void strategyCreated_EvictsListsOnly() {
+            // Given
+            Cache cache = cacheManager.getCache(CacheConfig.CACHE_STRATEGIES);
+            cache.put(SimpleKey.EMPTY, listOf(item("strategyId", "s-1", "name", "a")));
+            cache.put("s-1", item("strategyId", "s-1", "name", "a"));
+
+            // When
+            cacheWriter.strategyCreated();
+
+            // Then
+            assertThat(cache.get(SimpleKey.EMPTY)).isNull();
+            assertThat(cache.get("s-1")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("상태 변경 시 레코드 목록의 해당 레코드만 교체")
+        void strategyStatusUpdated_PatchesRecords() {
+            // Given
+            Cache records = cacheManager.getCache(CacheConfig.CACHE_STRATEGY_RECORDS);
+            List<Strategy> cached = List.of(strategy("s-1", "INACTIVE"), strategy("s-2", "ACTIVE"));
+            records.put(SimpleKey.EMPTY, cached);
+
+            // When
+            cacheWriter.strategyStatusUpdated("s-1", "ACTIVE", item("ok", true, "message", "updated"));
+
+            // Then - 새 목록으로 교체, 다른 레코드는 그대로
+            List<Strategy> patched = recordsOf(records, SimpleKey.EMPTY);
+            assertThat(patched).extracting(Strategy::status).containsExactly("ACTIVE", "ACTIVE");
+            assertThat(patched.get(0).name()).isEqualTo("strategy-s-1");
+            assertThat(patched.get(1)).isSameAs(cached.get(1));
+            assertThat(cached.get(0).status()).isEqualTo("INACTIVE");
+        }
+
+        @Test
+        @DisplayName("삭제 시 레코드 목록에서 해당 레코드만 제거")
+        void strategyDeleted_RemovesRecord() {
+            // Given
+            Cache records = cacheManager.getCache(CacheConfig.CACHE_STRATEGY_RECORDS);
+            records.put(SimpleKey.EMPTY, List.of(strategy("s-1", "ACTIVE"), strategy("s-2", "ACTIVE")));
+
+            // When
+            cacheWriter.strategyDeleted("s-1");
+
+            // Then
+            List<Strategy> remaining = recordsOf(records, SimpleKey.EMPTY);
+            assertThat(remaining).extracting(Strategy::strategyId).containsExactly("s-2");
+        }
+
+        @Test
+        @DisplayName("등록 시 레코드 목록은 무효화")
+        void strategyCreated_ClearsRecords() {
+            // Given
+            Cache records = cacheManager.getCache(CacheConfig.CACHE_STRATEGY_RECORDS);
+            records.put(SimpleKey.EMPTY, List.of(strategy("s-1", "ACTIVE")));
+
+            // When
+            cacheWriter.strategyCreated();
+
+            // Then
+            assertThat(records.get(SimpleKey.EMPTY)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stale-While-Revalidate 캐시")
+    class StaleWhileRevalidateTest {
+
+        @Test
+        @DisplayName("목록 패치는 원래 항목 나이를 유지하고 통계/갱신을 발생시키지 않음")
+        void patch_KeepsEntryAgeAndStats() {
+            // Given - TTL이 지난 목록
+            AtomicLong nanos = new AtomicLong();
+            List<Runnable> refreshes = new ArrayList<>();
+            StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(CacheConfig.CACHE_STRATEGIES,
+                    Duration.ofSeconds(30), Duration.ofMinutes(5), 100, refreshes::add, () -> false, nanos::get);
+            AtomicInteger reloads = new AtomicInteger();
+            cache.setRefreshLoader(key -> {
+                reloads.incrementAndGet();
+                return null;
+            });
+            SimpleCacheManager manager = new SimpleCacheManager();
+            manager.setCaches(List.of(cache));
+            manager.initializeCaches();
+            cache.put(SimpleKey.EMPTY, listOf(item("strategyId", "s-1", "status", "INACTIVE")));
+            nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+            // When
+            new TradingCacheWriter(manager, longTtlCacheManager).strategyStatusUpdated("s-1", "ACTIVE", null);
+
+            // Then
+            assertThat(cache.getNativeCache().stats().requestCount()).isZero();
+            refreshes.forEach(Runnable::run);
+            assertThat(reloads.get()).isZero();
+            Map<String, Object> list = cache.get(SimpleKey.EMPTY, () -> null);
+            assertThat(list).containsEntry(StaleWhileRevalidateCache.CACHE_STATUS_KEY, StaleWhileRevalidateCache.STALE);
+            assertThat(items(list)).extracting(m -> m.get("status")).containsExactly("ACTIVE");
+        }
+    }
+
+    @Nested
+    @DisplayName("계좌")
+    class AccountTest {
+
+        @Test
+        @DisplayName("응답이 엔티티가 아니면 해당 계좌와 그 계좌를 포함한 목록만 무효화")
+        void accountUpdated_NonEntityResponse_EvictsAffectedKeys() {
+            // Given
+            Cache cache = cacheManager.getCache(CacheConfig.CACHE_ACCOUNTS);
+            cache.put(SimpleKey.EMPTY, listOf(item("accountId", "a-1", "alias", "main")));
+            cache.put("a-1", item("accountId", "a-1", "alias", "main"));
+            cache.put("a-2", item("accountId", "a-2", "alias", "sub"));
+
+            // When
+            cacheWriter.accountUpdated("a-1", item("ok", true, "message", "updated"));
+
+            // Then
+            assertThat(cache.get("a-1")).isNull();
+            assertThat(cache.get(SimpleKey.EMPTY)).isNull();
+            assertThat(cache.get("a-2")).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("종목")
+    class InstrumentTest {
+
+        @Test
+        @DisplayName("조회 조건을 계속 만족하는 목록은 패치, 포함 여부가 바뀐 목록만 무효화")
+        void instrumentStatusUpdated_ReevaluatesMembership() {
+            // Given
+            Cache cache = longTtlCacheManager.getCache(CacheConfig.CACHE_INSTRUMENTS);
+            InstrumentListKey allKospi = InstrumentListKey.of("KOSPI", null, null, null);
+            InstrumentListKey tradableOnly = InstrumentListKey.of(null, null, true, null);
+            InstrumentListKey nonTradable = InstrumentListKey.of(null, null, false, null);
+            cache.put(allKospi, listOf(instrument("005930", true), instrument("000660", true)));
+            cache.put(tradableOnly, listOf(instrument("005930", true), instrument("000660", true)));
+            cache.put(nonTradable, listOf(instrument("035720", false)));
+            cache.put("005930", instrument("005930", true));
+
+            Map<String, Object> changes = new HashMap<>();
+            changes.put("tradable", false);
+
+            // When
+            cacheWriter.instrumentStatusUpdated("005930", changes, null);
+
+            // Then - 전체 목록은 패치
+            assertThat(items(cache.get(allKospi)).get(0)).containsEntry("tradable", false);
+            assertThat(valueOf(cache, "005930")).containsEntry("tradable", false);
+            // 거래 가능 목록에서 빠지고, 거래 불가 목록에는 들어가야 하므로 둘 다 재조회
+            assertThat(cache.get(tradableOnly)).isNull();
+            assertThat(cache.get(nonTradable)).isNull();
+        }
+
+        @Test
+        @DisplayName("무관한 필터 목록은 유지")
+        void instrumentStatusUpdated_KeepsUnrelatedLists() {
+            // Given
+            Cache cache = longTtlCacheManager.getCache(CacheConfig.CACHE_INSTRUMENTS);
+            InstrumentListKey kosdaq = InstrumentListKey.of("KOSDAQ", null, null, null);
+            Map<String, Object> kosdaqItem = instrument("035720", true);
+            kosdaqItem.put("market", "KOSDAQ");
+            cache.put(kosdaq, listOf(kosdaqItem));
+
+            Map<String, Object> changes = new HashMap<>();
+            changes.put("halted", true);
+
+            // When
+            cacheWriter.instrumentStatusUpdated("005930", changes, null);
+
+            // Then
+            assertThat(cache.get(kosdaq)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("레코드 목록도 조회 조건을 계속 만족하면 패치, 포함 여부가 바뀐 목록만 무효화")
+        void instrumentStatusUpdated_PatchesRecords() {
+            // Given
+            Cache records = longTtlCacheManager.getCache(CacheConfig.CACHE_INSTRUMENT_RECORDS);
+            InstrumentListKey all = InstrumentListKey.of(null, null, null, null);
+            InstrumentListKey tradableOnly = InstrumentListKey.of(null, null, true, null);
+            InstrumentListKey kosdaq = InstrumentListKey.of("KOSDAQ", null, null, null);
+            records.put(all, List.of(instrumentRecord("005930", true), instrumentRecord("000660", true)));
+            records.put(tradableOnly, List.of(instrumentRecord("005930", true), instrumentRecord("000660", true)));
+            records.put(kosdaq, List.of());
+
+            Map<String, Object> changes = new HashMap<>();
+            changes.put("tradable", false);
+
+            // When
+            cacheWriter.instrumentStatusUpdated("005930", changes, null);
+
+            // Then
+            List<Instrument> patched = recordsOf(records, all);
+            assertThat(patched).extracting(Instrument::tradable).containsExactly(false, true);
+            assertThat(patched.get(0).tickSize()).isEqualByComparingTo("1");
+            assertThat(records.get(tradableOnly)).isNull();
+            assertThat(records.get(kosdaq)).isNotNull();
+        }
+    }
+
+    private static Strategy strategy(String strategyId, String status) {
+        return new Strategy(strategyId, "strategy-" + strategyId, null, "MA_CROSS", status, "PAPER", "a-1",
+                "005930", null, null);
+    }
+
+    private static Instrument instrumentRecord(String symbol, boolean tradable) {
+        return new Instrument(symbol, "KOSPI", null, null, "LISTED", tradable, false, null, null,
+                BigDecimal.ONE, 1, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> recordsOf(Cache cache, Object key) {
+        return (List<R>) cache.get(key).get();
+    }
+
+    private static Map<String, Object> instrument(String symbol, boolean tradable) {
+        Map<String, Object> item = item("symbol", symbol, "tradable", tradable);
+        item.put("market", "KOSPI");
+        item.put("status", "LISTED");
+        return item;
+    }
+
+    private static Map<String, Object> item(String k1, Object v1, String k2, Object v2) {
+        Map<String, Object> item = new HashMap<>();
+        item.put(k1, v1);
+        item.put(k2, v2);
+        return item;
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> listOf(Map<String, Object>... items) {
+        Map<String, Object> list = new HashMap<>();
+        list.put("items", new ArrayList<>(List.of(items)));
+        list.put("total", items.length);
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> items(Cache.ValueWrapper wrapper) {
+        return items((Map<String, Object>) wrapper.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> items(Map<String, Object> list) {
+        return (List<Map<String, Object>>) list.get("items");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> valueOf(Cache cache, Object key) {
+        return (Map<String, Object>) cache.get(key).get();
+    }
+}
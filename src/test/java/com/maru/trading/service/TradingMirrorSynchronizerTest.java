@@ -0,0 +1,275 @@
+package com.maru.trading.service;
+
+import com.maru.trading.dto.Account;
+import com.maru.trading.entity.MirroredOrder;
+import com.maru.trading.entity.TradingSyncWatermark;
+import com.maru.trading.exception.TradingApiException.ErrorCode;
+import com.maru.trading.repository.MirroredFillRepository;
+import com.maru.trading.repository.MirroredOrderRepository;
+import com.maru.trading.repository.TradingSyncWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TradingMirrorSynchronizer 단위 테스트
+ */
+@DisplayName("TradingMirrorSynchronizer 테스트")
+class TradingMirrorSynchronizerTest {
+
+    private TradingApiHelper apiHelper;
+    private MirroredOrderRepository orderRepository;
+    private MirroredFillRepository fillRepository;
+    private TradingSyncWatermarkRepository watermarkRepository;
+    private TradingMirrorSynchronizer synchronizer;
+
+    private final Map<String, TradingSyncWatermark> watermarks = new HashMap<>();
+    private final Map<String, List<Map<String, Object>>> backendRows = new HashMap<>();
+    private final List<String> requestedUrls = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        apiHelper = mock(TradingApiHelper.class);
+        orderRepository = mock(MirroredOrderRepository.class);
+        fillRepository = mock(MirroredFillRepository.class);
+        watermarkRepository = mock(TradingSyncWatermarkRepository.class);
+        synchronizer = new TradingMirrorSynchronizer(apiHelper, orderRepository, fillRepository, watermarkRepository,
+                true, 60, 3, 2);
+
+        when(watermarkRepository.findById(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(watermarks.get(inv.<String>getArgument(0))));
+        when(watermarkRepository.save(any(TradingSyncWatermark.class))).thenAnswer(inv -> {
+            TradingSyncWatermark watermark = inv.getArgument(0);
+            watermarks.put(watermark.getId(), watermark);
+            return watermark;
+        });
+        when(apiHelper.buildUrl(anyString(), anyMap())).thenAnswer(inv -> inv.getArgument(0) + "?" + inv.getArgument(1));
+        doAnswer(inv -> {
+            String url = inv.getArgument(0);
+            requestedUrls.add(url);
+            Consumer<Map<String, Object>> consumer = inv.getArgument(1);
+            String path = url.substring(0, url.indexOf('?'));
+            backendRows.getOrDefault(path, List.of()).forEach(consumer);
+            return new HashMap<String, Object>();
+        }).when(apiHelper).stream(anyString(), any(Consumer.class), eq(ErrorCode.UNKNOWN_ERROR));
+    }
+
+    @Test
+    @DisplayName("주문/체결을 batch-size 단위로 저장하고 워터마크 갱신")
+    @SuppressWarnings("unchecked")
+    void syncsInBatchesAndAdvancesWatermark() {
+        // Given
+        backendRows.put("/api/v1/query/orders", List.of(
+                order("o-1", "2026-01-10T09:00:00"),
+                order("o-2", "2026-01-11 10:00:00"),
+                order("o-3", "2026-01-12T11:00:00")));
+        backendRows.put("/api/v1/query/fills", List.of(fill("f-1", "2026-01-12T11:00:01")));
+        when(orderRepository.countByAccountId("acc-1")).thenReturn(3L);
+
+        // When
+        synchronizer.sync("acc-1");
+
+        // Then
+        ArgumentCaptor<List<MirroredOrder>> orders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, times(2)).saveAll(orders.capture());
+        assertThat(orders.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(orders.getAllValues().get(0).get(1).getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 1, 11, 10, 0));
+        assertThat(orders.getAllValues().get(0).get(0).getPayload()).contains("\"orderId\":\"o-1\"");
+        verify(fillRepository).saveAll(any(List.class));
+
+        TradingSyncWatermark orderMark = watermarks.get(TradingSyncWatermark.idOf(TradingMirrorSynchronizer.ORDERS, "acc-1"));
+        assertThat(orderMark.getSyncedThrough()).isEqualTo(LocalDateTime.of(2026, 1, 12, 11, 0));
+        assertThat(orderMark.getRowCount()).isEqualTo(3);
+        assertThat(synchronizer.isSynced("acc-1")).isTrue();
+        assertThat(synchronizer.getSyncedRowCount()).isEqualTo(4);
+        // 첫 동기화는 시작일 없이 전체 조회
+        assertThat(requestedUrls.get(0)).doesNotContain("startDate");
+    }
+
+    @Test
+    @DisplayName("다음 동기화는 워터마크 날짜 - lookback일부터 조회")
+    void resumesFromWatermarkMinusLookback() {
+        // Given
+        backendRows.put("/api/v1/query/orders", List.of(order("o-1", "2026-01-12T11:00:00")));
+        when(orderRepository.countByAccountId("acc-1")).thenReturn(1L);
+        synchronizer.sync("acc-1");
+        requestedUrls.clear();
+
+        // When
+        synchronizer.sync("acc-1");
+
+        // Then
+        assertThat(requestedUrls.get(0)).contains("startDate=2026-01-09");
+        // lookback으로 다시 받은 행은 저장된 행 수에 중복 합산하지 않음
+        TradingSyncWatermark orderMark = watermarks.get(TradingSyncWatermark.idOf(TradingMirrorSynchronizer.ORDERS, "acc-1"));
+        assertThat(orderMark.getRowCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lookback 이전에 생성된 미체결 주문은 주문 ID로 다시 받음")
+    @SuppressWarnings("unchecked")
+    void refreshesOpenOrdersBeforeLookback() {
+        // Given
+        backendRows.put("/api/v1/query/orders", List.of(order("o-1", "2026-01-12T11:00:00")));
+        synchronizer.sync("acc-1");
+        when(orderRepository.findOpenOrderIds(eq("acc-1"), any(), eq(LocalDateTime.of(2026, 1, 9, 0, 0))))
+                .thenReturn(List.of("o-old"));
+        when(apiHelper.getWithDefault("/api/v1/query/orders/o-old", null))
+                .thenReturn(order("o-old", "2025-12-01T09:00:00"));
+
+        // When
+        synchronizer.sync("acc-1");
+
+        // Then
+        ArgumentCaptor<List<MirroredOrder>> orders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, times(3)).saveAll(orders.capture());
+        MirroredOrder reopened = orders.getAllValues().get(1).get(0);
+        assertThat(reopened.getOrderId()).isEqualTo("o-old");
+        assertThat(reopened.getStatus()).isEqualTo("FILLED");
+    }
+
+    @Test
+    @DisplayName("max-staleness는 동기화 주기의 2배보다 짧게 적용하지 않음")
+    void freshnessAtLeastTwoIntervals() {
+        // Given
+        synchronizer.sync("acc-1");
+
+        // Then
+        assertThat(synchronizer.isFresh("acc-1", Duration.ZERO)).isTrue();
+        assertThat(synchronizer.isFresh("acc-2", Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("따라잡기는 동기화 스레드에 한 번만 예약하고 락 안에서 최신 여부를 다시 확인")
+    void catchUpIsSingleFlightAndAsync() {
+        // Given
+        List<Runnable> scheduled = new ArrayList<>();
+        synchronizer = withScheduler(scheduled);
+
+        // When
+        synchronizer.requestCatchUp("acc-1", Duration.ZERO);
+        synchronizer.requestCatchUp("acc-1", Duration.ZERO);
+
+        // Then
+        assertThat(scheduled).hasSize(1);
+        assertThat(requestedUrls).isEmpty();
+        scheduled.get(0).run();
+        assertThat(requestedUrls).hasSize(2);
+        assertThat(synchronizer.isSynced("acc-1")).isTrue();
+
+        // 이미 최신이면 예약된 따라잡기가 동기화하지 않음
+        synchronizer.requestCatchUp("acc-1", Duration.ZERO);
+        assertThat(scheduled).hasSize(2);
+        scheduled.get(1).run();
+        assertThat(requestedUrls).hasSize(2);
+        assertThat(synchronizer.getSyncCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("따라잡기 실패는 실패 횟수로 기록")
+    @SuppressWarnings("unchecked")
+    void catchUpFailureCounted() {
+        // Given
+        List<Runnable> scheduled = new ArrayList<>();
+        synchronizer = withScheduler(scheduled);
+        doThrow(new IllegalStateException("backend down"))
+                .when(apiHelper).stream(anyString(), any(Consumer.class), eq(ErrorCode.UNKNOWN_ERROR));
+
+        // When
+        synchronizer.requestCatchUp("acc-1", Duration.ZERO);
+        scheduled.get(0).run();
+
+        // Then
+        assertThat(synchronizer.isSynced("acc-1")).isFalse();
+        assertThat(synchronizer.getFailureCount()).isEqualTo(1);
+        verify(watermarkRepository, never()).save(any());
+        // 실패 후에는 다시 예약 가능
+        synchronizer.requestCatchUp("acc-1", Duration.ZERO);
+        assertThat(scheduled).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("전체 동기화 후 계좌 전체 기준 동기화 여부 판단")
+    void syncAllTracksKnownAccounts() {
+        // Given
+        when(apiHelper.getList("/api/v1/admin/accounts", Account.class, ErrorCode.UNKNOWN_ERROR)).thenReturn(List.of(
+                new Account("acc-1", null, null, null, null, null, null, null, null),
+                new Account("acc-2", null, null, null, null, null, null, null, null)));
+        assertThat(synchronizer.isSynced(null)).isFalse();
+
+        // When
+        synchronizer.syncAll();
+
+        // Then
+        assertThat(synchronizer.isSynced(null)).isTrue();
+        assertThat(synchronizer.getLastSyncAt(null)).isNotNull();
+        assertThat(synchronizer.getSyncCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시각 형식 파싱")
+    void parsesTimestamps() {
+        assertThat(TradingMirrorSynchronizer.parseTimestamp("2026-01-10T09:00:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 10, 9, 0));
+        assertThat(TradingMirrorSynchronizer.parseTimestamp("2026-01-10 09:00:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 10, 9, 0));
+        assertThat(TradingMirrorSynchronizer.parseTimestamp("2026-01-10"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 10, 0, 0));
+        assertThat(TradingMirrorSynchronizer.parseTimestamp("2026-01-10T09:00:00+09:00")).isNotNull();
+        assertThat(TradingMirrorSynchronizer.parseTimestamp(1_700_000_000_000L)).isNotNull();
+        assertThat(TradingMirrorSynchronizer.parseTimestamp("not-a-date")).isNull();
+        assertThat(TradingMirrorSynchronizer.parseTimestamp(null)).isNull();
+    }
+
+    private TradingMirrorSynchronizer withScheduler(List<Runnable> scheduled) {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(inv -> scheduled.add(inv.getArgument(0))).when(scheduler).execute(any(Runnable.class));
+        return new TradingMirrorSynchronizer(apiHelper, orderRepository, fillRepository, watermarkRepository,
+                true, 60, 3, 2, scheduler);
+    }
+
+    private static Map<String, Object> order(String orderId, String createdAt) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("orderId", orderId);
+        row.put("accountId", "acc-1");
+        row.put("symbol", "005930");
+        row.put("side", "BUY");
+        row.put("status", "FILLED");
+        row.put("createdAt", createdAt);
+        return row;
+    }
+
+    private static Map<String, Object> fill(String fillId, String filledAt) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("fillId", fillId);
+        row.put("orderId", "o-3");
+        row.put("accountId", "acc-1");
+        row.put("filledAt", filledAt);
+        return row;
+    }
+}
@@ -0,0 +1,157 @@
+package com.maru.trading.service;
+
+import com.maru.trading.entity.MirroredFill;
+import com.maru.trading.entity.MirroredOrder;
+import com.maru.trading.repository.MirroredFillRepository;
+import com.maru.trading.repository.MirroredOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * TradingMirror 단위 테스트
+ */
+@DisplayName("TradingMirror 테스트")
+class TradingMirrorTest {
+
+    private MirroredOrderRepository orderRepository;
+    private MirroredFillRepository fillRepository;
+    private TradingMirrorSynchronizer synchronizer;
+    private TradingMirror mirror;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(MirroredOrderRepository.class);
+        fillRepository = mock(MirroredFillRepository.class);
+        synchronizer = mock(TradingMirrorSynchronizer.class);
+        mirror = new TradingMirror(orderRepository, fillRepository, synchronizer, 15);
+        when(synchronizer.isEnabled()).thenReturn(true);
+        when(synchronizer.isFresh(any(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("마지막 동기화 이전에 끝난 기간은 최신 여부와 무관하게 로컬 사본으로 응답")
+    void servesClosedRangeLocally() {
+        // Given
+        when(synchronizer.getLastSyncAt("acc-1")).thenReturn(LocalDateTime.of(2026, 2, 1, 12, 0));
+        when(orderRepository.findPage(eq("acc-1"), isNull(), eq("005930"), isNull(), isNull(),
+                eq(LocalDateTime.of(2026, 1, 1, 0, 0)), eq(LocalDateTime.of(2026, 1, 11, 0, 0)),
+                isNull(), isNull(), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(order("o-3", 12), order("o-2", 11), order("o-1", 10)));
+
+        // When
+        Map<String, Object> page = mirror.findOrders("acc-1", "2026-01-01", "2026-01-10", null, "005930", "",
+                null, 2, null);
+
+        // Then
+        assertThat(page).isNotNull();
+        assertThat((List<?>) page.get("items")).hasSize(2);
+        assertThat(page.get(KeysetPageCollector.NEXT_CURSOR)).isEqualTo("o-2");
+        assertThat(page.get(KeysetPageCollector.HAS_MORE)).isEqualTo(true);
+        assertThat(page.get(TradingMirror.SOURCE)).isEqualTo(TradingMirror.SOURCE_MIRROR);
+        verify(synchronizer, never()).isFresh(any(), any(Duration.class));
+        assertThat(mirror.getServedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 기간이 포함되면 동기화가 max-staleness 이내일 때 따라잡기 없이 응답")
+    void servesOpenRangeWhenFresh() {
+        // Given
+        when(synchronizer.getLastSyncAt("acc-1")).thenReturn(LocalDateTime.now());
+        when(fillRepository.findPage(eq("acc-1"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any())).thenReturn(List.of());
+
+        // When
+        Map<String, Object> page = mirror.findFills("acc-1", null, null, null, null, 50, null);
+
+        // Then
+        assertThat(page).isNotNull();
+        assertThat(page.get(KeysetPageCollector.HAS_MORE)).isEqualTo(false);
+        verify(synchronizer).isFresh("acc-1", Duration.ofSeconds(15));
+        verify(synchronizer, never()).sync(any());
+        verify(synchronizer, never()).requestCatchUp(any(), any());
+    }
+
+    @Test
+    @DisplayName("cursor 행의 시각으로 다음 페이지 조회")
+    void resolvesCursorRow() {
+        // Given
+        when(synchronizer.getLastSyncAt("acc-1")).thenReturn(LocalDateTime.now());
+        MirroredFill last = new MirroredFill();
+        last.setFillId("f-9");
+        last.setFilledAt(LocalDateTime.of(2026, 1, 5, 9, 30));
+        when(fillRepository.findById("f-9")).thenReturn(Optional.of(last));
+        when(fillRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        mirror.findFills("acc-1", null, null, null, null, 50, "f-9");
+
+        // Then
+        verify(fillRepository).findPage(eq("acc-1"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(LocalDateTime.of(2026, 1, 5, 9, 30)), eq("f-9"), any());
+    }
+
+    @Test
+    @DisplayName("응답할 수 없으면 null 반환 (백엔드로 조회)")
+    void fallsBackToBackend() {
+        // 동기화 전
+        assertThat(mirror.findOrders("acc-1", null, null, null, null, null, null, 50, null)).isNull();
+
+        // 알 수 없는 cursor
+        when(synchronizer.getLastSyncAt("acc-1")).thenReturn(LocalDateTime.now());
+        when(orderRepository.findById(anyString())).thenReturn(Optional.empty());
+        assertThat(mirror.findOrders("acc-1", null, null, null, null, null, null, 50, "o-x")).isNull();
+
+        // 잘못된 날짜
+        assertThat(mirror.findOrders("acc-1", "2026/01/01", null, null, null, null, null, 50, null)).isNull();
+
+        // 동기화 지연 - 요청 스레드에서 동기화하지 않고 따라잡기만 예약
+        when(synchronizer.isFresh(any(), any(Duration.class))).thenReturn(false);
+        assertThat(mirror.findOrders("acc-1", null, null, null, null, null, null, 50, null)).isNull();
+        verify(synchronizer).requestCatchUp("acc-1", Duration.ofSeconds(15));
+        verify(synchronizer, never()).sync(any());
+
+        assertThat(mirror.getFallbackCount()).isEqualTo(4);
+        verify(orderRepository, never()).findPage(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 저장소를 조회하지 않음")
+    void disabled() {
+        // Given
+        when(synchronizer.isEnabled()).thenReturn(false);
+
+        // When
+        Map<String, Object> page = mirror.findFills(null, null, null, null, null, 50, null);
+
+        // Then
+        assertThat(page).isNull();
+        verifyNoInteractions(fillRepository);
+    }
+
+    private static MirroredOrder order(String orderId, int day) {
+        MirroredOrder order = new MirroredOrder();
+        order.setOrderId(orderId);
+        order.setCreatedAt(LocalDateTime.of(2026, 1, day, 9, 0));
+        order.setPayload("{\"orderId\":\"" + orderId + "\",\"symbol\":\"005930\"}");
+        return order;
+    }
+}
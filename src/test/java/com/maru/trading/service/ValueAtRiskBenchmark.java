@@ -0,0 +1,90 @@
+package com.maru.trading.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * VaR 엔진 벤치마크 (셀별 계산 vs 격자 한 번 계산, 단일 스레드 vs fork-join)
+ * - 거래일 N일의 일별 손익으로 신뢰수준 3개 × 보유기간 4개 격자를 계산하여 p50/최대 지연시간 비교
+ * - 셀별 계산은 조합마다 백엔드를 호출하던 방식처럼 정렬/시뮬레이션을 매번 다시 수행
+ * - 단위 테스트가 아니므로 surefire 대상이 아님, 직접 실행:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.maru.trading.service.ValueAtRiskBenchmark
+ *   (인자: 거래일 수, 시뮬레이션 수, 반복 횟수)
+ */
+public class ValueAtRiskBenchmark {
+
+    private static final double[] CONFIDENCE_LEVELS = {0.90, 0.95, 0.99};
+    private static final int[] TIME_HORIZONS = {1, 5, 10, 21};
+
+    public static void main(String[] args) {
+        int days = args.length > 0 ? Integer.parseInt(args[0]) : 750;
+        int simulations = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        double[] pnl = dailyProfitLoss(days);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = ForkJoinPool.commonPool();
+        ValueAtRiskEngine sequentialEngine = engine(single, simulations);
+        ValueAtRiskEngine parallelEngine = engine(parallel, simulations);
+        System.out.printf("daily P&L: %,d days, %,d simulations, grid %d x %d, parallelism %d%n", days, simulations,
+                CONFIDENCE_LEVELS.length, TIME_HORIZONS.length, parallel.getParallelism());
+
+        // JIT 워밍업
+        for (int i = 0; i < 3; i++) {
+            perCell(sequentialEngine, pnl);
+            parallelEngine.computeGrid(pnl, CONFIDENCE_LEVELS, TIME_HORIZONS);
+        }
+
+        report("per-cell/1", iterations, () -> perCell(sequentialEngine, pnl));
+        report("per-cell/fj", iterations, () -> perCell(parallelEngine, pnl));
+        report("grid/1", iterations, () -> sequentialEngine.computeGrid(pnl, CONFIDENCE_LEVELS, TIME_HORIZONS));
+        report("grid/fj", iterations, () -> parallelEngine.computeGrid(pnl, CONFIDENCE_LEVELS, TIME_HORIZONS));
+        single.shutdown();
+    }
+
+    /**
+     * 조합마다 따로 계산
+     */
+    static double perCell(ValueAtRiskEngine engine, double[] pnl) {
+        double checksum = 0;
+        for (double confidenceLevel : CONFIDENCE_LEVELS) {
+            for (int timeHorizon : TIME_HORIZONS) {
+                ValueAtRiskEngine.Grid cell = engine.computeGrid(pnl, new double[] {confidenceLevel}, new int[] {timeHorizon});
+                checksum += cell.var(ValueAtRiskEngine.MONTE_CARLO, 0, 0);
+            }
+        }
+        return checksum;
+    }
+
+    private static ValueAtRiskEngine engine(ForkJoinPool pool, int simulations) {
+        return new ValueAtRiskEngine(null, true, 20, simulations, 42L, pool, false, 0, Duration.ofHours(1), Runnable::run);
+    }
+
+    private static void report(String name, int iterations, Runnable task) {
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-12s p50=%7.1fms max=%7.1fms%n", name, nanos[iterations / 2] / 1e6, nanos[iterations - 1] / 1e6);
+    }
+
+    /**
+     * 두꺼운 꼬리를 흉내낸 일별 손익 (정규 + 가끔 큰 손실)
+     */
+    private static double[] dailyProfitLoss(int days) {
+        SplittableRandom random = new SplittableRandom(7);
+        double[] pnl = new double[days];
+        for (int i = 0; i < days; i++) {
+            double u1 = 1 - random.nextDouble();
+            double u2 = random.nextDouble();
+            double normal = Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+            pnl[i] = 20_000 + normal * 150_000 - (random.nextInt(50) == 0 ? 600_000 : 0);
+        }
+        return pnl;
+    }
+}
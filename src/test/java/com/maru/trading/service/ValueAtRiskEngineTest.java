@@ -0,0 +1,173 @@
+package com.maru.trading.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ValueAtRiskEngine 단위 테스트
+ */
+@DisplayName("ValueAtRiskEngine 테스트")
+class ValueAtRiskEngineTest {
+
+    // -49 ~ +50 (100일)
+    private static final double[] PNL = IntStream.rangeClosed(1, 100).mapToDouble(i -> i - 50).toArray();
+
+    private PerformanceAnalyticsEngine performanceAnalytics;
+    private ForkJoinPool singleThread;
+    private ForkJoinPool fourThreads;
+
+    @BeforeEach
+    void setUp() {
+        performanceAnalytics = mock(PerformanceAnalyticsEngine.class);
+        singleThread = new ForkJoinPool(1);
+        fourThreads = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        singleThread.shutdownNow();
+        fourThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("표준정규분포 역함수")
+    void inverseNormal() {
+        assertThat(ValueAtRiskEngine.inverseNormal(0.95)).isCloseTo(1.6448536, within(1e-6));
+        assertThat(ValueAtRiskEngine.inverseNormal(0.99)).isCloseTo(2.3263479, within(1e-6));
+        assertThat(ValueAtRiskEngine.inverseNormal(0.5)).isCloseTo(0.0, within(1e-12));
+        assertThat(ValueAtRiskEngine.inverseNormal(0.01)).isCloseTo(-2.3263479, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("과거 시뮬레이션 / 분산-공분산 VaR와 CVaR")
+    void historicalAndParametric() {
+        // When
+        ValueAtRiskEngine.Grid grid = engine(fourThreads, 10_000).computeGrid(PNL, new double[] {0.95}, new int[] {1, 4});
+
+        // Then - 하위 5번째 값 -45, 그 이하 평균 -47, 4일은 √4 배
+        assertThat(grid.var(ValueAtRiskEngine.HISTORICAL, 0, 0)).isEqualTo(-45.0);
+        assertThat(grid.cvar(ValueAtRiskEngine.HISTORICAL, 0, 0)).isEqualTo(-47.0);
+        assertThat(grid.var(ValueAtRiskEngine.HISTORICAL, 0, 1)).isEqualTo(-90.0);
+
+        ValueAtRiskEngine.Moments moments = ValueAtRiskEngine.Moments.of(PNL);
+        double z = ValueAtRiskEngine.inverseNormal(0.95);
+        assertThat(grid.var(ValueAtRiskEngine.PARAMETRIC, 0, 1))
+                .isCloseTo(moments.mean * 4 - z * moments.stdDev * 2, within(1e-9));
+        assertThat(grid.cvar(ValueAtRiskEngine.PARAMETRIC, 0, 0))
+                .isLessThan(grid.var(ValueAtRiskEngine.PARAMETRIC, 0, 0));
+    }
+
+    @Test
+    @DisplayName("몬테카를로는 스레드 수와 무관하게 같은 시드면 같은 결과")
+    void monteCarloIsDeterministic() {
+        // When
+        ValueAtRiskEngine.Grid sequential = engine(singleThread, 50_000).computeGrid(PNL, new double[] {0.95, 0.99}, new int[] {1, 10});
+        ValueAtRiskEngine.Grid parallel = engine(fourThreads, 50_000).computeGrid(PNL, new double[] {0.95, 0.99}, new int[] {1, 10});
+
+        // Then
+        for (int c = 0; c < 2; c++) {
+            for (int h = 0; h < 2; h++) {
+                assertThat(parallel.var(ValueAtRiskEngine.MONTE_CARLO, c, h))
+                        .isEqualTo(sequential.var(ValueAtRiskEngine.MONTE_CARLO, c, h));
+                assertThat(parallel.cvar(ValueAtRiskEngine.MONTE_CARLO, c, h))
+                        .isEqualTo(sequential.cvar(ValueAtRiskEngine.MONTE_CARLO, c, h));
+            }
+        }
+        // 1일 부트스트랩은 과거 시뮬레이션에 수렴
+        assertThat(parallel.var(ValueAtRiskEngine.MONTE_CARLO, 0, 0)).isCloseTo(-45.0, within(2.0));
+        // 10일은 분산 합산 (정규근사와 비슷한 범위)
+        assertThat(parallel.var(ValueAtRiskEngine.MONTE_CARLO, 0, 1))
+                .isCloseTo(parallel.var(ValueAtRiskEngine.PARAMETRIC, 0, 1), within(10.0));
+    }
+
+    @Test
+    @DisplayName("격자 입력은 정렬/중복 제거하고 잘못된 값은 거부")
+    void gridNormalizesInput() {
+        ValueAtRiskEngine engine = engine(fourThreads, 1_000);
+
+        ValueAtRiskEngine.Grid grid = engine.computeGrid(PNL, new double[] {0.99, 0.95, 0.99}, new int[] {21, 1, 5, 1});
+
+        assertThat(grid.getConfidenceLevels()).containsExactly(0.95, 0.99);
+        assertThat(grid.getTimeHorizons()).containsExactly(1, 5, 21);
+        assertThat(grid.rows()).hasSize(6);
+        assertThat(grid.rows().get(0)).containsKeys("historicalVaR", "parametricCVaR", "monteCarloVaR");
+        assertThatThrownBy(() -> engine.computeGrid(PNL, new double[] {1.0}, new int[] {1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.computeGrid(PNL, new double[] {0.95}, new int[] {0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("백엔드 형식의 VaR 결과와 교차 검증")
+    @SuppressWarnings("unchecked")
+    void calculateVaRWithCrossCheck() {
+        // Given
+        when(performanceAnalytics.getDailyProfitLoss(any(), any(), any())).thenReturn(PNL.clone());
+        ValueAtRiskEngine engine = engine(fourThreads, 1_000);
+        AtomicInteger backendCalls = new AtomicInteger();
+
+        // When
+        Map<String, Object> result = engine.calculateVaR("S1", 0.95, 10, "2026-01-01", "2026-06-30",
+                () -> {
+                    backendCalls.incrementAndGet();
+                    Map<String, Object> varData = new HashMap<>();
+                    varData.put("dailyVaR", 90.0);
+                    Map<String, Object> body = new HashMap<>();
+                    body.put("varData", varData);
+                    return body;
+                });
+        engine.calculateVaR("S1", 0.95, 10, "2026-01-01", "2026-06-30", () -> {
+            backendCalls.incrementAndGet();
+            return null;
+        });
+
+        // Then
+        Map<String, Object> varData = (Map<String, Object>) result.get("varData");
+        assertThat(varData.get("dailyVaR")).isEqualTo(-45.0);
+        assertThat(varData.get("cvar")).isEqualTo(-47.0);
+        assertThat((double) varData.get("periodVaR")).isCloseTo(-45.0 * Math.sqrt(10), within(1e-9));
+        assertThat(varData).containsKeys("weeklyVaR", "monthlyVaR", "methods", "distribution");
+        assertThat(((Map<String, Object>) result.get("statistics")).get("maxDrawdown")).isEqualTo(-1225.0);
+        assertThat(result.get(PerformanceAnalyticsEngine.SOURCE)).isEqualTo(PerformanceAnalyticsEngine.SOURCE_LOCAL);
+
+        // 같은 조건은 한 번만 비교, |-45| vs 90 -> 50% 차이
+        assertThat(backendCalls.get()).isEqualTo(1);
+        assertThat(engine.getCrossCheckCount()).isEqualTo(1);
+        assertThat(engine.getCrossCheckMismatchCount()).isEqualTo(1);
+        assertThat(engine.getLastDeviation()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("거래일이 부족하거나 로컬 데이터가 없으면 null (백엔드로 조회)")
+    void notEnoughObservations() {
+        ValueAtRiskEngine engine = engine(fourThreads, 1_000);
+
+        when(performanceAnalytics.getDailyProfitLoss(any(), any(), any())).thenReturn(null);
+        assertThat(engine.calculateVaR(null, 0.95, 1, "2026-01-01", "2026-01-31", null)).isNull();
+
+        when(performanceAnalytics.getDailyProfitLoss(any(), any(), any())).thenReturn(new double[] {1, -2, 3});
+        assertThat(engine.calculateVaR(null, 0.95, 1, "2026-01-01", "2026-01-31", null)).isNull();
+        assertThat(engine.getVaRGrid(null, new double[] {0.95}, new int[] {1}, "2026-01-01", "2026-01-31")).isNull();
+    }
+
+    private ValueAtRiskEngine engine(ForkJoinPool pool, int simulations) {
+        return new ValueAtRiskEngine(performanceAnalytics, true, 20, simulations, 42L, pool,
+                true, 0.25, Duration.ofHours(1), Runnable::run);
+    }
+}